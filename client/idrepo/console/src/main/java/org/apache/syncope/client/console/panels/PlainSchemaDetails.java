@@ -309,6 +309,9 @@ public class PlainSchemaDetails extends AbstractSchemaDetailsPanel {
         add(new AjaxCheckBoxPanel("uniqueConstraint",
                 getString("uniqueConstraint"), new PropertyModel<>(schemaTO, "uniqueConstraint")).
                 setEnabled(isCreate));
+
+        add(new AjaxCheckBoxPanel(
+                "searchable", getString("searchable"), new PropertyModel<>(schemaTO, "searchable")));
     }
 
     private void showHide(final PlainSchemaTO schema, final AjaxDropDownChoicePanel<AttrSchemaType> type,
@@ -46,6 +46,10 @@ public class RestClientExceptionMapper implements ResponseExceptionMapper<Except
     @Override
     public Exception fromResponse(final Response response) {
         int statusCode = response.getStatus();
+        if (statusCode == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            // outcome of conditional requests, to be handled by callers
+            return null;
+        }
         String message = response.getHeaderString(RESTHeaders.ERROR_INFO);
 
         Exception ex;
@@ -98,6 +98,7 @@ public class SRARoutePredicate implements BaseBean {
     @Override
     public int hashCode() {
         return new HashCodeBuilder().
+                append(negate).
                 append(cond).
                 append(factory).
                 append(args).
@@ -117,6 +118,7 @@ public class SRARoutePredicate implements BaseBean {
         }
         final SRARoutePredicate other = (SRARoutePredicate) obj;
         return new EqualsBuilder().
+                append(negate, other.negate).
                 append(cond, other.cond).
                 append(factory, other.factory).
                 append(args, other.args).
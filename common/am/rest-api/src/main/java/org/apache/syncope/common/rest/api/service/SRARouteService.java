@@ -62,6 +62,25 @@ public interface SRARouteService extends JAXRSService {
     @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
     List<SRARouteTO> list();
 
+    /**
+     * Returns a list of all existing routes, along with an ETag reflecting their current state; when such ETag is
+     * provided via If-None-Match and no route was created, updated or deleted since, nothing is returned.
+     *
+     * @return list of all existing routes, or empty 304 (Not Modified) response when unchanged
+     */
+    @ApiResponses({
+        @ApiResponse(responseCode = "200",
+                description = "List of all existing routes", headers =
+                @Header(name = HttpHeaders.ETAG, schema =
+                        @Schema(type = "string"),
+                        description = "Opaque identifier for the current state of all routes")),
+        @ApiResponse(responseCode = "304",
+                description = "No route was created, updated or deleted since the provided ETag") })
+    @GET
+    @Path("sync")
+    @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    Response sync();
+
     /**
      * Creates a new route.
      *
@@ -18,6 +18,10 @@
  */
 package org.apache.syncope.common.rest.api.service.wa;
 
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,7 +31,9 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import java.util.List;
 import org.apache.syncope.common.lib.types.ClientAppType;
 import org.apache.syncope.common.lib.wa.WAClientApp;
@@ -52,6 +58,26 @@ public interface WAClientAppService extends JAXRSService {
     @Produces({ MediaType.APPLICATION_JSON })
     List<WAClientApp> list();
 
+    /**
+     * Returns a list of all client applications available, along with an ETag reflecting their current state; when
+     * such ETag is provided via If-None-Match and no client application was created, updated or deleted since, nothing
+     * is returned.
+     *
+     * @return list of all client applications, or empty 304 (Not Modified) response when unchanged
+     */
+    @ApiResponses({
+        @ApiResponse(responseCode = "200",
+                description = "List of all client applications", headers =
+                @Header(name = HttpHeaders.ETAG, schema =
+                        @Schema(type = "string"),
+                        description = "Opaque identifier for the current state of all client applications")),
+        @ApiResponse(responseCode = "304",
+                description = "No client application was created, updated or deleted since the provided ETag") })
+    @GET
+    @Path("sync")
+    @Produces({ MediaType.APPLICATION_JSON })
+    Response sync();
+
     /**
      * Returns client application with matching type and clientAppId, if found.
      *
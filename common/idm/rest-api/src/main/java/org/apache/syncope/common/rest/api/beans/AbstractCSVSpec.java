@@ -34,6 +34,8 @@ public abstract class AbstractCSVSpec implements Serializable {
 
     private static final long serialVersionUID = 2253975790270165334L;
 
+    public static final int MAX_CONCURRENCY = 64;
+
     private static final String PARAM_COLUMNSEPARATOR = "columnSeparator";
 
     private static final String PARAM_ARRAYELEMENTSEPARATOR = "arrayElementSeparator";
@@ -52,6 +54,10 @@ public abstract class AbstractCSVSpec implements Serializable {
 
     private static final String PARAM_UNMATCHING_RULE = "unmatchingRule";
 
+    private static final String PARAM_OFFSET = "offset";
+
+    private static final String PARAM_CONCURRENCY = "concurrency";
+
     protected abstract static class Builder<T extends AbstractCSVSpec, B extends Builder<T, B>> {
 
         protected T instance;
@@ -125,6 +131,18 @@ public abstract class AbstractCSVSpec implements Serializable {
             return (B) this;
         }
 
+        @SuppressWarnings("unchecked")
+        public B offset(final int offset) {
+            getInstance().setOffset(offset);
+            return (B) this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public B concurrency(final int concurrency) {
+            getInstance().setConcurrency(concurrency);
+            return (B) this;
+        }
+
         public T build() {
             return getInstance();
         }
@@ -152,6 +170,10 @@ public abstract class AbstractCSVSpec implements Serializable {
 
     protected List<String> provisioningActions = new ArrayList<>();
 
+    protected int offset;
+
+    protected int concurrency = 1;
+
     @Parameter(name = JAXRSService.PARAM_ANYTYPEKEY, description = "any object type", schema =
             @Schema(implementation = String.class))
     public String getAnyTypeKey() {
@@ -277,4 +299,30 @@ public abstract class AbstractCSVSpec implements Serializable {
     public void setProvisioningActions(final List<String> provisioningActions) {
         this.provisioningActions = provisioningActions;
     }
+
+    @Parameter(name = PARAM_OFFSET, description = "number of CSV rows to skip, for resuming a previous operation "
+            + "which did not complete", schema =
+            @Schema(implementation = int.class, defaultValue = "0"))
+    public int getOffset() {
+        return offset;
+    }
+
+    @QueryParam(PARAM_OFFSET)
+    @DefaultValue("0")
+    public void setOffset(final int offset) {
+        this.offset = offset;
+    }
+
+    @Parameter(name = PARAM_CONCURRENCY, description = "maximum number of CSV rows to process at once, "
+            + "up to " + MAX_CONCURRENCY, schema =
+            @Schema(implementation = int.class, defaultValue = "1", maximum = "" + MAX_CONCURRENCY))
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    @QueryParam(PARAM_CONCURRENCY)
+    @DefaultValue("1")
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
 }
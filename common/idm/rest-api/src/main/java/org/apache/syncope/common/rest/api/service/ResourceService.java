@@ -43,6 +43,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.List;
 import org.apache.syncope.common.lib.to.ConnObject;
+import org.apache.syncope.common.lib.to.ConnPoolConfTO;
 import org.apache.syncope.common.lib.to.PagedConnObjectResult;
 import org.apache.syncope.common.lib.to.ResourceTO;
 import org.apache.syncope.common.rest.api.RESTHeaders;
@@ -202,6 +203,24 @@ public interface ResourceService extends JAXRSService {
             @NotNull @PathParam("key") String key,
             @NotNull @PathParam("anyTypeKey") String anyTypeKey);
 
+    /**
+     * Replaces the connector object pool for the given resource with a new one, configured as given, without
+     * re-registering the connector; values not provided are kept as currently configured.
+     * The new configuration is runtime-only: it is not stored and only affects the Core instance serving this request,
+     * hence it is lost as soon as Core is restarted or the resource or its connector are updated. Update the pool
+     * configuration of the connector for a permanent change, applying to all Core instances.
+     *
+     * @param key resource
+     * @param poolConf new pool configuration
+     */
+    @ApiResponses(
+            @ApiResponse(responseCode = "204", description = "Operation was successful"))
+    @PUT
+    @Path("{key}/pool")
+    @Consumes({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, RESTHeaders.APPLICATION_YAML, MediaType.APPLICATION_XML })
+    void resizePool(@NotNull @PathParam("key") String key, @NotNull ConnPoolConfTO poolConf);
+
     /**
      * Deletes the resource matching the given name.
      *
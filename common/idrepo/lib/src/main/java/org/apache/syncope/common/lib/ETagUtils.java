@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+
+/**
+ * Computes ETag values for whole collections, as returned by sync endpoints.
+ */
+public final class ETagUtils {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().
+            findAndAddModules().
+            disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).
+            enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).
+            enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).
+            build();
+
+    /**
+     * Digests the given items with SHA-256, once sorted according to the given order; properties and map entries
+     * are serialized sorted as well, so that any instance returns the same value for the same items.
+     *
+     * @param <T> item type
+     * @param items items to digest
+     * @param order order to digest items in
+     * @return hex-encoded digest of the given items
+     */
+    public static <T> String digest(final Collection<T> items, final Comparator<? super T> order) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        items.stream().sorted(order).forEach(item -> {
+            try {
+                digest.update(MAPPER.writeValueAsBytes(item));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Could not serialize " + item, e);
+            }
+        });
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private ETagUtils() {
+        // private constructor for static utility class
+    }
+}
@@ -42,6 +42,8 @@ public class PlainSchemaTO extends SchemaTO {
 
     private boolean readonly;
 
+    private boolean searchable;
+
     private String conversionPattern;
 
     private String validator;
@@ -107,6 +109,14 @@ public class PlainSchemaTO extends SchemaTO {
         this.readonly = readonly;
     }
 
+    public boolean isSearchable() {
+        return searchable;
+    }
+
+    public void setSearchable(final boolean searchable) {
+        this.searchable = searchable;
+    }
+
     public AttrSchemaType getType() {
         return type;
     }
@@ -172,6 +182,7 @@ public class PlainSchemaTO extends SchemaTO {
                 append(multivalue).
                 append(uniqueConstraint).
                 append(readonly).
+                append(searchable).
                 append(conversionPattern).
                 append(validator).
                 append(enumerationKeys).
@@ -201,6 +212,7 @@ public class PlainSchemaTO extends SchemaTO {
                 append(multivalue, other.multivalue).
                 append(uniqueConstraint, other.uniqueConstraint).
                 append(readonly, other.readonly).
+                append(searchable, other.searchable).
                 append(conversionPattern, other.conversionPattern).
                 append(validator, other.validator).
                 append(enumerationKeys, other.enumerationKeys).
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ETagUtilsTest {
+
+    private static final Comparator<Attr> BY_SCHEMA = Comparator.comparing(Attr::getSchema);
+
+    @Test
+    public void sameItemsAnyOrder() {
+        Attr first = new Attr.Builder("schema1").value("value1").build();
+        Attr second = new Attr.Builder("schema2").value("value2").build();
+
+        assertEquals(
+                ETagUtils.digest(List.of(first, second), BY_SCHEMA),
+                ETagUtils.digest(List.of(second, first), BY_SCHEMA));
+    }
+
+    @Test
+    public void changedItem() {
+        Attr first = new Attr.Builder("schema1").value("value1").build();
+        Attr second = new Attr.Builder("schema2").value("value2").build();
+        Attr changed = new Attr.Builder("schema2").value("value3").build();
+
+        assertNotEquals(
+                ETagUtils.digest(List.of(first, second), BY_SCHEMA),
+                ETagUtils.digest(List.of(first, changed), BY_SCHEMA));
+    }
+
+    @Test
+    public void addedOrRemovedItem() {
+        Attr first = new Attr.Builder("schema1").value("value1").build();
+        Attr second = new Attr.Builder("schema2").value("value2").build();
+
+        String both = ETagUtils.digest(List.of(first, second), BY_SCHEMA);
+        assertNotEquals(both, ETagUtils.digest(List.of(first), BY_SCHEMA));
+        assertNotEquals(both, ETagUtils.digest(List.of(), BY_SCHEMA));
+    }
+}
@@ -20,7 +20,6 @@ package org.apache.syncope.core.logic.wa;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.function.Predicate;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
 import org.apache.syncope.core.logic.AbstractAuthProfileLogic;
@@ -29,7 +28,6 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.am.AuthProfile;
 import org.apache.syncope.core.provisioning.api.data.AuthProfileDataBinder;
-import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,46 +41,29 @@ public class GoogleMfaAuthTokenLogic extends AbstractAuthProfileLogic {
         super(binder, authProfileDAO, entityFactory);
     }
 
-    protected void removeTokenAndSave(final AuthProfile profile, final Predicate<GoogleMfaAuthToken> criteria) {
-        List<GoogleMfaAuthToken> tokens = profile.getGoogleMfaAuthTokens();
-        if (tokens.removeIf(criteria)) {
-            profile.setGoogleMfaAuthTokens(tokens);
-            authProfileDAO.save(profile);
-        }
-    }
-
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public void delete(final LocalDateTime expirationDate) {
-        authProfileDAO.findAll(Pageable.unpaged()).forEach(profile -> removeTokenAndSave(
-                profile, token -> token.getIssueDate().compareTo(expirationDate) >= 0));
+        authProfileDAO.deleteGoogleMfaAuthTokensIssuedSince(expirationDate);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public void delete(final String owner, final int otp) {
-        authProfileDAO.findByOwner(owner).
-                ifPresent(profile -> removeTokenAndSave(profile, token -> token.getOtp() == otp));
+        authProfileDAO.deleteGoogleMfaAuthTokens(owner, otp);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public void delete(final String owner) {
-        authProfileDAO.findByOwner(owner).ifPresent(profile -> {
-            profile.setGoogleMfaAuthTokens(List.of());
-            authProfileDAO.save(profile);
-        });
+        authProfileDAO.deleteGoogleMfaAuthTokens(owner);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public void delete(final int otp) {
-        authProfileDAO.findAll(Pageable.unpaged()).forEach(profile -> removeTokenAndSave(
-                profile, token -> token.getOtp() == otp));
+        authProfileDAO.deleteGoogleMfaAuthTokens(otp);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public void deleteAll() {
-        authProfileDAO.findAll(Pageable.unpaged()).forEach(profile -> {
-            profile.setGoogleMfaAuthTokens(List.of());
-            authProfileDAO.save(profile);
-        });
+        authProfileDAO.deleteGoogleMfaAuthTokens();
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
@@ -99,22 +80,14 @@ public class GoogleMfaAuthTokenLogic extends AbstractAuthProfileLogic {
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     @Transactional(readOnly = true)
     public GoogleMfaAuthToken read(final String owner, final int otp) {
-        return authProfileDAO.findByOwner(owner).
-                stream().
-                map(AuthProfile::getGoogleMfaAuthTokens).
-                flatMap(List::stream).
-                filter(token -> token.getOtp() == otp).
-                findFirst().
+        return authProfileDAO.findGoogleMfaAuthToken(owner, otp).
                 orElseThrow(() -> new NotFoundException("Could not find token for owner " + owner + " and otp " + otp));
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     @Transactional(readOnly = true)
     public List<GoogleMfaAuthToken> list() {
-        return authProfileDAO.findAll(Pageable.unpaged()).stream().
-                map(AuthProfile::getGoogleMfaAuthTokens).
-                flatMap(List::stream).
-                toList();
+        return authProfileDAO.findGoogleMfaAuthTokens();
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
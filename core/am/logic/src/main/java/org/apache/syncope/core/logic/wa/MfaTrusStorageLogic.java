@@ -19,13 +19,7 @@
 package org.apache.syncope.core.logic.wa;
 
 import java.time.OffsetDateTime;
-import java.time.ZonedDateTime;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Stream;
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.wa.MfaTrustedDevice;
 import org.apache.syncope.core.logic.AbstractAuthProfileLogic;
@@ -36,7 +30,6 @@ import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.provisioning.api.data.AuthProfileDataBinder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 public class MfaTrusStorageLogic extends AbstractAuthProfileLogic {
@@ -56,68 +49,14 @@ public class MfaTrusStorageLogic extends AbstractAuthProfileLogic {
             final OffsetDateTime recordDate,
             final Pageable pageable) {
 
-        List<Comparator<MfaTrustedDevice>> comparatorList = pageable.getSort().stream().
-                map(orderByClause -> {
-                    Comparator<MfaTrustedDevice> comparator = null;
-                    if (orderByClause.getProperty().equals("id")) {
-                        comparator = (o1, o2) -> new CompareToBuilder().
-                                append(o1.getId(), o2.getId()).toComparison();
-                    }
-                    if (orderByClause.getProperty().equals("expirationDate")) {
-                        comparator = (o1, o2) -> new CompareToBuilder().
-                                append(o1.getExpirationDate(), o2.getExpirationDate()).toComparison();
-                    }
-                    if (orderByClause.getProperty().equals("recordDate")) {
-                        comparator = (o1, o2) -> new CompareToBuilder().
-                                append(o1.getRecordDate(), o2.getRecordDate()).toComparison();
-                    }
-                    if (comparator != null) {
-                        if (orderByClause.getDirection() == Sort.Direction.DESC) {
-                            return comparator.reversed();
-                        }
-                        return comparator;
-                    }
-                    return null;
-                }).
-                filter(Objects::nonNull).
-                toList();
+        OffsetDateTime now = OffsetDateTime.now();
 
-        List<MfaTrustedDevice> devices = (principal == null
-                ? authProfileDAO.findAll(Pageable.unpaged()).stream().
-                        map(AuthProfile::getMfaTrustedDevices).filter(Objects::nonNull).flatMap(List::stream)
-                : authProfileDAO.findByOwner(principal).
-                        map(AuthProfile::getMfaTrustedDevices).filter(Objects::nonNull).map(List::stream).
-                        orElse(Stream.empty())).
-                filter(device -> {
-                    EqualsBuilder builder = new EqualsBuilder();
-                    builder.appendSuper(device.getExpirationDate().isAfter(ZonedDateTime.now()));
-                    if (id != null) {
-                        builder.append(id, (Long) device.getId());
-                    }
-                    if (recordDate != null) {
-                        builder.appendSuper(device.getRecordDate().isAfter(recordDate.toZonedDateTime()));
-                    }
-                    return builder.build();
-                }).
-                filter(Objects::nonNull).
-                toList();
+        long count = authProfileDAO.countMfaTrustedDevices(principal, id, recordDate, now);
 
-        List<MfaTrustedDevice> result = devices.stream().
-                limit(pageable.getPageSize()).
-                skip(pageable.getPageSize() * pageable.getPageNumber()).
-                sorted((o1, o2) -> {
-                    int compare;
-                    for (Comparator<MfaTrustedDevice> comparator : comparatorList) {
-                        compare = comparator.compare(o1, o2);
-                        if (compare != 0) {
-                            return compare;
-                        }
-                    }
-                    return 0;
-                }).
-                toList();
+        List<MfaTrustedDevice> result = authProfileDAO.findMfaTrustedDevices(
+                principal, id, recordDate, now, pageable);
 
-        return new SyncopePage<>(result, pageable, devices.size());
+        return new SyncopePage<>(result, pageable, count);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
@@ -132,19 +71,12 @@ public class MfaTrusStorageLogic extends AbstractAuthProfileLogic {
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public void delete(final OffsetDateTime expirationDate, final String recordKey) {
-        authProfileDAO.findAll(Pageable.unpaged(Sort.by("owner"))).forEach(profile -> {
-            List<MfaTrustedDevice> devices = profile.getMfaTrustedDevices();
-            if (devices != null) {
-                if (recordKey != null) {
-                    devices.removeIf(device -> recordKey.equals(device.getRecordKey()));
-                } else if (expirationDate != null) {
-                    devices.removeIf(device -> device.getExpirationDate().isBefore(expirationDate.toZonedDateTime()));
-                } else {
-                    devices = List.of();
-                }
-                profile.setMfaTrustedDevices(devices);
-                authProfileDAO.save(profile);
-            }
-        });
+        if (recordKey != null) {
+            authProfileDAO.deleteMfaTrustedDevices(recordKey);
+        } else if (expirationDate != null) {
+            authProfileDAO.deleteMfaTrustedDevicesExpiredBefore(expirationDate);
+        } else {
+            authProfileDAO.deleteMfaTrustedDevices();
+        }
     }
 }
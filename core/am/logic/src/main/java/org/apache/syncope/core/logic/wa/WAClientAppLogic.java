@@ -19,8 +19,10 @@
 package org.apache.syncope.core.logic.wa;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Stream;
+import org.apache.syncope.common.lib.ETagUtils;
 import org.apache.syncope.common.lib.types.ClientAppType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.wa.WAClientApp;
@@ -81,6 +83,20 @@ public class WAClientAppLogic {
         return clientApps;
     }
 
+    /**
+     * Digests the given client applications, sorted by type and clientAppId, so that any Core instance returns the
+     * same version for the same client applications.
+     *
+     * @param clientApps client applications, as returned by {@link #list()}
+     * @return version of the given client applications
+     */
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
+    public String version(final List<WAClientApp> clientApps) {
+        return ETagUtils.digest(clientApps, Comparator.comparing(
+                (WAClientApp clientApp) -> clientApp.getClientAppTO().getClass().getName()).
+                thenComparing(clientApp -> clientApp.getClientAppTO().getClientAppId()));
+    }
+
     protected WAClientApp doRead(final Long clientAppId, final ClientAppType type) {
         WAClientApp clientApp = null;
 
@@ -21,14 +21,12 @@ package org.apache.syncope.core.logic.wa;
 import java.util.List;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.wa.WebAuthnAccount;
-import org.apache.syncope.common.lib.wa.WebAuthnDeviceCredential;
 import org.apache.syncope.core.logic.AbstractAuthProfileLogic;
 import org.apache.syncope.core.persistence.api.dao.AuthProfileDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.am.AuthProfile;
 import org.apache.syncope.core.provisioning.api.data.AuthProfileDataBinder;
-import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,9 +43,8 @@ public class WebAuthnRegistrationLogic extends AbstractAuthProfileLogic {
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     @Transactional(readOnly = true)
     public List<WebAuthnAccount> list() {
-        return authProfileDAO.findAll(Pageable.unpaged()).stream().
-                map(profile -> new WebAuthnAccount.Builder().
-                credentials(profile.getWebAuthnDeviceCredentials()).build()).
+        return authProfileDAO.findWebAuthnDeviceCredentials().values().stream().
+                map(credentials -> new WebAuthnAccount.Builder().credentials(credentials).build()).
                 toList();
     }
 
@@ -63,22 +60,12 @@ public class WebAuthnRegistrationLogic extends AbstractAuthProfileLogic {
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public void delete(final String owner) {
-        authProfileDAO.findByOwner(owner).ifPresent(profile -> {
-            profile.setWebAuthnDeviceCredentials(List.of());
-            authProfileDAO.save(profile);
-        });
+        authProfileDAO.deleteWebAuthnDeviceCredentials(owner);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public void delete(final String owner, final String credentialId) {
-        authProfileDAO.findByOwner(owner).stream().findFirst().
-                ifPresent(profile -> {
-                    List<WebAuthnDeviceCredential> credentials = profile.getWebAuthnDeviceCredentials();
-                    if (credentials.removeIf(acct -> acct.getIdentifier().equals(credentialId))) {
-                        profile.setWebAuthnDeviceCredentials(credentials);
-                        authProfileDAO.save(profile);
-                    }
-                });
+        authProfileDAO.deleteWebAuthnDeviceCredential(owner, credentialId);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
@@ -18,9 +18,13 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericEntity;
 import jakarta.ws.rs.core.Response;
 import java.net.URI;
+import java.util.Comparator;
 import java.util.List;
+import org.apache.syncope.common.lib.ETagUtils;
 import org.apache.syncope.common.lib.to.SRARouteTO;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.service.SRARouteService;
@@ -41,6 +45,19 @@ public class SRARouteServiceImpl extends AbstractService implements SRARouteServ
         return logic.list();
     }
 
+    @Override
+    public Response sync() {
+        List<SRARouteTO> routes = logic.list();
+
+        EntityTag etag = new EntityTag(ETagUtils.digest(routes, Comparator.comparing(SRARouteTO::getKey)));
+        Response.ResponseBuilder builder = messageContext.getRequest().evaluatePreconditions(etag);
+        if (builder == null) {
+            builder = Response.ok(new GenericEntity<>(routes) {
+            });
+        }
+        return builder.tag(etag).build();
+    }
+
     @Override
     public Response create(final SRARouteTO routeTO) {
         SRARouteTO createdRoute = logic.create(routeTO);
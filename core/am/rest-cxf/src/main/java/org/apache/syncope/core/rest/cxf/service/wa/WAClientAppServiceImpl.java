@@ -18,6 +18,9 @@
  */
 package org.apache.syncope.core.rest.cxf.service.wa;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.Response;
 import java.util.List;
 import org.apache.syncope.common.lib.types.ClientAppType;
 import org.apache.syncope.common.lib.wa.WAClientApp;
@@ -40,6 +43,19 @@ public class WAClientAppServiceImpl extends AbstractService implements WAClientA
         return logic.list();
     }
 
+    @Override
+    public Response sync() {
+        List<WAClientApp> clientApps = logic.list();
+
+        EntityTag etag = new EntityTag(logic.version(clientApps));
+        Response.ResponseBuilder builder = messageContext.getRequest().evaluatePreconditions(etag);
+        if (builder == null) {
+            builder = Response.ok(new GenericEntity<>(clientApps) {
+            });
+        }
+        return builder.tag(etag).build();
+    }
+
     @Override
     public WAClientApp read(final Long clientAppId, final ClientAppType type) {
         return logic.read(clientAppId, type);
@@ -33,6 +33,8 @@ import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.ResourceHealthMonitor;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
 import org.apache.syncope.core.provisioning.api.data.RemediationDataBinder;
@@ -42,6 +44,7 @@ import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration(proxyBeanMethods = false)
 public class IdMLogicContext {
@@ -88,7 +91,8 @@ public class IdMLogicContext {
             final ConnectorManager connectorManager,
             final InboundMatcher inboundMatcher,
             final OutboundMatcher outboundMatcher,
-            final MappingManager mappingManager) {
+            final MappingManager mappingManager,
+            final TransactionTemplate domainTransactionTemplate) {
 
         return new ReconciliationLogic(
                 anyUtilsFactory,
@@ -103,7 +107,8 @@ public class IdMLogicContext {
                 mappingManager,
                 inboundMatcher,
                 outboundMatcher,
-                connectorManager);
+                connectorManager,
+                domainTransactionTemplate);
     }
 
     @ConditionalOnMissingBean
@@ -131,7 +136,9 @@ public class IdMLogicContext {
         final ConnInstanceDataBinder connInstanceDataBinder,
         final ConnectorManager connectorManager,
         final OutboundMatcher outboundMatcher,
-        final MappingManager mappingManager) {
+        final MappingManager mappingManager,
+        final ResourceLimiter resourceLimiter,
+        final ResourceHealthMonitor resourceHealthMonitor) {
         
         return new ResourceLogic(
                 resourceDAO,
@@ -144,6 +151,8 @@ public class IdMLogicContext {
                 outboundMatcher,
                 mappingManager,
                 connectorManager,
-                anyUtilsFactory);
+                anyUtilsFactory,
+                resourceLimiter,
+                resourceHealthMonitor);
     }
 }
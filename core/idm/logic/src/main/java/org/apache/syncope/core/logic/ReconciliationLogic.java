@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -47,6 +48,7 @@ import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.IdMEntitlement;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.MatchType;
+import org.apache.syncope.common.lib.types.ThreadPoolSettings;
 import org.apache.syncope.common.rest.api.beans.AbstractCSVSpec;
 import org.apache.syncope.common.rest.api.beans.CSVPullSpec;
 import org.apache.syncope.common.rest.api.beans.CSVPushSpec;
@@ -62,6 +64,8 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -107,8 +111,11 @@ import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.quartz.JobExecutionException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
 
@@ -138,6 +145,8 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
 
     protected final ConnectorManager connectorManager;
 
+    protected final TransactionTemplate pageTransaction;
+
     public ReconciliationLogic(
             final AnyUtilsFactory anyUtilsFactory,
             final AnyTypeDAO anyTypeDAO,
@@ -151,7 +160,8 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
             final MappingManager mappingManager,
             final InboundMatcher inboundMatcher,
             final OutboundMatcher outboundMatcher,
-            final ConnectorManager connectorManager) {
+            final ConnectorManager connectorManager,
+            final TransactionTemplate transactionTemplate) {
 
         this.anyUtilsFactory = anyUtilsFactory;
         this.anyTypeDAO = anyTypeDAO;
@@ -166,6 +176,10 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         this.inboundMatcher = inboundMatcher;
         this.outboundMatcher = outboundMatcher;
         this.connectorManager = connectorManager;
+
+        this.pageTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.pageTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pageTransaction.setReadOnly(true);
     }
 
     protected Triple<AnyType, ExternalResource, Provision> getProvision(
@@ -578,6 +592,92 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         return schemaBuilder;
     }
 
+    protected static ThreadPoolSettings concurrentSettings(final AbstractCSVSpec spec) {
+        if (spec.getConcurrency() > AbstractCSVSpec.MAX_CONCURRENCY) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidValues);
+            sce.getElements().add("concurrency must not exceed " + AbstractCSVSpec.MAX_CONCURRENCY);
+            throw sce;
+        }
+        if (spec.getConcurrency() <= 1) {
+            return null;
+        }
+
+        ThreadPoolSettings settings = new ThreadPoolSettings();
+        settings.setPoolSize(spec.getConcurrency());
+        return settings;
+    }
+
+    protected static SearchCond keyCond(final AttrCond.Type type, final String key) {
+        AnyCond keyCond = new AnyCond(type);
+        keyCond.setSchema("key");
+        keyCond.setExpression(key);
+        return SearchCond.getLeaf(keyCond);
+    }
+
+    /**
+     * Reads one page of matching entities in its own read-only transaction, so that the entities loaded are
+     * detached as soon as the page is returned, instead of piling up in the caller's persistence context.
+     *
+     * @param search page search
+     * @return page of matching entities
+     */
+    protected List<Any<?>> page(final Supplier<List<Any<?>>> search) {
+        return pageTransaction.execute(status -> search.get());
+    }
+
+    /**
+     * Lazily streams all matching entities, reading one page at a time; when no sort is requested, pages are
+     * delimited by key rather than by number, so that reading the last ones costs as much as reading the first.
+     * Returned entities are detached: only their keys and types are meant to be used.
+     *
+     * @param base base realm
+     * @param adminRealms realms the caller can search into
+     * @param cond search condition
+     * @param sort requested sort
+     * @param offset number of matching entities to skip
+     * @param kind any type kind
+     * @return matching entities, past the given offset
+     */
+    protected Stream<Any<?>> stream(
+            final Realm base,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Sort sort,
+            final int offset,
+            final AnyTypeKind kind) {
+
+        if (sort.isSorted()) {
+            return Stream.iterate(offset / AnyDAO.DEFAULT_PAGE_SIZE, page -> page + 1).
+                    map(page -> page(() -> anySearchDAO.<Any<?>>search(
+                    base, true, adminRealms, cond, PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, sort), kind))).
+                    takeWhile(page -> !page.isEmpty()).
+                    flatMap(List::stream).
+                    skip(offset % AnyDAO.DEFAULT_PAGE_SIZE);
+        }
+
+        SearchCond first = cond;
+        if (offset > 0) {
+            Optional<String> from = page(() -> anySearchDAO.<Any<?>>search(
+                    base, true, adminRealms, cond, PageRequest.of(offset, 1, Sort.by("key")), kind)).
+                    stream().findFirst().map(Any::getKey);
+            if (from.isEmpty()) {
+                return Stream.empty();
+            }
+            first = SearchCond.getAnd(cond, keyCond(AttrCond.Type.GE, from.get()));
+        }
+
+        SearchCond firstCond = first;
+        Pageable pageable = PageRequest.of(0, AnyDAO.DEFAULT_PAGE_SIZE, Sort.by("key"));
+        return Stream.iterate(
+                page(() -> anySearchDAO.<Any<?>>search(base, true, adminRealms, firstCond, pageable, kind)),
+                page -> !page.isEmpty(),
+                page -> page.size() < AnyDAO.DEFAULT_PAGE_SIZE
+                ? List.of()
+                : page(() -> anySearchDAO.<Any<?>>search(base, true, adminRealms, SearchCond.getAnd(
+                        cond, keyCond(AttrCond.Type.GT, page.get(page.size() - 1).getKey())), pageable, kind))).
+                flatMap(List::stream);
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.TASK_EXECUTE + "')")
     public List<ProvisioningReport> push(
             final SearchCond searchCond,
@@ -612,21 +712,14 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         Set<String> adminRealms = RealmUtils.getEffective(AuthContextUtils.getAuthorizations().get(entitlement), realm);
         SearchCond effectiveCond = searchCond == null ? anyUtils.dao().getAllMatchingCond() : searchCond;
 
-        List<Any<?>> matching;
+        Stream<Any<?>> matching;
         if (spec.getIgnorePaging()) {
-            matching = new ArrayList<>();
-
-            long count = anySearchDAO.count(base, true, adminRealms, effectiveCond, anyType.getKind());
-            long pages = (count / AnyDAO.DEFAULT_PAGE_SIZE) + 1;
-
-            for (int page = 0; page < pages; page++) {
-                matching.addAll(anySearchDAO.search(
-                        base, true, adminRealms, effectiveCond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, pageable.getSort()),
-                        anyType.getKind()));
-            }
+            matching = stream(
+                    base, adminRealms, effectiveCond, pageable.getSort(), spec.getOffset(), anyType.getKind());
         } else {
-            matching = anySearchDAO.search(base, true, adminRealms, effectiveCond, pageable, anyType.getKind());
+            matching = anySearchDAO.<Any<?>>search(
+                    base, true, adminRealms, effectiveCond, pageable, anyType.getKind()).stream().
+                    skip(spec.getOffset());
         }
 
         List<String> columns = new ArrayList<>();
@@ -663,6 +756,7 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         pushTask.setMatchingRule(spec.getMatchingRule());
         pushTask.setUnmatchingRule(spec.getUnmatchingRule());
         pushTask.getActions().addAll(spec.getProvisioningActions());
+        pushTask.setConcurrentSettings(concurrentSettings(spec));
 
         try (CSVStreamConnector connector = new CSVStreamConnector(
                 null,
@@ -706,6 +800,7 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
         pullTask.setMatchingRule(spec.getMatchingRule());
         pullTask.setUnmatchingRule(spec.getUnmatchingRule());
         pullTask.getActions().addAll(spec.getProvisioningActions());
+        pullTask.setConcurrentSettings(concurrentSettings(spec));
 
         try (CSVStreamConnector connector = new CSVStreamConnector(
                 spec.getKeyColumn(),
@@ -718,6 +813,7 @@ public class ReconciliationLogic extends AbstractTransactionalLogic<EntityTO> {
             if (!columns.contains(spec.getKeyColumn())) {
                 throw new NotFoundException("Key column '" + spec.getKeyColumn() + "'");
             }
+            connector.skip(spec.getOffset());
 
             SyncopeStreamPullExecutor executor =
                     ApplicationContextProvider.getBeanFactory().createBean(StreamPullJobDelegate.class);
@@ -31,6 +31,7 @@ import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.ConnObject;
+import org.apache.syncope.common.lib.to.ConnPoolConfTO;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.to.ResourceTO;
@@ -50,7 +51,11 @@ import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.ConnectorPoolStatus;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.ResourceHealthMonitor;
+import org.apache.syncope.core.provisioning.api.ResourceHealthStatus;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
 import org.apache.syncope.core.provisioning.api.data.ResourceDataBinder;
@@ -94,6 +99,10 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
 
     protected final AnyUtilsFactory anyUtilsFactory;
 
+    protected final ResourceLimiter resourceLimiter;
+
+    protected final ResourceHealthMonitor resourceHealthMonitor;
+
     public ResourceLogic(
             final ExternalResourceDAO resourceDAO,
             final AnyTypeDAO anyTypeDAO,
@@ -105,7 +114,9 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
             final OutboundMatcher outboundMatcher,
             final MappingManager mappingManager,
             final ConnectorManager connectorManager,
-            final AnyUtilsFactory anyUtilsFactory) {
+            final AnyUtilsFactory anyUtilsFactory,
+            final ResourceLimiter resourceLimiter,
+            final ResourceHealthMonitor resourceHealthMonitor) {
 
         this.resourceDAO = resourceDAO;
         this.anyTypeDAO = anyTypeDAO;
@@ -118,6 +129,8 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
         this.mappingManager = mappingManager;
         this.connectorManager = connectorManager;
         this.anyUtilsFactory = anyUtilsFactory;
+        this.resourceLimiter = resourceLimiter;
+        this.resourceHealthMonitor = resourceHealthMonitor;
     }
 
     protected void securityChecks(final Set<String> effectiveRealms, final String realm, final String key) {
@@ -134,6 +147,7 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
         } catch (NotFoundException e) {
             LOG.error("While registering connector for resource", e);
         }
+        resourceLimiter.reset(merged.getKey());
         return merged;
     }
 
@@ -256,6 +270,7 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
         securityChecks(effectiveRealms, resource.getConnector().getAdminRealm().getFullPath(), resource.getKey());
 
         connectorManager.unregisterConnector(resource);
+        resourceLimiter.reset(resource.getKey());
 
         ResourceTO deleted = binder.getResourceTO(resource);
         resourceDAO.deleteById(key);
@@ -277,6 +292,66 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
         return resourceDAO.findAll().stream().map(binder::getResourceTO).toList();
     }
 
+    /**
+     * Returns the outcome of the latest background connector test for the given resource; empty if not tested yet.
+     *
+     * @param key resource key
+     * @return latest health status for the given resource
+     */
+    @PreAuthorize("hasRole('" + IdMEntitlement.RESOURCE_READ + "')")
+    @Transactional(readOnly = true)
+    public Optional<ResourceHealthStatus> getHealth(final String key) {
+        ExternalResource resource = Optional.ofNullable(resourceDAO.authFind(key)).
+                orElseThrow(() -> new NotFoundException("Resource '" + key + '\''));
+
+        return resourceHealthMonitor.getStatus(AuthContextUtils.getDomain(), resource.getKey());
+    }
+
+    /**
+     * Returns connector object pool utilization and per-operation latencies for the given resource; empty if its
+     * connector is not registered yet.
+     *
+     * @param key resource key
+     * @return connector pool status for the given resource
+     */
+    @PreAuthorize("hasRole('" + IdMEntitlement.RESOURCE_READ + "')")
+    @Transactional(readOnly = true)
+    public Optional<ConnectorPoolStatus> getPoolStatus(final String key) {
+        ExternalResource resource = Optional.ofNullable(resourceDAO.authFind(key)).
+                orElseThrow(() -> new NotFoundException("Resource '" + key + '\''));
+
+        return connectorManager.getPoolStatus(resource);
+    }
+
+    /**
+     * Replaces the connector object pool for the given resource with a new one, configured as given, without
+     * re-registering the connector; the new configuration is runtime-only: it is not stored and only affects this Core
+     * instance, until restart or next connector registration.
+     *
+     * @param key resource key
+     * @param poolConf new pool configuration
+     * @return connector pool status for the given resource, after resize
+     */
+    @PreAuthorize("hasRole('" + IdMEntitlement.RESOURCE_UPDATE + "')")
+    @Transactional(readOnly = true)
+    public ConnectorPoolStatus resizePool(final String key, final ConnPoolConfTO poolConf) {
+        ExternalResource resource = Optional.ofNullable(resourceDAO.authFind(key)).
+                orElseThrow(() -> new NotFoundException("Resource '" + key + '\''));
+
+        Set<String> effectiveRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdMEntitlement.RESOURCE_UPDATE),
+                resource.getConnector().getAdminRealm().getFullPath());
+        securityChecks(effectiveRealms, resource.getConnector().getAdminRealm().getFullPath(), resource.getKey());
+
+        try {
+            return connectorManager.resizePool(resource, poolConf);
+        } catch (UnsupportedOperationException e) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidConnInstance);
+            sce.getElements().add(e.getMessage());
+            throw sce;
+        }
+    }
+
     protected Triple<AnyType, ExternalResource, Provision> getProvision(
             final String anyTypeKey, final String resourceKey) {
 
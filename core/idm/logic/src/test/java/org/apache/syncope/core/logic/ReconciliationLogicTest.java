@@ -21,6 +21,7 @@ package org.apache.syncope.core.logic;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.MappingIterator;
@@ -28,15 +29,19 @@ import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.util.List;
 import java.util.Map;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.rest.api.beans.AbstractCSVSpec;
 import org.apache.syncope.common.rest.api.beans.CSVPullSpec;
 import org.apache.syncope.common.rest.api.beans.CSVPushSpec;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -139,4 +144,18 @@ public class ReconciliationLogicTest extends AbstractTest {
             }
         }
     }
+
+    @Test
+    public void pushToCSVWithTooHighConcurrency() {
+        CSVPushSpec spec = new CSVPushSpec.Builder(AnyTypeKind.USER.name()).ignorePaging(true).
+                field("username").
+                concurrency(AbstractCSVSpec.MAX_CONCURRENCY + 1).
+                build();
+
+        OutputStream os = OutputStream.nullOutputStream();
+        SyncopeClientException e = assertThrows(SyncopeClientException.class, () -> AuthContextUtils.callAsAdmin(
+                SyncopeConstants.MASTER_DOMAIN,
+                () -> reconciliationLogic.push(null, PageRequest.of(0, 1), SyncopeConstants.ROOT_REALM, spec, os)));
+        assertEquals(ClientExceptionType.InvalidValues, e.getType());
+    }
 }
@@ -44,6 +44,8 @@ import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.ResourceHealthMonitor;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
 import org.apache.syncope.core.spring.security.SyncopeAuthenticationDetails;
 import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
 import org.identityconnectors.framework.common.objects.ObjectClass;
@@ -218,7 +220,19 @@ public class ResourceLogicTest extends AbstractTest {
         assertNull(resourceTO.getProvision(AnyTypeKind.USER.name()).get().getSyncToken());
 
         ResourceLogic resourceLogic = new ResourceLogic(
-                resourceDAO, anyTypeDAO, null, null, null, null, null, null, null, connectorManager, null);
+                resourceDAO,
+                anyTypeDAO,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                connectorManager,
+                null,
+                mock(ResourceLimiter.class),
+                mock(ResourceHealthMonitor.class));
 
         resourceLogic.setLatestSyncToken(resourceTO.getKey(), AnyTypeKind.USER.name());
         entityManager.flush();
@@ -34,6 +34,7 @@ import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.ConnObject;
+import org.apache.syncope.common.lib.to.ConnPoolConfTO;
 import org.apache.syncope.common.lib.to.PagedConnObjectResult;
 import org.apache.syncope.common.lib.to.ResourceTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -80,6 +81,11 @@ public class ResourceServiceImpl extends AbstractService implements ResourceServ
         logic.removeSyncToken(key, anyTypeKey);
     }
 
+    @Override
+    public void resizePool(final String key, final ConnPoolConfTO poolConf) {
+        logic.resizePool(key, poolConf);
+    }
+
     @Override
     public void delete(final String key) {
         logic.delete(key);
@@ -37,8 +37,10 @@ import org.apache.syncope.core.logic.api.LogicActions;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.springframework.data.domain.Page;
@@ -55,16 +57,33 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
 
     protected final TemplateUtils templateUtils;
 
+    protected final VirAttrHandler virAttrHandler;
+
     protected final Map<String, LogicActions> perContextActions = new ConcurrentHashMap<>();
 
     public AbstractAnyLogic(
             final RealmDAO realmDAO,
             final AnyTypeDAO anyTypeDAO,
-            final TemplateUtils templateUtils) {
+            final TemplateUtils templateUtils,
+            final VirAttrHandler virAttrHandler) {
 
         this.realmDAO = realmDAO;
         this.anyTypeDAO = anyTypeDAO;
         this.templateUtils = templateUtils;
+        this.virAttrHandler = virAttrHandler;
+    }
+
+    /**
+     * Reads at once virtual attribute values for the given page of search results, so that the subsequent per-entity
+     * reads performed while building TOs are served by the virtual attribute cache.
+     *
+     * @param matching search results
+     * @param details whether TOs are going to be built with details, thus including virtual attributes
+     */
+    protected void prefetchVirAttrs(final List<? extends Any<?>> matching, final boolean details) {
+        if (details && !matching.isEmpty()) {
+            virAttrHandler.prefetch(matching);
+        }
     }
 
     protected List<LogicActions> getActions(final Realm realm) {
@@ -24,7 +24,6 @@ import java.util.Collections;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.AccessTokenTO;
-import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
@@ -46,9 +45,7 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
     protected static byte[] getAuthorities() {
         byte[] authorities = null;
         try {
-            authorities = ENCRYPTOR.encode(POJOHelper.serialize(
-                    AuthContextUtils.getAuthorities()), CipherAlgorithm.AES).
-                    getBytes();
+            authorities = ENCRYPTOR.encode(POJOHelper.serializeAsBytes(AuthContextUtils.getAuthorities()));
         } catch (Exception e) {
             LOG.error("Could not fetch authorities", e);
         }
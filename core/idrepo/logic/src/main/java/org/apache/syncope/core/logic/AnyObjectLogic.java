@@ -51,6 +51,7 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
+import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
@@ -77,12 +78,13 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
             final RealmDAO realmDAO,
             final AnyTypeDAO anyTypeDAO,
             final TemplateUtils templateUtils,
+            final VirAttrHandler virAttrHandler,
             final AnyObjectDAO anyObjectDAO,
             final AnySearchDAO searchDAO,
             final AnyObjectDataBinder binder,
             final AnyObjectProvisioningManager provisioningManager) {
 
-        super(realmDAO, anyTypeDAO, templateUtils);
+        super(realmDAO, anyTypeDAO, templateUtils, virAttrHandler);
 
         this.anyObjectDAO = anyObjectDAO;
         this.searchDAO = searchDAO;
@@ -127,6 +129,7 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
 
         List<AnyObject> matching = searchDAO.search(
                 base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT);
+        prefetchVirAttrs(matching, details);
         List<AnyObjectTO> result = matching.stream().
                 map(anyObject -> binder.getAnyObjectTO(anyObject, details)).
                 toList();
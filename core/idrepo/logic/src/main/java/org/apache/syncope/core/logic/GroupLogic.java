@@ -60,6 +60,7 @@ import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
+import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
 import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
@@ -110,6 +111,7 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
             final RealmDAO realmDAO,
             final AnyTypeDAO anyTypeDAO,
             final TemplateUtils templateUtils,
+            final VirAttrHandler virAttrHandler,
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final SecurityProperties securityProperties,
@@ -123,7 +125,7 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
             final SchedulerFactoryBean scheduler,
             final EntityFactory entityFactory) {
 
-        super(realmDAO, anyTypeDAO, templateUtils);
+        super(realmDAO, anyTypeDAO, templateUtils, virAttrHandler);
 
         this.userDAO = userDAO;
         this.groupDAO = groupDAO;
@@ -181,6 +183,7 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
 
         List<Group> matching = searchDAO.search(
                 base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP);
+        prefetchVirAttrs(matching, details);
         List<GroupTO> result = matching.stream().
                 map(group -> binder.getGroupTO(group, details)).
                 toList();
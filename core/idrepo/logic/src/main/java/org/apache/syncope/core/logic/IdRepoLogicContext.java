@@ -77,6 +77,7 @@ import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
+import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.data.AccessTokenDataBinder;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
 import org.apache.syncope.core.provisioning.api.data.AnyTypeClassDataBinder;
@@ -200,6 +201,7 @@ public class IdRepoLogicContext {
     public AnyObjectLogic anyObjectLogic(
             final AnyObjectDataBinder binder,
             final TemplateUtils templateUtils,
+            final VirAttrHandler virAttrHandler,
             final RealmDAO realmDAO,
             final AnyTypeDAO anyTypeDAO,
             final AnyObjectDAO anyObjectDAO,
@@ -210,6 +212,7 @@ public class IdRepoLogicContext {
                 realmDAO,
                 anyTypeDAO,
                 templateUtils,
+                virAttrHandler,
                 anyObjectDAO,
                 anySearchDAO,
                 binder,
@@ -307,6 +310,7 @@ public class IdRepoLogicContext {
             final GroupProvisioningManager provisioningManager,
             final JobManager jobManager,
             final TemplateUtils templateUtils,
+            final VirAttrHandler virAttrHandler,
             final EntityFactory entityFactory,
             final RealmDAO realmDAO,
             final AnyTypeDAO anyTypeDAO,
@@ -324,6 +328,7 @@ public class IdRepoLogicContext {
                 realmDAO,
                 anyTypeDAO,
                 templateUtils,
+                virAttrHandler,
                 userDAO,
                 groupDAO,
                 securityProperties,
@@ -536,6 +541,7 @@ public class IdRepoLogicContext {
     public UserLogic userLogic(
             final UserDataBinder binder,
             final TemplateUtils templateUtils,
+            final VirAttrHandler virAttrHandler,
             final RealmDAO realmDAO,
             final AnyTypeDAO anyTypeDAO,
             final UserDAO userDAO,
@@ -553,6 +559,7 @@ public class IdRepoLogicContext {
                 realmDAO,
                 anyTypeDAO,
                 templateUtils,
+                virAttrHandler,
                 userDAO,
                 groupDAO,
                 anySearchDAO,
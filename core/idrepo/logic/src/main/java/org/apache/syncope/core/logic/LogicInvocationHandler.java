@@ -18,12 +18,14 @@
  */
 package org.apache.syncope.core.logic;
 
+import io.micrometer.core.instrument.Timer;
 import java.lang.reflect.Method;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AuditElements;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.event.AfterHandlingEvent;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -68,6 +70,7 @@ public class LogicInvocationHandler {
         Object output = null;
         Object before = null;
 
+        Timer.Sample sample = SyncopeMetrics.start();
         try {
             LOG.debug("Before {}.{}({})", clazz.getSimpleName(), event,
                     input == null || input.length == 0 ? StringUtils.EMPTY : input);
@@ -92,7 +95,15 @@ public class LogicInvocationHandler {
             LOG.debug("After throwing {}.{}", clazz.getSimpleName(), event);
             throw t;
         } finally {
+            SyncopeMetrics.stop(sample, SyncopeMetrics.LOGIC,
+                    SyncopeMetrics.CATEGORY, category,
+                    SyncopeMetrics.OPERATION, event,
+                    SyncopeMetrics.OUTCOME, condition == AuditElements.Result.SUCCESS
+                    ? SyncopeMetrics.SUCCESS : SyncopeMetrics.FAILURE);
+
             if (notificationsAvailable || auditRequested) {
+                Timer.Sample afterSample = SyncopeMetrics.start();
+
                 AfterHandlingEvent afterHandlingEvent = new AfterHandlingEvent(
                         AuthContextUtils.getWho(),
                         AuditElements.EventCategoryType.LOGIC,
@@ -111,6 +122,9 @@ public class LogicInvocationHandler {
                         LOG.error("While managing Audit and Notifications", t);
                     }
                 });
+                SyncopeMetrics.stop(afterSample, SyncopeMetrics.LOGIC_AFTER,
+                        SyncopeMetrics.CATEGORY, category,
+                        SyncopeMetrics.OPERATION, event);
             }
         }
     }
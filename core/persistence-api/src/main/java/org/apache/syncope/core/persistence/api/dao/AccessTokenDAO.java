@@ -31,4 +31,13 @@ public interface AccessTokenDAO extends DAO<AccessToken> {
     Page<? extends AccessToken> findAll(Pageable pageable);
 
     int deleteExpired(OffsetDateTime now);
+
+    /**
+     * Deletes at most {@code max} access tokens expired before the given instant.
+     *
+     * @param now reference instant
+     * @param max maximum number of access tokens to delete
+     * @return number of deleted access tokens: when lower than {@code max}, no more expired tokens are left
+     */
+    int deleteExpired(OffsetDateTime now, int max);
 }
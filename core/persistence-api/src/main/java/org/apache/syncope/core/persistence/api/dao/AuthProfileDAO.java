@@ -18,7 +18,14 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
+import org.apache.syncope.common.lib.wa.MfaTrustedDevice;
+import org.apache.syncope.common.lib.wa.WebAuthnDeviceCredential;
 import org.apache.syncope.core.persistence.api.entity.am.AuthProfile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,4 +35,35 @@ public interface AuthProfileDAO extends DAO<AuthProfile> {
     Optional<? extends AuthProfile> findByOwner(String owner);
 
     Page<? extends AuthProfile> findAll(Pageable pageable);
+
+    Optional<GoogleMfaAuthToken> findGoogleMfaAuthToken(String owner, int otp);
+
+    List<GoogleMfaAuthToken> findGoogleMfaAuthTokens();
+
+    int deleteGoogleMfaAuthTokensIssuedSince(LocalDateTime issueDate);
+
+    int deleteGoogleMfaAuthTokens(int otp);
+
+    int deleteGoogleMfaAuthTokens(String owner, int otp);
+
+    int deleteGoogleMfaAuthTokens(String owner);
+
+    int deleteGoogleMfaAuthTokens();
+
+    long countMfaTrustedDevices(String owner, Long id, OffsetDateTime recordDate, OffsetDateTime expiringAfter);
+
+    List<MfaTrustedDevice> findMfaTrustedDevices(
+            String owner, Long id, OffsetDateTime recordDate, OffsetDateTime expiringAfter, Pageable pageable);
+
+    int deleteMfaTrustedDevices(String recordKey);
+
+    int deleteMfaTrustedDevicesExpiredBefore(OffsetDateTime expirationDate);
+
+    int deleteMfaTrustedDevices();
+
+    Map<String, List<WebAuthnDeviceCredential>> findWebAuthnDeviceCredentials();
+
+    int deleteWebAuthnDeviceCredentials(String owner);
+
+    int deleteWebAuthnDeviceCredential(String owner, String identifier);
 }
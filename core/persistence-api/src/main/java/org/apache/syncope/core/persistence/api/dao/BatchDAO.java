@@ -18,9 +18,19 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.time.OffsetDateTime;
 import org.apache.syncope.core.persistence.api.entity.Batch;
 
 public interface BatchDAO extends DAO<Batch> {
 
     long deleteExpired();
+
+    /**
+     * Deletes at most {@code max} batch requests expired before the given instant.
+     *
+     * @param now reference instant
+     * @param max maximum number of batch requests to delete
+     * @return number of deleted batch requests: when lower than {@code max}, no more expired requests are left
+     */
+    int deleteExpired(OffsetDateTime now, int max);
 }
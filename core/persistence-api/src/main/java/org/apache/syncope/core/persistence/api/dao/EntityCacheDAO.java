@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.Map;
+import java.util.function.Supplier;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 
 public interface EntityCacheDAO {
@@ -33,5 +34,17 @@ public interface EntityCacheDAO {
 
     void evict(Class<? extends Entity> entityClass, String key);
 
+    boolean clearRegion(String region);
+
     void clearCache();
+
+    /**
+     * Runs the given action without reading users, groups and any objects from the entity cache, nor storing them
+     * into it; meant for bulk operations, as provisioning tasks, which would otherwise evict more useful entries.
+     *
+     * @param <T> action result type
+     * @param action action to run
+     * @return action result
+     */
+    <T> T bypassAnyCache(Supplier<T> action);
 }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import java.util.Map;
+
+/**
+ * Manages the database indexes supporting search on attributes of plain schemas flagged as searchable.
+ */
+public interface PlainSchemaIndexDAO {
+
+    enum IndexStatus {
+
+        BUILDING,
+        READY,
+        DROPPED,
+        FAILED,
+        UNSUPPORTED
+
+    }
+
+    /**
+     * Creates the indexes required by searchable plain schemas of the current domain and drops the ones no longer
+     * required; index DDL is run in background once the current transaction, if any, was committed.
+     */
+    void align();
+
+    /**
+     * @return status of managed indexes, by domain and index name
+     */
+    Map<String, Map<String, Map<String, Object>>> getStatus();
+}
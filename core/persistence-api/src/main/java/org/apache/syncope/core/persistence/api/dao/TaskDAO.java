@@ -73,6 +73,16 @@ public interface TaskDAO extends DAO<Task<?>> {
             AnyTypeKind anyTypeKind,
             String entityKey);
 
+    /**
+     * Updates the checkpoint of the given provisioning task in a separate transaction, so that progress is recorded
+     * even if the ongoing execution does not complete.
+     *
+     * @param type task type, either PULL or PUSH
+     * @param key task key
+     * @param checkpoint serialized progress, or null to clear
+     */
+    void saveCheckpoint(TaskType type, String key, String checkpoint);
+
     void delete(TaskType type, String key);
 
     void deleteAll(ExternalResource resource, TaskType type);
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +79,24 @@ public interface UserDAO extends AnyDAO<User> {
 
     boolean linkedAccountExists(String userKey, String connObjectKeyValue);
 
+    /**
+     * Updates the login metadata of the given user via a narrow statement, without loading nor merging the entity.
+     *
+     * @param key User key
+     * @param lastLoginDate last login date to set, or null to leave unchanged
+     * @param resetFailedLogins whether failed logins shall be reset before adding the given amount
+     * @param failedLogins failed logins to add
+     */
+    void updateLoginMetadata(String key, OffsetDateTime lastLoginDate, boolean resetFailedLogins, int failedLogins);
+
+    /**
+     * Atomically increments the failed logins of the given user via a narrow statement.
+     *
+     * @param key User key
+     * @return failed logins after increment
+     */
+    int incrementFailedLogins(String key);
+
     Optional<? extends LinkedAccount> findLinkedAccount(ExternalResource resource, String connObjectKeyValue);
 
     List<LinkedAccount> findLinkedAccounts(String userKey);
@@ -37,6 +37,8 @@ public interface PlainSchema extends Schema {
 
     Implementation getValidator();
 
+    boolean isSearchable();
+
     void setCipherAlgorithm(CipherAlgorithm cipherAlgorithm);
 
     void setConversionPattern(String conversionPattern);
@@ -61,4 +63,6 @@ public interface PlainSchema extends Schema {
 
     void setUniqueConstraint(boolean uniquevalue);
 
+    void setSearchable(boolean searchable);
+
 }
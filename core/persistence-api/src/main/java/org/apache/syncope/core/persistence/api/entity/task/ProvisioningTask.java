@@ -62,4 +62,13 @@ public interface ProvisioningTask<T extends SchedTask> extends SchedTask {
     ThreadPoolSettings getConcurrentSettings();
 
     void setConcurrentSettings(ThreadPoolSettings settings);
+
+    /**
+     * Progress recorded by the latest execution, when not completed: the next execution will resume from there.
+     *
+     * @return serialized progress, or null
+     */
+    String getCheckpoint();
+
+    void setCheckpoint(String checkpoint);
 }
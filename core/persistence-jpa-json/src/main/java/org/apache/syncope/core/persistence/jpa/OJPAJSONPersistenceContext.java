@@ -28,6 +28,7 @@ import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.JPAJSONAnyDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaIndexDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
@@ -99,8 +100,9 @@ public class OJPAJSONPersistenceContext extends JPAJSONPersistenceContext {
     public PlainSchemaRepoExt plainSchemaRepoExt(
             final AnyUtilsFactory anyUtilsFactory,
             final @Lazy ExternalResourceDAO resourceDAO,
+            final @Lazy PlainSchemaIndexDAO plainSchemaIndexDAO,
             final EntityManager entityManager) {
 
-        return new PlainSchemaRepoExtOJSONImpl(anyUtilsFactory, resourceDAO, entityManager);
+        return new PlainSchemaRepoExtOJSONImpl(anyUtilsFactory, resourceDAO, plainSchemaIndexDAO, entityManager);
     }
 }
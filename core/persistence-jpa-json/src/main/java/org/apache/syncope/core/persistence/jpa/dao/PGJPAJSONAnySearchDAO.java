@@ -629,6 +629,7 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
     @Override
     protected String buildAdminRealmsFilter(
             final Set<String> realmKeys,
+            final boolean recursive,
             final SearchSupport svs,
             final List<Object> parameters) {
 
@@ -636,10 +637,7 @@ public class PGJPAJSONAnySearchDAO extends JPAAnySearchDAO {
             return "realm_id IS NOT NULL";
         }
 
-        String realmKeysArg = realmKeys.stream().
-                map(realmKey -> "?" + setParameter(parameters, realmKey)).
-                collect(Collectors.joining(","));
-        return "realm_id IN (" + realmKeysArg + ')';
+        return buildRealmsClause(realmKeys, recursive, parameters);
     }
 
     @Override
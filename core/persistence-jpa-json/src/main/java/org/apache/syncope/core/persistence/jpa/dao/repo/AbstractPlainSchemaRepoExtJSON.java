@@ -22,6 +22,7 @@ import jakarta.persistence.EntityManager;
 import java.util.List;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaIndexDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
@@ -34,9 +35,10 @@ abstract class AbstractPlainSchemaRepoExtJSON extends PlainSchemaRepoExtImpl {
     protected AbstractPlainSchemaRepoExtJSON(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final PlainSchemaIndexDAO plainSchemaIndexDAO,
             final EntityManager entityManager) {
 
-        super(anyUtilsFactory, resourceDAO, entityManager);
+        super(anyUtilsFactory, resourceDAO, plainSchemaIndexDAO, entityManager);
     }
 
     @Override
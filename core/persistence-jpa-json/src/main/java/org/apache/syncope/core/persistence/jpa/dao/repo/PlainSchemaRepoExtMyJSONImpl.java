@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaIndexDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
@@ -31,9 +32,10 @@ public class PlainSchemaRepoExtMyJSONImpl extends AbstractPlainSchemaRepoExtJSON
     public PlainSchemaRepoExtMyJSONImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final PlainSchemaIndexDAO plainSchemaIndexDAO,
             final EntityManager entityManager) {
 
-        super(anyUtilsFactory, resourceDAO, entityManager);
+        super(anyUtilsFactory, resourceDAO, plainSchemaIndexDAO, entityManager);
     }
 
     @Override
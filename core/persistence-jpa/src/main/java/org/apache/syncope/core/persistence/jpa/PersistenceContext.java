@@ -62,6 +62,7 @@ import org.apache.syncope.core.persistence.api.dao.OIDCRPClientAppDAO;
 import org.apache.syncope.core.persistence.api.dao.PersistenceInfoDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrValueDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaIndexDAO;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
@@ -87,6 +88,7 @@ import org.apache.syncope.core.persistence.api.entity.policy.PolicyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.jpa.attrvalue.validation.DefaultPlainAttrValidationManager;
+import org.apache.syncope.core.persistence.jpa.content.AuthProfileUpgradeLoader;
 import org.apache.syncope.core.persistence.jpa.content.KeymasterConfParamLoader;
 import org.apache.syncope.core.persistence.jpa.content.XMLContentExporter;
 import org.apache.syncope.core.persistence.jpa.content.XMLContentLoader;
@@ -98,10 +100,13 @@ import org.apache.syncope.core.persistence.jpa.dao.JPAJobStatusDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAOIDCJWKSDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAPersistenceInfoDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAPlainAttrValueDAO;
+import org.apache.syncope.core.persistence.jpa.dao.JPAPlainSchemaIndexDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAPolicyDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPATaskDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPATaskExecDAO;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AccessTokenRepo;
+import org.apache.syncope.core.persistence.jpa.dao.repo.AccessTokenRepoExt;
+import org.apache.syncope.core.persistence.jpa.dao.repo.AccessTokenRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AnyObjectRepo;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AnyObjectRepoExt;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AnyObjectRepoExtImpl;
@@ -124,6 +129,8 @@ import org.apache.syncope.core.persistence.jpa.dao.repo.AuthModuleRepo;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AuthModuleRepoExt;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AuthModuleRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.AuthProfileRepo;
+import org.apache.syncope.core.persistence.jpa.dao.repo.AuthProfileRepoExt;
+import org.apache.syncope.core.persistence.jpa.dao.repo.AuthProfileRepoExtImpl;
 import org.apache.syncope.core.persistence.jpa.dao.repo.CASSPClientAppRepo;
 import org.apache.syncope.core.persistence.jpa.dao.repo.CASSPClientAppRepoExt;
 import org.apache.syncope.core.persistence.jpa.dao.repo.CASSPClientAppRepoExtImpl;
@@ -202,6 +209,7 @@ import org.apache.syncope.core.persistence.jpa.spring.DomainRoutingEntityManager
 import org.apache.syncope.core.persistence.jpa.spring.MultiJarAwarePersistenceUnitPostProcessor;
 import org.apache.syncope.core.persistence.jpa.spring.SyncopeJPARepository;
 import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -257,7 +265,7 @@ public class PersistenceContext {
                 + "java.util.Locale=org.apache.syncope.core.persistence.jpa.openjpa.LocaleValueHandler,"
                 + "java.lang.Boolean=org.apache.syncope.core.persistence.jpa.openjpa.BooleanValueHandler'");
 
-        jpaPropertyMap.put("openjpa.DataCache", "true");
+        jpaPropertyMap.put("openjpa.DataCache", persistenceProperties.getDataCache());
         jpaPropertyMap.put("openjpa.QueryCache", "true");
 
         jpaPropertyMap.put("openjpa.RemoteCommitProvider", persistenceProperties.getRemoteCommitProvider());
@@ -341,6 +349,16 @@ public class PersistenceContext {
         return new KeymasterConfParamLoader(confParamOps);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public AuthProfileUpgradeLoader authProfileUpgradeLoader(
+            final AuthProfileDAO authProfileDAO,
+            final EntityManager entityManager,
+            final TransactionTemplate domainTransactionTemplate) {
+
+        return new AuthProfileUpgradeLoader(authProfileDAO, entityManager, domainTransactionTemplate);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public DomainRegistry domainRegistry(final ConfigurableApplicationContext ctx) {
@@ -469,8 +487,17 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public AccessTokenDAO accessTokenDAO(final JpaRepositoryFactory jpaRepositoryFactory) {
-        return jpaRepositoryFactory.getRepository(AccessTokenRepo.class);
+    public AccessTokenRepoExt accessTokenRepoExt(final EntityManager entityManager) {
+        return new AccessTokenRepoExtImpl(entityManager);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AccessTokenDAO accessTokenDAO(
+            final JpaRepositoryFactory jpaRepositoryFactory,
+            final AccessTokenRepoExt accessTokenRepoExt) {
+
+        return jpaRepositoryFactory.getRepository(AccessTokenRepo.class, accessTokenRepoExt);
     }
 
     @ConditionalOnMissingBean
@@ -664,8 +691,17 @@ public class PersistenceContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public AuthProfileDAO authProfileDAO(final JpaRepositoryFactory jpaRepositoryFactory) {
-        return jpaRepositoryFactory.getRepository(AuthProfileRepo.class);
+    public AuthProfileRepoExt authProfileRepoExt(final EntityManager entityManager) {
+        return new AuthProfileRepoExtImpl(entityManager);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public AuthProfileDAO authProfileDAO(
+            final JpaRepositoryFactory jpaRepositoryFactory,
+            final AuthProfileRepoExt authProfileRepoExt) {
+
+        return jpaRepositoryFactory.getRepository(AuthProfileRepo.class, authProfileRepoExt);
     }
 
     @ConditionalOnMissingBean
@@ -909,9 +945,41 @@ public class PersistenceContext {
     public PlainSchemaRepoExt plainSchemaRepoExt(
             final AnyUtilsFactory anyUtilsFactory,
             final @Lazy ExternalResourceDAO resourceDAO,
+            final @Lazy PlainSchemaIndexDAO plainSchemaIndexDAO,
             final EntityManager entityManager) {
 
-        return new PlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, entityManager);
+        return new PlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, plainSchemaIndexDAO, entityManager);
+    }
+
+    /**
+     * Single thread executor running index DDL for searchable plain schemas, in background.
+     *
+     * @return executor thread pool task executor
+     */
+    @Bean
+    public VirtualThreadPoolTaskExecutor plainSchemaIndexExecutor() {
+        VirtualThreadPoolTaskExecutor executor = new VirtualThreadPoolTaskExecutor();
+        executor.setPoolSize(1);
+        executor.setThreadNamePrefix("PlainSchemaIndex-");
+        executor.initialize();
+        return executor;
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PlainSchemaIndexDAO plainSchemaIndexDAO(
+            final PersistenceProperties persistenceProperties,
+            final ResourceLoader resourceLoader,
+            final DomainHolder domainHolder,
+            final EntityManagerFactory entityManagerFactory,
+            @Qualifier("plainSchemaIndexExecutor")
+            final VirtualThreadPoolTaskExecutor plainSchemaIndexExecutor) {
+
+        return new JPAPlainSchemaIndexDAO(
+                domainHolder,
+                entityManagerFactory,
+                resourceLoader.getResource(persistenceProperties.getSchemaIndexesXML()),
+                plainSchemaIndexExecutor);
     }
 
     @ConditionalOnMissingBean
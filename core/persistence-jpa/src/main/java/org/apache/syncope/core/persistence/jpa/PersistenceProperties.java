@@ -28,12 +28,16 @@ public class PersistenceProperties {
 
     private String remoteCommitProvider = "sjvm";
 
+    private String dataCache = "org.apache.syncope.core.persistence.jpa.openjpa.RegionDataCache";
+
     private String metaDataFactory;
 
     private String viewsXML = "classpath:views.xml";
 
     private String indexesXML = "classpath:indexes.xml";
 
+    private String schemaIndexesXML = "classpath:schema_indexes.xml";
+
     @NestedConfigurationProperty
     private final List<DomainProperties> domain = new ArrayList<>();
 
@@ -45,6 +49,14 @@ public class PersistenceProperties {
         this.remoteCommitProvider = remoteCommitProvider;
     }
 
+    public String getDataCache() {
+        return dataCache;
+    }
+
+    public void setDataCache(final String dataCache) {
+        this.dataCache = dataCache;
+    }
+
     public String getMetaDataFactory() {
         return metaDataFactory;
     }
@@ -69,6 +81,14 @@ public class PersistenceProperties {
         this.indexesXML = indexesXML;
     }
 
+    public String getSchemaIndexesXML() {
+        return schemaIndexesXML;
+    }
+
+    public void setSchemaIndexesXML(final String schemaIndexesXML) {
+        this.schemaIndexesXML = schemaIndexesXML;
+    }
+
     public List<DomainProperties> getDomain() {
         return domain;
     }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.content;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
+import org.apache.syncope.common.lib.wa.MfaTrustedDevice;
+import org.apache.syncope.common.lib.wa.WebAuthnDeviceCredential;
+import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.apache.syncope.core.persistence.api.dao.AuthProfileDAO;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAAuthProfile;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves Google MFA tokens, MFA trusted devices and WebAuthn device credentials from the JSON columns where they were
+ * stored before, on {@link JPAAuthProfile#TABLE}, to their own tables; such columns are cleared once moved, so that
+ * each auth profile is upgraded only once.
+ */
+public class AuthProfileUpgradeLoader implements SyncopeCoreLoader {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(AuthProfileUpgradeLoader.class);
+
+    protected static final TypeReference<List<GoogleMfaAuthToken>> GOOGLE_MFA_TOKENS_TYPEREF =
+            new TypeReference<List<GoogleMfaAuthToken>>() {
+    };
+
+    protected static final TypeReference<List<MfaTrustedDevice>> MFA_TRUSTED_DEVICE_TYPEREF =
+            new TypeReference<List<MfaTrustedDevice>>() {
+    };
+
+    protected static final TypeReference<List<WebAuthnDeviceCredential>> WEBAUTHN_TYPEREF =
+            new TypeReference<List<WebAuthnDeviceCredential>>() {
+    };
+
+    protected static <T> List<T> merge(final List<T> current, final String legacy, final TypeReference<List<T>> type) {
+        if (legacy != null) {
+            POJOHelper.deserialize(legacy, type).stream().filter(value -> !current.contains(value)).
+                    forEach(current::add);
+        }
+        return current;
+    }
+
+    protected final AuthProfileDAO authProfileDAO;
+
+    protected final EntityManager entityManager;
+
+    protected final TransactionTemplate transactionTemplate;
+
+    public AuthProfileUpgradeLoader(
+            final AuthProfileDAO authProfileDAO,
+            final EntityManager entityManager,
+            final TransactionTemplate transactionTemplate) {
+
+        this.authProfileDAO = authProfileDAO;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public int getOrder() {
+        return 450;
+    }
+
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(datasource);
+
+        List<String> keys;
+        try {
+            keys = jdbcTemplate.queryForList(
+                    "SELECT id FROM " + JPAAuthProfile.TABLE
+                    + " WHERE googleMfaAuthTokens IS NOT NULL"
+                    + " OR mfaTrustedDevices IS NOT NULL"
+                    + " OR webAuthnDeviceCredentials IS NOT NULL",
+                    String.class);
+        } catch (DataAccessException e) {
+            LOG.debug("[{}] No JSON columns found on {}, nothing to upgrade", domain, JPAAuthProfile.TABLE);
+            return;
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        LOG.info("[{}] Moving MFA tokens, trusted devices and WebAuthn credentials of {} auth profiles",
+                domain, keys.size());
+        AuthContextUtils.runAsAdmin(domain, () -> keys.forEach(key -> {
+            try {
+                upgrade(jdbcTemplate, key);
+            } catch (Exception e) {
+                LOG.error("[{}] While upgrading auth profile {}", domain, key, e);
+            }
+        }));
+    }
+
+    protected void upgrade(final JdbcTemplate jdbcTemplate, final String key) {
+        String[] legacy = jdbcTemplate.queryForObject(
+                "SELECT googleMfaAuthTokens, mfaTrustedDevices, webAuthnDeviceCredentials"
+                + " FROM " + JPAAuthProfile.TABLE + " WHERE id = ?",
+                (rs, row) -> new String[] { rs.getString(1), rs.getString(2), rs.getString(3) },
+                key);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            authProfileDAO.findById(key).ifPresent(authProfile -> {
+                authProfile.setGoogleMfaAuthTokens(
+                        merge(authProfile.getGoogleMfaAuthTokens(), legacy[0], GOOGLE_MFA_TOKENS_TYPEREF));
+                authProfile.setMfaTrustedDevices(
+                        merge(authProfile.getMfaTrustedDevices(), legacy[1], MFA_TRUSTED_DEVICE_TYPEREF));
+                authProfile.setWebAuthnDeviceCredentials(
+                        merge(authProfile.getWebAuthnDeviceCredentials(), legacy[2], WEBAUTHN_TYPEREF));
+                authProfileDAO.save(authProfile);
+            });
+
+            entityManager.createNativeQuery(
+                    "UPDATE " + JPAAuthProfile.TABLE
+                    + " SET googleMfaAuthTokens = NULL, mfaTrustedDevices = NULL, webAuthnDeviceCredentials = NULL"
+                    + " WHERE id = ?1").
+                    setParameter(1, key).
+                    executeUpdate();
+        });
+    }
+}
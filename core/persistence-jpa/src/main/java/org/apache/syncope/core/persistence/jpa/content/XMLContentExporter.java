@@ -75,7 +75,9 @@ import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.content.ContentExporter;
 import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.jpa.dao.repo.RealmRepoExt;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.openjpa.JDBCRemoteCommitProvider;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.slf4j.Logger;
@@ -96,7 +98,7 @@ public class XMLContentExporter implements ContentExporter {
     protected static final Logger LOG = LoggerFactory.getLogger(XMLContentExporter.class);
 
     protected static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED = Set.of(
-            "QRTZ_", AuditConfDAO.AUDIT_ENTRY_TABLE);
+            "QRTZ_", AuditConfDAO.AUDIT_ENTRY_TABLE, RealmRepoExt.HIERARCHY_TABLE, JDBCRemoteCommitProvider.TABLE);
 
     protected static boolean isTableAllowed(final String tableName) {
         return TABLE_PREFIXES_TO_BE_EXCLUDED.stream().
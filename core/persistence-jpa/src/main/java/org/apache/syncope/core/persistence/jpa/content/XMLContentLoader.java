@@ -20,6 +20,11 @@ package org.apache.syncope.core.persistence.jpa.content;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import javax.sql.DataSource;
 import javax.xml.XMLConstants;
@@ -28,7 +33,9 @@ import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 import org.apache.syncope.core.persistence.api.content.ContentLoader;
 import org.apache.syncope.core.persistence.jpa.PersistenceProperties;
+import org.apache.syncope.core.persistence.jpa.dao.repo.RealmRepoExt;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.openjpa.JDBCRemoteCommitProvider;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -107,6 +114,92 @@ public class XMLContentLoader implements ContentLoader {
                 LOG.error("[{}] While loading default content", domain, e);
             }
         }
+
+        try {
+            initRealmHierarchy(domain, datasource);
+        } catch (Exception e) {
+            LOG.error("[{}] While initializing realm hierarchy", domain, e);
+        }
+        try {
+            initRemoteCommitLog(domain, datasource);
+        } catch (Exception e) {
+            LOG.error("[{}] While initializing remote commit log", domain, e);
+        }
+    }
+
+    /**
+     * Makes sure that the table used by {@link JDBCRemoteCommitProvider} exists, also for databases created before
+     * such table was introduced.
+     *
+     * @param domain domain
+     * @param dataSource domain data source
+     * @throws IOException if the views or indexes definition cannot be read
+     */
+    protected void initRemoteCommitLog(final String domain, final DataSource dataSource) throws IOException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(0) FROM " + JDBCRemoteCommitProvider.TABLE, Integer.class);
+        } catch (DataAccessException e) {
+            LOG.info("[{}] Creating table {}", domain, JDBCRemoteCommitProvider.TABLE);
+
+            Properties views = PropertiesLoaderUtils.loadProperties(viewsXML);
+            jdbcTemplate.execute(views.getProperty(JDBCRemoteCommitProvider.TABLE).replaceAll("\\n", " "));
+
+            Properties indexes = PropertiesLoaderUtils.loadProperties(indexesXML);
+            Optional.ofNullable(indexes.getProperty(JDBCRemoteCommitProvider.TABLE + "_commitTime")).
+                    ifPresent(jdbcTemplate::execute);
+        }
+    }
+
+    /**
+     * Makes sure that the realm hierarchy closure table exists and, if empty, populates it from the current realm
+     * tree: this covers both realms loaded as default content and databases created before such table was introduced.
+     *
+     * @param domain domain
+     * @param dataSource domain data source
+     * @throws IOException if the views or indexes definition cannot be read
+     */
+    protected void initRealmHierarchy(final String domain, final DataSource dataSource) throws IOException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        int count;
+        try {
+            count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(0) FROM " + RealmRepoExt.HIERARCHY_TABLE, Integer.class);
+        } catch (DataAccessException e) {
+            LOG.info("[{}] Creating table {}", domain, RealmRepoExt.HIERARCHY_TABLE);
+
+            Properties views = PropertiesLoaderUtils.loadProperties(viewsXML);
+            jdbcTemplate.execute(views.getProperty(RealmRepoExt.HIERARCHY_TABLE).replaceAll("\\n", " "));
+
+            Properties indexes = PropertiesLoaderUtils.loadProperties(indexesXML);
+            Optional.ofNullable(indexes.getProperty(RealmRepoExt.HIERARCHY_TABLE + "_ancestor_id")).
+                    ifPresent(jdbcTemplate::execute);
+            count = 0;
+        }
+        if (count > 0) {
+            return;
+        }
+
+        Map<String, String> parents = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, parent_id FROM " + JPARealm.TABLE,
+                rs -> {
+                    parents.put(rs.getString(1), rs.getString(2));
+                });
+
+        List<Object[]> rows = new ArrayList<>();
+        parents.keySet().forEach(realm -> {
+            int depth = 0;
+            for (String ancestor = realm; ancestor != null; ancestor = parents.get(ancestor)) {
+                rows.add(new Object[] { realm, ancestor, depth++ });
+            }
+        });
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + RealmRepoExt.HIERARCHY_TABLE + "(realm_id, ancestor_id, depth) VALUES(?, ?, ?)",
+                rows);
+
+        LOG.info("[{}] Realm hierarchy initialized for {} realms", domain, parents.size());
     }
 
     protected void loadDefaultContent(
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.ValidationException;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -58,6 +59,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
@@ -176,7 +178,14 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
             return 0;
         }
 
-        return doCount(base, recursive, adminRealms, cond, kind);
+        Timer.Sample sample = SyncopeMetrics.start();
+        try {
+            return doCount(base, recursive, adminRealms, cond, kind);
+        } finally {
+            SyncopeMetrics.stop(sample, SyncopeMetrics.SEARCH,
+                    SyncopeMetrics.CATEGORY, kind.name(),
+                    SyncopeMetrics.OPERATION, "count");
+        }
     }
 
     @Override
@@ -382,14 +391,21 @@ public abstract class AbstractAnySearchDAO implements AnySearchDAO {
                     toList();
         }
 
-        return doSearch(
-                base,
-                recursive,
-                adminRealms,
-                cond,
-                pageable.isUnpaged()
-                ? Pageable.unpaged(Sort.by(effectiveOrderBy))
-                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy)),
-                kind);
+        Timer.Sample sample = SyncopeMetrics.start();
+        try {
+            return doSearch(
+                    base,
+                    recursive,
+                    adminRealms,
+                    cond,
+                    pageable.isUnpaged()
+                    ? Pageable.unpaged(Sort.by(effectiveOrderBy))
+                    : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy)),
+                    kind);
+        } finally {
+            SyncopeMetrics.stop(sample, SyncopeMetrics.SEARCH,
+                    SyncopeMetrics.CATEGORY, kind.name(),
+                    SyncopeMetrics.OPERATION, "search");
+        }
     }
 }
@@ -70,6 +70,8 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.jpa.dao.repo.RealmRepoExt;
+import org.apache.syncope.core.persistence.jpa.dao.repo.RealmRepoExtImpl;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Pageable;
@@ -129,8 +131,32 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                 });
     }
 
+    /**
+     * Builds the condition on {@code realm_id} matching the given realms; when recursive, the given realms are
+     * considered as subtree roots and resolved via the realm hierarchy closure table.
+     *
+     * @param realmKeys realm keys
+     * @param recursive whether the given realms are subtree roots
+     * @param parameters query parameters
+     * @return condition on {@code realm_id}
+     */
+    protected String buildRealmsClause(
+            final Set<String> realmKeys,
+            final boolean recursive,
+            final List<Object> parameters) {
+
+        String realmKeysArg = realmKeys.stream().
+                map(realmKey -> "?" + setParameter(parameters, realmKey)).
+                collect(Collectors.joining(","));
+        return recursive
+                ? "realm_id IN (SELECT realm_id FROM " + RealmRepoExt.HIERARCHY_TABLE
+                + " WHERE ancestor_id IN (" + realmKeysArg + "))"
+                : "realm_id IN (" + realmKeysArg + ')';
+    }
+
     protected String buildAdminRealmsFilter(
             final Set<String> realmKeys,
+            final boolean recursive,
             final SearchSupport svs,
             final List<Object> parameters) {
 
@@ -138,11 +164,8 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             return "u.any_id IS NOT NULL";
         }
 
-        String realmKeysArg = realmKeys.stream().
-                map(realmKey -> "?" + setParameter(parameters, realmKey)).
-                collect(Collectors.joining(","));
         return "u.any_id IN (SELECT any_id FROM " + svs.field().name()
-                + " WHERE realm_id IN (" + realmKeysArg + "))";
+                + " WHERE " + buildRealmsClause(realmKeys, recursive, parameters) + ")";
     }
 
     protected Triple<String, Set<String>, Set<String>> getAdminRealmsFilter(
@@ -168,7 +191,9 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
                                 return noRealm;
                             });
 
-                            realmKeys.addAll(realmDAO.findDescendants(realm.getFullPath(), base.getFullPath()));
+                            RealmRepoExtImpl.commonSubtree(realm.getFullPath(), base.getFullPath()).
+                                    map(root -> root.equals(realm.getFullPath()) ? realm : base).
+                                    ifPresent(root -> realmKeys.add(root.getKey()));
                         } else {
                             dynRealmDAO.findById(realmPath).ifPresentOrElse(
                                     dynRealm -> dynRealmKeys.add(dynRealm.getKey()),
@@ -184,7 +209,8 @@ public class JPAAnySearchDAO extends AbstractAnySearchDAO {
             }
         }
 
-        return Triple.of(buildAdminRealmsFilter(realmKeys, svs, parameters), dynRealmKeys, groupOwners);
+        return Triple.of(
+                buildAdminRealmsFilter(realmKeys, recursive, svs, parameters), dynRealmKeys, groupOwners);
     }
 
     SearchSupport buildSearchSupport(final AnyTypeKind kind) {
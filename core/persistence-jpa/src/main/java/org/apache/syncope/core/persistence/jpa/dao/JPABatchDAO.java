@@ -88,4 +88,22 @@ public class JPABatchDAO implements BatchDAO {
         query.setParameter("now", OffsetDateTime.now());
         return query.executeUpdate();
     }
+
+    @Override
+    public int deleteExpired(final OffsetDateTime now, final int max) {
+        TypedQuery<String> keys = entityManager.createQuery(
+                "SELECT e.id FROM " + JPABatch.class.getSimpleName() + " e WHERE e.expiryTime < :now", String.class);
+        keys.setParameter("now", now);
+        keys.setMaxResults(max);
+
+        List<String> expired = keys.getResultList();
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        Query query = entityManager.createQuery(
+                "DELETE FROM " + JPABatch.class.getSimpleName() + " e WHERE e.id IN :keys");
+        query.setParameter("keys", expired);
+        return query.executeUpdate();
+    }
 }
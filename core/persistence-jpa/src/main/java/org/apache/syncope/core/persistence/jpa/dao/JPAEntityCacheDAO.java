@@ -24,14 +24,22 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import org.apache.openjpa.datacache.CacheStatistics;
 import org.apache.openjpa.datacache.CacheStatisticsSPI;
+import org.apache.openjpa.datacache.DataCache;
+import org.apache.openjpa.datacache.DelegatingDataCache;
 import org.apache.openjpa.datacache.QueryKey;
 import org.apache.openjpa.kernel.QueryStatistics;
 import org.apache.openjpa.persistence.OpenJPAEntityManagerFactory;
+import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
 import org.apache.openjpa.persistence.QueryResultCacheImpl;
+import org.apache.openjpa.persistence.StoreCacheImpl;
 import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
 import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.jpa.openjpa.JDBCRemoteCommitProvider;
+import org.apache.syncope.core.persistence.jpa.openjpa.RegionDataCache;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 
 public class JPAEntityCacheDAO implements EntityCacheDAO {
@@ -52,6 +60,17 @@ public class JPAEntityCacheDAO implements EntityCacheDAO {
                 getQueryResultCache()).getDelegate().getStatistics();
     }
 
+    protected Optional<RegionDataCache> regionDataCache() {
+        DataCache dataCache = ((StoreCacheImpl) entityManagerFactory.unwrap(OpenJPAEntityManagerFactory.class).
+                getStoreCache()).getDelegate();
+        if (dataCache instanceof DelegatingDataCache delegating) {
+            dataCache = delegating.getInnermostDelegate();
+        }
+        return dataCache instanceof RegionDataCache regionDataCache
+                ? Optional.of(regionDataCache)
+                : Optional.empty();
+    }
+
     @Override
     public Map<String, Object> getStatistics() {
         Map<String, Object> result = new LinkedHashMap<>();
@@ -81,12 +100,14 @@ public class JPAEntityCacheDAO implements EntityCacheDAO {
             classMap.put("hits", cacheStats.getHitCount(className));
             classMap.put("reads", cacheStats.getReadCount(className));
             classMap.put("writes", cacheStats.getWriteCount(className));
-            storeCache.put("total_hits", cacheStats.getTotalHitCount(className));
-            storeCache.put("total_reads", cacheStats.getTotalReadCount(className));
-            storeCache.put("total_writes", cacheStats.getTotalWriteCount(className));
+            classMap.put("total_hits", cacheStats.getTotalHitCount(className));
+            classMap.put("total_reads", cacheStats.getTotalReadCount(className));
+            classMap.put("total_writes", cacheStats.getTotalWriteCount(className));
             storeCacheDetails.add(classMap);
         });
 
+        regionDataCache().ifPresent(cache -> storeCache.put("regions", cache.getRegionStatistics()));
+
         QueryStatistics<QueryKey> queryStats = queryStatistics();
 
         Map<String, Object> queryCache = new LinkedHashMap<>();
@@ -109,13 +130,20 @@ public class JPAEntityCacheDAO implements EntityCacheDAO {
         queryStats.keys().forEach(queryKey -> {
             Map<String, Object> queryKeyMap = new LinkedHashMap<>();
             queryKeyMap.put("query_key", queryKey.toString());
-            queryCache.put("hits", queryStats.getHitCount(queryKey));
-            queryCache.put("executions", queryStats.getExecutionCount(queryKey));
-            queryCache.put("total_hits", queryStats.getTotalHitCount(queryKey));
-            queryCache.put("total_executions", queryStats.getTotalExecutionCount(queryKey));
+            queryKeyMap.put("hits", queryStats.getHitCount(queryKey));
+            queryKeyMap.put("executions", queryStats.getExecutionCount(queryKey));
+            queryKeyMap.put("total_hits", queryStats.getTotalHitCount(queryKey));
+            queryKeyMap.put("total_executions", queryStats.getTotalExecutionCount(queryKey));
             queryCacheDetails.add(queryKeyMap);
         });
 
+        if (entityManagerFactory.unwrap(OpenJPAEntityManagerFactorySPI.class).getConfiguration().
+                getRemoteCommitEventManager().getRemoteCommitProvider()
+                instanceof JDBCRemoteCommitProvider remoteCommitProvider) {
+
+            result.put("remoteCommit", remoteCommitProvider.getStatistics());
+        }
+
         return result;
     }
 
@@ -140,6 +168,11 @@ public class JPAEntityCacheDAO implements EntityCacheDAO {
         entityManagerFactory.unwrap(OpenJPAEntityManagerFactory.class).getStoreCache().evict(entityClass, key);
     }
 
+    @Override
+    public boolean clearRegion(final String region) {
+        return regionDataCache().map(cache -> cache.clearRegion(region)).orElse(false);
+    }
+
     @Override
     public void clearCache() {
         OpenJPAEntityManagerFactory emf = entityManagerFactory.unwrap(OpenJPAEntityManagerFactory.class);
@@ -147,4 +180,9 @@ public class JPAEntityCacheDAO implements EntityCacheDAO {
         emf.getStoreCache().evictAll();
         emf.getQueryResultCache().evictAll();
     }
+
+    @Override
+    public <T> T bypassAnyCache(final Supplier<T> action) {
+        return regionDataCache().isPresent() ? RegionDataCache.bypassAny(action) : action.get();
+    }
 }
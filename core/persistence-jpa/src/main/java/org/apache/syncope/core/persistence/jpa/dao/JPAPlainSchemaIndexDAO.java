@@ -0,0 +1,478 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.openjpa.jdbc.meta.MappingRepository;
+import org.apache.openjpa.jdbc.sql.DBDictionary;
+import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaIndexDAO;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAPlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGPlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Manages the indexes supporting search on searchable plain schemas, according to how plain attribute values are
+ * stored:
+ * <ul>
+ * <li>unique values: the value tables hold the {@code schema_id} column, following the value in the managed
+ * indexes</li>
+ * <li>other values: the value tables only reference the owning attribute, via {@code attribute_id}, which then follows
+ * the value in the managed indexes; the attribute tables are indexed on {@code schema_id} by default</li>
+ * <li>JSON documents: one index per searchable schema is managed on each owner table</li>
+ * </ul>
+ * Indexes on value tables are shared by all schemas of the same type, and kept as long as at least one searchable
+ * schema needs them; the value expression leads, as it is the only one bound by search predicates.
+ * <p>
+ * Index DDL is read from the configured XML file: {@code composite} and {@code lower} entries for value tables,
+ * {@code json} entries for JSON documents and {@code drop} entries, with {@code {index}}, {@code {table}},
+ * {@code {key}}, {@code {column}}, {@code {schema}} and {@code {values}} placeholders; entries not defined at all are
+ * not applicable to the configured persistence. Each entry can be overridden for a given database by appending to
+ * the key the name of the domain's OpenJPA {@link DBDictionary}, without the {@code Dictionary} suffix (as
+ * {@code H2}, {@code Postgres}, {@code MySQL}, {@code MariaDB}, {@code Oracle} or {@code SQLServer}): an empty value
+ * marks the corresponding index as not supported.
+ */
+public class JPAPlainSchemaIndexDAO implements PlainSchemaIndexDAO {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(PlainSchemaIndexDAO.class);
+
+    protected static final List<String> NON_UNIQUE_TABLES = List.of(
+            JPAUPlainAttrValue.TABLE, JPAGPlainAttrValue.TABLE, JPAAPlainAttrValue.TABLE);
+
+    protected static final List<String> UNIQUE_TABLES = List.of(
+            JPAUPlainAttrUniqueValue.TABLE, JPAGPlainAttrUniqueValue.TABLE, JPAAPlainAttrUniqueValue.TABLE);
+
+    protected static final List<String> OWNER_TABLES = List.of(JPAUser.TABLE, JPAGroup.TABLE, JPAAnyObject.TABLE);
+
+    protected static final List<String> VALUE_COLUMNS = List.of(
+            "stringvalue", "longvalue", "doublevalue", "datevalue", "booleanvalue");
+
+    protected static final String COMPOSITE = "composite";
+
+    protected static final String LOWER = "lower";
+
+    protected static final String JSON = "json";
+
+    protected static final String DROP = "drop";
+
+    protected static final Pattern SCHEMA_KEY = Pattern.compile("^[\\w.\\-]+$");
+
+    protected static final int MAX_SCHEMA_IN_NAME = 40;
+
+    protected record ManagedIndex(
+            String name, String table, String column, String template, String schema, String values) {
+
+        protected static ManagedIndex of(final String table, final String column, final String template) {
+            return new ManagedIndex(
+                    abbreviation(table) + '_' + column + '_'
+                    + (LOWER.equals(template) ? LOWER : UNIQUE_TABLES.contains(table) ? "schema" : "attr"),
+                    table,
+                    column,
+                    template,
+                    null,
+                    null);
+        }
+
+        protected static ManagedIndex json(final String table, final String schema, final boolean unique) {
+            String sanitized = schema.replaceAll("[^A-Za-z0-9_]", "_");
+            if (sanitized.length() > MAX_SCHEMA_IN_NAME || !sanitized.equals(schema)) {
+                sanitized = StringUtils.left(sanitized, MAX_SCHEMA_IN_NAME - 9)
+                        + '_' + String.format("%08x", schema.hashCode());
+            }
+            return new ManagedIndex(
+                    (abbreviation(table) + '_' + sanitized + '_' + JSON).toLowerCase(Locale.ROOT),
+                    table,
+                    "plainAttrs",
+                    JSON,
+                    schema,
+                    unique ? "uniqueValue" : "values");
+        }
+
+        protected static ManagedIndex json(final String table, final String name) {
+            return new ManagedIndex(name, table, "plainAttrs", JSON, null, null);
+        }
+
+        protected static boolean isJSON(final String table, final String name) {
+            String lower = name.toLowerCase(Locale.ROOT);
+            return OWNER_TABLES.contains(table)
+                    && lower.startsWith(abbreviation(table).toLowerCase(Locale.ROOT) + '_')
+                    && lower.endsWith('_' + JSON);
+        }
+
+        protected static String abbreviation(final String table) {
+            return table.replaceAll("[a-z]", "");
+        }
+
+        protected String key() {
+            return UNIQUE_TABLES.contains(table) ? "schema_id" : "attribute_id";
+        }
+    }
+
+    protected static final List<ManagedIndex> VALUE_INDEXES = Stream.concat(
+            NON_UNIQUE_TABLES.stream(), UNIQUE_TABLES.stream()).
+            flatMap(table -> Stream.concat(
+            VALUE_COLUMNS.stream().map(column -> ManagedIndex.of(table, column, COMPOSITE)),
+            Stream.of(ManagedIndex.of(table, "stringvalue", LOWER)))).
+            toList();
+
+    protected static Optional<String> column(final AttrSchemaType type) {
+        return switch (type) {
+            case String, Enum, Encrypted ->
+                Optional.of("stringvalue");
+            case Long ->
+                Optional.of("longvalue");
+            case Double ->
+                Optional.of("doublevalue");
+            case Date ->
+                Optional.of("datevalue");
+            case Boolean ->
+                Optional.of("booleanvalue");
+            default ->
+                Optional.empty();
+        };
+    }
+
+    protected final DomainHolder domainHolder;
+
+    protected final EntityManagerFactory entityManagerFactory;
+
+    protected final Resource schemaIndexesXML;
+
+    protected final Executor executor;
+
+    protected final Map<String, Map<String, Map<String, Object>>> status = new ConcurrentHashMap<>();
+
+    protected Properties templates;
+
+    public JPAPlainSchemaIndexDAO(
+            final DomainHolder domainHolder,
+            final EntityManagerFactory entityManagerFactory,
+            final Resource schemaIndexesXML,
+            final Executor executor) {
+
+        this.domainHolder = domainHolder;
+        this.entityManagerFactory = entityManagerFactory;
+        this.schemaIndexesXML = schemaIndexesXML;
+        this.executor = executor;
+    }
+
+    protected Properties templates() throws IOException {
+        synchronized (this) {
+            if (templates == null) {
+                templates = PropertiesLoaderUtils.loadProperties(schemaIndexesXML);
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * Names under which DDL overrides are looked up for the given domain, from the most specific: the domain's
+     * {@link DBDictionary} class and its superclasses, without the {@code Dictionary} suffix.
+     *
+     * @param domain domain
+     * @return names under which DDL overrides are looked up
+     */
+    protected List<String> platforms(final String domain) {
+        DBDictionary dict = AuthContextUtils.callAsAdmin(domain, () -> ((MappingRepository) entityManagerFactory.
+                unwrap(OpenJPAEntityManagerFactorySPI.class).getConfiguration().getMetaDataRepositoryInstance()).
+                getDBDictionary());
+
+        List<String> platforms = new ArrayList<>();
+        for (Class<?> clazz = dict.getClass();
+                DBDictionary.class.isAssignableFrom(clazz) && !DBDictionary.class.equals(clazz);
+                clazz = clazz.getSuperclass()) {
+
+            platforms.add(StringUtils.removeEnd(clazz.getSimpleName(), "Dictionary"));
+        }
+        return platforms;
+    }
+
+    protected boolean isDefined(final String key) throws IOException {
+        return templates().containsKey(key);
+    }
+
+    protected Optional<String> ddl(final String key, final List<String> platforms, final ManagedIndex index)
+            throws IOException {
+
+        Properties props = templates();
+        String template = platforms.stream().
+                map(platform -> props.getProperty(key + '.' + platform)).
+                filter(Objects::nonNull).
+                findFirst().
+                orElseGet(() -> props.getProperty(key));
+        return StringUtils.isBlank(template)
+                ? Optional.empty()
+                : Optional.of(template.replace("{index}", index.name()).
+                        replace("{table}", index.table()).
+                        replace("{key}", index.key()).
+                        replace("{column}", index.column()).
+                        replace("{schema}", StringUtils.defaultString(index.schema())).
+                        replace("{values}", StringUtils.defaultString(index.values())).
+                        replaceAll("\\n", " ").
+                        trim());
+    }
+
+    @Override
+    public void align() {
+        String domain = AuthContextUtils.getDomain();
+
+        Runnable task = () -> doAlign(domain);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    executor.execute(task);
+                }
+            });
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    protected Map<ManagedIndex, Set<String>> required(
+            final String domain,
+            final JdbcTemplate jdbcTemplate,
+            final boolean valueIndexes,
+            final boolean jsonIndexes) {
+
+        Map<ManagedIndex, Set<String>> required = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, type, uniqueConstraint FROM " + JPAPlainSchema.TABLE + " WHERE searchable=?",
+                rs -> {
+                    String schema = rs.getString(1);
+                    AttrSchemaType type = AttrSchemaType.valueOf(rs.getString(2));
+                    boolean unique = rs.getBoolean(3);
+                    column(type).ifPresent(column -> {
+                        if (valueIndexes) {
+                            (unique ? UNIQUE_TABLES : NON_UNIQUE_TABLES).forEach(table -> {
+                                required.computeIfAbsent(
+                                        ManagedIndex.of(table, column, COMPOSITE), k -> new TreeSet<>()).add(schema);
+
+                                if (type == AttrSchemaType.String || type == AttrSchemaType.Enum) {
+                                    required.computeIfAbsent(
+                                            ManagedIndex.of(table, column, LOWER), k -> new TreeSet<>()).add(schema);
+                                }
+                            });
+                        }
+
+                        if (jsonIndexes) {
+                            if (SCHEMA_KEY.matcher(schema).matches()) {
+                                OWNER_TABLES.forEach(table -> required.computeIfAbsent(
+                                        ManagedIndex.json(table, schema, unique), k -> new TreeSet<>()).add(schema));
+                            } else {
+                                LOG.warn("[{}] Not managing JSON indexes for plain schema {}: unsupported key",
+                                        domain, schema);
+                            }
+                        }
+                    });
+                },
+                true);
+        return required;
+    }
+
+    /**
+     * Reads the indexes currently defined on the given tables.
+     *
+     * @param dataSource data source
+     * @param tables tables
+     * @return lower-case index names, mapped to the table they are defined on
+     * @throws SQLException if database metadata cannot be read
+     */
+    protected Map<String, String> existing(final DataSource dataSource, final Set<String> tables)
+            throws SQLException {
+
+        Map<String, String> existing = new HashMap<>();
+        try (Connection conn = dataSource.getConnection()) {
+            DatabaseMetaData meta = conn.getMetaData();
+            for (String table : tables) {
+                for (String name : Set.of(table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT))) {
+                    try (ResultSet rs = meta.getIndexInfo(conn.getCatalog(), null, name, false, true)) {
+                        while (rs.next()) {
+                            Optional.ofNullable(rs.getString("INDEX_NAME")).
+                                    ifPresent(index -> existing.put(index.toLowerCase(Locale.ROOT), table));
+                        }
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+
+    protected void setStatus(
+            final String domain,
+            final ManagedIndex index,
+            final Set<String> schemas,
+            final IndexStatus indexStatus,
+            final String message) {
+
+        Map<String, Object> indexMap = new LinkedHashMap<>();
+        indexMap.put("table", index.table());
+        indexMap.put("column", index.column());
+        indexMap.put("type", index.template());
+        indexMap.put("schemas", schemas);
+        indexMap.put("status", indexStatus);
+        Optional.ofNullable(message).ifPresent(m -> indexMap.put("message", m));
+        indexMap.put("last_update", DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                OffsetDateTime.now(FormatUtils.DEFAULT_OFFSET)));
+
+        status.computeIfAbsent(domain, k -> new ConcurrentHashMap<>()).put(index.name(), indexMap);
+    }
+
+    protected void doAlign(final String domain) {
+        DataSource dataSource = domainHolder.getDomains().get(domain);
+        if (dataSource == null) {
+            LOG.error("Could not find DataSource for domain {}", domain);
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        try {
+            List<String> platforms = platforms(domain);
+            boolean valueIndexes = isDefined(COMPOSITE);
+            boolean jsonIndexes = isDefined(JSON);
+
+            Map<ManagedIndex, Set<String>> required = required(domain, jdbcTemplate, valueIndexes, jsonIndexes);
+
+            Set<String> tables = new TreeSet<>();
+            if (valueIndexes) {
+                tables.addAll(NON_UNIQUE_TABLES);
+                tables.addAll(UNIQUE_TABLES);
+            }
+            if (jsonIndexes) {
+                tables.addAll(OWNER_TABLES);
+            }
+            Map<String, String> existing = existing(dataSource, tables);
+
+            Map<String, ManagedIndex> candidates = new LinkedHashMap<>();
+            if (valueIndexes) {
+                VALUE_INDEXES.forEach(index -> candidates.put(index.name().toLowerCase(Locale.ROOT), index));
+            }
+            required.keySet().forEach(index -> candidates.put(index.name().toLowerCase(Locale.ROOT), index));
+            if (jsonIndexes) {
+                existing.entrySet().stream().
+                        filter(e -> ManagedIndex.isJSON(e.getValue(), e.getKey())).
+                        forEach(e -> candidates.putIfAbsent(e.getKey(), ManagedIndex.json(e.getValue(), e.getKey())));
+            }
+
+            Map<String, Set<String>> schemasByName = required.entrySet().stream().collect(Collectors.toMap(
+                    e -> e.getKey().name().toLowerCase(Locale.ROOT), Map.Entry::getValue));
+
+            candidates.forEach((name, index) -> align(
+                    domain, jdbcTemplate, platforms, index, existing.containsKey(name), schemasByName.get(name)));
+        } catch (Exception e) {
+            LOG.error("[{}] While aligning plain schema indexes", domain, e);
+        }
+    }
+
+    protected void align(
+            final String domain,
+            final JdbcTemplate jdbcTemplate,
+            final List<String> platforms,
+            final ManagedIndex index,
+            final boolean exists,
+            final Set<String> schemas) {
+
+        try {
+            if (schemas != null && !exists) {
+                Optional<String> create = ddl(index.template(), platforms, index);
+                if (create.isEmpty()) {
+                    setStatus(domain, index, schemas, IndexStatus.UNSUPPORTED, null);
+                } else {
+                    setStatus(domain, index, schemas, IndexStatus.BUILDING, null);
+                    LOG.info("[{}] Creating index {}", domain, create.get());
+
+                    Arrays.stream(create.get().split(";")).
+                            filter(StringUtils::isNotBlank).
+                            forEach(jdbcTemplate::execute);
+                    setStatus(domain, index, schemas, IndexStatus.READY, null);
+                }
+            } else if (schemas != null) {
+                setStatus(domain, index, schemas, IndexStatus.READY, null);
+            } else if (exists) {
+                Optional<String> drop = ddl(DROP, platforms, index);
+                if (drop.isPresent()) {
+                    LOG.info("[{}] Dropping index {}", domain, drop.get());
+
+                    Arrays.stream(drop.get().split(";")).
+                            filter(StringUtils::isNotBlank).
+                            forEach(jdbcTemplate::execute);
+                    setStatus(domain, index, Set.of(), IndexStatus.DROPPED, null);
+                }
+            } else {
+                Optional.ofNullable(status.get(domain)).ifPresent(s -> s.remove(index.name()));
+            }
+        } catch (Exception e) {
+            LOG.error("[{}] While aligning index {}", domain, index.name(), e);
+            setStatus(domain, index, Optional.ofNullable(schemas).orElse(Set.of()), IndexStatus.FAILED, e.getMessage());
+        }
+    }
+
+    @Override
+    public Map<String, Map<String, Map<String, Object>>> getStatus() {
+        Map<String, Map<String, Map<String, Object>>> result = new LinkedHashMap<>();
+        status.forEach((domain, indexes) -> result.put(domain, new TreeMap<>(indexes)));
+        return result;
+    }
+}
@@ -47,6 +47,7 @@ import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.task.MacroTask;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
@@ -66,6 +67,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ReflectionUtils;
@@ -509,6 +511,14 @@ public class JPATaskDAO implements TaskDAO {
         return entityManager.merge(task);
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public void saveCheckpoint(final TaskType type, final String key, final String checkpoint) {
+        Optional.ofNullable(entityManager.find(taskUtilsFactory.getInstance(type).getTaskEntity(), key)).
+                filter(ProvisioningTask.class::isInstance).
+                ifPresent(task -> ((ProvisioningTask<?>) task).setCheckpoint(checkpoint));
+    }
+
     @Override
     public void delete(final TaskType type, final String key) {
         findById(type, key).ifPresent(this::delete);
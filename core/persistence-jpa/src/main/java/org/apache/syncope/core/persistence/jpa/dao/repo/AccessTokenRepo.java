@@ -27,7 +27,7 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface AccessTokenRepo
-        extends PagingAndSortingRepository<JPAAccessToken, String>, AccessTokenDAO {
+        extends PagingAndSortingRepository<JPAAccessToken, String>, AccessTokenRepoExt, AccessTokenDAO {
 
     @Modifying
     @Query("DELETE FROM #{#entityName} e WHERE e.expirationTime < :now")
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao.repo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAccessToken;
+import org.springframework.transaction.annotation.Transactional;
+
+public class AccessTokenRepoExtImpl implements AccessTokenRepoExt {
+
+    protected final EntityManager entityManager;
+
+    public AccessTokenRepoExtImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    @Override
+    public int deleteExpired(final OffsetDateTime now, final int max) {
+        TypedQuery<String> keys = entityManager.createQuery(
+                "SELECT e.id FROM " + JPAAccessToken.class.getSimpleName() + " e WHERE e.expirationTime < :now",
+                String.class);
+        keys.setParameter("now", now);
+        keys.setMaxResults(max);
+
+        List<String> expired = keys.getResultList();
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        Query query = entityManager.createQuery(
+                "DELETE FROM " + JPAAccessToken.class.getSimpleName() + " e WHERE e.id IN :keys");
+        query.setParameter("keys", expired);
+        return query.executeUpdate();
+    }
+}
@@ -23,6 +23,6 @@ import org.apache.syncope.core.persistence.jpa.entity.am.JPAAuthProfile;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
 public interface AuthProfileRepo
-        extends PagingAndSortingRepository<JPAAuthProfile, String>, AuthProfileDAO {
+        extends PagingAndSortingRepository<JPAAuthProfile, String>, AuthProfileRepoExt, AuthProfileDAO {
 
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao.repo;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
+import org.apache.syncope.common.lib.wa.MfaTrustedDevice;
+import org.apache.syncope.common.lib.wa.WebAuthnDeviceCredential;
+import org.springframework.data.domain.Pageable;
+
+public interface AuthProfileRepoExt {
+
+    Optional<GoogleMfaAuthToken> findGoogleMfaAuthToken(String owner, int otp);
+
+    List<GoogleMfaAuthToken> findGoogleMfaAuthTokens();
+
+    int deleteGoogleMfaAuthTokensIssuedSince(LocalDateTime issueDate);
+
+    int deleteGoogleMfaAuthTokens(int otp);
+
+    int deleteGoogleMfaAuthTokens(String owner, int otp);
+
+    int deleteGoogleMfaAuthTokens(String owner);
+
+    int deleteGoogleMfaAuthTokens();
+
+    long countMfaTrustedDevices(String owner, Long id, OffsetDateTime recordDate, OffsetDateTime expiringAfter);
+
+    List<MfaTrustedDevice> findMfaTrustedDevices(
+            String owner, Long id, OffsetDateTime recordDate, OffsetDateTime expiringAfter, Pageable pageable);
+
+    int deleteMfaTrustedDevices(String recordKey);
+
+    int deleteMfaTrustedDevicesExpiredBefore(OffsetDateTime expirationDate);
+
+    int deleteMfaTrustedDevices();
+
+    Map<String, List<WebAuthnDeviceCredential>> findWebAuthnDeviceCredentials();
+
+    int deleteWebAuthnDeviceCredentials(String owner);
+
+    int deleteWebAuthnDeviceCredential(String owner, String identifier);
+}
@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao.repo;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
+import org.apache.syncope.common.lib.wa.MfaTrustedDevice;
+import org.apache.syncope.common.lib.wa.WebAuthnDeviceCredential;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAAuthProfile;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAGoogleMfaAuthTokenEntry;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAMfaTrustedDeviceEntry;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAWebAuthnDeviceCredentialEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads and deletes Google MFA tokens, MFA trusted devices and WebAuthn device credentials via set-based statements
+ * on their own tables, instead of going through each {@link JPAAuthProfile}.
+ */
+public class AuthProfileRepoExtImpl implements AuthProfileRepoExt {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(AuthProfileRepoExt.class);
+
+    protected static final Map<String, String> MFA_TRUSTED_DEVICE_SORT = Map.of(
+            "id", "deviceId",
+            "recordDate", "recordDate",
+            "expirationDate", "expirationDate");
+
+    /**
+     * Maximum number of keys per bulk delete statement, to stay within the {@code IN} list limits of all supported
+     * databases.
+     */
+    protected static final int BULK_DELETE_SIZE = 500;
+
+    protected final EntityManager entityManager;
+
+    public AuthProfileRepoExtImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Deletes the entries matching the given condition, then evicts from the data cache only the deleted entries
+     * and the auth profiles owning them, since bulk statements bypass the persistence context.
+     *
+     * @param entryClass entry class to delete from
+     * @param where condition on entries, aliased as {@code e}; empty to delete all
+     * @param params sets query parameters
+     * @return number of deleted entries
+     */
+    @SuppressWarnings("unchecked")
+    protected int bulkDelete(final Class<?> entryClass, final String where, final Consumer<Query> params) {
+        Query select = entityManager.createQuery(
+                "SELECT e.id, e.authProfile.id FROM " + entryClass.getSimpleName() + " e " + where);
+        params.accept(select);
+        List<Object[]> affected = select.getResultList();
+
+        int deleted = 0;
+        for (int i = 0; i < affected.size(); i += BULK_DELETE_SIZE) {
+            Query delete = entityManager.createQuery(
+                    "DELETE FROM " + entryClass.getSimpleName() + " e WHERE e.id IN :keys");
+            delete.setParameter("keys", affected.subList(i, Math.min(i + BULK_DELETE_SIZE, affected.size())).
+                    stream().map(row -> row[0]).toList());
+            deleted += delete.executeUpdate();
+        }
+
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        affected.forEach(row -> cache.evict(entryClass, row[0]));
+        affected.stream().map(row -> row[1]).distinct().forEach(key -> cache.evict(JPAAuthProfile.class, key));
+
+        LOG.debug("Deleted {} {}", deleted, entryClass.getSimpleName());
+        return deleted;
+    }
+
+    protected Optional<JPAAuthProfile> authProfile(final String owner) {
+        TypedQuery<JPAAuthProfile> query = entityManager.createQuery(
+                "SELECT e FROM " + JPAAuthProfile.class.getSimpleName() + " e WHERE e.owner = :owner",
+                JPAAuthProfile.class);
+        query.setParameter("owner", owner);
+        return query.getResultList().stream().findFirst();
+    }
+
+    @Override
+    public Optional<GoogleMfaAuthToken> findGoogleMfaAuthToken(final String owner, final int otp) {
+        TypedQuery<JPAGoogleMfaAuthTokenEntry> query = entityManager.createQuery(
+                "SELECT e FROM " + JPAGoogleMfaAuthTokenEntry.class.getSimpleName() + " e "
+                + "WHERE e.authProfile.owner = :owner AND e.otp = :otp",
+                JPAGoogleMfaAuthTokenEntry.class);
+        query.setParameter("owner", owner);
+        query.setParameter("otp", otp);
+        query.setMaxResults(1);
+        return query.getResultList().stream().findFirst().map(JPAGoogleMfaAuthTokenEntry::get);
+    }
+
+    @Override
+    public List<GoogleMfaAuthToken> findGoogleMfaAuthTokens() {
+        TypedQuery<JPAGoogleMfaAuthTokenEntry> query = entityManager.createQuery(
+                "SELECT e FROM " + JPAGoogleMfaAuthTokenEntry.class.getSimpleName() + " e",
+                JPAGoogleMfaAuthTokenEntry.class);
+        return query.getResultList().stream().map(JPAGoogleMfaAuthTokenEntry::get).toList();
+    }
+
+    @Transactional
+    @Override
+    public int deleteGoogleMfaAuthTokensIssuedSince(final LocalDateTime issueDate) {
+        return bulkDelete(
+                JPAGoogleMfaAuthTokenEntry.class,
+                "WHERE e.issueDate >= :issueDate",
+                query -> query.setParameter("issueDate", issueDate));
+    }
+
+    @Transactional
+    @Override
+    public int deleteGoogleMfaAuthTokens(final int otp) {
+        return bulkDelete(
+                JPAGoogleMfaAuthTokenEntry.class,
+                "WHERE e.otp = :otp",
+                query -> query.setParameter("otp", otp));
+    }
+
+    @Transactional
+    @Override
+    public int deleteGoogleMfaAuthTokens(final String owner, final int otp) {
+        return authProfile(owner).map(authProfile -> bulkDelete(
+                JPAGoogleMfaAuthTokenEntry.class,
+                "WHERE e.authProfile = :authProfile AND e.otp = :otp",
+                query -> {
+                    query.setParameter("authProfile", authProfile);
+                    query.setParameter("otp", otp);
+                })).orElse(0);
+    }
+
+    @Transactional
+    @Override
+    public int deleteGoogleMfaAuthTokens(final String owner) {
+        return authProfile(owner).map(authProfile -> bulkDelete(
+                JPAGoogleMfaAuthTokenEntry.class,
+                "WHERE e.authProfile = :authProfile",
+                query -> query.setParameter("authProfile", authProfile))).orElse(0);
+    }
+
+    @Transactional
+    @Override
+    public int deleteGoogleMfaAuthTokens() {
+        return bulkDelete(
+                JPAGoogleMfaAuthTokenEntry.class,
+                "",
+                query -> {
+                });
+    }
+
+    protected StringBuilder mfaTrustedDevicesQuery(
+            final StringBuilder select,
+            final String owner,
+            final Long id,
+            final OffsetDateTime recordDate,
+            final OffsetDateTime expiringAfter) {
+
+        StringBuilder query = select.
+                append(JPAMfaTrustedDeviceEntry.class.getSimpleName()).
+                append(" e WHERE 1=1 ");
+        if (owner != null) {
+            query.append("AND e.authProfile.owner = :owner ");
+        }
+        if (id != null) {
+            query.append("AND e.deviceId = :id ");
+        }
+        if (recordDate != null) {
+            query.append("AND e.recordDate > :recordDate ");
+        }
+        if (expiringAfter != null) {
+            query.append("AND e.expirationDate > :expiringAfter ");
+        }
+        return query;
+    }
+
+    protected void setMfaTrustedDevicesParameters(
+            final Query query,
+            final String owner,
+            final Long id,
+            final OffsetDateTime recordDate,
+            final OffsetDateTime expiringAfter) {
+
+        if (owner != null) {
+            query.setParameter("owner", owner);
+        }
+        if (id != null) {
+            query.setParameter("id", id);
+        }
+        if (recordDate != null) {
+            query.setParameter("recordDate", recordDate);
+        }
+        if (expiringAfter != null) {
+            query.setParameter("expiringAfter", expiringAfter);
+        }
+    }
+
+    @Override
+    public long countMfaTrustedDevices(
+            final String owner,
+            final Long id,
+            final OffsetDateTime recordDate,
+            final OffsetDateTime expiringAfter) {
+
+        StringBuilder queryString = mfaTrustedDevicesQuery(
+                new StringBuilder("SELECT COUNT(e) FROM "), owner, id, recordDate, expiringAfter);
+
+        Query query = entityManager.createQuery(queryString.toString());
+        setMfaTrustedDevicesParameters(query, owner, id, recordDate, expiringAfter);
+
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @Override
+    public List<MfaTrustedDevice> findMfaTrustedDevices(
+            final String owner,
+            final Long id,
+            final OffsetDateTime recordDate,
+            final OffsetDateTime expiringAfter,
+            final Pageable pageable) {
+
+        StringBuilder queryString = mfaTrustedDevicesQuery(
+                new StringBuilder("SELECT e FROM "), owner, id, recordDate, expiringAfter);
+
+        List<String> orderBy = new ArrayList<>();
+        pageable.getSort().forEach(clause -> {
+            String field = MFA_TRUSTED_DEVICE_SORT.get(clause.getProperty().trim());
+            if (field == null) {
+                LOG.warn("MFA trusted device sort request by {}: unsupported, ignoring", clause.getProperty());
+            } else {
+                orderBy.add("e." + field + (clause.getDirection() == Sort.Direction.ASC ? " ASC" : " DESC"));
+            }
+        });
+        if (!orderBy.isEmpty()) {
+            queryString.append("ORDER BY ").append(String.join(",", orderBy));
+        }
+
+        TypedQuery<JPAMfaTrustedDeviceEntry> query = entityManager.createQuery(
+                queryString.toString(), JPAMfaTrustedDeviceEntry.class);
+        setMfaTrustedDevicesParameters(query, owner, id, recordDate, expiringAfter);
+
+        if (pageable.isPaged()) {
+            query.setFirstResult(pageable.getPageSize() * pageable.getPageNumber());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        return query.getResultList().stream().map(JPAMfaTrustedDeviceEntry::get).toList();
+    }
+
+    @Transactional
+    @Override
+    public int deleteMfaTrustedDevices(final String recordKey) {
+        return bulkDelete(
+                JPAMfaTrustedDeviceEntry.class,
+                "WHERE e.recordKey = :recordKey",
+                query -> query.setParameter("recordKey", recordKey));
+    }
+
+    @Transactional
+    @Override
+    public int deleteMfaTrustedDevicesExpiredBefore(final OffsetDateTime expirationDate) {
+        return bulkDelete(
+                JPAMfaTrustedDeviceEntry.class,
+                "WHERE e.expirationDate < :expirationDate",
+                query -> query.setParameter("expirationDate", expirationDate));
+    }
+
+    @Transactional
+    @Override
+    public int deleteMfaTrustedDevices() {
+        return bulkDelete(
+                JPAMfaTrustedDeviceEntry.class,
+                "",
+                query -> {
+                });
+    }
+
+    @Override
+    public Map<String, List<WebAuthnDeviceCredential>> findWebAuthnDeviceCredentials() {
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                "SELECT e.authProfile.owner, e FROM " + JPAWebAuthnDeviceCredentialEntry.class.getSimpleName() + " e "
+                + "ORDER BY e.authProfile.owner",
+                Object[].class);
+
+        Map<String, List<WebAuthnDeviceCredential>> result = new LinkedHashMap<>();
+        query.getResultList().forEach(row -> result.computeIfAbsent((String) row[0], k -> new ArrayList<>()).
+                add(((JPAWebAuthnDeviceCredentialEntry) row[1]).get()));
+        return result;
+    }
+
+    @Transactional
+    @Override
+    public int deleteWebAuthnDeviceCredentials(final String owner) {
+        return authProfile(owner).map(authProfile -> bulkDelete(
+                JPAWebAuthnDeviceCredentialEntry.class,
+                "WHERE e.authProfile = :authProfile",
+                query -> query.setParameter("authProfile", authProfile))).orElse(0);
+    }
+
+    @Transactional
+    @Override
+    public int deleteWebAuthnDeviceCredential(final String owner, final String identifier) {
+        return authProfile(owner).map(authProfile -> bulkDelete(
+                JPAWebAuthnDeviceCredentialEntry.class,
+                "WHERE e.authProfile = :authProfile AND e.identifier = :identifier",
+                query -> {
+                    query.setParameter("authProfile", authProfile);
+                    query.setParameter("identifier", identifier);
+                })).orElse(0);
+    }
+}
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaIndexDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.Attributable;
@@ -68,14 +69,18 @@ public class PlainSchemaRepoExtImpl extends AbstractSchemaRepoExt implements Pla
 
     protected final ExternalResourceDAO resourceDAO;
 
+    protected final PlainSchemaIndexDAO plainSchemaIndexDAO;
+
     public PlainSchemaRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final PlainSchemaIndexDAO plainSchemaIndexDAO,
             final EntityManager entityManager) {
 
         super(entityManager);
         this.anyUtilsFactory = anyUtilsFactory;
         this.resourceDAO = resourceDAO;
+        this.plainSchemaIndexDAO = plainSchemaIndexDAO;
     }
 
     @Override
@@ -108,7 +113,14 @@ public class PlainSchemaRepoExtImpl extends AbstractSchemaRepoExt implements Pla
     @Override
     public PlainSchema save(final PlainSchema schema) {
         ((JPAPlainSchema) schema).map2json();
-        return entityManager.merge(schema);
+        boolean searchableChanged = ((JPAPlainSchema) schema).isSearchableChanged();
+        PlainSchema merged = entityManager.merge(schema);
+
+        if (searchableChanged) {
+            plainSchemaIndexDAO.align();
+        }
+
+        return merged;
     }
 
     protected void deleteAttrs(final PlainSchema schema) {
@@ -131,6 +143,10 @@ public class PlainSchemaRepoExtImpl extends AbstractSchemaRepoExt implements Pla
         Optional.ofNullable(schema.getAnyTypeClass()).ifPresent(c -> c.getPlainSchemas().remove(schema));
 
         entityManager.remove(schema);
+
+        if (schema.isSearchable()) {
+            plainSchemaIndexDAO.align();
+        }
     }
 
     @Override
@@ -26,6 +26,11 @@ import org.springframework.data.domain.Pageable;
 
 public interface RealmRepoExt {
 
+    /**
+     * Closure table holding, for each realm, all of its ancestors - including itself, with depth 0.
+     */
+    String HIERARCHY_TABLE = "RealmHierarchy";
+
     Realm getRoot();
 
     Optional<Realm> findByFullPath(String fullPath);
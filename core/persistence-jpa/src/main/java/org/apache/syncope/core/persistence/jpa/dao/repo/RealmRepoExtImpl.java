@@ -23,9 +23,13 @@ import jakarta.persistence.NoResultException;
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.openjpa.persistence.OpenJPAEntityManager;
+import org.apache.openjpa.persistence.OpenJPAEntityManagerFactory;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.dao.MalformedPathException;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
@@ -42,6 +46,7 @@ import org.apache.syncope.core.persistence.api.entity.policy.ProvisioningPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.TicketExpirationPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.event.RealmSubtreeChangedEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.slf4j.Logger;
@@ -200,25 +205,43 @@ public class RealmRepoExtImpl implements RealmRepoExt {
         return query.getResultList();
     }
 
-    @Override
-    public List<String> findDescendants(final String base, final String prefix) {
-        List<Object> parameters = new ArrayList<>();
+    /**
+     * Returns the full path of the realm whose descendants are descendants of both given realms, if any.
+     *
+     * @param base first realm full path
+     * @param prefix second realm full path
+     * @return the deepest among the two given realms, if one is descendant of the other; empty otherwise
+     */
+    public static Optional<String> commonSubtree(final String base, final String prefix) {
+        if (isDescendantOrSelf(base, prefix)) {
+            return Optional.of(base);
+        }
+        if (isDescendantOrSelf(prefix, base)) {
+            return Optional.of(prefix);
+        }
+        return Optional.empty();
+    }
 
-        StringBuilder queryString = buildDescendantQuery(base, null, parameters);
-        TypedQuery<Realm> query = entityManager.createQuery(queryString.
-                append(" AND (e.fullPath=?").
-                append(setParameter(parameters, prefix)).
-                append(" OR e.fullPath LIKE ?").
-                append(setParameter(parameters, SyncopeConstants.ROOT_REALM.equals(prefix) ? "/%" : prefix + "/%")).
-                append(')').
-                append(" ORDER BY e.fullPath").toString(),
-                Realm.class);
+    protected static boolean isDescendantOrSelf(final String fullPath, final String ancestor) {
+        return SyncopeConstants.ROOT_REALM.equals(ancestor)
+                || fullPath.equals(ancestor)
+                || fullPath.startsWith(ancestor + "/");
+    }
 
-        for (int i = 1; i <= parameters.size(); i++) {
-            query.setParameter(i, parameters.get(i - 1));
+    @Override
+    public List<String> findDescendants(final String base, final String prefix) {
+        Optional<Realm> subtree = commonSubtree(base, prefix).flatMap(this::findByFullPath);
+        if (subtree.isEmpty()) {
+            return List.of();
         }
 
-        return query.getResultList().stream().map(Realm::getKey).toList();
+        Query query = entityManager.createNativeQuery(
+                "SELECT realm_id FROM " + HIERARCHY_TABLE + " WHERE ancestor_id=?");
+        query.setParameter(1, subtree.get().getKey());
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = query.getResultList();
+        return result.stream().map(Object::toString).toList();
     }
 
     protected <T extends Policy> List<Realm> findSamePolicyChildren(final Realm realm, final T policy) {
@@ -296,6 +319,116 @@ public class RealmRepoExtImpl implements RealmRepoExt {
         return query.getResultList();
     }
 
+    /**
+     * Keeps the hierarchy closure table aligned with the given realm's parent: new realms are added below the
+     * ancestors of their parent, while realms moved under a different parent get their whole subtree detached from
+     * former ancestors and attached to the new ones.
+     *
+     * @param realm realm being saved
+     */
+    protected void updateHierarchy(final Realm realm) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT ancestor_id, depth FROM " + HIERARCHY_TABLE + " WHERE realm_id=? AND depth<=1");
+        query.setParameter(1, realm.getKey());
+
+        boolean indexed = false;
+        String parentBefore = null;
+        for (Object row : query.getResultList()) {
+            Object[] cols = (Object[]) row;
+            if (((Number) cols[1]).intValue() == 0) {
+                indexed = true;
+            } else {
+                parentBefore = cols[0].toString();
+            }
+        }
+        String parentAfter = Optional.ofNullable(realm.getParent()).map(Realm::getKey).orElse(null);
+
+        if (!indexed) {
+            Query self = entityManager.createNativeQuery(
+                    "INSERT INTO " + HIERARCHY_TABLE + "(realm_id, ancestor_id, depth) VALUES(?, ?, 0)");
+            self.setParameter(1, realm.getKey());
+            self.setParameter(2, realm.getKey());
+            self.executeUpdate();
+
+            if (parentAfter != null) {
+                Query ancestors = entityManager.createNativeQuery(
+                        "INSERT INTO " + HIERARCHY_TABLE + "(realm_id, ancestor_id, depth) "
+                        + "SELECT ?, ancestor_id, depth + 1 FROM " + HIERARCHY_TABLE + " WHERE realm_id=?");
+                ancestors.setParameter(1, realm.getKey());
+                ancestors.setParameter(2, parentAfter);
+                ancestors.executeUpdate();
+            }
+        } else if (!StringUtils.equals(parentBefore, parentAfter)) {
+            Query detach = entityManager.createNativeQuery(
+                    "DELETE FROM " + HIERARCHY_TABLE
+                    + " WHERE realm_id IN (SELECT t.realm_id FROM "
+                    + "(SELECT realm_id FROM " + HIERARCHY_TABLE + " WHERE ancestor_id=?) t)"
+                    + " AND ancestor_id IN (SELECT t.ancestor_id FROM "
+                    + "(SELECT ancestor_id FROM " + HIERARCHY_TABLE + " WHERE realm_id=? AND depth>0) t)");
+            detach.setParameter(1, realm.getKey());
+            detach.setParameter(2, realm.getKey());
+            detach.executeUpdate();
+
+            if (parentAfter != null) {
+                Query attach = entityManager.createNativeQuery(
+                        "INSERT INTO " + HIERARCHY_TABLE + "(realm_id, ancestor_id, depth) "
+                        + "SELECT d.realm_id, a.ancestor_id, d.depth + a.depth + 1 "
+                        + "FROM " + HIERARCHY_TABLE + " d, " + HIERARCHY_TABLE + " a "
+                        + "WHERE d.ancestor_id=? AND a.realm_id=?");
+                attach.setParameter(1, realm.getKey());
+                attach.setParameter(2, parentAfter);
+                attach.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Rewrites the full path of all descendants of the given realm, just moved or renamed, with a single bulk
+     * update; affected entries are then evicted from persistence caches and one {@link RealmSubtreeChangedEvent} is
+     * published for the whole subtree.
+     *
+     * @param realm realm just moved or renamed
+     * @param fullPathBefore full path of the given realm before being moved or renamed
+     */
+    protected void relocateDescendants(final Realm realm, final String fullPathBefore) {
+        Query descendants = entityManager.createNativeQuery(
+                "SELECT realm_id FROM " + HIERARCHY_TABLE + " WHERE ancestor_id=? AND depth>0");
+        descendants.setParameter(1, realm.getKey());
+
+        @SuppressWarnings("unchecked")
+        List<String> keys = ((List<Object>) descendants.getResultList()).stream().map(Object::toString).toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        entityManager.flush();
+
+        // realm names are alphanumeric, so no LIKE wildcard can be found in full paths
+        Query update = entityManager.createQuery(
+                "UPDATE " + JPARealm.class.getSimpleName() + " e "
+                + "SET e.fullPath = CONCAT(?1, SUBSTRING(e.fullPath, ?2)) "
+                + "WHERE e.fullPath LIKE ?3");
+        update.setParameter(1, realm.getFullPath());
+        update.setParameter(2, fullPathBefore.length() + 1);
+        update.setParameter(3, fullPathBefore + "/%");
+        int updated = update.executeUpdate();
+        LOG.debug("Full path updated from {} to {} for {} realms", fullPathBefore, realm.getFullPath(), updated);
+
+        OpenJPAEntityManagerFactory emf =
+                entityManager.getEntityManagerFactory().unwrap(OpenJPAEntityManagerFactory.class);
+        emf.getStoreCache().evictAll(JPARealm.class, keys);
+        emf.getQueryResultCache().evictAll(JPARealm.class);
+
+        // descendants already loaded in the current persistence context are not affected by bulk update
+        Set<String> relocated = new HashSet<>(keys);
+        entityManager.unwrap(OpenJPAEntityManager.class).getManagedObjects().stream().
+                filter(managed -> managed instanceof JPARealm && relocated.contains(((JPARealm) managed).getKey())).
+                forEach(entityManager::refresh);
+
+        publisher.publishEvent(new RealmSubtreeChangedEvent(
+                this, AuthContextUtils.getDomain(), realm.getKey(), fullPathBefore, realm.getFullPath(), keys));
+    }
+
     @Override
     public Realm save(final Realm realm) {
         String fullPathBefore = realm.getFullPath();
@@ -307,7 +440,11 @@ public class RealmRepoExtImpl implements RealmRepoExt {
         Realm merged = entityManager.merge(realm);
 
         if (!fullPathAfter.equals(fullPathBefore)) {
-            findChildren(realm).forEach(this::save);
+            updateHierarchy(merged);
+
+            if (fullPathBefore != null) {
+                relocateDescendants(merged, fullPathBefore);
+            }
         }
 
         publisher.publishEvent(
@@ -322,6 +459,13 @@ public class RealmRepoExtImpl implements RealmRepoExt {
             return;
         }
 
+        Query hierarchy = entityManager.createNativeQuery(
+                "DELETE FROM " + HIERARCHY_TABLE
+                + " WHERE realm_id IN (SELECT t.realm_id FROM "
+                + "(SELECT realm_id FROM " + HIERARCHY_TABLE + " WHERE ancestor_id=?) t)");
+        hierarchy.setParameter(1, realm.getKey());
+        hierarchy.executeUpdate();
+
         findDescendants(realm.getFullPath(), null, Pageable.unpaged()).forEach(toBeDeleted -> {
             roleDAO.findByRealms(toBeDeleted).forEach(role -> role.getRealms().remove(toBeDeleted));
 
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +67,10 @@ public interface UserRepoExt extends AnyRepoExt<User> {
 
     boolean linkedAccountExists(String userKey, String connObjectKeyValue);
 
+    void updateLoginMetadata(String key, OffsetDateTime lastLoginDate, boolean resetFailedLogins, int failedLogins);
+
+    int incrementFailedLogins(String key);
+
     @Override
     <S extends User> S save(S user);
 
@@ -56,6 +56,8 @@ import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRepoExt {
 
@@ -303,4 +305,59 @@ public class UserRepoExtImpl extends AbstractAnyRepoExt<User> implements UserRep
 
         return ((Number) query.getSingleResult()).longValue() > 0;
     }
+
+    @Transactional
+    @Override
+    public void updateLoginMetadata(
+            final String key,
+            final OffsetDateTime lastLoginDate,
+            final boolean resetFailedLogins,
+            final int failedLogins) {
+
+        StringBuilder update = new StringBuilder("UPDATE ").append(anyUtils.anyClass().getSimpleName()).
+                append(" e SET e.failedLogins = ").
+                append(resetFailedLogins
+                        ? ":failedLogins"
+                        // OpenJPA does not parse arithmetic over COALESCE in update items
+                        : "CASE WHEN e.failedLogins IS NULL THEN :failedLogins "
+                        + "ELSE e.failedLogins + :failedLogins END");
+        if (lastLoginDate != null) {
+            update.append(", e.lastLoginDate = :lastLoginDate");
+        }
+        update.append(" WHERE e.id = :key");
+
+        Query query = entityManager.createQuery(update.toString());
+        query.setParameter("failedLogins", failedLogins);
+        if (lastLoginDate != null) {
+            query.setParameter("lastLoginDate", lastLoginDate);
+        }
+        query.setParameter("key", key);
+        query.executeUpdate();
+
+        // bulk updates bypass the persistence context, hence the data cache needs to be kept aligned - but only
+        // once committed, otherwise concurrent reads could load the previous values back into the cache
+        Runnable evict = () -> entityManager.getEntityManagerFactory().getCache().evict(anyUtils.anyClass(), key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    @Transactional
+    @Override
+    public int incrementFailedLogins(final String key) {
+        updateLoginMetadata(key, null, false, 1);
+
+        Query query = entityManager.createQuery(
+                "SELECT e.failedLogins FROM " + anyUtils.anyClass().getSimpleName() + " e WHERE e.id = :key");
+        query.setParameter("key", key);
+        return ((Number) query.getSingleResult()).intValue();
+    }
 }
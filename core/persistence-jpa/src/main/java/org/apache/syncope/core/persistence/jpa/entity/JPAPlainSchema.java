@@ -25,9 +25,14 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Lob;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
 import jakarta.persistence.PrimaryKeyJoinColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.IdRepoImplementationType;
@@ -62,6 +67,14 @@ public class JPAPlainSchema extends AbstractSchema implements PlainSchema {
 
     private Boolean readonly = false;
 
+    private Boolean searchable = false;
+
+    /**
+     * Value of {@link #searchable} as last read from or written to the database, {@code null} for new schemas.
+     */
+    @Transient
+    private Boolean storedSearchable;
+
     @Column(nullable = true)
     private String conversionPattern;
 
@@ -127,6 +140,41 @@ public class JPAPlainSchema extends AbstractSchema implements PlainSchema {
         this.multivalue = multivalue;
     }
 
+    @Override
+    public boolean isSearchable() {
+        return BooleanUtils.isTrue(searchable);
+    }
+
+    @Override
+    public void setSearchable(final boolean searchable) {
+        this.searchable = searchable;
+    }
+
+    /**
+     * Tells whether the searchable flag was changed since this schema was last loaded or saved: new schemas are
+     * reported as changed only when searchable.
+     *
+     * @return whether the indexes managed for searchable schemas need to be aligned
+     */
+    public boolean isSearchableChanged() {
+        return storedSearchable == null ? isSearchable() : storedSearchable != isSearchable();
+    }
+
+    @PostLoad
+    @Override
+    public void postLoad() {
+        super.postLoad();
+        storedSearchable = isSearchable();
+    }
+
+    @PostPersist
+    @PostUpdate
+    @Override
+    public void postSave() {
+        super.postSave();
+        storedSearchable = isSearchable();
+    }
+
     @Override
     public boolean isUniqueConstraint() {
         return uniqueConstraint;
@@ -19,14 +19,18 @@
 package org.apache.syncope.core.persistence.jpa.entity.am;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Lob;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.wa.GoogleMfaAuthAccount;
 import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
 import org.apache.syncope.common.lib.wa.ImpersonationAccount;
@@ -35,6 +39,7 @@ import org.apache.syncope.common.lib.wa.WebAuthnDeviceCredential;
 import org.apache.syncope.core.persistence.api.entity.am.AuthProfile;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractGeneratedKeyEntity;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
 
 @Entity
 @Table(name = JPAAuthProfile.TABLE, uniqueConstraints =
@@ -45,25 +50,39 @@ public class JPAAuthProfile extends AbstractGeneratedKeyEntity implements AuthPr
 
     public static final String TABLE = "AuthProfile";
 
-    protected static final TypeReference<List<GoogleMfaAuthToken>> GOOGLE_MFA_TOKENS_TYPEREF =
-            new TypeReference<List<GoogleMfaAuthToken>>() {
-    };
-
     protected static final TypeReference<List<GoogleMfaAuthAccount>> GOOGLE_MFA_ACCOUNTS_TYPEREF =
             new TypeReference<List<GoogleMfaAuthAccount>>() {
     };
 
-    protected static final TypeReference<List<MfaTrustedDevice>> MFA_TRUSTED_DEVICE_TYPEREF =
-            new TypeReference<List<MfaTrustedDevice>>() {
-    };
-
     protected static final TypeReference<List<ImpersonationAccount>> IMPERSONATION_TYPEREF =
             new TypeReference<List<ImpersonationAccount>>() {
     };
 
-    protected static final TypeReference<List<WebAuthnDeviceCredential>> WEBAUTHN_TYPEREF =
-            new TypeReference<List<WebAuthnDeviceCredential>>() {
-    };
+    /**
+     * Aligns the given entries to the given values: entries matching a value are kept, the others are removed, and
+     * new entries are added for the remaining values; this way, only what actually changed gets written.
+     *
+     * @param <V> value type
+     * @param <E> entry type
+     * @param entries current entries
+     * @param values new values
+     * @param getter extracts the value from an entry
+     * @param factory builds an entry for a value
+     */
+    protected static <V, E extends AbstractGeneratedKeyEntity> void align(
+            final List<E> entries,
+            final List<V> values,
+            final Function<E, V> getter,
+            final Function<V, E> factory) {
+
+        List<V> toAdd = new ArrayList<>(values);
+        entries.removeIf(entry -> !toAdd.remove(getter.apply(entry)));
+        toAdd.forEach(value -> {
+            E entry = factory.apply(value);
+            entry.setKey(SecureRandomUtils.generateRandomUUID().toString());
+            entries.add(entry);
+        });
+    }
 
     @Column(nullable = false)
     private String owner;
@@ -74,14 +93,14 @@ public class JPAAuthProfile extends AbstractGeneratedKeyEntity implements AuthPr
     @Lob
     private String googleMfaAuthAccounts;
 
-    @Lob
-    private String googleMfaAuthTokens;
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "authProfile")
+    private List<JPAGoogleMfaAuthTokenEntry> googleMfaAuthTokens = new ArrayList<>();
 
-    @Lob
-    private String mfaTrustedDevices;
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "authProfile")
+    private List<JPAMfaTrustedDeviceEntry> mfaTrustedDevices = new ArrayList<>();
 
-    @Lob
-    private String webAuthnDeviceCredentials;
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "authProfile")
+    private List<JPAWebAuthnDeviceCredentialEntry> webAuthnDeviceCredentials = new ArrayList<>();
 
     @Override
     public String getOwner() {
@@ -95,13 +114,18 @@ public class JPAAuthProfile extends AbstractGeneratedKeyEntity implements AuthPr
 
     @Override
     public List<GoogleMfaAuthToken> getGoogleMfaAuthTokens() {
-        return Optional.ofNullable(googleMfaAuthTokens).
-                map(v -> POJOHelper.deserialize(v, GOOGLE_MFA_TOKENS_TYPEREF)).orElseGet(() -> new ArrayList<>(0));
+        return googleMfaAuthTokens.stream().map(JPAGoogleMfaAuthTokenEntry::get).
+                collect(Collectors.toCollection(ArrayList::new));
     }
 
     @Override
     public void setGoogleMfaAuthTokens(final List<GoogleMfaAuthToken> tokens) {
-        googleMfaAuthTokens = POJOHelper.serialize(tokens);
+        align(googleMfaAuthTokens, tokens, JPAGoogleMfaAuthTokenEntry::get, token -> {
+            JPAGoogleMfaAuthTokenEntry entry = new JPAGoogleMfaAuthTokenEntry();
+            entry.setAuthProfile(this);
+            entry.set(token);
+            return entry;
+        });
     }
 
     @Override
@@ -117,13 +141,18 @@ public class JPAAuthProfile extends AbstractGeneratedKeyEntity implements AuthPr
 
     @Override
     public List<MfaTrustedDevice> getMfaTrustedDevices() {
-        return Optional.ofNullable(mfaTrustedDevices).
-                map(v -> POJOHelper.deserialize(v, MFA_TRUSTED_DEVICE_TYPEREF)).orElseGet(() -> new ArrayList<>(0));
+        return mfaTrustedDevices.stream().map(JPAMfaTrustedDeviceEntry::get).
+                collect(Collectors.toCollection(ArrayList::new));
     }
 
     @Override
     public void setMfaTrustedDevices(final List<MfaTrustedDevice> devices) {
-        mfaTrustedDevices = POJOHelper.serialize(devices);
+        align(mfaTrustedDevices, devices, JPAMfaTrustedDeviceEntry::get, device -> {
+            JPAMfaTrustedDeviceEntry entry = new JPAMfaTrustedDeviceEntry();
+            entry.setAuthProfile(this);
+            entry.set(device);
+            return entry;
+        });
     }
 
     @Override
@@ -139,12 +168,17 @@ public class JPAAuthProfile extends AbstractGeneratedKeyEntity implements AuthPr
 
     @Override
     public List<WebAuthnDeviceCredential> getWebAuthnDeviceCredentials() {
-        return Optional.ofNullable(webAuthnDeviceCredentials).
-                map(v -> POJOHelper.deserialize(v, WEBAUTHN_TYPEREF)).orElseGet(() -> new ArrayList<>(0));
+        return webAuthnDeviceCredentials.stream().map(JPAWebAuthnDeviceCredentialEntry::get).
+                collect(Collectors.toCollection(ArrayList::new));
     }
 
     @Override
     public void setWebAuthnDeviceCredentials(final List<WebAuthnDeviceCredential> credentials) {
-        webAuthnDeviceCredentials = POJOHelper.serialize(credentials);
+        align(webAuthnDeviceCredentials, credentials, JPAWebAuthnDeviceCredentialEntry::get, credential -> {
+            JPAWebAuthnDeviceCredentialEntry entry = new JPAWebAuthnDeviceCredentialEntry();
+            entry.setAuthProfile(this);
+            entry.set(credential);
+            return entry;
+        });
     }
 }
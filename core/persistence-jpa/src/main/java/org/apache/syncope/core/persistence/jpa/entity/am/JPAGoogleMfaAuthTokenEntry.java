@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity.am;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
+import org.apache.syncope.core.persistence.jpa.entity.AbstractGeneratedKeyEntity;
+
+@Entity
+@Table(name = JPAGoogleMfaAuthTokenEntry.TABLE)
+public class JPAGoogleMfaAuthTokenEntry extends AbstractGeneratedKeyEntity {
+
+    private static final long serialVersionUID = -6408713553245093745L;
+
+    public static final String TABLE = "GoogleMfaAuthToken";
+
+    @ManyToOne(optional = false)
+    private JPAAuthProfile authProfile;
+
+    private int otp;
+
+    @NotNull
+    private LocalDateTime issueDate;
+
+    public JPAAuthProfile getAuthProfile() {
+        return authProfile;
+    }
+
+    public void setAuthProfile(final JPAAuthProfile authProfile) {
+        this.authProfile = authProfile;
+    }
+
+    public GoogleMfaAuthToken get() {
+        return new GoogleMfaAuthToken.Builder().token(otp).issueDate(issueDate).build();
+    }
+
+    public void set(final GoogleMfaAuthToken token) {
+        this.otp = token.getOtp();
+        this.issueDate = token.getIssueDate();
+    }
+}
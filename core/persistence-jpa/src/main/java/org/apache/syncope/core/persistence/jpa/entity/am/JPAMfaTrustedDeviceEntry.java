@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity.am;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import org.apache.syncope.common.lib.wa.MfaTrustedDevice;
+import org.apache.syncope.core.persistence.jpa.entity.AbstractGeneratedKeyEntity;
+
+@Entity
+@Table(name = JPAMfaTrustedDeviceEntry.TABLE)
+public class JPAMfaTrustedDeviceEntry extends AbstractGeneratedKeyEntity {
+
+    private static final long serialVersionUID = 2371482932016451218L;
+
+    public static final String TABLE = "MfaTrustedDevice";
+
+    @ManyToOne(optional = false)
+    private JPAAuthProfile authProfile;
+
+    private long deviceId;
+
+    private String name;
+
+    private String deviceFingerprint;
+
+    private String recordKey;
+
+    private OffsetDateTime recordDate;
+
+    private OffsetDateTime expirationDate;
+
+    public JPAAuthProfile getAuthProfile() {
+        return authProfile;
+    }
+
+    public void setAuthProfile(final JPAAuthProfile authProfile) {
+        this.authProfile = authProfile;
+    }
+
+    public MfaTrustedDevice get() {
+        MfaTrustedDevice device = new MfaTrustedDevice();
+        device.setId(deviceId);
+        device.setName(name);
+        device.setDeviceFingerprint(deviceFingerprint);
+        device.setRecordKey(recordKey);
+        device.setRecordDate(Optional.ofNullable(recordDate).map(OffsetDateTime::toZonedDateTime).orElse(null));
+        device.setExpirationDate(Optional.ofNullable(expirationDate).
+                map(OffsetDateTime::toZonedDateTime).orElse(null));
+        return device;
+    }
+
+    public void set(final MfaTrustedDevice device) {
+        this.deviceId = device.getId();
+        this.name = device.getName();
+        this.deviceFingerprint = device.getDeviceFingerprint();
+        this.recordKey = device.getRecordKey();
+        this.recordDate = Optional.ofNullable(device.getRecordDate()).map(ZonedDateTime::toOffsetDateTime).orElse(null);
+        this.expirationDate = Optional.ofNullable(device.getExpirationDate()).
+                map(ZonedDateTime::toOffsetDateTime).orElse(null);
+    }
+}
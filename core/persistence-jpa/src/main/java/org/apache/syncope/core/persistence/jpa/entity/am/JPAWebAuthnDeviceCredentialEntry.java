@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity.am;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import org.apache.syncope.common.lib.wa.WebAuthnDeviceCredential;
+import org.apache.syncope.core.persistence.jpa.entity.AbstractGeneratedKeyEntity;
+
+@Entity
+@Table(name = JPAWebAuthnDeviceCredentialEntry.TABLE)
+public class JPAWebAuthnDeviceCredentialEntry extends AbstractGeneratedKeyEntity {
+
+    private static final long serialVersionUID = -3014387342695390311L;
+
+    public static final String TABLE = "WebAuthnDeviceCredential";
+
+    @ManyToOne(optional = false)
+    private JPAAuthProfile authProfile;
+
+    private String identifier;
+
+    @Lob
+    private String json;
+
+    public JPAAuthProfile getAuthProfile() {
+        return authProfile;
+    }
+
+    public void setAuthProfile(final JPAAuthProfile authProfile) {
+        this.authProfile = authProfile;
+    }
+
+    public WebAuthnDeviceCredential get() {
+        return new WebAuthnDeviceCredential.Builder().identifier(identifier).json(json).build();
+    }
+
+    public void set(final WebAuthnDeviceCredential credential) {
+        this.identifier = credential.getIdentifier();
+        this.json = credential.getJson();
+    }
+}
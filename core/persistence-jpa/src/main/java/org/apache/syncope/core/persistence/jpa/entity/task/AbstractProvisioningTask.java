@@ -77,6 +77,9 @@ public abstract class AbstractProvisioningTask<T extends SchedTask>
     @Lob
     protected String concurrentSettings;
 
+    @Lob
+    protected String checkpoint;
+
     @Override
     public ExternalResource getResource() {
         return resource;
@@ -161,4 +164,14 @@ public abstract class AbstractProvisioningTask<T extends SchedTask>
     public void setConcurrentSettings(final ThreadPoolSettings settings) {
         this.concurrentSettings = Optional.ofNullable(settings).map(POJOHelper::serialize).orElse(null);
     }
+
+    @Override
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    @Override
+    public void setCheckpoint(final String checkpoint) {
+        this.checkpoint = checkpoint;
+    }
 }
@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.apache.openjpa.event.AbstractRemoteCommitProvider;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.jdbc.conf.JDBCConfiguration;
+import org.apache.openjpa.lib.conf.Configuration;
+import org.apache.openjpa.util.OpenJPAId;
+import org.apache.openjpa.util.StringId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * OpenJPA {@link org.apache.openjpa.event.RemoteCommitProvider} distributing commit events across all Core nodes
+ * sharing the same database, with no need for further infrastructure: each node writes the object ids involved in
+ * its own commits to the {@link #TABLE} table, and polls the same table for changes committed by other nodes.
+ * <p>
+ * Configure via {@code persistence.remoteCommitProvider}, for example
+ * <pre>
+ * org.apache.syncope.core.persistence.jpa.openjpa.JDBCRemoteCommitProvider(PollInterval=1000)
+ * </pre>
+ * All timestamps are taken from the database, so that clock differences between nodes do not matter.
+ */
+public class JDBCRemoteCommitProvider extends AbstractRemoteCommitProvider {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(JDBCRemoteCommitProvider.class);
+
+    public static final String TABLE = "RemoteCommitLog";
+
+    /**
+     * Persisted object id.
+     */
+    protected static final String ADDED = "A";
+
+    /**
+     * Persisted type name, when object ids are not transmitted.
+     */
+    protected static final String ADDED_TYPE = "P";
+
+    /**
+     * Updated object id.
+     */
+    protected static final String UPDATED = "U";
+
+    /**
+     * Updated type name, for extent-based events.
+     */
+    protected static final String UPDATED_TYPE = "X";
+
+    /**
+     * Deleted object id.
+     */
+    protected static final String DELETED = "D";
+
+    protected final String node = UUID.randomUUID().toString();
+
+    protected long pollInterval = 1000;
+
+    protected long overlap = 5000;
+
+    protected long retention = 3600000;
+
+    protected int purgeEvery = 60;
+
+    protected JDBCConfiguration conf;
+
+    protected JdbcTemplate jdbcTemplate;
+
+    protected ScheduledExecutorService poller;
+
+    protected Timestamp lastSeen;
+
+    protected final Map<String, Timestamp> seen = new ConcurrentHashMap<>();
+
+    protected final AtomicLong polls = new AtomicLong();
+
+    protected final AtomicLong pollFailures = new AtomicLong();
+
+    protected final AtomicLong broadcasts = new AtomicLong();
+
+    protected final AtomicLong broadcastFailures = new AtomicLong();
+
+    protected final AtomicLong received = new AtomicLong();
+
+    protected final AtomicLong totalLatency = new AtomicLong();
+
+    protected final AtomicLong maxLatency = new AtomicLong();
+
+    protected final AtomicLong lastLatency = new AtomicLong(-1);
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * @param pollInterval milliseconds between two subsequent polls
+     */
+    public void setPollInterval(final long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public long getOverlap() {
+        return overlap;
+    }
+
+    /**
+     * @param overlap milliseconds to look back at each poll, for commits whose timestamp was taken before the latest
+     * seen but which became visible later
+     */
+    public void setOverlap(final long overlap) {
+        this.overlap = overlap;
+    }
+
+    public long getRetention() {
+        return retention;
+    }
+
+    /**
+     * @param retention milliseconds after which commit log entries are purged
+     */
+    public void setRetention(final long retention) {
+        this.retention = retention;
+    }
+
+    public int getPurgeEvery() {
+        return purgeEvery;
+    }
+
+    /**
+     * @param purgeEvery number of polls between two subsequent purges
+     */
+    public void setPurgeEvery(final int purgeEvery) {
+        this.purgeEvery = purgeEvery;
+    }
+
+    @Override
+    public void setConfiguration(final Configuration config) {
+        super.setConfiguration(config);
+        this.conf = (JDBCConfiguration) config;
+    }
+
+    @Override
+    public void endConfiguration() {
+        super.endConfiguration();
+
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "RemoteCommitLog-" + node);
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    protected DataSource dataSource() {
+        return conf.getDataSource(null);
+    }
+
+    protected JdbcTemplate jdbcTemplate() {
+        synchronized (this) {
+            if (jdbcTemplate == null) {
+                jdbcTemplate = new JdbcTemplate(dataSource());
+            }
+        }
+        return jdbcTemplate;
+    }
+
+    protected static Optional<Object[]> row(final String commit, final String action, final Object oid) {
+        if (oid instanceof StringId stringId) {
+            return Optional.of(new Object[] { commit, action, stringId.getType().getName(), stringId.getId() });
+        }
+        if (oid instanceof OpenJPAId openJPAId) {
+            LOG.warn("Unsupported object id type {}, evicting {} extent", oid.getClass(), openJPAId.getType());
+            return Optional.of(new Object[] { commit, UPDATED_TYPE, openJPAId.getType().getName(), null });
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void broadcast(final RemoteCommitEvent event) {
+        String commit = UUID.randomUUID().toString();
+
+        List<Object[]> rows = new ArrayList<>();
+        switch (event.getPayloadType()) {
+            case RemoteCommitEvent.PAYLOAD_EXTENTS:
+                event.getPersistedTypeNames().
+                        forEach(type -> rows.add(new Object[] { commit, ADDED_TYPE, type, null }));
+                event.getUpdatedTypeNames().
+                        forEach(type -> rows.add(new Object[] { commit, UPDATED_TYPE, type, null }));
+                break;
+
+            case RemoteCommitEvent.PAYLOAD_OIDS_WITH_ADDS:
+                event.getPersistedObjectIds().
+                        forEach(oid -> row(commit, ADDED, oid).ifPresent(rows::add));
+                event.getUpdatedObjectIds().
+                        forEach(oid -> row(commit, UPDATED, oid).ifPresent(rows::add));
+                event.getDeletedObjectIds().
+                        forEach(oid -> row(commit, DELETED, oid).ifPresent(rows::add));
+                break;
+
+            case RemoteCommitEvent.PAYLOAD_OIDS:
+                event.getPersistedTypeNames().
+                        forEach(type -> rows.add(new Object[] { commit, ADDED_TYPE, type, null }));
+                event.getUpdatedObjectIds().
+                        forEach(oid -> row(commit, UPDATED, oid).ifPresent(rows::add));
+                event.getDeletedObjectIds().
+                        forEach(oid -> row(commit, DELETED, oid).ifPresent(rows::add));
+                break;
+
+            case RemoteCommitEvent.PAYLOAD_LOCAL_STALE_DETECTION:
+            default:
+                event.getUpdatedObjectIds().
+                        forEach(oid -> row(commit, UPDATED, oid).ifPresent(rows::add));
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate().batchUpdate(
+                    "INSERT INTO " + TABLE + "(commit_id, node, commitTime, action, entity, entityKey) "
+                    + "VALUES(?, ?, CURRENT_TIMESTAMP, ?, ?, ?)",
+                    rows.stream().map(row -> new Object[] { row[0], node, row[1], row[2], row[3] }).toList());
+            broadcasts.incrementAndGet();
+        } catch (Exception e) {
+            broadcastFailures.incrementAndGet();
+            LOG.error("While broadcasting commit {}", commit, e);
+        }
+    }
+
+    protected Collection<Object> oids(final List<String[]> entries, final String action) {
+        List<Object> oids = new ArrayList<>();
+        entries.stream().filter(entry -> action.equals(entry[0])).forEach(entry -> {
+            try {
+                oids.add(new StringId(Class.forName(entry[1], false, getClass().getClassLoader()), entry[2]));
+            } catch (ClassNotFoundException e) {
+                LOG.error("Could not load {}", entry[1], e);
+            }
+        });
+        return oids;
+    }
+
+    protected static Collection<String> types(final List<String[]> entries, final String action) {
+        return entries.stream().filter(entry -> action.equals(entry[0])).map(entry -> entry[1]).toList();
+    }
+
+    protected RemoteCommitEvent event(final List<String[]> entries) {
+        if (entries.stream().anyMatch(entry -> UPDATED_TYPE.equals(entry[0]))) {
+            return new RemoteCommitEvent(
+                    RemoteCommitEvent.PAYLOAD_EXTENTS,
+                    null,
+                    types(entries, ADDED_TYPE),
+                    types(entries, UPDATED_TYPE),
+                    null);
+        }
+
+        Collection<Object> added = oids(entries, ADDED);
+        return new RemoteCommitEvent(
+                added.isEmpty() ? RemoteCommitEvent.PAYLOAD_OIDS : RemoteCommitEvent.PAYLOAD_OIDS_WITH_ADDS,
+                added,
+                types(entries, ADDED_TYPE),
+                oids(entries, UPDATED),
+                oids(entries, DELETED));
+    }
+
+    protected void poll() {
+        if (eventManager == null) {
+            return;
+        }
+
+        try {
+            if (lastSeen == null) {
+                lastSeen = Optional.ofNullable(jdbcTemplate().queryForObject(
+                        "SELECT MAX(commitTime) FROM " + TABLE, Timestamp.class)).
+                        orElseGet(() -> new Timestamp(0));
+            }
+
+            Map<String, List<String[]>> commits = new LinkedHashMap<>();
+            Map<String, Timestamp> commitTimes = new HashMap<>();
+            Timestamp[] now = new Timestamp[1];
+            jdbcTemplate().query(
+                    "SELECT commit_id, commitTime, action, entity, entityKey, CURRENT_TIMESTAMP FROM " + TABLE
+                    + " WHERE node <> ? AND commitTime > ? ORDER BY commitTime",
+                    rs -> {
+                        String commit = rs.getString(1);
+                        if (!seen.containsKey(commit)) {
+                            commitTimes.put(commit, rs.getTimestamp(2));
+                            commits.computeIfAbsent(commit, k -> new ArrayList<>()).
+                                    add(new String[] { rs.getString(3), rs.getString(4), rs.getString(5) });
+                        }
+                        now[0] = rs.getTimestamp(6);
+                    },
+                    node,
+                    new Timestamp(lastSeen.getTime() - overlap));
+
+            commits.forEach((commit, entries) -> {
+                Timestamp commitTime = commitTimes.get(commit);
+                seen.put(commit, commitTime);
+                if (commitTime.after(lastSeen)) {
+                    lastSeen = commitTime;
+                }
+
+                try {
+                    fireEvent(event(entries));
+                } catch (Exception e) {
+                    LOG.error("While processing commit {}", commit, e);
+                }
+
+                long latency = Math.max(0, now[0].getTime() - commitTime.getTime());
+                received.incrementAndGet();
+                totalLatency.addAndGet(latency);
+                lastLatency.set(latency);
+                maxLatency.accumulateAndGet(latency, Math::max);
+            });
+
+            seen.entrySet().removeIf(entry -> entry.getValue().getTime() < lastSeen.getTime() - overlap);
+
+            if (polls.incrementAndGet() % purgeEvery == 0) {
+                int purged = jdbcTemplate().update(
+                        "DELETE FROM " + TABLE + " WHERE commitTime < ?",
+                        new Timestamp(lastSeen.getTime() - retention));
+                LOG.debug("Purged {} commit log entries", purged);
+            }
+        } catch (Exception e) {
+            // the table might not be available yet, while the domain is being initialized
+            pollFailures.incrementAndGet();
+            LOG.warn("While polling for remote commits: {}", e.getMessage());
+            LOG.debug("Polling error details", e);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("node", node);
+        stats.put("poll_interval", pollInterval);
+        stats.put("polls", polls.get());
+        stats.put("poll_failures", pollFailures.get());
+        stats.put("broadcasts", broadcasts.get());
+        stats.put("broadcast_failures", broadcastFailures.get());
+        stats.put("received", received.get());
+
+        long count = received.get();
+        stats.put("last_latency_ms", lastLatency.get());
+        stats.put("avg_latency_ms", count == 0 ? 0 : totalLatency.get() / count);
+        stats.put("max_latency_ms", maxLatency.get());
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        Optional.ofNullable(poller).ifPresent(ScheduledExecutorService::shutdownNow);
+    }
+}
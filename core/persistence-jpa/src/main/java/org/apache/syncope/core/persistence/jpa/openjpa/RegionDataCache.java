@@ -0,0 +1,420 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.apache.openjpa.datacache.AbstractDataCache;
+import org.apache.openjpa.datacache.DataCacheManager;
+import org.apache.openjpa.datacache.DataCachePCData;
+import org.apache.openjpa.event.RemoteCommitListener;
+import org.apache.openjpa.util.OpenJPAId;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAnyType;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
+import org.apache.syncope.core.persistence.jpa.entity.JPAApplication;
+import org.apache.syncope.core.persistence.jpa.entity.JPAAuditConf;
+import org.apache.syncope.core.persistence.jpa.entity.JPAConnInstance;
+import org.apache.syncope.core.persistence.jpa.entity.JPADerSchema;
+import org.apache.syncope.core.persistence.jpa.entity.JPADynRealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
+import org.apache.syncope.core.persistence.jpa.entity.JPAImplementation;
+import org.apache.syncope.core.persistence.jpa.entity.JPAMailTemplate;
+import org.apache.syncope.core.persistence.jpa.entity.JPANotification;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPrivilege;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPARelationshipType;
+import org.apache.syncope.core.persistence.jpa.entity.JPARole;
+import org.apache.syncope.core.persistence.jpa.entity.JPASRARoute;
+import org.apache.syncope.core.persistence.jpa.entity.JPAVirSchema;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAAuthProfile;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAGoogleMfaAuthTokenEntry;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAMfaTrustedDeviceEntry;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAWebAuthnDeviceCredentialEntry;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
+import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
+import org.apache.syncope.core.persistence.jpa.entity.policy.AbstractPolicy;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPASecurityQuestion;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+
+/**
+ * OpenJPA {@link org.apache.openjpa.datacache.DataCache} keeping a separate region for each entity type, so that
+ * large volumes of users, groups or any objects cannot push configuration entities out of the cache.
+ * <p>
+ * Each region is a Caffeine cache (Window TinyLFU eviction) and belongs to one of the following groups:
+ * <ul>
+ * <li>{@link Group#METADATA}: configuration entities, as schemas, resources, realms or policies; unbounded by default,
+ * i.e. pinned</li>
+ * <li>{@link Group#ANY}: users, groups and any objects, with their attributes, memberships and relationships</li>
+ * <li>{@link Group#DEFAULT}: everything else</li>
+ * </ul>
+ * Configure via {@code persistence.dataCache}, for example
+ * <pre>
+ * org.apache.syncope.core.persistence.jpa.openjpa.RegionDataCache(AnySize=20000,Sizes=JPAUser:50000;JPATask:100)
+ * </pre>
+ * where negative sizes mean unbounded regions.
+ * <p>
+ * Callers processing large amounts of users, groups or any objects only once, as provisioning tasks, can avoid
+ * thrashing the {@link Group#ANY} regions via {@link #bypassAny(Supplier)}.
+ */
+public class RegionDataCache extends AbstractDataCache implements RemoteCommitListener {
+
+    private static final long serialVersionUID = -5428935180390542815L;
+
+    public enum Group {
+        METADATA,
+        ANY,
+        DEFAULT
+
+    }
+
+    protected static final Set<Class<?>> METADATA = Set.of(
+            JPAAnyType.class,
+            JPAAnyTypeClass.class,
+            JPAApplication.class,
+            JPAAuditConf.class,
+            JPAConnInstance.class,
+            JPADerSchema.class,
+            JPADynRealm.class,
+            JPAExternalResource.class,
+            JPAImplementation.class,
+            JPAMailTemplate.class,
+            JPANotification.class,
+            JPAPlainSchema.class,
+            JPAPrivilege.class,
+            JPARealm.class,
+            JPARelationshipType.class,
+            JPARole.class,
+            JPASecurityQuestion.class,
+            JPASRARoute.class,
+            JPAVirSchema.class);
+
+    protected static final String AM_PACKAGE = JPAAuthProfile.class.getPackageName();
+
+    /**
+     * AM entities which change at runtime, as users authenticate, rather than upon configuration.
+     */
+    protected static final Set<Class<?>> AM_RUNTIME = Set.of(
+            JPAAuthProfile.class,
+            JPAGoogleMfaAuthTokenEntry.class,
+            JPAMfaTrustedDeviceEntry.class,
+            JPAWebAuthnDeviceCredentialEntry.class);
+
+    protected static final String POLICY_PACKAGE = AbstractPolicy.class.getPackageName();
+
+    protected static final Set<String> ANY_PACKAGES = Set.of(
+            JPAUser.class.getPackageName(),
+            JPAGroup.class.getPackageName(),
+            JPAAnyObject.class.getPackageName());
+
+    protected static final InheritableThreadLocal<Boolean> BYPASS_ANY = new InheritableThreadLocal<>();
+
+    public static Group group(final Class<?> type) {
+        if (METADATA.contains(type)
+                || POLICY_PACKAGE.equals(type.getPackageName())
+                || (AM_PACKAGE.equals(type.getPackageName()) && !AM_RUNTIME.contains(type))) {
+
+            return Group.METADATA;
+        }
+        if (ANY_PACKAGES.contains(type.getPackageName())) {
+            return Group.ANY;
+        }
+        return Group.DEFAULT;
+    }
+
+    /**
+     * Runs the given action so that, on the current thread and on any thread started from it, users, groups and any
+     * objects are neither read from nor stored into the cache; cached copies of the instances written are evicted
+     * anyway, so that other threads will not read stale data.
+     *
+     * @param <T> action result type
+     * @param action action to run
+     * @return action result
+     */
+    public static <T> T bypassAny(final Supplier<T> action) {
+        Boolean previous = BYPASS_ANY.get();
+        BYPASS_ANY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                BYPASS_ANY.remove();
+            } else {
+                BYPASS_ANY.set(previous);
+            }
+        }
+    }
+
+    protected static boolean isBypassingAny() {
+        return Boolean.TRUE.equals(BYPASS_ANY.get());
+    }
+
+    protected long metadataSize = -1;
+
+    protected long anySize = 10000;
+
+    protected long defaultSize = 1000;
+
+    protected String sizes;
+
+    protected final Map<String, Long> regionSizes = new HashMap<>();
+
+    protected final Map<Class<?>, Cache<Object, DataCachePCData>> regions = new ConcurrentHashMap<>();
+
+    protected final Set<Object> pinnedKeys = ConcurrentHashMap.newKeySet();
+
+    protected final Map<Object, DataCachePCData> pinned = new ConcurrentHashMap<>();
+
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    public long getMetadataSize() {
+        return metadataSize;
+    }
+
+    /**
+     * @param metadataSize maximum number of instances for each {@link Group#METADATA} region, negative for unbounded
+     */
+    public void setMetadataSize(final long metadataSize) {
+        this.metadataSize = metadataSize;
+    }
+
+    public long getAnySize() {
+        return anySize;
+    }
+
+    /**
+     * @param anySize maximum number of instances for each {@link Group#ANY} region, negative for unbounded
+     */
+    public void setAnySize(final long anySize) {
+        this.anySize = anySize;
+    }
+
+    public long getDefaultSize() {
+        return defaultSize;
+    }
+
+    /**
+     * @param defaultSize maximum number of instances for each {@link Group#DEFAULT} region, negative for unbounded
+     */
+    public void setDefaultSize(final long defaultSize) {
+        this.defaultSize = defaultSize;
+    }
+
+    public String getSizes() {
+        return sizes;
+    }
+
+    /**
+     * @param sizes per-region overrides, as semicolon-separated {@code region:size} pairs, where region is the simple
+     * name of the entity class, e.g. {@code JPAUser:50000;JPAUPlainAttr:200000}
+     */
+    public void setSizes(final String sizes) {
+        this.sizes = sizes;
+
+        regionSizes.clear();
+        for (String pair : sizes.split(";")) {
+            String[] split = pair.split(":");
+            if (split.length == 2) {
+                regionSizes.put(split[0].trim(), Long.valueOf(split[1].trim()));
+            }
+        }
+    }
+
+    @Override
+    public void initialize(final DataCacheManager manager) {
+        super.initialize(manager);
+        conf.getRemoteCommitEventManager().addInternalListener(this);
+    }
+
+    protected long maximumSize(final Class<?> type) {
+        return Optional.ofNullable(regionSizes.get(type.getSimpleName())).orElseGet(() -> switch (group(type)) {
+            case METADATA ->
+                metadataSize;
+            case ANY ->
+                anySize;
+            default ->
+                defaultSize;
+        });
+    }
+
+    protected Cache<Object, DataCachePCData> newRegion(final Class<?> type) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().
+                executor(Runnable::run).
+                recordStats();
+
+        long maximumSize = maximumSize(type);
+        if (maximumSize >= 0) {
+            builder.maximumSize(maximumSize);
+        }
+
+        return builder.<Object, DataCachePCData>evictionListener(
+                (key, value, cause) -> keyRemoved(key, cause == RemovalCause.EXPIRED)).build();
+    }
+
+    protected static Class<?> type(final Object oid) {
+        return oid instanceof OpenJPAId openJPAId ? openJPAId.getType() : Object.class;
+    }
+
+    protected Cache<Object, DataCachePCData> region(final Object oid) {
+        return regions.computeIfAbsent(type(oid), this::newRegion);
+    }
+
+    protected boolean bypass(final Object oid) {
+        return isBypassingAny() && group(type(oid)) == Group.ANY;
+    }
+
+    @Override
+    protected DataCachePCData getInternal(final Object oid) {
+        if (pinnedKeys.contains(oid)) {
+            return pinned.get(oid);
+        }
+        if (bypass(oid)) {
+            return null;
+        }
+        return region(oid).getIfPresent(oid);
+    }
+
+    @Override
+    protected DataCachePCData putInternal(final Object oid, final DataCachePCData pc) {
+        if (pinnedKeys.contains(oid)) {
+            return pinned.put(oid, pc);
+        }
+        if (bypass(oid)) {
+            return region(oid).asMap().remove(oid);
+        }
+        return region(oid).asMap().put(oid, pc);
+    }
+
+    @Override
+    protected DataCachePCData removeInternal(final Object oid) {
+        DataCachePCData removed = pinned.remove(oid);
+        DataCachePCData cached = region(oid).asMap().remove(oid);
+        return removed == null ? cached : removed;
+    }
+
+    protected boolean matches(final Class<?> type, final Class<?> cls, final boolean subclasses) {
+        return cls.equals(type) || (subclasses && cls.isAssignableFrom(type));
+    }
+
+    @Override
+    protected void removeAllInternal(final Class<?> cls, final boolean subclasses) {
+        regions.entrySet().stream().
+                filter(region -> matches(region.getKey(), cls, subclasses)).
+                forEach(region -> region.getValue().invalidateAll());
+        pinned.keySet().removeIf(oid -> matches(type(oid), cls, subclasses));
+    }
+
+    @Override
+    protected void clearInternal() {
+        regions.values().forEach(Cache::invalidateAll);
+        pinned.clear();
+    }
+
+    @Override
+    protected boolean pinInternal(final Object oid) {
+        pinnedKeys.add(oid);
+        DataCachePCData pc = region(oid).asMap().remove(oid);
+        if (pc != null) {
+            pinned.put(oid, pc);
+        }
+        return pinned.containsKey(oid);
+    }
+
+    @Override
+    protected boolean unpinInternal(final Object oid) {
+        if (!pinnedKeys.remove(oid)) {
+            return false;
+        }
+
+        DataCachePCData pc = pinned.remove(oid);
+        if (pc != null) {
+            region(oid).put(oid, pc);
+        }
+        return true;
+    }
+
+    @Override
+    protected boolean recacheUpdates() {
+        return true;
+    }
+
+    @Override
+    public void writeLock() {
+        lock.lock();
+    }
+
+    @Override
+    public void writeUnlock() {
+        lock.unlock();
+    }
+
+    /**
+     * Removes all instances from the given region.
+     *
+     * @param region simple name of the entity class
+     * @return whether the given region was found
+     */
+    public boolean clearRegion(final String region) {
+        boolean found = false;
+        for (Map.Entry<Class<?>, Cache<Object, DataCachePCData>> entry : regions.entrySet()) {
+            if (entry.getKey().getSimpleName().equals(region)) {
+                entry.getValue().invalidateAll();
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    public Map<String, Object> getRegionStatistics() {
+        Map<String, Object> result = new LinkedHashMap<>();
+
+        regions.entrySet().stream().
+                sorted(Comparator.comparing(entry -> entry.getKey().getSimpleName())).
+                forEach(entry -> {
+                    CacheStats stats = entry.getValue().stats();
+                    long maximumSize = maximumSize(entry.getKey());
+
+                    Map<String, Object> region = new LinkedHashMap<>();
+                    region.put("group", group(entry.getKey()).name());
+                    region.put("size", entry.getValue().estimatedSize());
+                    region.put("maximum_size", maximumSize < 0 ? "unbounded" : maximumSize);
+                    region.put("pinned", pinned.keySet().stream().
+                            filter(oid -> entry.getKey().equals(type(oid))).count());
+                    region.put("hits", stats.hitCount());
+                    region.put("misses", stats.missCount());
+                    region.put("hit_rate", stats.hitRate());
+                    region.put("evictions", stats.evictionCount());
+
+                    result.put(entry.getKey().getSimpleName(), region);
+                });
+
+        return result;
+    }
+}
@@ -19,14 +19,19 @@
 package org.apache.syncope.core.persistence.jpa;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
+import org.apache.syncope.common.lib.to.ConnPoolConfTO;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorLoadingStatus;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.ConnectorPoolStatus;
 
 public class DummyConnectorManager implements ConnectorManager {
 
@@ -66,7 +71,27 @@ public class DummyConnectorManager implements ConnectorManager {
     public void load() {
     }
 
+    @Override
+    public Map<String, ConnectorLoadingStatus> getLoadingStatus() {
+        return Map.of();
+    }
+
     @Override
     public void unload() {
     }
+
+    @Override
+    public List<ConnectorPoolStatus> getPoolStatuses() {
+        return List.of();
+    }
+
+    @Override
+    public Optional<ConnectorPoolStatus> getPoolStatus(final ExternalResource resource) {
+        return Optional.empty();
+    }
+
+    @Override
+    public ConnectorPoolStatus resizePool(final ExternalResource resource, final ConnPoolConfTO poolConf) {
+        return null;
+    }
 }
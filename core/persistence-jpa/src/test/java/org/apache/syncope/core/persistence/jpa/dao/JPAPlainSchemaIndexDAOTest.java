@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrUniqueValue;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+public class JPAPlainSchemaIndexDAOTest {
+
+    private static JPAPlainSchemaIndexDAO dao(final String schemaIndexesXML) {
+        return new JPAPlainSchemaIndexDAO(null, null, new ClassPathResource(schemaIndexesXML), null);
+    }
+
+    private static String ddl(
+            final JPAPlainSchemaIndexDAO dao,
+            final String platform,
+            final JPAPlainSchemaIndexDAO.ManagedIndex index) throws IOException {
+
+        return dao.ddl(index.template(), List.of(platform), index).orElse(null);
+    }
+
+    @Test
+    public void valueLeads() throws IOException {
+        JPAPlainSchemaIndexDAO.ManagedIndex attr = JPAPlainSchemaIndexDAO.ManagedIndex.of(
+                JPAUPlainAttrValue.TABLE, "stringvalue", JPAPlainSchemaIndexDAO.COMPOSITE);
+        JPAPlainSchemaIndexDAO.ManagedIndex schema = JPAPlainSchemaIndexDAO.ManagedIndex.of(
+                JPAUPlainAttrUniqueValue.TABLE, "longvalue", JPAPlainSchemaIndexDAO.COMPOSITE);
+        JPAPlainSchemaIndexDAO.ManagedIndex lower = JPAPlainSchemaIndexDAO.ManagedIndex.of(
+                JPAUPlainAttrValue.TABLE, "stringvalue", JPAPlainSchemaIndexDAO.LOWER);
+
+        JPAPlainSchemaIndexDAO dao = dao("schema_indexes.xml");
+        for (String platform : List.of("H2", "Postgres", "MySQL", "MariaDB")) {
+            assertEquals(
+                    "CREATE INDEX UPAV_stringvalue_attr ON UPlainAttrValue(stringvalue, attribute_id)",
+                    ddl(dao, platform, attr));
+            assertEquals(
+                    "CREATE INDEX UPAUV_longvalue_schema ON UPlainAttrUniqueValue(longvalue, schema_id)",
+                    ddl(dao, platform, schema));
+        }
+        assertEquals(
+                "CREATE INDEX UPAV_stringvalue_lower ON UPlainAttrValue((LOWER(stringvalue)), attribute_id)",
+                ddl(dao, "Postgres", lower));
+        assertEquals(
+                "CREATE INDEX UPAV_stringvalue_lower ON UPlainAttrValue((LOWER(stringvalue)), attribute_id)",
+                ddl(dao, "MySQL", lower));
+
+        dao = dao("oracle_schema_indexes.xml");
+        assertEquals(
+                "CREATE INDEX UPAV_stringvalue_attr ON UPlainAttrValue(stringvalue, attribute_id)",
+                ddl(dao, "Oracle", attr));
+        assertEquals(
+                "CREATE INDEX UPAV_stringvalue_lower ON UPlainAttrValue(LOWER(stringvalue), attribute_id)",
+                ddl(dao, "Oracle", lower));
+
+        dao = dao("sqlserver_schema_indexes.xml");
+        assertEquals(
+                "CREATE INDEX UPAUV_longvalue_schema ON UPlainAttrUniqueValue(longvalue, schema_id)",
+                ddl(dao, "SQLServer", schema));
+    }
+
+    @Test
+    public void lowerNotSupported() throws IOException {
+        JPAPlainSchemaIndexDAO.ManagedIndex lower = JPAPlainSchemaIndexDAO.ManagedIndex.of(
+                JPAUPlainAttrValue.TABLE, "stringvalue", JPAPlainSchemaIndexDAO.LOWER);
+
+        JPAPlainSchemaIndexDAO dao = dao("schema_indexes.xml");
+        assertTrue(dao.ddl(lower.template(), List.of("H2"), lower).isEmpty());
+        assertTrue(dao.ddl(lower.template(), List.of("MariaDB", "MySQL"), lower).isEmpty());
+
+        dao = dao("sqlserver_schema_indexes.xml");
+        assertTrue(dao.ddl(lower.template(), List.of("SQLServer"), lower).isEmpty());
+    }
+}
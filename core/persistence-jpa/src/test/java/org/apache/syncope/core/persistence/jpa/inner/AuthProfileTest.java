@@ -24,22 +24,29 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
 import org.apache.syncope.common.lib.wa.GoogleMfaAuthAccount;
 import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
 import org.apache.syncope.common.lib.wa.ImpersonationAccount;
+import org.apache.syncope.common.lib.wa.MfaTrustedDevice;
 import org.apache.syncope.common.lib.wa.WebAuthnDeviceCredential;
 import org.apache.syncope.core.persistence.api.dao.AuthProfileDAO;
 import org.apache.syncope.core.persistence.api.entity.am.AuthProfile;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.apache.syncope.core.persistence.jpa.entity.am.JPAAuthProfile;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAGoogleMfaAuthTokenEntry;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAMfaTrustedDeviceEntry;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAWebAuthnDeviceCredentialEntry;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
@@ -50,6 +57,10 @@ public class AuthProfileTest extends AbstractTest {
 
     @BeforeEach
     public void beforeEach() {
+        entityManager.createQuery("DELETE FROM " + JPAGoogleMfaAuthTokenEntry.class.getSimpleName()).executeUpdate();
+        entityManager.createQuery("DELETE FROM " + JPAMfaTrustedDeviceEntry.class.getSimpleName()).executeUpdate();
+        entityManager.createQuery("DELETE FROM "
+                + JPAWebAuthnDeviceCredentialEntry.class.getSimpleName()).executeUpdate();
         entityManager.createQuery("DELETE FROM " + JPAAuthProfile.class.getSimpleName()).executeUpdate();
     }
 
@@ -75,6 +86,62 @@ public class AuthProfileTest extends AbstractTest {
         assertFalse(authProfileDAO.findByOwner(id).isPresent());
     }
 
+    @Test
+    public void googleMfaTokensSetBased() {
+        String owner1 = SecureRandomUtils.generateRandomUUID().toString();
+        String owner2 = SecureRandomUtils.generateRandomUUID().toString();
+        createAuthProfileWithToken(owner1, 123456);
+        createAuthProfileWithToken(owner2, 654321);
+        entityManager.flush();
+
+        assertEquals(2, authProfileDAO.findGoogleMfaAuthTokens().size());
+        assertTrue(authProfileDAO.findGoogleMfaAuthToken(owner1, 123456).isPresent());
+        assertFalse(authProfileDAO.findGoogleMfaAuthToken(owner1, 654321).isPresent());
+
+        assertEquals(1, authProfileDAO.deleteGoogleMfaAuthTokens(owner2, 654321));
+        assertEquals(0, authProfileDAO.deleteGoogleMfaAuthTokens(owner2));
+        assertEquals(1, authProfileDAO.findGoogleMfaAuthTokens().size());
+
+        assertEquals(0, authProfileDAO.deleteGoogleMfaAuthTokensIssuedSince(LocalDateTime.now().plusDays(1)));
+        assertEquals(1, authProfileDAO.deleteGoogleMfaAuthTokensIssuedSince(LocalDateTime.now().minusDays(1)));
+        assertTrue(authProfileDAO.findGoogleMfaAuthTokens().isEmpty());
+
+        entityManager.clear();
+        assertTrue(authProfileDAO.findByOwner(owner1).orElseThrow().getGoogleMfaAuthTokens().isEmpty());
+    }
+
+    @Test
+    public void mfaTrustedDevicesSetBased() {
+        String owner = SecureRandomUtils.generateRandomUUID().toString();
+
+        AuthProfile profile = entityFactory.newEntity(AuthProfile.class);
+        profile.setOwner(owner);
+        profile.setMfaTrustedDevices(IntStream.range(0, 5).mapToObj(i -> {
+            MfaTrustedDevice device = new MfaTrustedDevice();
+            device.setId(i);
+            device.setName("device" + i);
+            device.setRecordKey("recordKey" + i);
+            device.setRecordDate(ZonedDateTime.now().minusDays(1));
+            device.setExpirationDate(ZonedDateTime.now().plusDays(i == 0 ? -1 : i));
+            return device;
+        }).toList());
+        authProfileDAO.save(profile);
+        entityManager.flush();
+
+        OffsetDateTime now = OffsetDateTime.now();
+        assertEquals(4, authProfileDAO.countMfaTrustedDevices(owner, null, null, now));
+        assertEquals(1, authProfileDAO.countMfaTrustedDevices(null, 2L, null, now));
+
+        List<MfaTrustedDevice> devices = authProfileDAO.findMfaTrustedDevices(
+                owner, null, null, now, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "expirationDate")));
+        assertEquals(List.of(4L, 3L), devices.stream().map(MfaTrustedDevice::getId).toList());
+
+        assertEquals(1, authProfileDAO.deleteMfaTrustedDevices("recordKey4"));
+        assertEquals(1, authProfileDAO.deleteMfaTrustedDevicesExpiredBefore(now));
+        assertEquals(3, authProfileDAO.countMfaTrustedDevices(owner, null, null, null));
+        assertEquals(3, authProfileDAO.deleteMfaTrustedDevices());
+    }
+
     @Test
     public void webAuthnRegisteredDevice() {
         String id = SecureRandomUtils.generateRandomUUID().toString();
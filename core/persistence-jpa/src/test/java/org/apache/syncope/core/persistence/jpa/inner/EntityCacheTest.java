@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.openjpa.persistence.OpenJPAEntityManagerFactory;
+import org.apache.openjpa.persistence.StoreCache;
+import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class EntityCacheTest extends AbstractTest {
+
+    private static final String USER_KEY = "1417acbe-cbf6-4277-9372-e75e04f97000";
+
+    @Autowired
+    private EntityCacheDAO entityCacheDAO;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RealmDAO realmDAO;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    private StoreCache storeCache() {
+        return entityManagerFactory.unwrap(OpenJPAEntityManagerFactory.class).getStoreCache();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void statistics() {
+        entityCacheDAO.clearCache();
+        entityCacheDAO.resetStatistics();
+        entityCacheDAO.enableStatistics();
+
+        Map<String, Object> storeCache;
+        try {
+            String root = realmDAO.getRoot().getKey();
+            assertTrue(realmDAO.findById(root).isPresent());
+            assertTrue(userDAO.findById(USER_KEY).isPresent());
+
+            storeCache = (Map<String, Object>) entityCacheDAO.getStatistics().get("storeCache");
+        } finally {
+            entityCacheDAO.disableStatistics();
+        }
+
+        List<Map<String, Object>> details = (List<Map<String, Object>>) storeCache.get("details");
+        Map<String, Object> realmDetails = details.stream().
+                filter(detail -> JPARealm.class.getName().equals(detail.get("region"))).
+                findFirst().orElseThrow();
+        assertTrue((Long) realmDetails.get("total_reads") >= 1);
+        assertTrue((Long) storeCache.get("total_reads") >= (Long) realmDetails.get("total_reads"));
+
+        Map<String, Map<String, Object>> regions = (Map<String, Map<String, Object>>) storeCache.get("regions");
+
+        Map<String, Object> realmRegion = regions.get(JPARealm.class.getSimpleName());
+        assertEquals("METADATA", realmRegion.get("group"));
+        assertEquals("unbounded", realmRegion.get("maximum_size"));
+        assertTrue((Long) realmRegion.get("size") >= 1);
+        assertTrue((Long) realmRegion.get("hits") + (Long) realmRegion.get("misses") >= 1);
+
+        Map<String, Object> userRegion = regions.get(JPAUser.class.getSimpleName());
+        assertEquals("ANY", userRegion.get("group"));
+        assertEquals(10000L, userRegion.get("maximum_size"));
+        assertEquals(0L, userRegion.get("evictions"));
+    }
+
+    @Test
+    public void bypassAny() {
+        entityCacheDAO.clearCache();
+        StoreCache storeCache = storeCache();
+
+        AtomicBoolean inherited = new AtomicBoolean();
+        String root = entityCacheDAO.bypassAnyCache(() -> {
+            assertTrue(userDAO.findById(USER_KEY).isPresent());
+
+            // threads started while bypassing do bypass as well
+            Thread thread = new Thread(() -> inherited.set(
+                    userDAO.findById(USER_KEY).isPresent() && !storeCache.contains(JPAUser.class, USER_KEY)));
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return realmDAO.getRoot().getKey();
+        });
+        assertTrue(inherited.get());
+        assertFalse(storeCache.contains(JPAUser.class, USER_KEY));
+        assertTrue(storeCache.contains(JPARealm.class, root));
+
+        assertTrue(userDAO.findById(USER_KEY).isPresent());
+        assertTrue(storeCache.contains(JPAUser.class, USER_KEY));
+    }
+
+    @Test
+    public void clearRegion() {
+        assertTrue(userDAO.findById(USER_KEY).isPresent());
+        String root = realmDAO.getRoot().getKey();
+        assertTrue(storeCache().contains(JPAUser.class, USER_KEY));
+
+        assertTrue(entityCacheDAO.clearRegion(JPAUser.class.getSimpleName()));
+        assertFalse(storeCache().contains(JPAUser.class, USER_KEY));
+        assertTrue(storeCache().contains(JPARealm.class, root));
+
+        assertFalse(entityCacheDAO.clearRegion("JPANotExisting"));
+    }
+}
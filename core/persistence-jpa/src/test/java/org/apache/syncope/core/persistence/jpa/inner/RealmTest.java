@@ -25,7 +25,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.EntityViolationType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
@@ -126,6 +128,84 @@ public class RealmTest extends AbstractTest {
         assertEquals("986d1236-3ac5-4a19-810c-5ab21d79cba1", actual.getPasswordPolicy().getKey());
     }
 
+    @Test
+    public void findDescendantKeys() {
+        Realm even = realmDAO.findByFullPath("/even").orElseThrow();
+        Realm two = realmDAO.findByFullPath("/even/two").orElseThrow();
+
+        Realm last = entityFactory.newEntity(Realm.class);
+        last.setName("last");
+        last.setParent(two);
+        last = realmDAO.save(last);
+
+        assertEquals(
+                Set.of(even.getKey(), two.getKey(), last.getKey()),
+                new HashSet<>(realmDAO.findDescendants(SyncopeConstants.ROOT_REALM, "/even")));
+        assertEquals(
+                Set.of(two.getKey(), last.getKey()),
+                new HashSet<>(realmDAO.findDescendants("/even/two", "/even")));
+        assertTrue(realmDAO.findDescendants("/odd", "/even").isEmpty());
+
+        // move /even/two under /odd: the whole subtree follows
+        Realm odd = realmDAO.findByFullPath("/odd").orElseThrow();
+        two.setParent(odd);
+        two = realmDAO.save(two);
+        assertEquals("/odd/two", two.getFullPath());
+        assertEquals("/odd/two/last", realmDAO.findById(last.getKey()).orElseThrow().getFullPath());
+
+        assertEquals(
+                Set.of(odd.getKey(), two.getKey(), last.getKey()),
+                new HashSet<>(realmDAO.findDescendants("/odd", SyncopeConstants.ROOT_REALM)));
+        assertEquals(List.of(even.getKey()), realmDAO.findDescendants("/even", SyncopeConstants.ROOT_REALM));
+
+        realmDAO.delete(realmDAO.findById(last.getKey()).orElseThrow());
+        assertEquals(
+                Set.of(odd.getKey(), two.getKey()),
+                new HashSet<>(realmDAO.findDescendants("/odd", SyncopeConstants.ROOT_REALM)));
+    }
+
+    @Test
+    public void renameSubtree() {
+        Realm odd = realmDAO.findByFullPath("/odd").orElseThrow();
+
+        Realm ab = entityFactory.newEntity(Realm.class);
+        ab.setName("ab");
+        ab.setParent(odd);
+        ab = realmDAO.save(ab);
+
+        Realm c = entityFactory.newEntity(Realm.class);
+        c.setName("c");
+        c.setParent(ab);
+        c = realmDAO.save(c);
+
+        Realm d = entityFactory.newEntity(Realm.class);
+        d.setName("d");
+        d.setParent(c);
+        d = realmDAO.save(d);
+
+        // sharing the same name prefix, must be left untouched
+        Realm axb = entityFactory.newEntity(Realm.class);
+        axb.setName("abc");
+        axb.setParent(odd);
+        axb = realmDAO.save(axb);
+
+        Realm axbChild = entityFactory.newEntity(Realm.class);
+        axbChild.setName("c");
+        axbChild.setParent(axb);
+        axbChild = realmDAO.save(axbChild);
+
+        ab.setName("renamed");
+        realmDAO.save(ab);
+        entityManager.flush();
+
+        assertEquals("/odd/renamed", realmDAO.findById(ab.getKey()).orElseThrow().getFullPath());
+        assertEquals("/odd/renamed/c", realmDAO.findById(c.getKey()).orElseThrow().getFullPath());
+        assertEquals("/odd/renamed/c/d", realmDAO.findById(d.getKey()).orElseThrow().getFullPath());
+        assertEquals("/odd/abc/c", realmDAO.findById(axbChild.getKey()).orElseThrow().getFullPath());
+        assertTrue(realmDAO.findByFullPath("/odd/ab/c").isEmpty());
+        assertEquals(d.getKey(), realmDAO.findByFullPath("/odd/renamed/c/d").orElseThrow().getKey());
+    }
+
     @Test
     public void saveInvalidName() {
         Realm realm = entityFactory.newEntity(Realm.class);
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.openjpa.event.RemoteCommitEvent;
+import org.apache.openjpa.persistence.OpenJPAEntityManagerFactorySPI;
+import org.apache.openjpa.persistence.StoreCache;
+import org.apache.openjpa.util.StringId;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.openjpa.JDBCRemoteCommitProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class RemoteCommitLogTest extends AbstractTest {
+
+    private static class TestRemoteCommitProvider extends JDBCRemoteCommitProvider {
+
+        private final DataSource dataSource;
+
+        TestRemoteCommitProvider(final DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        protected DataSource dataSource() {
+            return dataSource;
+        }
+
+        @Override
+        public void poll() {
+            super.poll();
+        }
+    }
+
+    @Autowired
+    private DomainHolder domainHolder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RealmDAO realmDAO;
+
+    @Test
+    public void invalidate() {
+        OpenJPAEntityManagerFactorySPI emf = entityManagerFactory.unwrap(OpenJPAEntityManagerFactorySPI.class);
+        DataSource dataSource = domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN);
+
+        TestRemoteCommitProvider node1 = new TestRemoteCommitProvider(dataSource);
+        node1.setRemoteCommitEventManager(emf.getConfiguration().getRemoteCommitEventManager());
+        TestRemoteCommitProvider node2 = new TestRemoteCommitProvider(dataSource);
+        node2.setRemoteCommitEventManager(emf.getConfiguration().getRemoteCommitEventManager());
+        try {
+            node1.poll();
+            node2.poll();
+
+            String root = realmDAO.getRoot().getKey();
+            StoreCache storeCache = emf.getStoreCache();
+            assertTrue(storeCache.contains(JPARealm.class, root));
+
+            // node 1 commits an update on root realm
+            node1.broadcast(new RemoteCommitEvent(
+                    RemoteCommitEvent.PAYLOAD_OIDS,
+                    null,
+                    List.of(),
+                    List.of(new StringId(JPARealm.class, root)),
+                    List.of()));
+            assertEquals(1L, node1.getStatistics().get("broadcasts"));
+
+            // own commits are ignored
+            node1.poll();
+            assertEquals(0L, node1.getStatistics().get("received"));
+            assertTrue(storeCache.contains(JPARealm.class, root));
+
+            // node 2 evicts root realm from its cache
+            node2.poll();
+            assertEquals(1L, node2.getStatistics().get("received"));
+            assertFalse(storeCache.contains(JPARealm.class, root));
+
+            // the same commit is not processed twice
+            node2.poll();
+            assertEquals(1L, node2.getStatistics().get("received"));
+            assertEquals(0L, node2.getStatistics().get("poll_failures"));
+        } finally {
+            node1.close();
+            node2.close();
+        }
+    }
+}
@@ -113,4 +113,22 @@ public class AccessTokenTest extends AbstractTest {
         accessToken = accessTokenDAO.findByOwner("bellini").orElse(null);
         assertNull(accessToken);
     }
+
+    @Test
+    public void deleteExpiredInChunks() {
+        for (long i = 0; i < 5; i++) {
+            create(UUID.randomUUID().toString(), 10 + i);
+        }
+        create(UUID.randomUUID().toString(), -3600);
+        entityManager.flush();
+
+        OffsetDateTime now = OffsetDateTime.now();
+        assertEquals(2, accessTokenDAO.deleteExpired(now, 2));
+        assertEquals(2, accessTokenDAO.deleteExpired(now, 2));
+        assertEquals(1, accessTokenDAO.deleteExpired(now, 2));
+        assertEquals(0, accessTokenDAO.deleteExpired(now, 2));
+
+        entityManager.flush();
+        assertEquals(1, accessTokenDAO.count());
+    }
 }
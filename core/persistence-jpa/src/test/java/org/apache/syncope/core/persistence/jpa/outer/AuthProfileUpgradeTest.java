@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.outer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.Cache;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.wa.GoogleMfaAuthToken;
+import org.apache.syncope.common.lib.wa.MfaTrustedDevice;
+import org.apache.syncope.common.lib.wa.WebAuthnDeviceCredential;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.dao.AuthProfileDAO;
+import org.apache.syncope.core.persistence.api.entity.am.AuthProfile;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.content.AuthProfileUpgradeLoader;
+import org.apache.syncope.core.persistence.jpa.entity.am.JPAAuthProfile;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class AuthProfileUpgradeTest extends AbstractTest {
+
+    private static final List<String> LEGACY_COLUMNS =
+            List.of("googleMfaAuthTokens", "mfaTrustedDevices", "webAuthnDeviceCredentials");
+
+    @Autowired
+    private DomainHolder domainHolder;
+
+    @Autowired
+    private AuthProfileDAO authProfileDAO;
+
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
+    private static GoogleMfaAuthToken token(final int otp) {
+        return new GoogleMfaAuthToken.Builder().token(otp).issueDate(LocalDateTime.now()).build();
+    }
+
+    private String create(final String owner, final GoogleMfaAuthToken token) {
+        return domainTransactionTemplate.execute(status -> {
+            AuthProfile authProfile = entityFactory.newEntity(AuthProfile.class);
+            authProfile.setOwner(owner);
+            authProfile.setGoogleMfaAuthTokens(List.of(token));
+            return authProfileDAO.save(authProfile).getKey();
+        });
+    }
+
+    private void delete(final String owner) {
+        domainTransactionTemplate.executeWithoutResult(
+                status -> authProfileDAO.findByOwner(owner).ifPresent(authProfileDAO::delete));
+    }
+
+    @Test
+    public void moveLegacyColumns() {
+        DataSource dataSource = domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        LEGACY_COLUMNS.forEach(column -> jdbcTemplate.execute(
+                "ALTER TABLE " + JPAAuthProfile.TABLE + " ADD COLUMN " + column + " CLOB"));
+
+        String owner = SecureRandomUtils.generateRandomUUID().toString();
+        try {
+            GoogleMfaAuthToken token = token(111111);
+            String key = create(owner, token);
+
+            MfaTrustedDevice device = new MfaTrustedDevice();
+            device.setId(1L);
+            device.setName("device");
+            device.setRecordKey("recordKey");
+            device.setExpirationDate(ZonedDateTime.now().plusDays(1));
+
+            // the token already moved is not duplicated
+            jdbcTemplate.update(
+                    "UPDATE " + JPAAuthProfile.TABLE + " SET googleMfaAuthTokens = ?, mfaTrustedDevices = ?, "
+                    + "webAuthnDeviceCredentials = ? WHERE id = ?",
+                    POJOHelper.serialize(List.of(token, token(222222))),
+                    POJOHelper.serialize(List.of(device)),
+                    POJOHelper.serialize(List.of(new WebAuthnDeviceCredential.Builder().
+                            identifier("identifier").json("{}").build())),
+                    key);
+
+            AuthProfileUpgradeLoader loader =
+                    new AuthProfileUpgradeLoader(authProfileDAO, entityManager, domainTransactionTemplate);
+            loader.load(SyncopeConstants.MASTER_DOMAIN, dataSource);
+            // nothing left to move
+            loader.load(SyncopeConstants.MASTER_DOMAIN, dataSource);
+
+            assertEquals(0, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(0) FROM " + JPAAuthProfile.TABLE + " WHERE "
+                    + String.join(" IS NOT NULL OR ", LEGACY_COLUMNS) + " IS NOT NULL", Integer.class));
+
+            assertTrue(authProfileDAO.findGoogleMfaAuthToken(owner, 111111).isPresent());
+            assertTrue(authProfileDAO.findGoogleMfaAuthToken(owner, 222222).isPresent());
+            assertEquals(2, authProfileDAO.findGoogleMfaAuthTokens().stream().
+                    filter(t -> t.getOtp() == 111111 || t.getOtp() == 222222).count());
+            assertEquals(1, authProfileDAO.countMfaTrustedDevices(owner, null, null, null));
+            assertEquals(1, authProfileDAO.findWebAuthnDeviceCredentials().get(owner).size());
+        } finally {
+            delete(owner);
+            LEGACY_COLUMNS.forEach(column -> jdbcTemplate.execute(
+                    "ALTER TABLE " + JPAAuthProfile.TABLE + " DROP COLUMN " + column));
+        }
+    }
+
+    @Test
+    public void bulkDeleteEvictsAffectedProfilesOnly() {
+        String owner1 = SecureRandomUtils.generateRandomUUID().toString();
+        String owner2 = SecureRandomUtils.generateRandomUUID().toString();
+        try {
+            String key1 = create(owner1, token(333333));
+            String key2 = create(owner2, token(444444));
+
+            Cache cache = entityManager.getEntityManagerFactory().getCache();
+            assertTrue(cache.contains(JPAAuthProfile.class, key1));
+            assertTrue(cache.contains(JPAAuthProfile.class, key2));
+
+            int deleted = domainTransactionTemplate.execute(status -> authProfileDAO.deleteGoogleMfaAuthTokens(owner1));
+            assertEquals(1, deleted);
+
+            assertFalse(cache.contains(JPAAuthProfile.class, key1));
+            assertTrue(cache.contains(JPAAuthProfile.class, key2));
+            domainTransactionTemplate.executeWithoutResult(status -> assertTrue(
+                    authProfileDAO.findById(key1).orElseThrow().getGoogleMfaAuthTokens().isEmpty()));
+        } finally {
+            delete(owner1);
+            delete(owner2);
+        }
+    }
+}
@@ -26,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import jakarta.persistence.EntityExistsException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -39,10 +41,12 @@ import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaIndexDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
 import org.apache.syncope.core.spring.security.SyncopeAuthenticationDetails;
 import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
 import org.junit.jupiter.api.AfterAll;
@@ -52,7 +56,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Transactional
 public class PlainSchemaTest extends AbstractTest {
@@ -72,6 +78,12 @@ public class PlainSchemaTest extends AbstractTest {
     @Autowired
     private AnyTypeClassDAO anyTypeClassDAO;
 
+    @Autowired
+    private PlainSchemaIndexDAO plainSchemaIndexDAO;
+
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
     @BeforeAll
     public static void setAuthContext() {
         List<GrantedAuthority> authorities = Stream.concat(
@@ -199,4 +211,58 @@ public class PlainSchemaTest extends AbstractTest {
         assertEquals(pre - 1, resourceDAO.findById("resource-db-pull").orElseThrow().
                 getProvisionByAnyType(AnyTypeKind.USER.name()).get().getMapping().getItems().size());
     }
+
+    private Map<String, Object> awaitIndexStatus(final String index, final PlainSchemaIndexDAO.IndexStatus expected)
+            throws InterruptedException {
+
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> status = plainSchemaIndexDAO.getStatus().
+                    getOrDefault(SyncopeConstants.MASTER_DOMAIN, Map.of()).get(index);
+            if (status != null && expected == status.get("status")) {
+                return status;
+            }
+            Thread.sleep(200);
+        }
+        return fail("Index " + index + " did not reach " + expected);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void searchable() throws InterruptedException {
+        domainTransactionTemplate.executeWithoutResult(status -> {
+            PlainSchema firstname = plainSchemaDAO.findById("firstname").orElseThrow();
+            assertFalse(firstname.isSearchable());
+            assertFalse(((JPAPlainSchema) firstname).isSearchableChanged());
+            firstname.setSearchable(true);
+            assertTrue(((JPAPlainSchema) firstname).isSearchableChanged());
+            plainSchemaDAO.save(firstname);
+
+            PlainSchema fullname = plainSchemaDAO.findById("fullname").orElseThrow();
+            assertTrue(fullname.isUniqueConstraint());
+            fullname.setSearchable(true);
+            plainSchemaDAO.save(fullname);
+        });
+
+        // non-unique values are indexed by attribute, unique values by schema
+        Map<String, Object> composite = awaitIndexStatus(
+                "UPAV_stringvalue_attr", PlainSchemaIndexDAO.IndexStatus.READY);
+        assertEquals(Set.of("firstname"), composite.get("schemas"));
+        composite = awaitIndexStatus("UPAUV_stringvalue_schema", PlainSchemaIndexDAO.IndexStatus.READY);
+        assertEquals(Set.of("fullname"), composite.get("schemas"));
+        // expression indexes are not available with H2
+        awaitIndexStatus("UPAV_stringvalue_lower", PlainSchemaIndexDAO.IndexStatus.UNSUPPORTED);
+
+        domainTransactionTemplate.executeWithoutResult(status -> {
+            PlainSchema firstname = plainSchemaDAO.findById("firstname").orElseThrow();
+            firstname.setSearchable(false);
+            plainSchemaDAO.save(firstname);
+
+            PlainSchema fullname = plainSchemaDAO.findById("fullname").orElseThrow();
+            fullname.setSearchable(false);
+            plainSchemaDAO.save(fullname);
+        });
+
+        awaitIndexStatus("UPAV_stringvalue_attr", PlainSchemaIndexDAO.IndexStatus.DROPPED);
+        awaitIndexStatus("UPAUV_stringvalue_schema", PlainSchemaIndexDAO.IndexStatus.DROPPED);
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa.outer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -63,7 +64,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Transactional
 public class TaskTest extends AbstractTest {
@@ -86,6 +89,9 @@ public class TaskTest extends AbstractTest {
     @Autowired
     private TaskUtilsFactory taskUtilsFactory;
 
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
     @Test
     public void read() {
         Task<?> task = taskDAO.findById(
@@ -188,6 +194,26 @@ public class TaskTest extends AbstractTest {
         assertEquals(executionNumber + 1, task.getExecs().size());
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void saveCheckpoint() {
+        String key = "af558be4-9d2f-4359-bf85-a554e6e90be1";
+        assertNull(((PushTask) taskDAO.findById(TaskType.PUSH, key).orElseThrow()).getCheckpoint());
+
+        domainTransactionTemplate.executeWithoutResult(
+                status -> taskDAO.saveCheckpoint(TaskType.PUSH, key, "{\"ranges\":{}}"));
+        try {
+            assertEquals(
+                    "{\"ranges\":{}}",
+                    ((PushTask) taskDAO.findById(TaskType.PUSH, key).orElseThrow()).getCheckpoint());
+        } finally {
+            domainTransactionTemplate.executeWithoutResult(
+                    status -> taskDAO.saveCheckpoint(TaskType.PUSH, key, null));
+        }
+
+        assertNull(((PushTask) taskDAO.findById(TaskType.PUSH, key).orElseThrow()).getCheckpoint());
+    }
+
     @Test
     public void addPushTaskExecution() {
         PushTask task = (PushTask) taskDAO.findById(
@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import jakarta.persistence.Cache;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
@@ -56,10 +57,14 @@ import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALAPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALAPlainAttrValue;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALinkedAccount;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Transactional
 public class UserTest extends AbstractTest {
@@ -97,6 +102,9 @@ public class UserTest extends AbstractTest {
     @Autowired
     private PlainAttrValidationManager validator;
 
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
     @Test
     public void delete() {
         List<UMembership> memberships = groupDAO.findUMemberships(
@@ -320,4 +328,36 @@ public class UserTest extends AbstractTest {
         list = userDAO.findByDerAttrValue(derSchemaDAO.findById("kprefix").orElseThrow(), 'k' + firstname, false);
         assertEquals(1, list.size());
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void updateLoginMetadataEvictsAfterCommit() {
+        String key = "1417acbe-cbf6-4277-9372-e75e04f97000";
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+
+        int failedLogins = domainTransactionTemplate.execute(
+                status -> Objects.requireNonNullElse(userDAO.findById(key).orElseThrow().getFailedLogins(), 0));
+        assertTrue(cache.contains(JPAUser.class, key));
+
+        try {
+            TransactionTemplate concurrent = new TransactionTemplate(domainTransactionTemplate.getTransactionManager());
+            concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+            domainTransactionTemplate.executeWithoutResult(status -> {
+                userDAO.updateLoginMetadata(key, null, false, 1);
+
+                // not committed yet: a concurrent reader loads the previous values back into the cache
+                concurrent.executeWithoutResult(s -> userDAO.findById(key).orElseThrow());
+                assertTrue(cache.contains(JPAUser.class, key));
+            });
+            assertFalse(cache.contains(JPAUser.class, key));
+
+            int updated = domainTransactionTemplate.execute(
+                    status -> userDAO.findById(key).orElseThrow().getFailedLogins());
+            assertEquals(failedLogins + 1, updated);
+        } finally {
+            domainTransactionTemplate.executeWithoutResult(
+                    status -> userDAO.updateLoginMetadata(key, null, true, failedLogins));
+        }
+    }
 }
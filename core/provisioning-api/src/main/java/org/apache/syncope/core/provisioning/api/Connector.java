@@ -21,8 +21,11 @@ package org.apache.syncope.core.provisioning.api;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.persistence.api.entity.ConnPoolConf;
 import org.apache.syncope.core.provisioning.api.pushpull.ReconFilterBuilder;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeDelta;
@@ -47,6 +50,11 @@ import org.springframework.data.domain.Sort;
  */
 public interface Connector {
 
+    /**
+     * Page size used when reading remote objects page by page, unless otherwise specified.
+     */
+    int DEFAULT_PAGE_SIZE = 100;
+
     /**
      * Authenticate user on a connector instance.
      *
@@ -170,6 +178,71 @@ public interface Connector {
         }, actualOptions);
     }
 
+    /**
+     * Fetches remote objects (for use during full or filtered reconciliation) one page at a time, starting from the
+     * page identified by the given paged results cookie, if any.
+     * Once all the objects of a page are handled, the given consumer is invoked with the cookie to resume from the
+     * next page, null when no more pages are available; this does not happen if handling is interrupted.
+     *
+     * @param objectClass ConnId's object class.
+     * @param filterBuilder reconciliation filter builder, null for full reconciliation
+     * @param handler to be used to handle deltas.
+     * @param options ConnId's OperationOptions.
+     * @param pagedResultsCookie cookie of the page to start from, null to start from the first page
+     * @param pageHandled invoked after each page is handled, with the cookie of the next page
+     */
+    default void pagedReconciliation(
+            ObjectClass objectClass,
+            ReconFilterBuilder filterBuilder,
+            SyncResultsHandler handler,
+            OperationOptions options,
+            String pagedResultsCookie,
+            Consumer<String> pageHandled) {
+
+        Filter filter = null;
+        OperationOptions actualOptions = options;
+        if (filterBuilder != null) {
+            filter = filterBuilder.build(objectClass);
+            actualOptions = filterBuilder.build(objectClass, actualOptions);
+        }
+
+        OperationOptionsBuilder builder = new OperationOptionsBuilder(actualOptions).setPagedResultsOffset(-1);
+        if (actualOptions.getPageSize() == null) {
+            builder.setPageSize(DEFAULT_PAGE_SIZE);
+        }
+
+        AtomicBoolean proceed = new AtomicBoolean(true);
+        String cookie = pagedResultsCookie;
+        do {
+            if (cookie != null) {
+                builder.setPagedResultsCookie(cookie);
+            }
+
+            SearchResult result = search(objectClass, filter, new SearchResultsHandler() {
+
+                @Override
+                public void handleResult(final SearchResult result) {
+                    // nothing to do
+                }
+
+                @Override
+                public boolean handle(final ConnectorObject object) {
+                    proceed.set(handler.handle(new SyncDeltaBuilder().
+                            setObject(object).
+                            setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                            setToken(new SyncToken("")).
+                            build()));
+                    return proceed.get();
+                }
+            }, builder.build());
+
+            cookie = Optional.ofNullable(result).map(SearchResult::getPagedResultsCookie).orElse(null);
+            if (proceed.get()) {
+                pageHandled.accept(cookie);
+            }
+        } while (cookie != null && proceed.get());
+    }
+
     /**
      * Sync remote objects from a connector instance.
      *
@@ -279,4 +352,23 @@ public interface Connector {
      * @return active connector instance.
      */
     ConnInstance getConnInstance();
+
+    /**
+     * Reports connector object pool utilization and per-operation latencies.
+     *
+     * @return pool and latency information, empty if not available for this connector
+     */
+    default Optional<ConnectorPoolStatus> getPoolStatus() {
+        return Optional.empty();
+    }
+
+    /**
+     * Replaces the connector object pool with a new one, configured as given; calls in progress complete on the
+     * current pool.
+     *
+     * @param poolConf new pool configuration
+     */
+    default void resizePool(final ConnPoolConf poolConf) {
+        throw new UnsupportedOperationException("Pooling not available for " + getClass().getSimpleName());
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Tracks how connectors for the external resources of a given domain were loaded.
+ */
+public class ConnectorLoadingStatus {
+
+    private final boolean lazy;
+
+    private final int total;
+
+    private final AtomicInteger registered = new AtomicInteger(0);
+
+    private final AtomicInteger failed = new AtomicInteger(0);
+
+    private final OffsetDateTime start = OffsetDateTime.now();
+
+    private volatile OffsetDateTime end;
+
+    public ConnectorLoadingStatus(final boolean lazy, final int total) {
+        this.lazy = lazy;
+        this.total = total;
+    }
+
+    /**
+     * @return whether connectors are built on first access rather than at load time
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getRegistered() {
+        return registered.get();
+    }
+
+    public void registered() {
+        registered.incrementAndGet();
+    }
+
+    /**
+     * Invoked when a connector built on first access is removed, so that it can be counted again once rebuilt.
+     */
+    public void unregistered() {
+        registered.decrementAndGet();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public void failed() {
+        failed.incrementAndGet();
+    }
+
+    /**
+     * @return number of connectors neither registered nor failed
+     */
+    public int getPending() {
+        return total - registered.get() - failed.get();
+    }
+
+    public OffsetDateTime getStart() {
+        return start;
+    }
+
+    public Optional<OffsetDateTime> getEnd() {
+        return Optional.ofNullable(end);
+    }
+
+    public void end() {
+        end = OffsetDateTime.now();
+    }
+
+    /**
+     * @return whether loading is completed: when lazy, this does not imply that all connectors were built
+     */
+    public boolean isReady() {
+        return end != null;
+    }
+
+    /**
+     * @return time spent for loading so far, or until completion
+     */
+    public Duration getDuration() {
+        return Duration.between(start, Optional.ofNullable(end).orElseGet(OffsetDateTime::now));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).
+                append(lazy).
+                append(total).
+                append(registered).
+                append(failed).
+                append(start).
+                append(end).
+                build();
+    }
+}
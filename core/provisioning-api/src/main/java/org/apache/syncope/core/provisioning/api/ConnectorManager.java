@@ -19,8 +19,11 @@
 package org.apache.syncope.core.provisioning.api;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
+import org.apache.syncope.common.lib.to.ConnPoolConfTO;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
@@ -77,6 +80,13 @@ public interface ConnectorManager {
      */
     void load();
 
+    /**
+     * Gives information about the latest connector load, for each domain.
+     *
+     * @return connector loading status, by domain
+     */
+    Map<String, ConnectorLoadingStatus> getLoadingStatus();
+
     /**
      * Unload connectors for all existing resources.
      *
@@ -97,4 +107,32 @@ public interface ConnectorManager {
      * @param resource external resource
      */
     void unregisterConnector(ExternalResource resource);
+
+    /**
+     * Reports connector object pool utilization and per-operation latencies for the connectors currently registered
+     * for the resources of the current domain.
+     *
+     * @return pool and latency information, for each resource with a registered connector
+     */
+    List<ConnectorPoolStatus> getPoolStatuses();
+
+    /**
+     * Reports connector object pool utilization and per-operation latencies for the given resource.
+     *
+     * @param resource external resource
+     * @return pool and latency information, empty if no connector is registered for the given resource or if not
+     * available for such connector
+     */
+    Optional<ConnectorPoolStatus> getPoolStatus(ExternalResource resource);
+
+    /**
+     * Replaces the connector object pool for the given resource with a new one, configured as given, without
+     * registering the connector again; the new configuration is not persisted and only affects this Core instance,
+     * and is lost upon restart or next registration.
+     *
+     * @param resource external resource
+     * @param poolConf new pool configuration
+     * @return pool and latency information after resize
+     */
+    ConnectorPoolStatus resizePool(ExternalResource resource, ConnPoolConfTO poolConf);
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.io.Serializable;
+import java.util.Map;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Latency distribution of a given connector operation, as seen by the caller: it includes the time spent waiting for
+ * a pooled connector instance, the connector server round-trip (if any) and the target system.
+ */
+public class ConnectorOperationStats implements Serializable {
+
+    private static final long serialVersionUID = 3342128829127364416L;
+
+    private final String operation;
+
+    private final long count;
+
+    private final long failures;
+
+    private final double meanLatency;
+
+    private final long maxLatency;
+
+    private final Map<String, Long> histogram;
+
+    public ConnectorOperationStats(
+            final String operation,
+            final long count,
+            final long failures,
+            final double meanLatency,
+            final long maxLatency,
+            final Map<String, Long> histogram) {
+
+        this.operation = operation;
+        this.count = count;
+        this.failures = failures;
+        this.meanLatency = meanLatency;
+        this.maxLatency = maxLatency;
+        this.histogram = histogram;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return mean latency, in milliseconds
+     */
+    public double getMeanLatency() {
+        return meanLatency;
+    }
+
+    /**
+     * @return maximum latency, in milliseconds
+     */
+    public long getMaxLatency() {
+        return maxLatency;
+    }
+
+    /**
+     * @return number of calls by latency bucket, keyed by bucket upper bound in milliseconds ({@code +Inf} for the
+     * last bucket); buckets are not cumulative
+     */
+    public Map<String, Long> getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).
+                append(operation).
+                append(count).
+                append(failures).
+                append(meanLatency).
+                append(maxLatency).
+                append(histogram).
+                build();
+    }
+}
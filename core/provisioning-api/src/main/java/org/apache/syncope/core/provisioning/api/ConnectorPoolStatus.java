@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.io.Serializable;
+import java.util.List;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Snapshot of the connector object pool and of the per-operation latencies for the connector serving a given
+ * external resource.
+ */
+public class ConnectorPoolStatus implements Serializable {
+
+    private static final long serialVersionUID = -7470238446310385716L;
+
+    private final String resource;
+
+    private final boolean pooling;
+
+    private final int maxObjects;
+
+    private final int minIdle;
+
+    private final int maxIdle;
+
+    private final long maxWait;
+
+    private final int active;
+
+    private final int idle;
+
+    private final int waiting;
+
+    private final long created;
+
+    private final long evicted;
+
+    private final List<ConnectorOperationStats> operations;
+
+    public ConnectorPoolStatus(
+            final String resource,
+            final boolean pooling,
+            final int maxObjects,
+            final int minIdle,
+            final int maxIdle,
+            final long maxWait,
+            final int active,
+            final int idle,
+            final int waiting,
+            final long created,
+            final long evicted,
+            final List<ConnectorOperationStats> operations) {
+
+        this.resource = resource;
+        this.pooling = pooling;
+        this.maxObjects = maxObjects;
+        this.minIdle = minIdle;
+        this.maxIdle = maxIdle;
+        this.maxWait = maxWait;
+        this.active = active;
+        this.idle = idle;
+        this.waiting = waiting;
+        this.created = created;
+        this.evicted = evicted;
+        this.operations = operations;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * @return whether connector instances are pooled locally; when false, only operation latencies are available
+     */
+    public boolean isPooling() {
+        return pooling;
+    }
+
+    public int getMaxObjects() {
+        return maxObjects;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    /**
+     * @return maximum time to wait for a pooled connector instance, in milliseconds
+     */
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * @return connector instances currently borrowed from the pool
+     */
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * @return calls in progress in excess of borrowed connector instances, estimating calls waiting for the pool
+     */
+    public int getWaiting() {
+        return waiting;
+    }
+
+    /**
+     * @return connector instances observed to be added to the pool
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * @return connector instances observed to be removed from the pool
+     */
+    public long getEvicted() {
+        return evicted;
+    }
+
+    public List<ConnectorOperationStats> getOperations() {
+        return operations;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).
+                append(resource).
+                append(pooling).
+                append(maxObjects).
+                append(minIdle).
+                append(maxIdle).
+                append(maxWait).
+                append(active).
+                append(idle).
+                append(waiting).
+                append(created).
+                append(evicted).
+                append(operations).
+                build();
+    }
+}
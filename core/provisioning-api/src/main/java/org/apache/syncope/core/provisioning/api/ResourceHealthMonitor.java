@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Periodically tests, in background, the connectors registered for all external resources of all domains; the latest
+ * outcome for each resource is kept and can be read at no cost.
+ */
+public interface ResourceHealthMonitor {
+
+    /**
+     * @return whether at least one probe round has completed
+     */
+    boolean isReady();
+
+    Optional<ResourceHealthStatus> getStatus(String domain, String resource);
+
+    List<ResourceHealthStatus> getStatuses();
+
+    /**
+     * Tests all the connectors registered for external resources, and waits for the outcomes.
+     */
+    void probe();
+}
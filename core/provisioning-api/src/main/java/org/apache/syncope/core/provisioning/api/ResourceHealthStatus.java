@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Outcome of the latest {@link ResourceHealthMonitor} probe for a given external resource.
+ */
+public class ResourceHealthStatus implements Serializable {
+
+    private static final long serialVersionUID = 4208671650264071293L;
+
+    private final String domain;
+
+    private final String resource;
+
+    private final boolean loaded;
+
+    private final boolean up;
+
+    private final OffsetDateTime probed;
+
+    private final long latency;
+
+    private final String error;
+
+    public ResourceHealthStatus(
+            final String domain,
+            final String resource,
+            final boolean loaded,
+            final boolean up,
+            final OffsetDateTime probed,
+            final long latency,
+            final String error) {
+
+        this.domain = domain;
+        this.resource = resource;
+        this.loaded = loaded;
+        this.up = up;
+        this.probed = probed;
+        this.latency = latency;
+        this.error = error;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * @return whether the connector was already built when probing: if not, it was not tested
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public boolean isUp() {
+        return up;
+    }
+
+    public OffsetDateTime getProbed() {
+        return probed;
+    }
+
+    /**
+     * @return time elapsed since the probe, in milliseconds
+     */
+    public long getAge() {
+        return Duration.between(probed, OffsetDateTime.now()).toMillis();
+    }
+
+    /**
+     * @return connector test duration, in milliseconds
+     */
+    public long getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return reason why the resource was found down, if so
+     */
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).
+                append(domain).
+                append(resource).
+                append(loaded).
+                append(up).
+                append(probed).
+                append(latency).
+                append(error).
+                build();
+    }
+}
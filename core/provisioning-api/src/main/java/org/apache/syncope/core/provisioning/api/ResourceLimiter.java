@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Guards connector calls towards external resources: the number of concurrent calls to each resource is limited,
+ * with the limit adapting to the observed latency, and calls to resources which keep failing are rejected until they
+ * recover.
+ */
+public interface ResourceLimiter {
+
+    enum BreakerState {
+        /**
+         * Calls are performed.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+        /**
+         * A single trial call is performed, to check whether the resource has recovered.
+         */
+        HALF_OPEN
+
+    }
+
+    /**
+     * Permit to perform a connector call towards an external resource.
+     */
+    interface Permit {
+
+        /**
+         * Reports the outcome of the connector call, as seen by the caller.
+         *
+         * @param failure exception thrown by the connector call, if any
+         */
+        void complete(RuntimeException failure);
+
+        /**
+         * Gives back this permit, once the connector call is actually over; this might happen after the caller has
+         * stopped waiting for it, as on timeout.
+         */
+        void release();
+    }
+
+    /**
+     * Waits for a permit to perform a connector call towards the given resource.
+     *
+     * @param resource external resource key
+     * @return permit, to be completed and released
+     * @throws ResourceUnavailableException if the resource is deemed unhealthy or no permit became available in time
+     */
+    Permit acquire(String resource);
+
+    /**
+     * Performs the given connector call towards the given resource, once a permit is available.
+     *
+     * @param <T> call result type
+     * @param resource external resource key
+     * @param call connector call
+     * @return call result
+     * @throws ResourceUnavailableException if the resource is deemed unhealthy or no permit became available in time
+     */
+    default <T> T call(final String resource, final Supplier<T> call) {
+        Permit permit = acquire(resource);
+        try {
+            T result = call.get();
+            permit.complete(null);
+            return result;
+        } catch (RuntimeException e) {
+            permit.complete(e);
+            throw e;
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * @param resource external resource key
+     * @return whether calls towards the given resource are currently allowed
+     */
+    boolean isAvailable(String resource);
+
+    Optional<ResourceLimiterStatus> getStatus(String resource);
+
+    List<ResourceLimiterStatus> getStatuses();
+
+    /**
+     * Discards all information collected about the given resource, as when its configuration has changed.
+     *
+     * @param resource external resource key
+     */
+    void reset(String resource);
+}
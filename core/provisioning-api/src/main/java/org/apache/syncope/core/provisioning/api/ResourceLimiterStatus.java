@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Snapshot of the {@link ResourceLimiter} information about a given external resource.
+ */
+public class ResourceLimiterStatus implements Serializable {
+
+    private static final long serialVersionUID = -2153064879183946012L;
+
+    private final String resource;
+
+    private final int limit;
+
+    private final int inFlight;
+
+    private final long calls;
+
+    private final long failures;
+
+    private final long rejected;
+
+    private final double averageLatency;
+
+    private final ResourceLimiter.BreakerState breakerState;
+
+    private final OffsetDateTime breakerChange;
+
+    public ResourceLimiterStatus(
+            final String resource,
+            final int limit,
+            final int inFlight,
+            final long calls,
+            final long failures,
+            final long rejected,
+            final double averageLatency,
+            final ResourceLimiter.BreakerState breakerState,
+            final OffsetDateTime breakerChange) {
+
+        this.resource = resource;
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.calls = calls;
+        this.failures = failures;
+        this.rejected = rejected;
+        this.averageLatency = averageLatency;
+        this.breakerState = breakerState;
+        this.breakerChange = breakerChange;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * @return current maximum number of concurrent calls
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return number of calls not attempted, because of open breaker or no permit available in time
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * @return exponentially weighted moving average of call latency, in milliseconds
+     */
+    public double getAverageLatency() {
+        return averageLatency;
+    }
+
+    public ResourceLimiter.BreakerState getBreakerState() {
+        return breakerState;
+    }
+
+    public OffsetDateTime getBreakerChange() {
+        return breakerChange;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).
+                append(resource).
+                append(limit).
+                append(inFlight).
+                append(calls).
+                append(failures).
+                append(rejected).
+                append(averageLatency).
+                append(breakerState).
+                append(breakerChange).
+                build();
+    }
+}
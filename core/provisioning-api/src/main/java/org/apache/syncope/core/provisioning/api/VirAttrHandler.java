@@ -20,9 +20,12 @@ package org.apache.syncope.core.provisioning.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Membership;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 
 public interface VirAttrHandler {
@@ -79,4 +82,23 @@ public interface VirAttrHandler {
      */
     Map<VirSchema, List<String>> getValues(Any<?> any, Membership<?> membership);
 
+    /**
+     * Loads into cache the values associated to all {@link VirSchema} instances in the
+     * {@link org.apache.syncope.core.persistence.api.entity.AnyTypeClass} associated to each of the given anys, with
+     * no membership, so that subsequent reads for any of them are served by the cache.
+     * External resources are queried once per provision, for all the given anys not found in cache; nothing is done
+     * if cache is not configured, as values would be read again anyway.
+     *
+     * @param anys any objects
+     */
+    void prefetch(List<? extends Any<?>> anys);
+
+    /**
+     * Query external resources for the values matching the given cache keys, regardless of cache content; this is
+     * meant for cache implementations refreshing entries in background.
+     *
+     * @param keys cache keys
+     * @return virtual attribute values read from external resources; keys with no value are not included
+     */
+    Map<VirAttrCacheKey, VirAttrCacheValue> reload(Set<? extends VirAttrCacheKey> keys);
 }
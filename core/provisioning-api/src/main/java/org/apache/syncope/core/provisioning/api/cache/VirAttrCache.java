@@ -18,6 +18,10 @@
  */
 package org.apache.syncope.core.provisioning.api.cache;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 /**
  * Virtual Attribute Value cache.
  */
@@ -25,6 +29,13 @@ public interface VirAttrCache {
 
     void setCacheSpec(String cacheSpec);
 
+    /**
+     * Tells whether values are actually cached, so that reading them in advance is worthwhile.
+     *
+     * @return whether values are actually cached
+     */
+    boolean isEnabled();
+
     /**
      * Force entry expiring.
      *
@@ -48,4 +59,30 @@ public interface VirAttrCache {
      * @return value after caching
      */
     VirAttrCacheValue put(VirAttrCacheKey key, VirAttrCacheValue value);
+
+    /**
+     * Retrieve cached values for all given keys, invoking the given loader for the keys not cached yet.
+     * Concurrent invocations requesting the same missing keys will wait for a single load to complete, rather than
+     * loading again on their own.
+     *
+     * @param keys cache keys
+     * @param loader function loading values for the given missing keys; keys with no value can be omitted from the
+     * returned map
+     * @return cached or loaded values; keys with no value are not included
+     */
+    Map<VirAttrCacheKey, VirAttrCacheValue> getAll(
+            Set<VirAttrCacheKey> keys,
+            Function<Set<? extends VirAttrCacheKey>, Map<VirAttrCacheKey, VirAttrCacheValue>> loader);
+
+    /**
+     * Remove all entries.
+     */
+    void clear();
+
+    /**
+     * Provide hit / miss / load statistics.
+     *
+     * @return cache statistics
+     */
+    Map<String, Object> getStatistics();
 }
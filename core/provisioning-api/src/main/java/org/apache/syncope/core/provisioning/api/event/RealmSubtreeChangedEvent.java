@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.event;
+
+import java.util.List;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published once when a realm is moved or renamed, in place of one {@link EntityLifecycleEvent} per descendant realm:
+ * all descendants had their full path prefix rewritten from {@link #getFullPathBefore()} to
+ * {@link #getFullPathAfter()}.
+ */
+public class RealmSubtreeChangedEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = -3403658254155312858L;
+
+    private final String domain;
+
+    private final String realmKey;
+
+    private final String fullPathBefore;
+
+    private final String fullPathAfter;
+
+    private final List<String> descendantKeys;
+
+    public RealmSubtreeChangedEvent(
+            final Object source,
+            final String domain,
+            final String realmKey,
+            final String fullPathBefore,
+            final String fullPathAfter,
+            final List<String> descendantKeys) {
+
+        super(source);
+        this.domain = domain;
+        this.realmKey = realmKey;
+        this.fullPathBefore = fullPathBefore;
+        this.fullPathAfter = fullPathAfter;
+        this.descendantKeys = descendantKeys;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public String getRealmKey() {
+        return realmKey;
+    }
+
+    public String getFullPathBefore() {
+        return fullPathBefore;
+    }
+
+    public String getFullPathAfter() {
+        return fullPathAfter;
+    }
+
+    public List<String> getDescendantKeys() {
+        return descendantKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "RealmSubtreeChangedEvent{"
+                + "domain=" + domain
+                + ", realmKey=" + realmKey
+                + ", fullPathBefore=" + fullPathBefore
+                + ", fullPathAfter=" + fullPathAfter
+                + ", descendants=" + descendantKeys.size()
+                + '}';
+    }
+}
@@ -54,6 +54,8 @@ public class PropagationTaskInfo {
 
     private Optional<ConnectorObject> beforeObj = Optional.empty();
 
+    private boolean beforeObjFetched;
+
     private AnyUR updateRequest;
 
     public PropagationTaskInfo(
@@ -144,6 +146,20 @@ public class PropagationTaskInfo {
         this.beforeObj = beforeObj;
     }
 
+    /**
+     * Tells whether the remote object was already read, e.g. together with other tasks' remote objects: if so, an
+     * empty {@link #getBeforeObj()} means that no remote object was found.
+     *
+     * @return whether the remote object was already read
+     */
+    public boolean isBeforeObjFetched() {
+        return beforeObjFetched;
+    }
+
+    public void setBeforeObjFetched(final boolean beforeObjFetched) {
+        this.beforeObjFetched = beforeObjFetched;
+    }
+
     public AnyUR getUpdateRequest() {
         return updateRequest;
     }
@@ -167,6 +183,7 @@ public class PropagationTaskInfo {
                 + ", propagationData=" + propagationData
                 + ", connector=" + connector
                 + ", beforeObj=" + beforeObj
+                + ", beforeObjFetched=" + beforeObjFetched
                 + ", updateRequest=" + updateRequest
                 + '}';
     }
@@ -20,11 +20,15 @@ package org.apache.syncope.core.provisioning.api.pushpull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
 import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
 
 public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends ProvisioningActions> {
 
@@ -42,6 +46,8 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
 
     private final List<A> actions = new ArrayList<>();
 
+    private final Map<String, Optional<ConnectorObject>> prefetched = new ConcurrentHashMap<>();
+
     public ProvisioningProfile(final Connector connector, final T task) {
         this.connector = connector;
         this.task = task;
@@ -86,4 +92,14 @@ public class ProvisioningProfile<T extends ProvisioningTask<?>, A extends Provis
     public List<A> getActions() {
         return actions;
     }
+
+    /**
+     * Remote objects read ahead of handling the related entities, by entity key; empty value when no remote object
+     * was found.
+     *
+     * @return remote objects read ahead, by entity key
+     */
+    public Map<String, Optional<ConnectorObject>> getPrefetched() {
+        return prefetched;
+    }
 }
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.api.pushpull.stream;
 
 import java.util.List;
+import java.util.stream.Stream;
 import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.to.PushTaskTO;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -31,7 +32,7 @@ public interface SyncopeStreamPushExecutor {
 
     List<ProvisioningReport> push(
             AnyType anyType,
-            List<? extends Any<?>> anys,
+            Stream<? extends Any<?>> anys,
             List<String> columns,
             Connector connector,
             List<String> propagationActions,
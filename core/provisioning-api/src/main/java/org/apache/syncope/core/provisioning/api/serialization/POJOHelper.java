@@ -70,6 +70,18 @@ public final class POJOHelper {
         return result;
     }
 
+    public static byte[] serializeAsBytes(final Object object) {
+        byte[] result = null;
+
+        try {
+            result = MAPPER.writeValueAsBytes(object);
+        } catch (Exception e) {
+            LOG.error("During serialization", e);
+        }
+
+        return result;
+    }
+
     public static <T extends Object> String serialize(final T object, final TypeReference<T> reference) {
         String result = null;
 
@@ -106,6 +118,18 @@ public final class POJOHelper {
         return result;
     }
 
+    public static <T extends Object> T deserialize(final byte[] serialized, final TypeReference<T> reference) {
+        T result = null;
+
+        try {
+            result = MAPPER.readValue(serialized, reference);
+        } catch (Exception e) {
+            LOG.error("During deserialization", e);
+        }
+
+        return result;
+    }
+
     public static <T extends Object> T convertValue(final Object value, final Class<T> reference) {
         T result = null;
 
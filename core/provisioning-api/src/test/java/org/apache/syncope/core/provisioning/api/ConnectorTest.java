@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.OperationOptionsBuilder;
+import org.identityconnectors.framework.common.objects.SearchResult;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.spi.SearchResultsHandler;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+public class ConnectorTest extends AbstractTest {
+
+    /**
+     * Mocks a connector serving three pages of two objects each, with cookies "1" and "2".
+     */
+    private static Connector connector(final List<String> requestedCookies) {
+        Connector connector = mock(Connector.class, withSettings().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        doAnswer(ic -> {
+            OperationOptions options = ic.getArgument(3);
+            requestedCookies.add(options.getPagedResultsCookie());
+
+            int page = options.getPagedResultsCookie() == null ? 0 : Integer.parseInt(options.getPagedResultsCookie());
+            SearchResultsHandler handler = ic.getArgument(2);
+            for (int i = 0; i < 2; i++) {
+                String uid = page + "-" + i;
+                if (!handler.handle(new ConnectorObjectBuilder().setUid(uid).setName(uid).build())) {
+                    break;
+                }
+            }
+            return new SearchResult(page < 2 ? String.valueOf(page + 1) : null, -1);
+        }).when(connector).search(any(ObjectClass.class), isNull(Filter.class), any(SearchResultsHandler.class),
+                any(OperationOptions.class));
+        return connector;
+    }
+
+    @Test
+    public void pagedReconciliation() {
+        List<String> requestedCookies = new ArrayList<>();
+        List<String> handled = new ArrayList<>();
+        List<String> checkpoints = new ArrayList<>();
+
+        connector(requestedCookies).pagedReconciliation(
+                ObjectClass.ACCOUNT,
+                null,
+                delta -> handled.add(delta.getUid().getUidValue()),
+                new OperationOptionsBuilder().build(),
+                null,
+                checkpoints::add);
+
+        assertEquals(Arrays.asList(null, "1", "2"), requestedCookies);
+        assertEquals(List.of("0-0", "0-1", "1-0", "1-1", "2-0", "2-1"), handled);
+        assertEquals(Arrays.asList("1", "2", null), checkpoints);
+    }
+
+    @Test
+    public void resumeAndInterrupt() {
+        List<String> requestedCookies = new ArrayList<>();
+        List<String> handled = new ArrayList<>();
+        List<String> checkpoints = new ArrayList<>();
+
+        connector(requestedCookies).pagedReconciliation(
+                ObjectClass.ACCOUNT,
+                null,
+                delta -> handled.add(delta.getUid().getUidValue()) && handled.size() < 3,
+                new OperationOptionsBuilder().build(),
+                "1",
+                checkpoints::add);
+
+        // resumed from the second page, interrupted in the middle of the third
+        assertEquals(List.of("1", "2"), requestedCookies);
+        assertEquals(List.of("1-0", "1-1", "2-0"), handled);
+        assertEquals(List.of("2"), checkpoints);
+    }
+}
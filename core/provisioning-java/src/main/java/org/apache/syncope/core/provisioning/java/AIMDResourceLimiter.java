@@ -0,0 +1,371 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
+import org.apache.syncope.core.provisioning.api.ResourceLimiterStatus;
+import org.apache.syncope.core.provisioning.api.ResourceUnavailableException;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.identityconnectors.framework.common.exceptions.ConnectorIOException;
+import org.identityconnectors.framework.common.exceptions.OperationTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ResourceLimiter} implementation based on Additive Increase / Multiplicative Decrease: the concurrency limit
+ * for each resource grows by one for each round of successful calls, and is cut by {@code backoffRatio} when calls
+ * fail or the average latency exceeds {@code latencyTolerance} times the latency observed under no load.
+ * <p>
+ * After {@code failureThreshold} consecutive failures - timeouts or I/O errors, not errors reported by the resource
+ * about the data sent - the circuit breaker opens and all calls are rejected for {@code openDuration}; a single trial
+ * call is then attempted, closing the breaker again if successful.
+ */
+public class AIMDResourceLimiter implements ResourceLimiter {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ResourceLimiter.class);
+
+    /**
+     * Latency increases below this value, in milliseconds, are considered noise rather than overload.
+     */
+    protected static final double LATENCY_NOISE = 1.0;
+
+    protected class Limit {
+
+        protected final ReentrantLock lock = new ReentrantLock();
+
+        protected final Condition released = lock.newCondition();
+
+        protected double limit = initialLimit;
+
+        protected int inFlight;
+
+        protected long calls;
+
+        protected long failures;
+
+        protected long rejected;
+
+        protected int consecutiveFailures;
+
+        protected int sinceDecrease;
+
+        protected double averageLatency = -1;
+
+        protected double baselineLatency = -1;
+
+        protected BreakerState breakerState = BreakerState.CLOSED;
+
+        protected OffsetDateTime breakerChange = OffsetDateTime.now();
+
+        protected long openUntil;
+
+        protected boolean trial;
+
+        protected void breaker(final String resource, final BreakerState state) {
+            if (breakerState != state) {
+                LOG.info("Circuit breaker for resource {} is now {}", resource, state);
+            }
+            breakerState = state;
+            breakerChange = OffsetDateTime.now();
+            if (state == BreakerState.OPEN) {
+                openUntil = System.nanoTime() + openDuration.toNanos();
+            }
+            trial = false;
+        }
+
+        /**
+         * Waits for the number of calls in flight to go below the current limit.
+         *
+         * @param resource external resource key
+         * @return calls in flight, including the one just admitted
+         */
+        protected int acquire(final String resource) {
+            long remaining = maxWait.toNanos();
+
+            lock.lock();
+            try {
+                while (true) {
+                    if (breakerState == BreakerState.OPEN && System.nanoTime() - openUntil >= 0) {
+                        breaker(resource, BreakerState.HALF_OPEN);
+                    }
+
+                    if (breakerState == BreakerState.OPEN) {
+                        rejected++;
+                        throw new ResourceUnavailableException("Circuit breaker open for resource " + resource);
+                    }
+                    if (breakerState == BreakerState.HALF_OPEN) {
+                        if (trial) {
+                            rejected++;
+                            throw new ResourceUnavailableException(
+                                    "Circuit breaker half-open for resource " + resource + ", trial call in progress");
+                        }
+                        trial = true;
+                        return ++inFlight;
+                    }
+
+                    if (inFlight < (int) limit) {
+                        return ++inFlight;
+                    }
+
+                    if (remaining <= 0) {
+                        rejected++;
+                        throw new ResourceUnavailableException(
+                                "Too many concurrent calls (" + inFlight + ") to resource " + resource);
+                    }
+                    try {
+                        remaining = released.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        rejected++;
+                        throw new ResourceUnavailableException("Interrupted while waiting for resource " + resource);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Multiplicative decrease, at most once per round of calls, so that a burst of slow or failed calls in flight
+         * does not collapse the limit.
+         */
+        protected void decrease() {
+            if (sinceDecrease >= limit) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                sinceDecrease = 0;
+            }
+        }
+
+        /**
+         * Adapts limit and circuit breaker to the outcome of a call.
+         *
+         * @param resource external resource key
+         * @param latencyNanos call latency
+         * @param admittedWith calls in flight when the call was admitted, including itself
+         * @param failure whether the call failed
+         */
+        protected void record(
+                final String resource,
+                final long latencyNanos,
+                final int admittedWith,
+                final boolean failure) {
+
+            lock.lock();
+            try {
+                calls++;
+                sinceDecrease++;
+
+                double latency = latencyNanos / 1_000_000.0;
+                averageLatency = averageLatency < 0 ? latency : averageLatency + 0.2 * (latency - averageLatency);
+
+                if (failure) {
+                    failures++;
+                    consecutiveFailures++;
+                    decrease();
+
+                    if (breakerState == BreakerState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                        breaker(resource, BreakerState.OPEN);
+                    }
+                } else {
+                    consecutiveFailures = 0;
+                    if (breakerState == BreakerState.HALF_OPEN) {
+                        breaker(resource, BreakerState.CLOSED);
+                    }
+
+                    baselineLatency = baselineLatency < 0 || latency < baselineLatency
+                            ? latency
+                            : baselineLatency + 0.01 * (latency - baselineLatency);
+
+                    if (averageLatency > latencyTolerance * baselineLatency
+                            && averageLatency - baselineLatency > LATENCY_NOISE) {
+
+                        decrease();
+                    } else if (admittedWith >= limit / 2) {
+                        limit = Math.min(maxLimit, limit + 1 / limit);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        protected void free() {
+            lock.lock();
+            try {
+                inFlight--;
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        protected ResourceLimiterStatus status(final String resource) {
+            lock.lock();
+            try {
+                return new ResourceLimiterStatus(
+                        resource,
+                        (int) limit,
+                        inFlight,
+                        calls,
+                        failures,
+                        rejected,
+                        Math.max(averageLatency, 0),
+                        breakerState,
+                        breakerChange);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    protected class AIMDPermit implements Permit {
+
+        protected final String resource;
+
+        protected final Limit limit;
+
+        protected final int admittedWith;
+
+        protected final long start = System.nanoTime();
+
+        protected final AtomicBoolean completed = new AtomicBoolean();
+
+        protected final AtomicBoolean released = new AtomicBoolean();
+
+        protected AIMDPermit(final String resource, final Limit limit) {
+            this.resource = resource;
+            this.limit = limit;
+            this.admittedWith = limit.acquire(resource);
+        }
+
+        @Override
+        public void complete(final RuntimeException failure) {
+            if (completed.compareAndSet(false, true)) {
+                limit.record(resource, System.nanoTime() - start, admittedWith, failure != null && isFailure(failure));
+            }
+        }
+
+        @Override
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                limit.free();
+            }
+        }
+    }
+
+    protected final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    protected final int initialLimit;
+
+    protected final int minLimit;
+
+    protected final int maxLimit;
+
+    protected final double backoffRatio;
+
+    protected final double latencyTolerance;
+
+    protected final Duration maxWait;
+
+    protected final int failureThreshold;
+
+    protected final Duration openDuration;
+
+    public AIMDResourceLimiter(
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final double backoffRatio,
+            final double latencyTolerance,
+            final Duration maxWait,
+            final int failureThreshold,
+            final Duration openDuration) {
+
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.maxWait = maxWait;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * Tells whether the given exception reveals that the resource is not healthy, rather than rejecting the
+     * specific request.
+     *
+     * @param e exception thrown by connector call
+     * @return whether the given exception shall count as failure
+     */
+    protected boolean isFailure(final RuntimeException e) {
+        return e instanceof TimeoutException
+                || e instanceof ConnectorIOException
+                || e instanceof OperationTimeoutException
+                || e.getCause() instanceof IOException;
+    }
+
+    @Override
+    public Permit acquire(final String resource) {
+        return new AIMDPermit(resource, limits.computeIfAbsent(resource, k -> new Limit()));
+    }
+
+    @Override
+    public boolean isAvailable(final String resource) {
+        return Optional.ofNullable(limits.get(resource)).
+                map(limit -> {
+                    limit.lock.lock();
+                    try {
+                        return limit.breakerState != BreakerState.OPEN || System.nanoTime() - limit.openUntil >= 0;
+                    } finally {
+                        limit.lock.unlock();
+                    }
+                }).
+                orElse(true);
+    }
+
+    @Override
+    public Optional<ResourceLimiterStatus> getStatus(final String resource) {
+        return Optional.ofNullable(limits.get(resource)).map(limit -> limit.status(resource));
+    }
+
+    @Override
+    public List<ResourceLimiterStatus> getStatuses() {
+        return limits.entrySet().stream().
+                map(entry -> entry.getValue().status(entry.getKey())).
+                sorted(Comparator.comparing(ResourceLimiterStatus::getResource)).
+                toList();
+    }
+
+    @Override
+    public void reset(final String resource) {
+        limits.remove(resource);
+    }
+}
@@ -19,21 +19,32 @@
 package org.apache.syncope.core.provisioning.java;
 
 import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.persistence.api.entity.ConnPoolConf;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorPoolStatus;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
 import org.apache.syncope.core.provisioning.api.TimeoutException;
 import org.apache.syncope.core.provisioning.api.pushpull.ReconFilterBuilder;
 import org.apache.syncope.core.provisioning.api.utils.ConnPoolConfUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.identityconnectors.common.CollectionUtil;
+import org.identityconnectors.common.Pair;
+import org.identityconnectors.common.pooling.ObjectPoolConfiguration;
 import org.identityconnectors.common.security.GuardedByteArray;
 import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.framework.api.APIConfiguration;
@@ -53,6 +64,12 @@ import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.identityconnectors.framework.common.objects.SyncToken;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.impl.api.APIConfigurationImpl;
+import org.identityconnectors.framework.impl.api.local.ConnectorPoolManager;
+import org.identityconnectors.framework.impl.api.local.LocalConnectorFacadeImpl;
+import org.identityconnectors.framework.impl.api.local.LocalConnectorInfoImpl;
+import org.identityconnectors.framework.impl.api.local.ObjectPool;
+import org.identityconnectors.framework.spi.PoolableConnector;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,12 +79,24 @@ public class ConnectorFacadeProxy implements Connector {
 
     private static final Logger LOG = LoggerFactory.getLogger(ConnectorFacadeProxy.class);
 
-    private static final Integer DEFAULT_PAGE_SIZE = 100;
+    /**
+     * Connector facade wrapped instance; replaced upon pool resize.
+     */
+    private volatile ConnectorFacade connector;
+
+    private final ConnectorInfo info;
 
     /**
-     * Connector facade wrapped instance.
+     * Configuration of the wrapped connector facade.
      */
-    private final ConnectorFacade connector;
+    private volatile APIConfiguration apiConfig;
+
+    /**
+     * Key of the connector object pool, if any, looked up at first access.
+     */
+    private volatile ConnectorPoolManager.ConnectorPoolKey poolKey;
+
+    private final ConnectorTelemetry telemetry;
 
     /**
      * Active connector instance.
@@ -76,6 +105,13 @@ public class ConnectorFacadeProxy implements Connector {
 
     private final AsyncConnectorFacade asyncFacade;
 
+    /**
+     * External resource this connector is serving, if any.
+     */
+    private final String resource;
+
+    private final ResourceLimiter resourceLimiter;
+
     /**
      * Use the passed connector instance to build a ConnectorFacade that will be used to make all wrapped calls.
      *
@@ -87,44 +123,166 @@ public class ConnectorFacadeProxy implements Connector {
      * @see ConnectorFacade
      */
     public ConnectorFacadeProxy(final ConnInstance connInstance, final AsyncConnectorFacade asyncFacade) {
+        this(connInstance, asyncFacade, null, null);
+    }
+
+    /**
+     * Use the passed connector instance to build a ConnectorFacade that will be used to make all wrapped calls;
+     * create, update, delete and getObject calls are guarded by the given limiter.
+     *
+     * @param connInstance the connector instance
+     * @param asyncFacade the async connectot facade
+     * @param resource the external resource served by this connector
+     * @param resourceLimiter the limiter for connector calls towards the external resource
+     */
+    public ConnectorFacadeProxy(
+            final ConnInstance connInstance,
+            final AsyncConnectorFacade asyncFacade,
+            final String resource,
+            final ResourceLimiter resourceLimiter) {
+
         this.connInstance = connInstance;
         this.asyncFacade = asyncFacade;
+        this.resource = resource;
+        this.resourceLimiter = resourceLimiter;
+        this.telemetry = new ConnectorTelemetry(resource);
 
         ConnIdBundleManager connIdBundleManager =
                 ApplicationContextProvider.getBeanFactory().getBean(ConnIdBundleManager.class);
-        ConnectorInfo info = connIdBundleManager.getConnectorInfo(connInstance).getRight();
+        info = connIdBundleManager.getConnectorInfo(connInstance).getRight();
+
+        apiConfig = buildAPIConfiguration(connInstance.getPoolConf());
+
+        // gets new connector, with the given configuration
+        connector = ConnectorFacadeFactory.getInstance().newInstance(apiConfig);
+
+        // make sure we have set up the Configuration properly
+        connector.validate();
+    }
 
+    private APIConfiguration buildAPIConfiguration(final ConnPoolConf poolConf) {
         // create default configuration
-        APIConfiguration apiConfig = info.createDefaultAPIConfiguration();
+        APIConfiguration config = info.createDefaultAPIConfiguration();
         if (connInstance.getDisplayName() != null) {
-            apiConfig.setInstanceName(connInstance.getDisplayName());
+            config.setInstanceName(connInstance.getDisplayName());
         }
         // enable filtered results handler in validation mode
-        apiConfig.getResultsHandlerConfiguration().setFilteredResultsHandlerInValidationMode(true);
+        config.getResultsHandlerConfiguration().setFilteredResultsHandlerInValidationMode(true);
 
         // set connector configuration according to conninstance's
-        ConfigurationProperties properties = apiConfig.getConfigurationProperties();
+        ConfigurationProperties properties = config.getConfigurationProperties();
         connInstance.getConf().stream().
                 filter(property -> !CollectionUtil.isEmpty(property.getValues())).
                 forEach(property -> properties.setPropertyValue(
                 property.getSchema().getName(),
                 getPropertyValue(property.getSchema().getType(), property.getValues())));
 
-        // set pooling configuration (if supported) according to conninstance's
-        if (connInstance.getPoolConf() != null) {
-            if (apiConfig.isConnectorPoolingSupported()) {
-                ConnPoolConfUtils.updateObjectPoolConfiguration(
-                        apiConfig.getConnectorPoolConfiguration(), connInstance.getPoolConf());
+        // set pooling configuration (if supported) according to the given one
+        if (poolConf != null) {
+            if (config.isConnectorPoolingSupported()) {
+                ConnPoolConfUtils.updateObjectPoolConfiguration(config.getConnectorPoolConfiguration(), poolConf);
             } else {
                 LOG.warn("Connector pooling not supported for {}", info);
             }
         }
 
-        // gets new connector, with the given configuration
-        connector = ConnectorFacadeFactory.getInstance().newInstance(apiConfig);
+        return config;
+    }
 
-        // make sure we have set up the Configuration properly
-        connector.validate();
+    private <T> T waitFor(final Future<T> future) {
+        try {
+            return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            future.cancel(true);
+            throw new TimeoutException("Request timeout");
+        } catch (Exception e) {
+            LOG.error("Connector request execution failure", e);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Performs the given call once a permit is obtained from the resource limiter, if any. The permit is given back
+     * by the thread running the ConnId call, once over: on timeout, the caller stops waiting but the ConnId call may
+     * still be running, and holding the permit; if not started yet, the ConnId call is skipped instead.
+     *
+     * @param <T> call result type
+     * @param operation operation name
+     * @param submit submits the call to the given connector facade
+     * @return call result
+     */
+    private <T> T limited(final String operation, final Function<ConnectorFacade, Future<T>> submit) {
+        if (resource == null || resourceLimiter == null) {
+            return call(operation, () -> submit.apply(connector));
+        }
+
+        ResourceLimiter.Permit permit = resourceLimiter.acquire(resource);
+
+        // empty: not started yet; true: started; false: abandoned by caller before starting
+        AtomicReference<Boolean> started = new AtomicReference<>();
+        ConnectorFacade target = connector;
+        ConnectorFacade guarded = (ConnectorFacade) Proxy.newProxyInstance(
+                ConnectorFacade.class.getClassLoader(),
+                new Class<?>[] { ConnectorFacade.class },
+                (proxy, method, args) -> {
+                    if (!started.compareAndSet(null, true)) {
+                        throw new CancellationException("Request abandoned before starting");
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        permit.release();
+                    }
+                });
+
+        try {
+            T result = call(operation, () -> submit.apply(guarded));
+            permit.complete(null);
+            return result;
+        } catch (RuntimeException e) {
+            permit.complete(e);
+            throw e;
+        } finally {
+            if (started.compareAndSet(null, false)) {
+                permit.release();
+            }
+        }
+    }
+
+    private <T> T call(final String operation, final Supplier<Future<T>> submit) {
+        return telemetry.record(operation, () -> waitFor(submit.get()));
+    }
+
+    /**
+     * Reads the statistics of the connector object pool; as ConnId does not expose such information via its public
+     * API, this relies on its implementation classes, and is therefore only invoked when pool status is requested,
+     * never while performing connector operations.
+     *
+     * @return connector object pool statistics, if available
+     */
+    private Optional<ObjectPool.Statistics> poolStatistics() {
+        if (!(apiConfig instanceof APIConfigurationImpl config)
+                || !(info instanceof LocalConnectorInfoImpl localInfo)
+                || !config.isConnectorPoolingSupported()) {
+
+            return Optional.empty();
+        }
+
+        ObjectPool<PoolableConnector> pool = Optional.ofNullable(poolKey).
+                map(ConnectorPoolManager::getPool).orElse(null);
+        if (pool == null) {
+            Pair<ConnectorPoolManager.ConnectorPoolKey, ObjectPool<PoolableConnector>> lookup =
+                    ConnectorPoolManager.getPool(config, localInfo);
+            poolKey = lookup.getKey();
+            pool = lookup.getValue();
+        }
+        return Optional.ofNullable(pool).map(ObjectPool::getStatistics);
     }
 
     @Override
@@ -132,21 +290,8 @@ public class ConnectorFacadeProxy implements Connector {
         Uid result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.AUTHENTICATE)) {
-            Future<Uid> future = asyncFacade.authenticate(
-                    connector, username, new GuardedString(password.toCharArray()), options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = call("authenticate", () -> asyncFacade.authenticate(
+                    connector, username, new GuardedString(password.toCharArray()), options));
         } else {
             LOG.info("Authenticate was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -167,20 +312,7 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.CREATE)) {
             propagationAttempted.set(true);
 
-            Future<Uid> future = asyncFacade.create(connector, objectClass, attrs, options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = limited("create", facade -> asyncFacade.create(facade, objectClass, attrs, options));
         } else {
             LOG.info("Create was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -202,21 +334,7 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE)) {
             propagationAttempted.set(true);
 
-            Future<Uid> future = asyncFacade.update(connector, objectClass, uid, attrs, options);
-
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = limited("update", facade -> asyncFacade.update(facade, objectClass, uid, attrs, options));
         } else {
             LOG.info("Update for {} was attempted, although the "
                     + "connector only has these capabilities: {}. No action.",
@@ -239,22 +357,8 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE_DELTA)) {
             propagationAttempted.set(true);
 
-            Future<Set<AttributeDelta>> future =
-                    asyncFacade.updateDelta(connector, objectClass, uid, modifications, options);
-
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = limited("updateDelta",
+                    facade -> asyncFacade.updateDelta(facade, objectClass, uid, modifications, options));
         } else {
             LOG.info("UpdateDelta for {} was attempted, although the "
                     + "connector only has these capabilities: {}. No action.",
@@ -274,21 +378,7 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.DELETE)) {
             propagationAttempted.set(true);
 
-            Future<Uid> future = asyncFacade.delete(connector, objectClass, uid, options);
-
-            try {
-                future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            limited("delete", facade -> asyncFacade.delete(facade, objectClass, uid, options));
         } else {
             LOG.info("Delete for {} was attempted, although the connector only has these capabilities: {}. No action.",
                     uid.getUidValue(), connInstance.getCapabilities());
@@ -300,7 +390,7 @@ public class ConnectorFacadeProxy implements Connector {
             final OperationOptions options) {
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SYNC)) {
-            connector.sync(objectClass, token, handler, options);
+            telemetry.record("sync", () -> connector.sync(objectClass, token, handler, options));
         } else {
             LOG.info("Sync was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -312,21 +402,7 @@ public class ConnectorFacadeProxy implements Connector {
         SyncToken result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SYNC)) {
-            Future<SyncToken> future = asyncFacade.getLatestSyncToken(connector, objectClass);
-
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException runtimeException) {
-                    throw runtimeException;
-                } else {
-                    throw new RuntimeException(e.getCause());
-                }
-            }
+            result = call("getLatestSyncToken", () -> asyncFacade.getLatestSyncToken(connector, objectClass));
         } else {
             LOG.info("getLatestSyncToken was attempted, although the "
                     + "connector only has these capabilities: {}. No action.", connInstance.getCapabilities());
@@ -356,56 +432,17 @@ public class ConnectorFacadeProxy implements Connector {
 
     @Override
     public Set<ObjectClassInfo> getObjectClassInfo() {
-        Future<Set<ObjectClassInfo>> future = asyncFacade.getObjectClassInfo(connector);
-        try {
-            return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException runtimeException) {
-                throw runtimeException;
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        return call("getObjectClassInfo", () -> asyncFacade.getObjectClassInfo(connector));
     }
 
     @Override
     public void validate() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException runtimeException) {
-                throw runtimeException;
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        call("test", () -> asyncFacade.test(connector));
     }
 
     @Override
     public void test() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException runtimeException) {
-                throw runtimeException;
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        call("test", () -> asyncFacade.test(connector));
     }
 
     @Override
@@ -415,29 +452,14 @@ public class ConnectorFacadeProxy implements Connector {
             final boolean ignoreCaseMatch,
             final OperationOptions options) {
 
-        Future<ConnectorObject> future;
-
         if (connInstance.getCapabilities().contains(ConnectorCapability.SEARCH)) {
-            future = asyncFacade.getObject(connector, objectClass, connObjectKey, ignoreCaseMatch, options);
-        } else {
-            LOG.info("Search was attempted, although the connector only has these capabilities: {}. No action.",
-                    connInstance.getCapabilities());
-            return null;
+            return limited("getObject",
+                    facade -> asyncFacade.getObject(facade, objectClass, connObjectKey, ignoreCaseMatch, options));
         }
 
-        try {
-            return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException runtimeException) {
-                throw runtimeException;
-            } else {
-                throw new RuntimeException(e.getCause());
-            }
-        }
+        LOG.info("Search was attempted, although the connector only has these capabilities: {}. No action.",
+                connInstance.getCapabilities());
+        return null;
     }
 
     @Override
@@ -460,7 +482,7 @@ public class ConnectorFacadeProxy implements Connector {
                         builder.setPagedResultsCookie(cookies[0]);
                     }
 
-                    result = connector.search(objectClass, filter, new SearchResultsHandler() {
+                    SearchResultsHandler pagedHandler = new SearchResultsHandler() {
 
                         @Override
                         public void handleResult(final SearchResult result) {
@@ -472,10 +494,12 @@ public class ConnectorFacadeProxy implements Connector {
                         public boolean handle(final ConnectorObject connectorObject) {
                             return handler.handle(connectorObject);
                         }
-                    }, builder.build());
+                    };
+                    result = telemetry.record(
+                            "search", () -> connector.search(objectClass, filter, pagedHandler, builder.build()));
                 } while (cookies[0] != null);
             } else {
-                result = connector.search(objectClass, filter, handler, options);
+                result = telemetry.record("search", () -> connector.search(objectClass, filter, handler, options));
             }
         } else {
             LOG.info("Search was attempted, although the connector only has these capabilities: {}. No action.",
@@ -495,6 +519,53 @@ public class ConnectorFacadeProxy implements Connector {
         return connInstance;
     }
 
+    @Override
+    public Optional<ConnectorPoolStatus> getPoolStatus() {
+        Optional<ObjectPool.Statistics> stats = poolStatistics();
+        stats.ifPresent(s -> telemetry.observePoolSize(s.getNumActive() + s.getNumIdle()));
+
+        ObjectPoolConfiguration poolConf = apiConfig.getConnectorPoolConfiguration();
+        int active = stats.map(ObjectPool.Statistics::getNumActive).orElse(0);
+        return Optional.of(new ConnectorPoolStatus(
+                resource,
+                stats.isPresent(),
+                poolConf.getMaxObjects(),
+                poolConf.getMinIdle(),
+                poolConf.getMaxIdle(),
+                poolConf.getMaxWait(),
+                active,
+                stats.map(ObjectPool.Statistics::getNumIdle).orElse(0),
+                stats.isPresent() ? Math.max(0, telemetry.getInFlight() - active) : 0,
+                telemetry.getCreated(),
+                telemetry.getEvicted(),
+                telemetry.getOperations()));
+    }
+
+    @Override
+    public synchronized void resizePool(final ConnPoolConf poolConf) {
+        APIConfiguration newConfig = buildAPIConfiguration(poolConf);
+        if (!newConfig.isConnectorPoolingSupported()) {
+            throw new UnsupportedOperationException("Connector pooling not supported for " + info);
+        }
+
+        ConnectorFacade newConnector = ConnectorFacadeFactory.getInstance().newInstance(newConfig);
+        newConnector.validate();
+
+        ConnectorFacade previous = connector;
+        apiConfig = newConfig;
+        poolKey = null;
+        connector = newConnector;
+        connInstance.setPoolConf(poolConf);
+
+        // the previous pool is closed: connector instances currently borrowed are disposed once returned
+        if (previous instanceof LocalConnectorFacadeImpl) {
+            previous.dispose();
+            telemetry.poolDisposed();
+        }
+        LOG.info("Connector pool for {} resized: maxObjects={}, minIdle={}, maxIdle={}",
+                resource, poolConf.getMaxObjects(), poolConf.getMinIdle(), poolConf.getMaxIdle());
+    }
+
     private static Object getPropertyValue(final String propType, final List<?> values) {
         Object value = null;
 
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.apache.syncope.core.provisioning.api.ConnectorOperationStats;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
+
+/**
+ * Per-operation latency histograms and pool size tracking for the calls performed via a connector.
+ * This is the only place where connector calls are timed: each latency is also published as
+ * {@link SyncopeMetrics#CONNECTOR} timer.
+ */
+public class ConnectorTelemetry {
+
+    /**
+     * Upper bounds, in milliseconds, of the latency histogram buckets; an additional, unbounded bucket follows.
+     */
+    protected static final long[] BUCKETS = { 10, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+    protected static class OperationTelemetry {
+
+        protected final LongAdder count = new LongAdder();
+
+        protected final LongAdder failures = new LongAdder();
+
+        protected final LongAdder totalLatency = new LongAdder();
+
+        protected final AtomicLong maxLatency = new AtomicLong();
+
+        protected final AtomicLongArray buckets = new AtomicLongArray(BUCKETS.length + 1);
+
+        protected void record(final long latency, final boolean failed) {
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            totalLatency.add(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+
+            int bucket = 0;
+            while (bucket < BUCKETS.length && latency > BUCKETS[bucket]) {
+                bucket++;
+            }
+            buckets.incrementAndGet(bucket);
+        }
+
+        protected ConnectorOperationStats snapshot(final String operation) {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKETS.length; i++) {
+                histogram.put(String.valueOf(BUCKETS[i]), buckets.get(i));
+            }
+            histogram.put("+Inf", buckets.get(BUCKETS.length));
+
+            long calls = count.sum();
+            return new ConnectorOperationStats(
+                    operation,
+                    calls,
+                    failures.sum(),
+                    calls == 0 ? 0 : (double) totalLatency.sum() / calls,
+                    maxLatency.get(),
+                    histogram);
+        }
+    }
+
+    /**
+     * External resource the connector is serving, if any; used to tag published timers.
+     */
+    protected final String resource;
+
+    protected final Map<String, OperationTelemetry> operations = new ConcurrentHashMap<>();
+
+    protected final AtomicInteger inFlight = new AtomicInteger();
+
+    protected final AtomicInteger poolSize = new AtomicInteger(-1);
+
+    protected final AtomicLong created = new AtomicLong();
+
+    protected final AtomicLong evicted = new AtomicLong();
+
+    public ConnectorTelemetry(final String resource) {
+        this.resource = resource;
+    }
+
+    /**
+     * Performs the given call, recording its latency and outcome under the given operation.
+     *
+     * @param <T> call result type
+     * @param operation operation name
+     * @param call call to perform
+     * @return call result
+     */
+    public <T> T record(final String operation, final Supplier<T> call) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            inFlight.decrementAndGet();
+            operations.computeIfAbsent(operation, k -> new OperationTelemetry()).
+                    record(TimeUnit.NANOSECONDS.toMillis(elapsed), failed);
+            SyncopeMetrics.record(SyncopeMetrics.CONNECTOR, elapsed,
+                    SyncopeMetrics.RESOURCE, resource,
+                    SyncopeMetrics.OPERATION, operation,
+                    SyncopeMetrics.OUTCOME, failed ? SyncopeMetrics.FAILURE : SyncopeMetrics.SUCCESS);
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Compares the given pool size with the one previously observed, accounting the difference as connector
+     * instances created or evicted; ConnId does not report such events, hence changes happening between two
+     * observations can only be seen as net.
+     *
+     * @param size number of connector instances currently in the pool, either active or idle
+     */
+    public void observePoolSize(final int size) {
+        int previous = poolSize.getAndSet(size);
+        if (size > previous) {
+            created.addAndGet(size - Math.max(previous, 0));
+        } else if (size < previous) {
+            evicted.addAndGet(previous - size);
+        }
+    }
+
+    /**
+     * Accounts all connector instances in the pool as evicted, as the pool is being disposed.
+     */
+    public void poolDisposed() {
+        int previous = poolSize.getAndSet(-1);
+        if (previous > 0) {
+            evicted.addAndGet(previous);
+        }
+    }
+
+    public long getCreated() {
+        return created.get();
+    }
+
+    public long getEvicted() {
+        return evicted.get();
+    }
+
+    public List<ConnectorOperationStats> getOperations() {
+        return operations.entrySet().stream().
+                sorted(Map.Entry.comparingByKey(Comparator.naturalOrder())).
+                map(entry -> entry.getValue().snapshot(entry.getKey())).
+                toList();
+    }
+}
@@ -18,25 +18,36 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
+import org.apache.syncope.common.lib.to.ConnPoolConfTO;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.persistence.api.entity.ConnPoolConf;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorLoadingStatus;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.ConnectorPoolStatus;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
 import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
 import org.apache.syncope.core.provisioning.api.utils.ConnPoolConfUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -45,6 +56,7 @@ import org.identityconnectors.common.l10n.CurrentLocale;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.transaction.annotation.Transactional;
 
 public class DefaultConnectorManager implements ConnectorManager {
@@ -66,22 +78,38 @@ public class DefaultConnectorManager implements ConnectorManager {
 
     protected final AsyncConnectorFacade asyncFacade;
 
+    protected final ResourceLimiter resourceLimiter;
+
     protected final EntityFactory entityFactory;
 
+    protected final AsyncTaskExecutor loaderExecutor;
+
+    protected final boolean lazyLoading;
+
+    protected final Map<String, ConnectorLoadingStatus> loadingStatus = new ConcurrentHashMap<>();
+
+    protected final Map<String, Object> registrationLocks = new ConcurrentHashMap<>();
+
     public DefaultConnectorManager(
             final ConnIdBundleManager connIdBundleManager,
             final RealmDAO realmDAO,
             final ExternalResourceDAO resourceDAO,
             final ConnInstanceDataBinder connInstanceDataBinder,
             final AsyncConnectorFacade asyncFacade,
-            final EntityFactory entityFactory) {
+            final ResourceLimiter resourceLimiter,
+            final EntityFactory entityFactory,
+            final AsyncTaskExecutor loaderExecutor,
+            final boolean lazyLoading) {
 
         this.connIdBundleManager = connIdBundleManager;
         this.realmDAO = realmDAO;
         this.resourceDAO = resourceDAO;
         this.connInstanceDataBinder = connInstanceDataBinder;
         this.asyncFacade = asyncFacade;
+        this.resourceLimiter = resourceLimiter;
         this.entityFactory = entityFactory;
+        this.loaderExecutor = loaderExecutor;
+        this.lazyLoading = lazyLoading;
     }
 
     @Override
@@ -92,10 +120,19 @@ public class DefaultConnectorManager implements ConnectorManager {
 
     @Override
     public Connector getConnector(final ExternalResource resource) {
-        // Try to re-create connector bean from underlying resource (useful for managing failover scenarios)
+        // Try to re-create connector bean from underlying resource (useful for managing failover scenarios
+        // and required when connectors are loaded lazily)
         return readConnector(resource).orElseGet(() -> {
-            registerConnector(resource);
-            return (Connector) ApplicationContextProvider.getBeanFactory().getSingleton(getBeanName(resource));
+            String beanName = getBeanName(resource);
+            synchronized (registrationLocks.computeIfAbsent(beanName, k -> new Object())) {
+                return readConnector(resource).orElseGet(() -> {
+                    registerConnector(resource);
+                    Optional.ofNullable(loadingStatus.get(AuthContextUtils.getDomain())).
+                            filter(ConnectorLoadingStatus::isLazy).
+                            ifPresent(ConnectorLoadingStatus::registered);
+                    return (Connector) ApplicationContextProvider.getBeanFactory().getSingleton(beanName);
+                });
+            }
         });
     }
 
@@ -163,25 +200,34 @@ public class DefaultConnectorManager implements ConnectorManager {
         return new ConnectorFacadeProxy(connInstance, asyncFacade);
     }
 
-    @Override
-    public void registerConnector(final ExternalResource resource) {
-        String beanName = getBeanName(resource);
+    protected Connector createConnector(final String resourceKey, final ConnInstance connInstance) {
+        return new ConnectorFacadeProxy(connInstance, asyncFacade, resourceKey, resourceLimiter);
+    }
+
+    protected ConnInstance buildConnInstanceOverride(final ExternalResource resource) {
+        return buildConnInstanceOverride(
+                connInstanceDataBinder.getConnInstanceTO(resource.getConnector()),
+                resource.getConfOverride(),
+                resource.isOverrideCapabilities() ? Optional.of(resource.getCapabilitiesOverride()) : Optional.empty());
+    }
 
+    protected void registerConnector(final String beanName, final String resourceKey, final ConnInstance connInstance) {
         if (ApplicationContextProvider.getBeanFactory().containsSingleton(beanName)) {
             unregisterConnector(beanName);
         }
 
-        ConnInstance connInstance = buildConnInstanceOverride(
-                connInstanceDataBinder.getConnInstanceTO(resource.getConnector()),
-                resource.getConfOverride(),
-                resource.isOverrideCapabilities() ? Optional.of(resource.getCapabilitiesOverride()) : Optional.empty());
-        Connector connector = createConnector(connInstance);
+        Connector connector = createConnector(resourceKey, connInstance);
         LOG.debug("Connector to be registered: {}", connector);
 
         ApplicationContextProvider.getBeanFactory().registerSingleton(beanName, connector);
         LOG.debug("Successfully registered bean {}", beanName);
     }
 
+    @Override
+    public void registerConnector(final ExternalResource resource) {
+        registerConnector(getBeanName(resource), resource.getKey(), buildConnInstanceOverride(resource));
+    }
+
     protected void unregisterConnector(final String id) {
         ApplicationContextProvider.getBeanFactory().destroySingleton(id);
     }
@@ -189,8 +235,14 @@ public class DefaultConnectorManager implements ConnectorManager {
     @Override
     public void unregisterConnector(final ExternalResource resource) {
         String beanName = getBeanName(resource);
-        if (ApplicationContextProvider.getBeanFactory().containsSingleton(beanName)) {
-            unregisterConnector(beanName);
+        synchronized (registrationLocks.computeIfAbsent(beanName, k -> new Object())) {
+            if (ApplicationContextProvider.getBeanFactory().containsSingleton(beanName)) {
+                unregisterConnector(beanName);
+                Optional.ofNullable(loadingStatus.get(AuthContextUtils.getDomain())).
+                        filter(ConnectorLoadingStatus::isLazy).
+                        ifPresent(ConnectorLoadingStatus::unregistered);
+            }
+            registrationLocks.remove(beanName);
         }
     }
 
@@ -203,20 +255,100 @@ public class DefaultConnectorManager implements ConnectorManager {
         // Load all connector bundles
         connIdBundleManager.getConnManagers();
 
-        // Load all resource-specific connectors
-        int connectors = 0;
-        for (ExternalResource resource : resourceDAO.findAll()) {
+        List<? extends ExternalResource> resources = resourceDAO.findAll();
+        ConnectorLoadingStatus status = new ConnectorLoadingStatus(lazyLoading, resources.size());
+        loadingStatus.put(AuthContextUtils.getDomain(), status);
+
+        if (lazyLoading) {
+            status.end();
+            LOG.info("Connectors for {} resources will be loaded on first access", resources.size());
+            return;
+        }
+
+        // Load all resource-specific connectors: connector instances are built here, within the current transaction,
+        // while the (potentially slow) connector facades are created and validated in parallel
+        List<Future<?>> registrations = new ArrayList<>(resources.size());
+        for (ExternalResource resource : resources) {
             LOG.info("Registering resource-connector pair {}-{}", resource, resource.getConnector());
             try {
-                registerConnector(resource);
-
-                connectors++;
+                String beanName = getBeanName(resource);
+                String resourceKey = resource.getKey();
+                String connInstanceKey = resource.getConnector().getKey();
+                ConnInstance connInstance = buildConnInstanceOverride(resource);
+
+                registrations.add(loaderExecutor.submit(() -> {
+                    CurrentLocale.set(Locale.ENGLISH);
+                    try {
+                        registerConnector(beanName, resourceKey, connInstance);
+                        status.registered();
+                    } catch (Exception e) {
+                        status.failed();
+                        LOG.error("While registering resource-connector pair {}-{}", resourceKey, connInstanceKey, e);
+                    }
+                }));
             } catch (Exception e) {
+                status.failed();
                 LOG.error("While registering resource-connector pair {}-{}", resource, resource.getConnector(), e);
             }
         }
 
-        LOG.info("Done loading {} connectors", connectors);
+        for (Future<?> registration : registrations) {
+            try {
+                registration.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.error("Interrupted while loading connectors", e);
+            } catch (ExecutionException e) {
+                LOG.error("While loading connectors", e);
+            }
+        }
+
+        status.end();
+        LOG.info("Done loading {} connectors ({} failed) in {} ms",
+                status.getRegistered(), status.getFailed(), status.getDuration().toMillis());
+    }
+
+    @Override
+    public Map<String, ConnectorLoadingStatus> getLoadingStatus() {
+        return Collections.unmodifiableMap(loadingStatus);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<ConnectorPoolStatus> getPoolStatuses() {
+        return resourceDAO.findAll().stream().
+                map(this::getPoolStatus).
+                flatMap(Optional::stream).
+                toList();
+    }
+
+    @Override
+    public Optional<ConnectorPoolStatus> getPoolStatus(final ExternalResource resource) {
+        return readConnector(resource).flatMap(Connector::getPoolStatus);
+    }
+
+    @Override
+    public ConnectorPoolStatus resizePool(final ExternalResource resource, final ConnPoolConfTO poolConf) {
+        Connector connector = getConnector(resource);
+
+        // start from the current pool configuration, then apply what was given
+        ConnPoolConf conf = entityFactory.newConnPoolConf();
+        Optional.ofNullable(connector.getConnInstance().getPoolConf()).ifPresent(current -> {
+            conf.setMaxObjects(current.getMaxObjects());
+            conf.setMinIdle(current.getMinIdle());
+            conf.setMaxIdle(current.getMaxIdle());
+            conf.setMaxWait(current.getMaxWait());
+            conf.setMinEvictableIdleTimeMillis(current.getMinEvictableIdleTimeMillis());
+        });
+        Optional.ofNullable(poolConf.getMaxObjects()).ifPresent(conf::setMaxObjects);
+        Optional.ofNullable(poolConf.getMinIdle()).ifPresent(conf::setMinIdle);
+        Optional.ofNullable(poolConf.getMaxIdle()).ifPresent(conf::setMaxIdle);
+        Optional.ofNullable(poolConf.getMaxWait()).ifPresent(conf::setMaxWait);
+        Optional.ofNullable(poolConf.getMinEvictableIdleTimeMillis()).ifPresent(conf::setMinEvictableIdleTimeMillis);
+
+        connector.resizePool(conf);
+
+        return connector.getPoolStatus().orElseThrow();
     }
 
     @Transactional(readOnly = true)
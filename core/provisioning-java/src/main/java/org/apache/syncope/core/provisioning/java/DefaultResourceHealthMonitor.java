@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.ResourceHealthMonitor;
+import org.apache.syncope.core.provisioning.api.ResourceHealthStatus;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Probes all resources at fixed delay, from a single scheduler thread; each round tests at most {@code parallelism}
+ * connectors at a time, each on its own virtual thread and for no longer than {@code timeout}.
+ * Being a {@link SyncopeCoreLoader}, probing starts once connectors have been loaded for all domains; connectors
+ * not built yet, as with lazy loading, are not built for probing but reported as not loaded.
+ */
+public class DefaultResourceHealthMonitor implements ResourceHealthMonitor, SyncopeCoreLoader {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ResourceHealthMonitor.class);
+
+    protected final DomainHolder domainHolder;
+
+    protected final ExternalResourceDAO resourceDAO;
+
+    protected final ConnectorManager connectorManager;
+
+    protected final Duration interval;
+
+    protected final Duration timeout;
+
+    protected final int parallelism;
+
+    protected final Map<Pair<String, String>, ResourceHealthStatus> statuses = new ConcurrentHashMap<>();
+
+    protected final ExecutorService probes = Executors.newVirtualThreadPerTaskExecutor();
+
+    protected ScheduledExecutorService scheduler;
+
+    protected volatile boolean ready;
+
+    public DefaultResourceHealthMonitor(
+            final DomainHolder domainHolder,
+            final ExternalResourceDAO resourceDAO,
+            final ConnectorManager connectorManager,
+            final Duration interval,
+            final Duration timeout,
+            final int parallelism) {
+
+        this.domainHolder = domainHolder;
+        this.resourceDAO = resourceDAO;
+        this.connectorManager = connectorManager;
+        this.interval = interval;
+        this.timeout = timeout;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public int getOrder() {
+        return 1000;
+    }
+
+    @Override
+    public void load() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ResourceHealthMonitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                probe();
+            } catch (Exception e) {
+                LOG.error("While probing resources", e);
+            }
+        }, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void unload() {
+        Optional.ofNullable(scheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+        probes.shutdownNow();
+    }
+
+    /**
+     * @return keys of all resources, by domain
+     */
+    protected List<Pair<String, String>> resources() {
+        List<Pair<String, String>> resources = new ArrayList<>();
+        domainHolder.getDomains().keySet().forEach(domain -> AuthContextUtils.runAsAdmin(
+                domain, () -> resourceDAO.findAll().forEach(resource -> resources.add(
+                Pair.of(domain, resource.getKey())))));
+        return resources;
+    }
+
+    protected Optional<Connector> connector(final String domain, final String resource) {
+        return AuthContextUtils.callAsAdmin(domain, () -> connectorManager.readConnector(
+                resourceDAO.findById(resource).orElseThrow(() -> new NotFoundException("Resource " + resource))));
+    }
+
+    protected ResourceHealthStatus probe(final String domain, final String resource) {
+        String error = null;
+        long start = System.nanoTime();
+        Future<?> test = null;
+        try {
+            Optional<Connector> connector = connector(domain, resource);
+            if (connector.isEmpty()) {
+                LOG.debug("Resource {} in domain {} is not loaded, skipping", resource, domain);
+                return new ResourceHealthStatus(domain, resource, false, false, OffsetDateTime.now(), 0, null);
+            }
+
+            test = probes.submit(connector.get()::test);
+            test.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            test.cancel(true);
+            error = "No response after " + timeout;
+        } catch (ExecutionException e) {
+            error = Optional.ofNullable(e.getCause().getMessage()).orElseGet(() -> e.getCause().toString());
+        } catch (InterruptedException e) {
+            test.cancel(true);
+            Thread.currentThread().interrupt();
+            error = "Interrupted";
+        } catch (Exception e) {
+            error = Optional.ofNullable(e.getMessage()).orElseGet(e::toString);
+        }
+        long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        if (error != null) {
+            LOG.debug("Resource {} in domain {} is down: {}", resource, domain, error);
+        }
+        return new ResourceHealthStatus(domain, resource, true, error == null, OffsetDateTime.now(), latency, error);
+    }
+
+    @Override
+    public void probe() {
+        List<Pair<String, String>> resources = resources();
+
+        Semaphore permits = new Semaphore(parallelism);
+        List<Future<?>> round = new ArrayList<>(resources.size());
+        resources.forEach(key -> round.add(probes.submit(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                statuses.put(key, probe(key.getLeft(), key.getRight()));
+            } finally {
+                permits.release();
+            }
+        })));
+        for (Future<?> probe : round) {
+            try {
+                probe.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                LOG.error("While probing resources", e);
+            }
+        }
+
+        // forget about resources which were removed meanwhile
+        statuses.keySet().retainAll(Set.copyOf(resources));
+
+        ready = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public Optional<ResourceHealthStatus> getStatus(final String domain, final String resource) {
+        return Optional.ofNullable(statuses.get(Pair.of(domain, resource)));
+    }
+
+    @Override
+    public List<ResourceHealthStatus> getStatuses() {
+        return statuses.values().stream().
+                sorted(Comparator.comparing(ResourceHealthStatus::getDomain).
+                        thenComparing(ResourceHealthStatus::getResource)).
+                toList();
+    }
+}
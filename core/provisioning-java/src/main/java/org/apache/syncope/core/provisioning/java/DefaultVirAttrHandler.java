@@ -18,32 +18,45 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Membership;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
+import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
+import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(readOnly = true)
@@ -51,24 +64,41 @@ public class DefaultVirAttrHandler implements VirAttrHandler {
 
     protected static final Logger LOG = LoggerFactory.getLogger(VirAttrHandler.class);
 
+    /**
+     * Maximum number of connector object key values to be matched by a single search on an external resource.
+     */
+    protected static final int MAX_SEARCH_VALUES = 100;
+
     protected final ConnectorManager connectorManager;
 
     protected final VirAttrCache virAttrCache;
 
     protected final OutboundMatcher outboundMatcher;
 
+    protected final MappingManager mappingManager;
+
+    protected final AnyTypeDAO anyTypeDAO;
+
     protected final AnyUtilsFactory anyUtilsFactory;
 
+    protected final AsyncTaskExecutor executor;
+
     public DefaultVirAttrHandler(
             final ConnectorManager connectorManager,
             final VirAttrCache virAttrCache,
             final OutboundMatcher outboundMatcher,
-            final AnyUtilsFactory anyUtilsFactory) {
+            final MappingManager mappingManager,
+            final AnyTypeDAO anyTypeDAO,
+            final AnyUtilsFactory anyUtilsFactory,
+            final AsyncTaskExecutor executor) {
 
         this.connectorManager = connectorManager;
         this.virAttrCache = virAttrCache;
         this.outboundMatcher = outboundMatcher;
+        this.mappingManager = mappingManager;
+        this.anyTypeDAO = anyTypeDAO;
         this.anyUtilsFactory = anyUtilsFactory;
+        this.executor = executor;
     }
 
     @Override
@@ -98,57 +128,181 @@ public class DefaultVirAttrHandler implements VirAttrHandler {
         });
     }
 
-    protected Map<VirSchema, List<String>> getValues(final Any<?> any, final Set<VirSchema> schemas) {
-        Set<ExternalResource> resources = anyUtilsFactory.getInstance(any).getAllResources(any);
+    protected static VirAttrCacheKey cacheKey(final Any<?> any, final VirSchema schema) {
+        return new VirAttrCacheKey(any.getType().getKey(), any.getKey(), schema.getKey());
+    }
+
+    protected Map<String, Map<VirSchema, List<String>>> getValues(final Map<Any<?>, Set<VirSchema>> schemas) {
+        Map<VirAttrCacheKey, Pair<Any<?>, VirSchema>> requested = new HashMap<>();
+        schemas.forEach((any, anySchemas) -> {
+            Set<ExternalResource> resources = anyUtilsFactory.getInstance(any).getAllResources(any);
+            anySchemas.stream().filter(schema -> resources.contains(schema.getResource())).
+                    forEach(schema -> requested.put(cacheKey(any, schema), Pair.of(any, schema)));
+        });
+
+        Map<String, Map<VirSchema, List<String>>> result = new HashMap<>();
+        if (requested.isEmpty()) {
+            return result;
+        }
 
-        Map<VirSchema, List<String>> result = new HashMap<>();
+        virAttrCache.getAll(requested.keySet(), missing -> load(missing, requested)).forEach((cacheKey, cacheValue) -> {
+            Pair<Any<?>, VirSchema> pair = requested.get(cacheKey);
+            result.computeIfAbsent(pair.getLeft().getKey(), k -> new HashMap<>()).
+                    put(pair.getRight(), cacheValue.getValues());
+        });
 
-        Map<Pair<ExternalResource, Provision>, Set<VirSchema>> toRead = new HashMap<>();
+        return result;
+    }
 
-        schemas.stream().filter(schema -> resources.contains(schema.getResource())).forEach(schema -> {
-            VirAttrCacheKey cacheKey = new VirAttrCacheKey(any.getType().getKey(), any.getKey(), schema.getKey());
-            VirAttrCacheValue cacheValue = virAttrCache.get(cacheKey);
-
-            if (cacheValue != null) {
-                LOG.debug("Found in cache: {}={}", cacheKey, cacheValue);
-                result.put(schema, cacheValue.getValues());
-            } else if (schema.getAnyType().equals(any.getType())) {
-                schema.getResource().getProvisionByAnyType(schema.getAnyType().getKey()).ifPresent(provision -> {
-                    Set<VirSchema> schemasToRead = toRead.get(Pair.of(schema.getResource(), provision));
-                    if (schemasToRead == null) {
-                        schemasToRead = new HashSet<>();
-                        toRead.put(Pair.of(schema.getResource(), provision), schemasToRead);
-                    }
-                    schemasToRead.add(schema);
-                });
+    protected Map<VirAttrCacheKey, VirAttrCacheValue> load(
+            final Set<? extends VirAttrCacheKey> missing,
+            final Map<VirAttrCacheKey, Pair<Any<?>, VirSchema>> requested) {
+
+        Map<Pair<ExternalResource, Provision>, Map<Any<?>, Set<VirSchema>>> toRead = new HashMap<>();
+        missing.stream().map(requested::get).
+                filter(pair -> pair.getRight().getAnyType().equals(pair.getLeft().getType())).
+                forEach(pair -> pair.getRight().getResource().
+                getProvisionByAnyType(pair.getRight().getAnyType().getKey()).ifPresent(provision -> toRead.
+                computeIfAbsent(Pair.of(pair.getRight().getResource(), provision), k -> new HashMap<>()).
+                computeIfAbsent(pair.getLeft(), k -> new HashSet<>()).
+                add(pair.getRight())));
+
+        Map<VirAttrCacheKey, VirAttrCacheValue> loaded = new ConcurrentHashMap<>();
+
+        List<Runnable> searches = new ArrayList<>();
+        toRead.forEach((pair, byAny) -> {
+            LOG.debug("About to read from {}: {}", pair, byAny);
+
+            Connector connector = connectorManager.getConnector(pair.getLeft());
+            if (outboundMatcher.rule(pair.getLeft(), pair.getRight()).isPresent()) {
+                // correlation rules provide a filter for each any, hence a query is required for each any
+                byAny.forEach((any, schemasToRead) -> outboundMatcher.match(
+                        connector,
+                        any,
+                        pair.getLeft(),
+                        pair.getRight(),
+                        Optional.empty(),
+                        schemasToRead.stream().map(VirSchema::asLinkingMappingItem).toArray(Item[]::new)).
+                        forEach(connObj -> read(any, schemasToRead, connObj, loaded)));
+            } else {
+                // no correlation rule: search for all anys at once, in parallel with other resources
+                search(connector, pair.getLeft(), pair.getRight(), byAny, loaded).ifPresent(searches::add);
+            }
+        });
+
+        if (searches.size() == 1) {
+            searches.get(0).run();
+        } else {
+            searches.stream().map(executor::submit).toList().forEach(search -> {
+                try {
+                    search.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.error("Interrupted while reading virtual attribute values", e);
+                } catch (ExecutionException e) {
+                    LOG.error("While reading virtual attribute values", e.getCause());
+                }
+            });
+        }
+
+        return loaded;
+    }
+
+    protected void read(
+            final Any<?> any,
+            final Set<VirSchema> schemasToRead,
+            final ConnectorObject connObj,
+            final Map<VirAttrCacheKey, VirAttrCacheValue> loaded) {
+
+        schemasToRead.forEach(schema -> {
+            Attribute attr = connObj.getAttributeByName(schema.getExtAttrName());
+            if (attr != null) {
+                VirAttrCacheKey cacheKey = cacheKey(any, schema);
+                VirAttrCacheValue cacheValue = new VirAttrCacheValue(attr.getValue());
+                LOG.debug("Read for cache: {}={}", cacheKey, cacheValue);
+
+                loaded.put(cacheKey, cacheValue);
             }
         });
+    }
+
+    /**
+     * Prepares, in the calling thread, a search matching the connector object key values of all given anys; the
+     * returned task only involves the connector, so that it can be run by a different thread.
+     *
+     * @param connector connector
+     * @param resource external resource
+     * @param provision provision
+     * @param byAny virtual schemas to read, by any
+     * @param loaded collects values read from the external resource
+     * @return task to run, if any
+     */
+    protected Optional<Runnable> search(
+            final Connector connector,
+            final ExternalResource resource,
+            final Provision provision,
+            final Map<Any<?>, Set<VirSchema>> byAny,
+            final Map<VirAttrCacheKey, VirAttrCacheValue> loaded) {
+
+        Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        if (connObjectKeyItem.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Pair<Any<?>, Set<VirSchema>>> byConnObjectKeyValue = new HashMap<>();
+        byAny.forEach((any, schemasToRead) -> mappingManager.getConnObjectKeyValue(any, resource, provision).
+                ifPresent(value -> byConnObjectKeyValue.put(
+                normalize(value, provision.isIgnoreCaseMatch()), Pair.of(any, schemasToRead))));
+        if (byConnObjectKeyValue.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<Collection<Item>> linkingItems = Optional.of(byAny.values().stream().
+                flatMap(Set::stream).distinct().map(VirSchema::asLinkingMappingItem).toList());
+
+        List<String> values = new ArrayList<>(byConnObjectKeyValue.keySet());
+        return Optional.of(() -> {
+            for (int i = 0; i < values.size(); i += MAX_SEARCH_VALUES) {
+                List<String> chunk = values.subList(i, Math.min(i + MAX_SEARCH_VALUES, values.size()));
+
+                Map<String, ConnectorObject> connObjs = new HashMap<>();
+                try {
+                    connObjs.putAll(outboundMatcher.matchByConnObjectKeyValues(
+                            connector,
+                            connObjectKeyItem.get(),
+                            chunk,
+                            resource,
+                            provision,
+                            Optional.empty(),
+                            linkingItems));
+                } catch (RuntimeException e) {
+                    LOG.debug("Could not search {} on {}, reverting to single reads", chunk, resource.getKey(), e);
 
-        toRead.forEach((pair, schemasToRead) -> {
-            LOG.debug("About to read from {}: {}", pair, schemasToRead);
-
-            outboundMatcher.match(
-                    connectorManager.getConnector(pair.getLeft()),
-                    any,
-                    pair.getLeft(),
-                    pair.getRight(),
-                    Optional.empty(),
-                    schemasToRead.stream().map(VirSchema::asLinkingMappingItem).toArray(Item[]::new)).
-                    forEach(connObj -> schemasToRead.forEach(schema -> {
-
-                Attribute attr = connObj.getAttributeByName(schema.getExtAttrName());
-                if (attr != null) {
-                    VirAttrCacheKey cacheKey =
-                            new VirAttrCacheKey(any.getType().getKey(), any.getKey(), schema.getKey());
-                    VirAttrCacheValue cacheValue = virAttrCache.put(cacheKey, new VirAttrCacheValue(attr.getValue()));
-                    LOG.debug("Set in cache: {}={}", cacheKey, cacheValue);
-
-                    result.put(schema, cacheValue.getValues());
+                    connObjs.clear();
+                    chunk.forEach(value -> {
+                        try {
+                            outboundMatcher.matchByConnObjectKeyValue(
+                                    connector,
+                                    connObjectKeyItem.get(),
+                                    value,
+                                    resource,
+                                    provision,
+                                    Optional.empty(),
+                                    linkingItems).ifPresent(connObj -> connObjs.put(value, connObj));
+                        } catch (RuntimeException re) {
+                            LOG.debug("While resolving {}", value, re);
+                        }
+                    });
                 }
-            }));
+
+                connObjs.forEach((value, connObj) -> Optional.ofNullable(byConnObjectKeyValue.get(value)).
+                        ifPresent(pair -> read(pair.getLeft(), pair.getRight(), connObj, loaded)));
+            }
         });
+    }
 
-        return result;
+    protected static String normalize(final String value, final boolean ignoreCase) {
+        return ignoreCase ? StringUtils.lowerCase(value) : value;
     }
 
     @Override
@@ -160,8 +314,8 @@ public class DefaultVirAttrHandler implements VirAttrHandler {
             return List.of();
         }
 
-        List<String> result = getValues(any, Set.of(schema)).get(schema);
-        return result == null ? List.of() : result;
+        return getValues(Map.of(any, Set.of(schema))).getOrDefault(any.getKey(), Map.of()).
+                getOrDefault(schema, List.of());
     }
 
     @Override
@@ -173,22 +327,62 @@ public class DefaultVirAttrHandler implements VirAttrHandler {
             return List.of();
         }
 
-        List<String> result = getValues(any, Set.of(schema)).get(schema);
-        return result == null ? List.of() : result;
+        return getValues(Map.of(any, Set.of(schema))).getOrDefault(any.getKey(), Map.of()).
+                getOrDefault(schema, List.of());
     }
 
     @Override
     public Map<VirSchema, List<String>> getValues(final Any<?> any) {
-        return getValues(
-                any,
-                anyUtilsFactory.getInstance(any).dao().findAllowedSchemas(any, VirSchema.class).getForSelf());
+        return getValues(Map.of(any, anyUtilsFactory.getInstance(any).dao().
+                findAllowedSchemas(any, VirSchema.class).getForSelf())).
+                getOrDefault(any.getKey(), Map.of());
     }
 
     @Override
     public Map<VirSchema, List<String>> getValues(final Any<?> any, final Membership<?> membership) {
-        return getValues(
-                any,
-                anyUtilsFactory.getInstance(any).dao().findAllowedSchemas(any, VirSchema.class).
-                        getForMembership(membership.getRightEnd()));
+        return getValues(Map.of(any, anyUtilsFactory.getInstance(any).dao().
+                findAllowedSchemas(any, VirSchema.class).getForMembership(membership.getRightEnd()))).
+                getOrDefault(any.getKey(), Map.of());
+    }
+
+    @Override
+    public void prefetch(final List<? extends Any<?>> anys) {
+        if (!virAttrCache.isEnabled()) {
+            LOG.debug("Cache not configured, nothing to prefetch");
+            return;
+        }
+
+        getValues(anys.stream().collect(Collectors.toMap(
+                any -> any,
+                any -> anyUtilsFactory.getInstance(any).dao().findAllowedSchemas(any, VirSchema.class).getForSelf(),
+                (schemas1, schemas2) -> schemas1)));
+    }
+
+    @Override
+    public Map<VirAttrCacheKey, VirAttrCacheValue> reload(final Set<? extends VirAttrCacheKey> keys) {
+        Map<VirAttrCacheKey, Pair<Any<?>, VirSchema>> requested = new HashMap<>();
+        keys.forEach(cacheKey -> {
+            Optional<? extends AnyType> anyType = anyTypeDAO.findById(cacheKey.getAnyType());
+            if (anyType.isEmpty()) {
+                LOG.debug("Any type {} not found, cannot reload {}", cacheKey.getAnyType(), cacheKey);
+                return;
+            }
+
+            AnyTypeKind kind = anyType.get().getKind();
+            anyUtilsFactory.getInstance(kind).dao().findById(cacheKey.getAny()).ifPresent(any -> {
+                Set<ExternalResource> resources = anyUtilsFactory.getInstance(any).getAllResources(any);
+                AllowedSchemas<VirSchema> schemas =
+                        anyUtilsFactory.getInstance(any).dao().findAllowedSchemas(any, VirSchema.class);
+                Stream.concat(
+                        schemas.getForSelf().stream(),
+                        schemas.getForMemberships().values().stream().flatMap(Set::stream)).
+                        filter(schema -> schema.getKey().equals(cacheKey.getSchema())
+                        && resources.contains(schema.getResource())).
+                        findFirst().
+                        ifPresent(schema -> requested.put(cacheKey, Pair.of(any, schema)));
+            });
+        });
+
+        return requested.isEmpty() ? Map.of() : load(requested.keySet(), requested);
     }
 }
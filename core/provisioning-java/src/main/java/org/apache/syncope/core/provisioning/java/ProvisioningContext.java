@@ -72,6 +72,8 @@ import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
 import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.ResourceHealthMonitor;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
@@ -163,6 +165,7 @@ import org.apache.syncope.core.provisioning.java.pushpull.InboundMatcher;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DefaultCredentialChecker;
 import org.apache.syncope.core.spring.security.PasswordGenerator;
 import org.apache.syncope.core.spring.security.SecurityProperties;
@@ -270,6 +273,41 @@ public class ProvisioningContext {
         return executor;
     }
 
+    /**
+     * Used by {@link DefaultConnectorManager} to register connectors in parallel.
+     *
+     * @param props the provisioning properties
+     * @return executor thread pool task executor
+     */
+    @Bean
+    public VirtualThreadPoolTaskExecutor connectorLoaderExecutor(final ProvisioningProperties props) {
+        VirtualThreadPoolTaskExecutor executor = new VirtualThreadPoolTaskExecutor();
+        executor.setPoolSize(props.getConnectorLoaderExecutor().getPoolSize());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(props.getConnectorLoaderExecutor().getAwaitTerminationSeconds());
+        executor.setThreadNamePrefix("ConnectorLoader-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Used by {@link DefaultVirAttrHandler} to read virtual attribute values from several external resources in
+     * parallel.
+     *
+     * @param props the provisioning properties
+     * @return executor thread pool task executor
+     */
+    @Bean
+    public VirtualThreadPoolTaskExecutor virAttrHandlerExecutor(final ProvisioningProperties props) {
+        VirtualThreadPoolTaskExecutor executor = new VirtualThreadPoolTaskExecutor();
+        executor.setPoolSize(props.getVirAttrHandlerExecutor().getPoolSize());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(props.getVirAttrHandlerExecutor().getAwaitTerminationSeconds());
+        executor.setThreadNamePrefix("VirAttrHandler-");
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     public SchedulerDBInit quartzDataSourceInit(final ProvisioningProperties provisioningProperties) {
         SchedulerDBInit init = new SchedulerDBInit();
@@ -355,15 +393,33 @@ public class ProvisioningContext {
         return new JobStatusUpdater(jobStatusDAO, entityFactory);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public ResourceLimiter resourceLimiter(final ProvisioningProperties props) {
+        return new AIMDResourceLimiter(
+                props.getResourceLimiter().getInitialLimit(),
+                props.getResourceLimiter().getMinLimit(),
+                props.getResourceLimiter().getMaxLimit(),
+                props.getResourceLimiter().getBackoffRatio(),
+                props.getResourceLimiter().getLatencyTolerance(),
+                props.getResourceLimiter().getMaxWait(),
+                props.getResourceLimiter().getFailureThreshold(),
+                props.getResourceLimiter().getOpenDuration());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public ConnectorManager connectorManager(
+            final ProvisioningProperties props,
             final EntityFactory entityFactory,
             final ConnIdBundleManager connIdBundleManager,
             final RealmDAO realmDAO,
             final ExternalResourceDAO resourceDAO,
             final ConnInstanceDataBinder connInstanceDataBinder,
-            final AsyncConnectorFacade asyncConnectorFacade) {
+            final AsyncConnectorFacade asyncConnectorFacade,
+            final ResourceLimiter resourceLimiter,
+            @Qualifier("connectorLoaderExecutor")
+            final VirtualThreadPoolTaskExecutor connectorLoaderExecutor) {
 
         return new DefaultConnectorManager(
                 connIdBundleManager,
@@ -371,7 +427,27 @@ public class ProvisioningContext {
                 resourceDAO,
                 connInstanceDataBinder,
                 asyncConnectorFacade,
-                entityFactory);
+                resourceLimiter,
+                entityFactory,
+                connectorLoaderExecutor,
+                props.isLazyConnectorLoading());
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public ResourceHealthMonitor resourceHealthMonitor(
+            final ProvisioningProperties props,
+            final DomainHolder domainHolder,
+            final ExternalResourceDAO resourceDAO,
+            final ConnectorManager connectorManager) {
+
+        return new DefaultResourceHealthMonitor(
+                domainHolder,
+                resourceDAO,
+                connectorManager,
+                props.getResourceHealth().getInterval(),
+                props.getResourceHealth().getTimeout(),
+                props.getResourceHealth().getParallelism());
     }
 
     @ConditionalOnMissingBean
@@ -428,12 +504,23 @@ public class ProvisioningContext {
     @ConditionalOnMissingBean
     @Bean
     public VirAttrHandler virAttrHandler(
+            final AnyTypeDAO anyTypeDAO,
             final AnyUtilsFactory anyUtilsFactory,
             final ConnectorManager connectorManager,
             final VirAttrCache virAttrCache,
-            @Lazy final OutboundMatcher outboundMatcher) {
+            @Lazy final OutboundMatcher outboundMatcher,
+            @Lazy final MappingManager mappingManager,
+            @Qualifier("virAttrHandlerExecutor")
+            final VirtualThreadPoolTaskExecutor virAttrHandlerExecutor) {
 
-        return new DefaultVirAttrHandler(connectorManager, virAttrCache, outboundMatcher, anyUtilsFactory);
+        return new DefaultVirAttrHandler(
+                connectorManager,
+                virAttrCache,
+                outboundMatcher,
+                mappingManager,
+                anyTypeDAO,
+                anyUtilsFactory,
+                virAttrHandlerExecutor);
     }
 
     @ConditionalOnMissingBean
@@ -551,7 +638,9 @@ public class ProvisioningContext {
             final TaskDataBinder taskDataBinder,
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
-            final ApplicationEventPublisher publisher) {
+            final ApplicationEventPublisher publisher,
+            final ResourceLimiter resourceLimiter,
+            final ProvisioningProperties props) {
 
         return new PriorityPropagationTaskExecutor(
                 connectorManager,
@@ -567,6 +656,9 @@ public class ProvisioningContext {
                 outboundMatcher,
                 validator,
                 publisher,
+                resourceLimiter,
+                props.getPropagation().getPrefetchChunkSize(),
+                props.getPropagation().isReadAfterProvisioning(),
                 propagationTaskExecutorAsyncExecutor);
     }
 
@@ -625,8 +717,16 @@ public class ProvisioningContext {
 
     @ConditionalOnMissingBean
     @Bean
-    public VirAttrCache virAttrCache(final ProvisioningProperties provisioningProperties) {
-        VirAttrCache virAttrCache = new CaffeineVirAttrCache();
+    public VirAttrCache virAttrCache(
+            final ProvisioningProperties provisioningProperties,
+            @Lazy final VirAttrHandler virAttrHandler) {
+
+        CaffeineVirAttrCache virAttrCache = new CaffeineVirAttrCache();
+        virAttrCache.setExpireAfterWrite(provisioningProperties.getVirAttrCache().getExpireAfterWrite());
+        virAttrCache.setAbsentExpireAfterWrite(provisioningProperties.getVirAttrCache().getAbsentExpireAfterWrite());
+        virAttrCache.setRefreshAfterWrite(provisioningProperties.getVirAttrCache().getRefreshAfterWrite());
+        virAttrCache.setReloader((domain, keys) -> AuthContextUtils.callAsAdmin(
+                domain, () -> virAttrHandler.reload(keys)));
         virAttrCache.setCacheSpec(provisioningProperties.getVirAttrCacheSpec());
         return virAttrCache;
     }
@@ -18,8 +18,11 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.quartz.impl.jdbcjobstore.DriverDelegate;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -89,12 +92,353 @@ public class ProvisioningProperties {
         }
     }
 
+    public static class VirAttrCacheProperties {
+
+        /**
+         * Expiration after write, by virtual schema key; overrides any expiration set by the cache spec.
+         */
+        private final Map<String, Duration> expireAfterWrite = new HashMap<>();
+
+        /**
+         * Expiration of values which could not be read from external resources; when zero, such values are not
+         * cached.
+         */
+        private Duration absentExpireAfterWrite = Duration.ZERO;
+
+        /**
+         * When set, entries older than this are refreshed in background on first read, while stale values are
+         * returned.
+         */
+        private Duration refreshAfterWrite;
+
+        public Map<String, Duration> getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public Duration getAbsentExpireAfterWrite() {
+            return absentExpireAfterWrite;
+        }
+
+        public void setAbsentExpireAfterWrite(final Duration absentExpireAfterWrite) {
+            this.absentExpireAfterWrite = absentExpireAfterWrite;
+        }
+
+        public Duration getRefreshAfterWrite() {
+            return refreshAfterWrite;
+        }
+
+        public void setRefreshAfterWrite(final Duration refreshAfterWrite) {
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+    }
+
+    public static class ResourceLimiterProperties {
+
+        /**
+         * Concurrency limit for each resource, before any call is observed.
+         */
+        private int initialLimit = 10;
+
+        private int minLimit = 1;
+
+        private int maxLimit = 100;
+
+        /**
+         * Factor applied to the concurrency limit when calls fail or slow down.
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * How much the average latency can exceed the latency observed under no load, before the concurrency limit
+         * is reduced.
+         */
+        private double latencyTolerance = 2.0;
+
+        /**
+         * How long a call can wait for the number of concurrent calls to go below the limit, before being rejected.
+         */
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        /**
+         * Number of consecutive failures opening the circuit breaker.
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * How long the circuit breaker stays open, before letting a trial call through.
+         */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(final int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(final int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(final int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(final double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        public double getLatencyTolerance() {
+            return latencyTolerance;
+        }
+
+        public void setLatencyTolerance(final double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(final Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(final int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        public void setOpenDuration(final Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+    }
+
+    public static class PropagationProperties {
+
+        /**
+         * Maximum number of propagation tasks for the same resource whose remote objects are read, before the actual
+         * operation, with a single connector search; 0 to read remote objects one by one.
+         */
+        private int prefetchChunkSize = 0;
+
+        /**
+         * When false, remote objects are not read back after successful create or update operations: they are
+         * rather built from the remote objects read before, with the propagated attributes applied.
+         */
+        private boolean readAfterProvisioning = true;
+
+        public int getPrefetchChunkSize() {
+            return prefetchChunkSize;
+        }
+
+        public void setPrefetchChunkSize(final int prefetchChunkSize) {
+            this.prefetchChunkSize = prefetchChunkSize;
+        }
+
+        public boolean isReadAfterProvisioning() {
+            return readAfterProvisioning;
+        }
+
+        public void setReadAfterProvisioning(final boolean readAfterProvisioning) {
+            this.readAfterProvisioning = readAfterProvisioning;
+        }
+    }
+
+    public static class PushProperties {
+
+        /**
+         * Number of key ranges which the entities to push are split into, for each any type; ranges are pushed in
+         * parallel.
+         */
+        private int partitions = 1;
+
+        /**
+         * Whether the progress of push task executions is saved with the task, so that an execution terminated
+         * before completion is resumed by the next one from where it had stopped.
+         */
+        private boolean resume = false;
+
+        /**
+         * Minimum time between two saves of the progress of a push task execution, when resume is enabled.
+         */
+        private Duration checkpointInterval = Duration.ofSeconds(30);
+
+        public int getPartitions() {
+            return partitions;
+        }
+
+        public void setPartitions(final int partitions) {
+            this.partitions = partitions;
+        }
+
+        public boolean isResume() {
+            return resume;
+        }
+
+        public void setResume(final boolean resume) {
+            this.resume = resume;
+        }
+
+        public Duration getCheckpointInterval() {
+            return checkpointInterval;
+        }
+
+        public void setCheckpointInterval(final Duration checkpointInterval) {
+            this.checkpointInterval = checkpointInterval;
+        }
+    }
+
+    public static class PullProperties {
+
+        /**
+         * Minimum time between two saves of the progress of a pull task execution in full or filtered
+         * reconciliation mode.
+         */
+        private Duration checkpointInterval = Duration.ofSeconds(30);
+
+        public Duration getCheckpointInterval() {
+            return checkpointInterval;
+        }
+
+        public void setCheckpointInterval(final Duration checkpointInterval) {
+            this.checkpointInterval = checkpointInterval;
+        }
+    }
+
+    public static class ResourceHealthProperties {
+
+        /**
+         * Delay between the end of a probe round and the start of the next one.
+         */
+        private Duration interval = Duration.ofMinutes(1);
+
+        /**
+         * How long each connector test can take, before the resource is reported down.
+         */
+        private Duration timeout = Duration.ofSeconds(10);
+
+        /**
+         * Maximum number of connector tests running at the same time.
+         */
+        private int parallelism = 8;
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(final Duration interval) {
+            this.interval = interval;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(final Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(final int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    public static class PurgeProperties {
+
+        /**
+         * Maximum number of expired rows (access tokens, batch requests) deleted in a single transaction.
+         */
+        private int chunkSize = 1000;
+
+        /**
+         * Pause between two consecutive chunks, to cap the delete rate.
+         */
+        private Duration chunkDelay = Duration.ZERO;
+
+        /**
+         * Maximum number of chunks per run, 0 for unlimited; remaining rows are left to the next run.
+         */
+        private int maxChunks = 0;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(final int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public Duration getChunkDelay() {
+            return chunkDelay;
+        }
+
+        public void setChunkDelay(final Duration chunkDelay) {
+            this.chunkDelay = chunkDelay;
+        }
+
+        public int getMaxChunks() {
+            return maxChunks;
+        }
+
+        public void setMaxChunks(final int maxChunks) {
+            this.maxChunks = maxChunks;
+        }
+    }
+
     private final ExecutorProperties asyncConnectorFacadeExecutor = new ExecutorProperties();
 
     private final ExecutorProperties propagationTaskExecutorAsyncExecutor = new ExecutorProperties();
 
+    private final ExecutorProperties connectorLoaderExecutor = new ExecutorProperties();
+
+    private final ExecutorProperties virAttrHandlerExecutor = new ExecutorProperties();
+
+    /**
+     * When true, connectors are not built at startup but on first access.
+     */
+    private boolean lazyConnectorLoading = false;
+
     private String virAttrCacheSpec = "maximumSize=5000,expireAfterAccess=1m";
 
+    private final VirAttrCacheProperties virAttrCache = new VirAttrCacheProperties();
+
+    private final ResourceLimiterProperties resourceLimiter = new ResourceLimiterProperties();
+
+    private final PropagationProperties propagation = new PropagationProperties();
+
+    private final PullProperties pull = new PullProperties();
+
+    private final PushProperties push = new PushProperties();
+
+    private final ResourceHealthProperties resourceHealth = new ResourceHealthProperties();
+
+    private final PurgeProperties purge = new PurgeProperties();
+
     private final List<String> connIdLocation = new ArrayList<>();
 
     private final QuartzProperties quartz = new QuartzProperties();
@@ -107,6 +451,10 @@ public class ProvisioningProperties {
         this.virAttrCacheSpec = virAttrCacheSpec;
     }
 
+    public VirAttrCacheProperties getVirAttrCache() {
+        return virAttrCache;
+    }
+
     public ExecutorProperties getAsyncConnectorFacadeExecutor() {
         return asyncConnectorFacadeExecutor;
     }
@@ -115,6 +463,46 @@ public class ProvisioningProperties {
         return propagationTaskExecutorAsyncExecutor;
     }
 
+    public ExecutorProperties getConnectorLoaderExecutor() {
+        return connectorLoaderExecutor;
+    }
+
+    public ExecutorProperties getVirAttrHandlerExecutor() {
+        return virAttrHandlerExecutor;
+    }
+
+    public boolean isLazyConnectorLoading() {
+        return lazyConnectorLoading;
+    }
+
+    public void setLazyConnectorLoading(final boolean lazyConnectorLoading) {
+        this.lazyConnectorLoading = lazyConnectorLoading;
+    }
+
+    public ResourceLimiterProperties getResourceLimiter() {
+        return resourceLimiter;
+    }
+
+    public PropagationProperties getPropagation() {
+        return propagation;
+    }
+
+    public PullProperties getPull() {
+        return pull;
+    }
+
+    public PushProperties getPush() {
+        return push;
+    }
+
+    public ResourceHealthProperties getResourceHealth() {
+        return resourceHealth;
+    }
+
+    public PurgeProperties getPurge() {
+        return purge;
+    }
+
     public List<String> getConnIdLocation() {
         return connIdLocation;
     }
@@ -18,34 +18,352 @@
  */
 package org.apache.syncope.core.provisioning.java.cache;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * In-memory cache based on Caffeine.
+ * Besides the base cache spec, the following can be configured - before invoking {@link #setCacheSpec(String)}:
+ * <ul>
+ * <li>expiration after write, per virtual schema: this overrides any expiration set in the cache spec;</li>
+ * <li>expiration of absent values: when set, the virtual attributes which could not be read from the external
+ * resource are cached as well, to avoid querying again until expiration;</li>
+ * <li>refresh after write: when set with a reloader, entries older than the given duration are refreshed in
+ * background on first read, while the stale value is returned.</li>
+ * </ul>
+ */
 public class CaffeineVirAttrCache implements VirAttrCache {
 
-    private Cache<VirAttrCacheKey, VirAttrCacheValue> cache;
+    protected static final Logger LOG = LoggerFactory.getLogger(VirAttrCache.class);
+
+    /**
+     * Marks values which could not be read from the external resource.
+     */
+    protected static final VirAttrCacheValue ABSENT = new VirAttrCacheValue(null);
+
+    protected static Duration parseDuration(final String value) {
+        String duration = value.trim();
+        if (StringUtils.startsWithIgnoreCase(duration, "P")) {
+            return Duration.parse(duration);
+        }
+
+        long amount = Long.parseLong(duration.substring(0, duration.length() - 1));
+        return switch (Character.toLowerCase(duration.charAt(duration.length() - 1))) {
+            case 'd' ->
+                Duration.ofDays(amount);
+            case 'h' ->
+                Duration.ofHours(amount);
+            case 'm' ->
+                Duration.ofMinutes(amount);
+            case 's' ->
+                Duration.ofSeconds(amount);
+            default ->
+                throw new IllegalArgumentException("Invalid duration: " + value);
+        };
+    }
+
+    protected final Map<String, Duration> expireAfterWrite = new HashMap<>();
+
+    protected Duration absentExpireAfterWrite = Duration.ZERO;
+
+    protected Duration refreshAfterWrite;
+
+    protected BiFunction<String, Set<? extends VirAttrCacheKey>, Map<VirAttrCacheKey, VirAttrCacheValue>> reloader;
+
+    protected Ticker ticker;
+
+    protected Executor executor;
+
+    protected final LongAdder absentHits = new LongAdder();
+
+    /**
+     * Async cache is used to make in-flight loads visible to concurrent readers: these will wait for the pending load
+     * instead of querying the same external resource once more.
+     */
+    private AsyncCache<VirAttrCacheKey, VirAttrCacheValue> cache;
+
+    public void setExpireAfterWrite(final Map<String, Duration> expireAfterWrite) {
+        this.expireAfterWrite.clear();
+        this.expireAfterWrite.putAll(expireAfterWrite);
+    }
+
+    public void setAbsentExpireAfterWrite(final Duration absentExpireAfterWrite) {
+        this.absentExpireAfterWrite = Optional.ofNullable(absentExpireAfterWrite).orElse(Duration.ZERO);
+    }
+
+    public void setRefreshAfterWrite(final Duration refreshAfterWrite) {
+        this.refreshAfterWrite = refreshAfterWrite;
+    }
+
+    /**
+     * Set the function reading again values from external resources, for the given domain and cache keys.
+     *
+     * @param reload reloader function
+     */
+    public void setReloader(
+            final BiFunction<String, Set<? extends VirAttrCacheKey>, Map<VirAttrCacheKey, VirAttrCacheValue>> reload) {
+
+        this.reloader = reload;
+    }
+
+    /**
+     * Set the time source for expiration and refresh, system time when not set; mostly useful for testing.
+     *
+     * @param ticker time source
+     */
+    public void setTicker(final Ticker ticker) {
+        this.ticker = ticker;
+    }
+
+    /**
+     * Set the executor for background refresh, common pool when not set; mostly useful for testing.
+     *
+     * @param executor executor
+     */
+    public void setExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+
+    protected boolean isCachingAbsent() {
+        return absentExpireAfterWrite.isPositive();
+    }
 
     @Override
     public void setCacheSpec(final String cacheSpec) {
-        cache = Caffeine.from(cacheSpec).build();
+        Caffeine<Object, Object> builder;
+        VirAttrCacheExpiry expiry = null;
+        if (expireAfterWrite.isEmpty() && !isCachingAbsent()) {
+            builder = Caffeine.from(cacheSpec);
+        } else {
+            // per-entry expiration cannot be combined with expireAfterAccess / expireAfterWrite from cache spec
+            List<String> spec = new ArrayList<>();
+            Duration defaultExpiry = null;
+            boolean afterAccess = false;
+            for (String option : StringUtils.split(cacheSpec, ',')) {
+                String[] keyValue = StringUtils.split(option.trim(), '=');
+                if (keyValue.length == 2 && "expireAfterAccess".equals(keyValue[0].trim())) {
+                    defaultExpiry = parseDuration(keyValue[1]);
+                    afterAccess = true;
+                } else if (keyValue.length == 2 && "expireAfterWrite".equals(keyValue[0].trim())) {
+                    defaultExpiry = parseDuration(keyValue[1]);
+                } else {
+                    spec.add(option.trim());
+                }
+            }
+
+            builder = Caffeine.from(String.join(",", spec));
+            expiry = new VirAttrCacheExpiry(defaultExpiry, afterAccess);
+        }
+
+        if (!StringUtils.contains(cacheSpec, "recordStats")) {
+            builder.recordStats();
+        }
+
+        Optional.ofNullable(ticker).ifPresent(builder::ticker);
+        Optional.ofNullable(executor).ifPresent(builder::executor);
+
+        boolean refresh = refreshAfterWrite != null && reloader != null;
+        if (refresh) {
+            builder.refreshAfterWrite(refreshAfterWrite);
+        }
+
+        if (expiry == null) {
+            cache = refresh ? builder.buildAsync(new VirAttrCacheReloader()) : builder.buildAsync();
+        } else {
+            Caffeine<VirAttrCacheKey, VirAttrCacheValue> expiring = builder.expireAfter(expiry);
+            cache = refresh ? expiring.buildAsync(new VirAttrCacheReloader()) : expiring.buildAsync();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
     }
 
     @Override
     public void expire(final VirAttrCacheKey key) {
-        cache.invalidate(key);
+        cache.synchronous().invalidate(key);
     }
 
     @Override
     public VirAttrCacheValue get(final VirAttrCacheKey key) {
-        return cache.getIfPresent(key);
+        VirAttrCacheValue value = cache.synchronous().getIfPresent(key);
+        return value == ABSENT ? null : value;
     }
 
     @Override
     public VirAttrCacheValue put(final VirAttrCacheKey key, final VirAttrCacheValue value) {
-        cache.put(key, value);
+        cache.synchronous().put(key, value);
         return value;
     }
+
+    @Override
+    public Map<VirAttrCacheKey, VirAttrCacheValue> getAll(
+            final Set<VirAttrCacheKey> keys,
+            final Function<Set<? extends VirAttrCacheKey>, Map<VirAttrCacheKey, VirAttrCacheValue>> loader) {
+
+        Set<VirAttrCacheKey> loadedKeys = new HashSet<>();
+        Map<VirAttrCacheKey, VirAttrCacheValue> values;
+        // the loader is run on the calling thread, which holds the current transaction
+        try {
+            values = cache.getAll(keys, (missing, executor) -> {
+                loadedKeys.addAll(missing);
+                try {
+                    Map<VirAttrCacheKey, VirAttrCacheValue> loaded = loader.apply(missing);
+                    if (isCachingAbsent()) {
+                        loaded = new HashMap<>(loaded);
+                        for (VirAttrCacheKey key : missing) {
+                            loaded.putIfAbsent(key, ABSENT);
+                        }
+                    }
+                    return CompletableFuture.completedFuture(loaded);
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+
+        Map<VirAttrCacheKey, VirAttrCacheValue> result = new HashMap<>(values.size());
+        values.forEach((key, value) -> {
+            if (value == ABSENT) {
+                if (!loadedKeys.contains(key)) {
+                    absentHits.increment();
+                }
+            } else {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = cache.synchronous().stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.synchronous().estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("absent_hits", absentHits.sum());
+        result.put("misses", stats.missCount());
+        result.put("hit_rate", stats.hitRate());
+        result.put("loads", stats.loadSuccessCount());
+        result.put("load_failures", stats.loadFailureCount());
+        result.put("average_load_penalty_ms", Duration.ofNanos((long) stats.averageLoadPenalty()).toMillis());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+
+    protected class VirAttrCacheExpiry implements Expiry<VirAttrCacheKey, VirAttrCacheValue> {
+
+        protected final Duration defaultExpiry;
+
+        protected final boolean afterAccess;
+
+        public VirAttrCacheExpiry(final Duration defaultExpiry, final boolean afterAccess) {
+            this.defaultExpiry = defaultExpiry;
+            this.afterAccess = afterAccess;
+        }
+
+        protected long expiry(final VirAttrCacheKey key, final VirAttrCacheValue value) {
+            Duration expiry = value == ABSENT
+                    ? absentExpireAfterWrite
+                    : expireAfterWrite.getOrDefault(key.getSchema(), defaultExpiry);
+            return expiry == null ? Long.MAX_VALUE : expiry.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(
+                final VirAttrCacheKey key,
+                final VirAttrCacheValue value,
+                final long currentTime) {
+
+            return expiry(key, value);
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final VirAttrCacheKey key,
+                final VirAttrCacheValue value,
+                final long currentTime,
+                final long currentDuration) {
+
+            return expiry(key, value);
+        }
+
+        @Override
+        public long expireAfterRead(
+                final VirAttrCacheKey key,
+                final VirAttrCacheValue value,
+                final long currentTime,
+                final long currentDuration) {
+
+            return afterAccess && value != ABSENT && !expireAfterWrite.containsKey(key.getSchema())
+                    ? expiry(key, value)
+                    : currentDuration;
+        }
+    }
+
+    protected class VirAttrCacheReloader implements AsyncCacheLoader<VirAttrCacheKey, VirAttrCacheValue> {
+
+        @Override
+        public CompletableFuture<? extends VirAttrCacheValue> asyncLoad(
+                final VirAttrCacheKey key,
+                final Executor executor) {
+
+            // values are loaded via getAll
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<? extends VirAttrCacheValue> asyncReload(
+                final VirAttrCacheKey key,
+                final VirAttrCacheValue oldValue,
+                final Executor executor) {
+
+            // invoked on the reading thread: capture the current domain for the background refresh
+            String domain = AuthContextUtils.getDomain();
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    VirAttrCacheValue value = reloader.apply(domain, Set.of(key)).get(key);
+                    return value == null && isCachingAbsent() ? ABSENT : value;
+                } catch (RuntimeException e) {
+                    LOG.error("While refreshing {}, keeping stale value", key, e);
+                    return oldValue;
+                }
+            }, executor);
+        }
+    }
 }
@@ -18,6 +18,9 @@
  */
 package org.apache.syncope.core.provisioning.java.cache;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
 import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
@@ -32,6 +35,11 @@ public class DisabledVirAttrCache implements VirAttrCache {
         // nothing to do
     }
 
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
     @Override
     public void expire(final VirAttrCacheKey key) {
         // nothing to do
@@ -46,4 +54,22 @@ public class DisabledVirAttrCache implements VirAttrCache {
     public VirAttrCacheValue put(final VirAttrCacheKey key, final VirAttrCacheValue value) {
         return value;
     }
+
+    @Override
+    public Map<VirAttrCacheKey, VirAttrCacheValue> getAll(
+            final Set<VirAttrCacheKey> keys,
+            final Function<Set<? extends VirAttrCacheKey>, Map<VirAttrCacheKey, VirAttrCacheValue>> loader) {
+
+        return loader.apply(keys);
+    }
+
+    @Override
+    public void clear() {
+        // nothing to do
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        return Map.of();
+    }
 }
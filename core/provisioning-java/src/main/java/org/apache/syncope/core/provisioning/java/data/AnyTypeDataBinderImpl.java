@@ -25,7 +25,6 @@ import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.AnyTypeTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
-import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.EntitlementsHolder;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
@@ -87,15 +86,13 @@ public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
                     orElseThrow(() -> new NotFoundException("AccessToken for " + AuthContextUtils.getUsername()));
             try {
                 Set<SyncopeGrantedAuthority> authorities = new HashSet<>(POJOHelper.deserialize(
-                        ENCRYPTOR.decode(new String(accessToken.getAuthorities()), CipherAlgorithm.AES),
+                        ENCRYPTOR.decode(accessToken.getAuthorities()),
                         new TypeReference<Set<SyncopeGrantedAuthority>>() {
                 }));
 
                 added.forEach(e -> authorities.add(new SyncopeGrantedAuthority(e, SyncopeConstants.ROOT_REALM)));
 
-                accessToken.setAuthorities(ENCRYPTOR.encode(
-                        POJOHelper.serialize(authorities), CipherAlgorithm.AES).
-                        getBytes());
+                accessToken.setAuthorities(ENCRYPTOR.encode(POJOHelper.serializeAsBytes(authorities)));
 
                 accessTokenDAO.save(accessToken);
             } catch (Exception e) {
@@ -139,16 +136,14 @@ public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
                     orElseThrow(() -> new NotFoundException("AccessToken for " + AuthContextUtils.getUsername()));
             try {
                 Set<SyncopeGrantedAuthority> authorities = new HashSet<>(POJOHelper.deserialize(
-                        ENCRYPTOR.decode(new String(accessToken.getAuthorities()), CipherAlgorithm.AES),
+                        ENCRYPTOR.decode(accessToken.getAuthorities()),
                         new TypeReference<Set<SyncopeGrantedAuthority>>() {
                 }));
 
                 authorities.removeAll(authorities.stream().
                         filter(authority -> removed.contains(authority.getAuthority())).toList());
 
-                accessToken.setAuthorities(ENCRYPTOR.encode(
-                        POJOHelper.serialize(authorities), CipherAlgorithm.AES).
-                        getBytes());
+                accessToken.setAuthorities(ENCRYPTOR.encode(POJOHelper.serializeAsBytes(authorities)));
 
                 accessTokenDAO.save(accessToken);
             } catch (Exception e) {
@@ -111,6 +111,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schema.setMimeType(schemaTO.getMimeType());
         schema.setMultivalue(schemaTO.isMultivalue());
         schema.setReadonly(schemaTO.isReadonly());
+        schema.setSearchable(schemaTO.isSearchable());
         schema.setSecretKey(schemaTO.getSecretKey());
         schema.setUniqueConstraint(schemaTO.isUniqueConstraint());
 
@@ -200,6 +201,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schemaTO.setMimeType(schema.getMimeType());
         schemaTO.setMultivalue(schema.isMultivalue());
         schemaTO.setReadonly(schema.isReadonly());
+        schemaTO.setSearchable(schema.isSearchable());
         schemaTO.setSecretKey(schema.getSecretKey());
         schemaTO.setUniqueConstraint(schema.isUniqueConstraint());
         schemaTO.getLabels().putAll(schema.getLabels());
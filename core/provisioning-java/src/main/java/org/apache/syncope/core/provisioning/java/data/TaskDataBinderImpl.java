@@ -221,6 +221,9 @@ public class TaskDataBinderImpl extends AbstractExecutableDatabinder implements
         provisioningTask.getActions().removeIf(impl -> !provisioningTaskTO.getActions().contains(impl.getKey()));
 
         provisioningTask.setConcurrentSettings(provisioningTaskTO.getConcurrentSettings());
+
+        // progress recorded for the previous definition is no longer meaningful
+        provisioningTask.setCheckpoint(null);
     }
 
     protected void fill(final MacroTask macroTask, final MacroTaskTO macroTaskTO) {
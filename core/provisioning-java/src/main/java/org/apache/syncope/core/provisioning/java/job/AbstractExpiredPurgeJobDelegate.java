@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes expired data in chunks, each in its own short transaction, so that concurrent readers and writers of the
+ * same table are never blocked for long; chunk size, pause between chunks and maximum number of chunks per run are
+ * taken from {@link ProvisioningProperties.PurgeProperties}.
+ * <p>
+ * The chunks run before, and outside of, the transaction recording the task execution: no transaction nor connection
+ * is held open for the whole purge.
+ */
+public abstract class AbstractExpiredPurgeJobDelegate extends AbstractSchedTaskJobDelegate<SchedTask> {
+
+    @Autowired
+    protected ProvisioningProperties provisioningProperties;
+
+    @Autowired
+    protected TransactionTemplate transactionTemplate;
+
+    /**
+     * Deletes at most {@code max} items expired before the given instant.
+     *
+     * @param now reference instant
+     * @param max maximum number of items to delete
+     * @return number of deleted items
+     */
+    protected abstract int deleteChunk(OffsetDateTime now, int max);
+
+    /**
+     * @return label for what is being purged, used for logging and status
+     */
+    protected abstract String purged();
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void execute(
+            final TaskType taskType,
+            final String taskKey,
+            final boolean dryRun,
+            final JobExecutionContext context)
+            throws JobExecutionException {
+
+        this.taskType = taskType;
+        task = transactionTemplate.execute(status -> taskDAO.<SchedTask>findById(taskType, taskKey).orElse(null));
+        if (task != null && task.isActive() && !dryRun) {
+            purge();
+        }
+
+        JobExecutionException failure = transactionTemplate.execute(status -> {
+            try {
+                super.execute(taskType, taskKey, dryRun, context);
+                return null;
+            } catch (JobExecutionException e) {
+                return e;
+            }
+        });
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    protected String doExecute(final boolean dryRun, final String executor, final JobExecutionContext context)
+            throws JobExecutionException {
+
+        // the actual purge already took place, outside of the current transaction
+        return "SUCCESS";
+    }
+
+    protected void purge() {
+        ProvisioningProperties.PurgeProperties props = provisioningProperties.getPurge();
+        int chunkSize = Math.max(1, props.getChunkSize());
+
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        OffsetDateTime now = OffsetDateTime.now();
+        long start = System.nanoTime();
+
+        long deleted = 0;
+        int chunks = 0;
+        boolean more = true;
+        while (more && !interrupt) {
+            Integer chunk = chunkTransaction.execute(status -> deleteChunk(now, chunkSize));
+            int chunkDeleted = chunk == null ? 0 : chunk;
+            deleted += chunkDeleted;
+            chunks++;
+
+            setStatus("Deleted " + deleted + " expired " + purged() + " in " + chunks + " chunks");
+
+            more = chunkDeleted == chunkSize && (props.getMaxChunks() <= 0 || chunks < props.getMaxChunks());
+            if (more && !props.getChunkDelay().isZero()) {
+                try {
+                    Thread.sleep(props.getChunkDelay().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    interrupt = true;
+                }
+            }
+        }
+        if (interrupt) {
+            interrupted = true;
+        }
+
+        long duration = System.nanoTime() - start;
+        String job = getClass().getSimpleName();
+        SyncopeMetrics.record(SyncopeMetrics.PURGE, duration, SyncopeMetrics.JOB, job);
+        SyncopeMetrics.increment(SyncopeMetrics.PURGE_DELETED, deleted, SyncopeMetrics.JOB, job);
+        SyncopeMetrics.increment(SyncopeMetrics.PURGE_CHUNKS, chunks, SyncopeMetrics.JOB, job);
+        LOG.debug("Successfully deleted {} expired {} in {} chunks and {} ms",
+                deleted, purged(), chunks, TimeUnit.NANOSECONDS.toMillis(duration));
+    }
+}
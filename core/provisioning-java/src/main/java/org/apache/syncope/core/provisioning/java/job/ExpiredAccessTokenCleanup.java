@@ -20,25 +20,20 @@ package org.apache.syncope.core.provisioning.java.job;
 
 import java.time.OffsetDateTime;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
-import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
-import org.quartz.JobExecutionContext;
-import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 
-public class ExpiredAccessTokenCleanup extends AbstractSchedTaskJobDelegate<SchedTask> {
+public class ExpiredAccessTokenCleanup extends AbstractExpiredPurgeJobDelegate {
 
     @Autowired
     private AccessTokenDAO accessTokenDAO;
 
     @Override
-    protected String doExecute(final boolean dryRun, final String executor, final JobExecutionContext context)
-            throws JobExecutionException {
-
-        if (!dryRun) {
-            int deleted = accessTokenDAO.deleteExpired(OffsetDateTime.now());
-            LOG.debug("Successfully deleted {} expired access tokens", deleted);
-        }
+    protected int deleteChunk(final OffsetDateTime now, final int max) {
+        return accessTokenDAO.deleteExpired(now, max);
+    }
 
-        return "SUCCESS";
+    @Override
+    protected String purged() {
+        return "access tokens";
     }
 }
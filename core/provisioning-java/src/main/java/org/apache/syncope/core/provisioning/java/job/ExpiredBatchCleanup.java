@@ -18,26 +18,22 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.time.OffsetDateTime;
 import org.apache.syncope.core.persistence.api.dao.BatchDAO;
-import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
-import org.quartz.JobExecutionContext;
-import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 
-public class ExpiredBatchCleanup extends AbstractSchedTaskJobDelegate<SchedTask> {
+public class ExpiredBatchCleanup extends AbstractExpiredPurgeJobDelegate {
 
     @Autowired
     private BatchDAO batchDAO;
 
     @Override
-    protected String doExecute(final boolean dryRun, final String executor, final JobExecutionContext context)
-            throws JobExecutionException {
-
-        if (!dryRun) {
-            long deleted = batchDAO.deleteExpired();
-            LOG.debug("Successfully deleted {} expired batch requests", deleted);
-        }
+    protected int deleteChunk(final OffsetDateTime now, final int max) {
+        return batchDAO.deleteExpired(now, max);
+    }
 
-        return "SUCCESS";
+    @Override
+    protected String purged() {
+        return "batch requests";
     }
 }
@@ -18,11 +18,14 @@
  */
 package org.apache.syncope.core.provisioning.java.propagation;
 
+import io.micrometer.core.instrument.Timer;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,6 +34,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.to.ExecTO;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.OrgUnit;
@@ -57,6 +61,7 @@ import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
 import org.apache.syncope.core.provisioning.api.TimeoutException;
 import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
@@ -71,6 +76,7 @@ import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.exceptions.ConnectorException;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -128,6 +134,12 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
     protected final ApplicationEventPublisher publisher;
 
+    protected final ResourceLimiter resourceLimiter;
+
+    protected final int prefetchChunkSize;
+
+    protected final boolean readAfterProvisioning;
+
     protected final Map<String, PropagationActions> perContextActions = new ConcurrentHashMap<>();
 
     public AbstractPropagationTaskExecutor(
@@ -143,7 +155,10 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             final TaskUtilsFactory taskUtilsFactory,
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
-            final ApplicationEventPublisher publisher) {
+            final ApplicationEventPublisher publisher,
+            final ResourceLimiter resourceLimiter,
+            final int prefetchChunkSize,
+            final boolean readAfterProvisioning) {
 
         this.connectorManager = connectorManager;
         this.connObjectUtils = connObjectUtils;
@@ -158,6 +173,9 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         this.outboundMatcher = outboundMatcher;
         this.validator = validator;
         this.publisher = publisher;
+        this.resourceLimiter = resourceLimiter;
+        this.prefetchChunkSize = prefetchChunkSize;
+        this.readAfterProvisioning = readAfterProvisioning;
     }
 
     @Override
@@ -491,9 +509,15 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             LOG.debug("#{} Propagation attempt", context.getRetryCount());
 
             TaskExec<PropagationTask> exec = doExecute(taskInfo, reporter, executor);
+            // no point in waiting for retries while the resource is deemed unhealthy: the failed execution is
+            // reported right away, and the task can be executed again later
             if (context.getRetryCount() < taskInfo.getResource().getPropagationPolicy().getMaxAttempts() - 1
-                    && !ExecStatus.SUCCESS.name().equals(exec.getStatus())) {
+                    && !ExecStatus.SUCCESS.name().equals(exec.getStatus())
+                    && resourceLimiter.isAvailable(taskInfo.getResource().getKey())) {
 
+                SyncopeMetrics.increment(SyncopeMetrics.PROPAGATION_RETRIES,
+                        SyncopeMetrics.RESOURCE, taskInfo.getResource().getKey(),
+                        SyncopeMetrics.OPERATION, taskInfo.getOperation().name());
                 throw new RetryException("Attempt #" + context.getRetryCount() + " failed");
             }
             return exec;
@@ -506,6 +530,85 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 orElse(true);
     }
 
+    /**
+     * Reads the remote objects for the given tasks with one connector search per chunk of tasks about the same
+     * resource and object class, rather than with one connector search per task.
+     *
+     * @param taskInfos propagation tasks
+     */
+    protected void prefetch(final Collection<PropagationTaskInfo> taskInfos) {
+        if (prefetchChunkSize <= 0) {
+            return;
+        }
+
+        Map<Pair<String, String>, List<PropagationTaskInfo>> byResourceAndObjectClass = taskInfos.stream().
+                filter(taskInfo -> taskInfo.getAnyTypeKind() != null
+                && taskInfo.getConnector() == null
+                && taskInfo.getBeforeObj().isEmpty()
+                && !taskInfo.isBeforeObjFetched()
+                && isFetchRemoteObj(taskInfo)).
+                collect(Collectors.groupingBy(taskInfo -> Pair.of(
+                taskInfo.getResource().getKey(), taskInfo.getObjectClass().getObjectClassValue())));
+
+        byResourceAndObjectClass.forEach((key, tasks) -> {
+            if (tasks.size() < 2) {
+                return;
+            }
+
+            ExternalResource resource = tasks.get(0).getResource();
+            resource.getProvisionByObjectClass(key.getRight()).ifPresent(provision -> {
+                try {
+                    Connector connector = connectorManager.getConnector(resource);
+                    List<PropagationActions> actions = getPropagationActions(resource);
+
+                    for (int i = 0; i < tasks.size(); i += prefetchChunkSize) {
+                        outboundMatcher.prefetch(
+                                tasks.subList(i, Math.min(i + prefetchChunkSize, tasks.size())),
+                                connector,
+                                provision,
+                                actions);
+                    }
+                } catch (RuntimeException e) {
+                    LOG.warn("While prefetching remote objects from {}", resource.getKey(), e);
+                }
+            });
+        });
+    }
+
+    /**
+     * Builds the remote object after a successful create or update, without reading it back: attributes read before
+     * are overwritten by the propagated attributes, since these were all accepted by the connector.
+     *
+     * @param taskInfo propagation task
+     * @param beforeObj remote object read before the operation, if any
+     * @param uid uid returned by the connector
+     * @return remote object after the operation
+     */
+    protected ConnectorObject buildAfterObj(
+            final PropagationTaskInfo taskInfo,
+            final ConnectorObject beforeObj,
+            final Uid uid) {
+
+        Map<String, Attribute> attrs = new LinkedHashMap<>();
+        Optional.ofNullable(beforeObj).ifPresent(obj -> obj.getAttributes().
+                forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr)));
+        taskInfo.getPropagationData().getAttributes().stream().
+                filter(attr -> !OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
+                && !OperationalAttributes.CURRENT_PASSWORD_NAME.equals(attr.getName())).
+                forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr));
+        attrs.remove(Uid.NAME.toUpperCase());
+
+        ConnectorObjectBuilder builder = new ConnectorObjectBuilder().
+                setObjectClass(Optional.ofNullable(beforeObj).
+                        map(ConnectorObject::getObjectClass).
+                        orElseGet(() -> taskInfo.getObjectClass())).
+                setUid(uid);
+        if (!attrs.containsKey(Name.NAME.toUpperCase())) {
+            builder.setName(taskInfo.getConnObjectKey());
+        }
+        return builder.addAttributes(attrs.values()).build();
+    }
+
     protected TaskExec<PropagationTask> doExecute(
             final PropagationTaskInfo taskInfo,
             final PropagationReporter reporter,
@@ -518,6 +621,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         List<PropagationActions> actions = getPropagationActions(taskInfo.getResource());
 
         OffsetDateTime start = OffsetDateTime.now();
+        Timer.Sample sample = SyncopeMetrics.start();
 
         TaskExec<PropagationTask> exec = taskUtilsFactory.getInstance(TaskType.PROPAGATION).newTaskExec();
         exec.setStatus(ExecStatus.CREATED.name());
@@ -544,7 +648,7 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             orgUnit = taskInfo.getResource().getOrgUnit();
 
             if (taskInfo.getBeforeObj().isEmpty()) {
-                if (fetchRemoteObj) {
+                if (fetchRemoteObj && !taskInfo.isBeforeObjFetched()) {
                     // Try to read remote object BEFORE any actual operation
                     beforeObj = provision == null && orgUnit == null
                             ? null
@@ -611,15 +715,27 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 taskInfo.setConnObjectKey(uid.getUidValue());
             }
             if (fetchRemoteObj) {
-                try {
-                    afterObj = provision == null && orgUnit == null
+                if (!readAfterProvisioning
+                        && !ExecStatus.FAILURE.name().equals(exec.getStatus())
+                        && (taskInfo.getOperation() == ResourceOperation.DELETE
+                        || taskInfo.getPropagationData().getAttributeDeltas() == null)) {
+
+                    afterObj = ExecStatus.NOT_ATTEMPTED.name().equals(exec.getStatus())
+                            ? beforeObj
+                            : taskInfo.getOperation() == ResourceOperation.DELETE || uid == null
                             ? null
-                            : orgUnit == null
-                                    ? getRemoteObject(taskInfo, connector, provision, actions, true)
-                                    : getRemoteObject(taskInfo, connector, orgUnit, actions, true);
-                } catch (Exception ignore) {
-                    // ignore exception
-                    LOG.error("Error retrieving after object", ignore);
+                            : buildAfterObj(taskInfo, beforeObj, uid);
+                } else {
+                    try {
+                        afterObj = provision == null && orgUnit == null
+                                ? null
+                                : orgUnit == null
+                                        ? getRemoteObject(taskInfo, connector, provision, actions, true)
+                                        : getRemoteObject(taskInfo, connector, orgUnit, actions, true);
+                    } catch (Exception ignore) {
+                        // ignore exception
+                        LOG.error("Error retrieving after object", ignore);
+                    }
                 }
             }
 
@@ -708,6 +824,11 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                     taskInfo);
         }
 
+        SyncopeMetrics.stop(sample, SyncopeMetrics.PROPAGATION,
+                SyncopeMetrics.RESOURCE, taskInfo.getResource().getKey(),
+                SyncopeMetrics.OPERATION, taskInfo.getOperation().name(),
+                SyncopeMetrics.OUTCOME, exec.getStatus());
+
         return exec;
     }
 
@@ -38,6 +38,7 @@ import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
 import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationException;
@@ -97,6 +98,9 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
             final ApplicationEventPublisher publisher,
+            final ResourceLimiter resourceLimiter,
+            final int prefetchChunkSize,
+            final boolean readAfterProvisioning,
             final VirtualThreadPoolTaskExecutor taskExecutor) {
 
         super(connectorManager,
@@ -111,7 +115,10 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                 taskUtilsFactory,
                 outboundMatcher,
                 validator,
-                publisher);
+                publisher,
+                resourceLimiter,
+                prefetchChunkSize,
+                readAfterProvisioning);
         this.taskExecutor = taskExecutor;
     }
 
@@ -123,6 +130,8 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
 
         PropagationReporter reporter = new DefaultPropagationReporter();
         try {
+            prefetch(taskInfos);
+
             List<PropagationTaskInfo> prioritizedTasks = taskInfos.stream().
                     filter(task -> task.getResource().getPropagationPriority() != null).
                     sorted(Comparator.comparing(task -> task.getResource().getPropagationPriority())).
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -31,6 +32,7 @@ import org.apache.syncope.common.lib.to.ProvisioningReport;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.TraceLevel;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.EntityCacheDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
@@ -77,6 +79,9 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
     @Autowired
     protected EntityFactory entityFactory;
 
+    @Autowired
+    protected EntityCacheDAO entityCacheDAO;
+
     /**
      * Policy DAO.
      */
@@ -699,7 +704,21 @@ public abstract class AbstractProvisioningJobDelegate<T extends ProvisioningTask
                 return "No provisions nor orgUnit available: aborting...";
             }
 
-            return doExecuteProvisioning(provisioningTask, connector, dryRun, executor, context);
+            // users, groups and any objects are mostly read once during provisioning: keep them out of the cache
+            try {
+                return entityCacheDAO.bypassAnyCache(() -> {
+                    try {
+                        return doExecuteProvisioning(provisioningTask, connector, dryRun, executor, context);
+                    } catch (JobExecutionException e) {
+                        throw new UndeclaredThrowableException(e);
+                    }
+                });
+            } catch (UndeclaredThrowableException e) {
+                if (e.getUndeclaredThrowable() instanceof JobExecutionException jee) {
+                    throw jee;
+                }
+                throw e;
+            }
         } catch (Throwable t) {
             LOG.error("While executing provisioning job {}", getClass().getName(), t);
             throw t;
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import io.micrometer.core.instrument.Timer;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Set;
@@ -62,6 +63,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.api.rules.PullMatch;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.SyncDelta;
@@ -126,6 +128,8 @@ public abstract class AbstractPullResultHandler
     @Transactional(rollbackFor = Throwable.class, propagation = Propagation.REQUIRES_NEW)
     @Override
     public boolean handle(final SyncDelta delta) {
+        Timer.Sample sample = SyncopeMetrics.start();
+        String outcome = SyncopeMetrics.FAILURE;
         Provision provision = null;
         try {
             provision = profile.getTask().getResource().
@@ -144,6 +148,7 @@ public abstract class AbstractPullResultHandler
 
             LOG.debug("Successfully handled {}", delta);
 
+            outcome = latestResult == Result.SUCCESS ? SyncopeMetrics.SUCCESS : SyncopeMetrics.FAILURE;
             if (profile.getTask().getPullMode() != PullMode.INCREMENTAL) {
                 return true;
             }
@@ -162,11 +167,17 @@ public abstract class AbstractPullResultHandler
 
             LOG.warn("Ignoring during pull", e);
 
+            outcome = SyncopeMetrics.IGNORE;
             return true;
         } catch (JobExecutionException e) {
             LOG.error("Pull failed", e);
 
             return false;
+        } finally {
+            SyncopeMetrics.stop(sample, SyncopeMetrics.PULL,
+                    SyncopeMetrics.RESOURCE, profile.getTask().getResource().getKey(),
+                    SyncopeMetrics.OPERATION, "handle",
+                    SyncopeMetrics.OUTCOME, outcome);
         }
     }
 
@@ -867,11 +878,16 @@ public abstract class AbstractPullResultHandler
 
         Result result = Result.SUCCESS;
         try {
+            Timer.Sample sample = SyncopeMetrics.start();
             List<PullMatch> matches = inboundMatcher.match(
                     finalDelta,
                     profile.getTask().getResource(),
                     provision,
                     anyTypeKind);
+            SyncopeMetrics.stop(sample, SyncopeMetrics.PULL,
+                    SyncopeMetrics.RESOURCE, profile.getTask().getResource().getKey(),
+                    SyncopeMetrics.OPERATION, "match",
+                    SyncopeMetrics.OUTCOME, SyncopeMetrics.SUCCESS);
             LOG.debug("Match(es) found for {} as {}: {}",
                     finalDelta.getUid().getUidValue(), finalDelta.getObject().getObjectClass(), matches);
 
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -55,6 +56,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.java.job.AfterHandlingJob;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.quartz.JobExecutionException;
@@ -164,7 +166,9 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                 before.getVirAttrs(),
                 noPropResources);
         if (!taskInfos.isEmpty()) {
+            // no remote object was found when matching
             taskInfos.get(0).setBeforeObj(Optional.empty());
+            taskInfos.get(0).setBeforeObjFetched(true);
             PropagationReporter reporter = new DefaultPropagationReporter();
             taskExecutor.execute(taskInfos.get(0), reporter, securityProperties.getAdminUser());
             reportPropagation(result, reporter);
@@ -207,6 +211,8 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Override
     public boolean handle(final String anyKey) {
+        Timer.Sample sample = SyncopeMetrics.start();
+        String outcome = SyncopeMetrics.FAILURE;
         Any<?> any = null;
         try {
             any = getAnyUtils().dao().authFind(anyKey);
@@ -219,6 +225,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
             }
 
             doHandle(any, provision);
+            outcome = SyncopeMetrics.SUCCESS;
             return true;
         } catch (IgnoreProvisionException e) {
             ProvisioningReport ignoreResult = profile.getResults().stream().
@@ -238,10 +245,16 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
             ignoreResult.setMessage(e.getMessage());
 
             LOG.warn("Ignoring during push", e);
+            outcome = SyncopeMetrics.IGNORE;
             return true;
         } catch (JobExecutionException e) {
             LOG.error("Push failed", e);
             return false;
+        } finally {
+            SyncopeMetrics.stop(sample, SyncopeMetrics.PUSH,
+                    SyncopeMetrics.RESOURCE, profile.getTask().getResource().getKey(),
+                    SyncopeMetrics.OPERATION, "handle",
+                    SyncopeMetrics.OUTCOME, outcome);
         }
     }
 
@@ -256,15 +269,17 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         LOG.debug("Pushing {} with key {} towards {}",
                 any.getType().getKind(), any.getKey(), profile.getTask().getResource());
 
-        // Try to read remote object BEFORE any actual operation
+        // Try to read remote object BEFORE any actual operation, unless already read ahead
         Set<String> moreAttrsToGet = new HashSet<>();
         profile.getActions().forEach(action -> moreAttrsToGet.addAll(action.moreAttrsToGet(profile, any)));
-        List<ConnectorObject> connObjs = outboundMatcher.match(
+        List<ConnectorObject> connObjs = Optional.ofNullable(profile.getPrefetched().remove(any.getKey())).
+                map(prefetched -> prefetched.map(List::of).orElseGet(List::of)).
+                orElseGet(() -> outboundMatcher.match(
                 profile.getConnector(),
                 any,
                 profile.getTask().getResource(),
                 provision,
-                Optional.of(moreAttrsToGet.toArray(String[]::new)));
+                Optional.of(moreAttrsToGet.toArray(String[]::new))));
         LOG.debug("Match(es) found for {} as {}: {}", any, provision.getObjectClass(), connObjs);
 
         if (connObjs.size() > 1) {
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,6 +55,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionExceptio
 import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.pushpull.RealmPullResultHandler;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -96,6 +98,8 @@ public class DefaultRealmPullResultHandler
 
     @Override
     public boolean handle(final SyncDelta delta) {
+        Timer.Sample sample = SyncopeMetrics.start();
+        String outcome = SyncopeMetrics.FAILURE;
         try {
             OrgUnit orgUnit = Optional.ofNullable(profile.getTask().getResource().getOrgUnit()).
                     orElseThrow(() -> new JobExecutionException(
@@ -106,6 +110,7 @@ public class DefaultRealmPullResultHandler
 
             LOG.debug("Successfully handled {}", delta);
 
+            outcome = latestResult == Result.SUCCESS ? SyncopeMetrics.SUCCESS : SyncopeMetrics.FAILURE;
             if (profile.getTask().getPullMode() != PullMode.INCREMENTAL) {
                 return true;
             }
@@ -122,11 +127,17 @@ public class DefaultRealmPullResultHandler
 
             LOG.warn("Ignoring during pull", e);
 
+            outcome = SyncopeMetrics.IGNORE;
             return true;
         } catch (JobExecutionException e) {
             LOG.error("Pull failed", e);
 
             return false;
+        } finally {
+            SyncopeMetrics.stop(sample, SyncopeMetrics.PULL,
+                    SyncopeMetrics.RESOURCE, profile.getTask().getResource().getKey(),
+                    SyncopeMetrics.OPERATION, "handle",
+                    SyncopeMetrics.OUTCOME, outcome);
         }
     }
 
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -53,6 +54,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.RealmPushResultHandler;
 import org.apache.syncope.core.provisioning.java.job.AfterHandlingJob;
 import org.apache.syncope.core.provisioning.java.propagation.DefaultPropagationReporter;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
@@ -112,10 +114,13 @@ public class DefaultRealmPushResultHandler
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Override
     public boolean handle(final String realmKey) {
+        Timer.Sample sample = SyncopeMetrics.start();
+        String outcome = SyncopeMetrics.FAILURE;
         Realm realm = null;
         try {
             realm = realmDAO.findById(realmKey).orElseThrow(() -> new NotFoundException("Realm " + realmKey));
             doHandle(realm);
+            outcome = SyncopeMetrics.SUCCESS;
             return true;
         } catch (IgnoreProvisionException e) {
             ProvisioningReport result = new ProvisioningReport();
@@ -126,10 +131,16 @@ public class DefaultRealmPushResultHandler
             profile.getResults().add(result);
 
             LOG.warn("Ignoring during push", e);
+            outcome = SyncopeMetrics.IGNORE;
             return true;
         } catch (JobExecutionException e) {
             LOG.error("Push failed", e);
             return false;
+        } finally {
+            SyncopeMetrics.stop(sample, SyncopeMetrics.PUSH,
+                    SyncopeMetrics.RESOURCE, profile.getTask().getResource().getKey(),
+                    SyncopeMetrics.OPERATION, "handle",
+                    SyncopeMetrics.OUTCOME, outcome);
         }
     }
 
@@ -20,12 +20,14 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.syncope.common.lib.to.Item;
@@ -48,11 +50,13 @@ import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
 import org.apache.syncope.core.provisioning.api.rules.PushCorrelationRule;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.SearchResult;
 import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.common.objects.filter.FilterBuilder;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -90,7 +94,7 @@ public class OutboundMatcher {
         this.virAttrHandler = virAttrHandler;
     }
 
-    protected Optional<PushCorrelationRule> rule(final ExternalResource resource, final Provision provision) {
+    public Optional<PushCorrelationRule> rule(final ExternalResource resource, final Provision provision) {
         Optional<? extends PushCorrelationRuleEntity> correlationRule = resource.getPushPolicy() == null
                 ? Optional.empty()
                 : resource.getPushPolicy().getCorrelationRule(provision.getAnyType());
@@ -172,6 +176,80 @@ public class OutboundMatcher {
         return result;
     }
 
+    protected static String beforeConnObjectKeyValue(final PropagationTaskInfo taskInfo) {
+        return taskInfo.getOldConnObjectKey() == null
+                ? taskInfo.getConnObjectKey()
+                : taskInfo.getOldConnObjectKey();
+    }
+
+    /**
+     * Reads the remote objects for the given propagation tasks - all about the same resource and provision - with a
+     * single connector search; then marks each task as having its remote object read.
+     * Tasks are left untouched when a push correlation rule is defined for the given provision or when the search
+     * fails: their remote objects will be read one by one, as usual.
+     *
+     * @param taskInfos propagation tasks
+     * @param connector connector facade proxy
+     * @param provision provision
+     * @param actions propagation actions
+     */
+    @Transactional(readOnly = true)
+    public void prefetch(
+            final List<PropagationTaskInfo> taskInfos,
+            final Connector connector,
+            final Provision provision,
+            final List<PropagationActions> actions) {
+
+        if (taskInfos.isEmpty()) {
+            return;
+        }
+
+        ExternalResource resource = taskInfos.get(0).getResource();
+        Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        if (rule(resource, provision).isPresent() || connObjectKeyItem.isEmpty()) {
+            return;
+        }
+
+        Set<String> moreAttrsToGet = new HashSet<>();
+        taskInfos.forEach(taskInfo -> actions.forEach(
+                action -> moreAttrsToGet.addAll(action.moreAttrsToGet(Optional.of(taskInfo), provision))));
+
+        Map<String, ConnectorObject> objs;
+        try {
+            objs = matchByConnObjectKeyValues(
+                    connector,
+                    connObjectKeyItem.get(),
+                    taskInfos.stream().map(OutboundMatcher::beforeConnObjectKeyValue).collect(Collectors.toSet()),
+                    resource,
+                    provision,
+                    Optional.of(moreAttrsToGet.toArray(String[]::new)),
+                    Optional.empty());
+        } catch (RuntimeException e) {
+            LOG.warn("Could not prefetch {} remote objects from {}, reading them one by one",
+                    taskInfos.size(), resource.getKey(), e);
+            return;
+        }
+
+        taskInfos.forEach(taskInfo -> {
+            String connObjectKeyValue = beforeConnObjectKeyValue(taskInfo);
+            ConnectorObject obj = objs.get(provision.isIgnoreCaseMatch()
+                    ? connObjectKeyValue.toLowerCase()
+                    : connObjectKeyValue);
+            LOG.debug("Found for propagation task {}: {}", taskInfo, obj);
+
+            taskInfo.setBeforeObj(Optional.ofNullable(obj));
+            taskInfo.setBeforeObjFetched(true);
+
+            if (obj != null
+                    && !(taskInfo.getAnyTypeKind() == AnyTypeKind.USER
+                    && userDAO.linkedAccountExists(taskInfo.getEntityKey(), connObjectKeyValue))) {
+
+                anyUtilsFactory.getInstance(taskInfo.getAnyTypeKind()).dao().findById(taskInfo.getEntityKey()).
+                        ifPresent(any -> virAttrHandler.setValues(any, obj));
+            }
+        });
+    }
+
     protected List<PropagationActions> getPropagationActions(final ExternalResource resource) {
         List<PropagationActions> result = new ArrayList<>();
 
@@ -245,6 +323,74 @@ public class OutboundMatcher {
         return result;
     }
 
+    /**
+     * Reads the remote objects for the given entities with a single connector search.
+     * Nothing is returned when a push correlation rule is defined for the given provision or when the search fails:
+     * callers are expected to fall back to {@link #match(Connector, Any, ExternalResource, Provision, Optional,
+     * Item...)} for any entity not found in the returned map.
+     *
+     * @param connector connector facade proxy
+     * @param anys entities
+     * @param resource external resource
+     * @param provision provision
+     * @param moreAttrsToGet additional attributes to get
+     * @return remote objects, by entity key; empty value when no remote object was found
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Optional<ConnectorObject>> prefetch(
+            final Connector connector,
+            final List<? extends Any<?>> anys,
+            final ExternalResource resource,
+            final Provision provision,
+            final Optional<String[]> moreAttrsToGet) {
+
+        Optional<Item> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        if (anys.isEmpty() || rule(resource, provision).isPresent() || connObjectKeyItem.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, String> connObjectKeyValues = new HashMap<>();
+        anys.forEach(any -> mappingManager.getConnObjectKeyValue(any, resource, provision).
+                ifPresent(connObjectKeyValue -> connObjectKeyValues.put(any.getKey(), connObjectKeyValue)));
+        if (connObjectKeyValues.isEmpty()) {
+            return Map.of();
+        }
+
+        Stream<String> matgFromPropagationActions = getPropagationActions(resource).stream().
+                flatMap(a -> a.moreAttrsToGet(Optional.empty(), provision).stream());
+        Optional<String[]> effectiveMATG = Optional.of(Stream.concat(
+                moreAttrsToGet.stream().flatMap(Stream::of),
+                matgFromPropagationActions).toArray(String[]::new));
+
+        Map<String, ConnectorObject> objs;
+        try {
+            objs = matchByConnObjectKeyValues(
+                    connector,
+                    connObjectKeyItem.get(),
+                    new HashSet<>(connObjectKeyValues.values()),
+                    resource,
+                    provision,
+                    effectiveMATG,
+                    Optional.empty());
+        } catch (RuntimeException e) {
+            LOG.warn("Could not prefetch {} remote objects from {}, reading them one by one",
+                    connObjectKeyValues.size(), resource.getKey(), e);
+            return Map.of();
+        }
+
+        Map<String, Optional<ConnectorObject>> result = new HashMap<>();
+        anys.stream().filter(any -> connObjectKeyValues.containsKey(any.getKey())).forEach(any -> {
+            String connObjectKeyValue = connObjectKeyValues.get(any.getKey());
+            Optional<ConnectorObject> obj = Optional.ofNullable(objs.get(provision.isIgnoreCaseMatch()
+                    ? connObjectKeyValue.toLowerCase()
+                    : connObjectKeyValue));
+            obj.ifPresent(o -> virAttrHandler.setValues(any, o));
+
+            result.put(any.getKey(), obj);
+        });
+        return result;
+    }
+
     protected List<ConnectorObject> matchByCorrelationRule(
             final Connector connector,
             final Filter filter,
@@ -318,4 +464,79 @@ public class OutboundMatcher {
 
         return Optional.ofNullable(obj);
     }
+
+    /**
+     * Reads the remote objects matching any of the given connObjectKey values with a single connector search, by
+     * combining one equality filter per value in OR.
+     * Differently from other matching methods, any error is thrown to callers, which are expected to fall back to
+     * reading remote objects one by one; this includes the case of connectors not honoring the given filter, when
+     * more remote objects than requested are returned.
+     *
+     * @param connector connector facade proxy
+     * @param connObjectKeyItem connObjectKey mapping item
+     * @param connObjectKeyValues connObjectKey values
+     * @param resource external resource
+     * @param provision provision
+     * @param moreAttrsToGet additional attributes to get
+     * @param linkingItems linking mapping items
+     * @return remote objects, by connObjectKey value - lowercase when the provision matches ignoring case
+     */
+    public Map<String, ConnectorObject> matchByConnObjectKeyValues(
+            final Connector connector,
+            final Item connObjectKeyItem,
+            final Collection<String> connObjectKeyValues,
+            final ExternalResource resource,
+            final Provision provision,
+            final Optional<String[]> moreAttrsToGet,
+            final Optional<Collection<Item>> linkingItems) {
+
+        Map<String, ConnectorObject> objs = new HashMap<>();
+        if (connObjectKeyValues.isEmpty()) {
+            return objs;
+        }
+
+        Stream<Item> items = Stream.concat(
+                provision.getMapping().getItems().stream(),
+                linkingItems.isPresent()
+                ? linkingItems.get().stream()
+                : virSchemaDAO.findByResourceAndAnyType(resource.getKey(), provision.getAnyType()).stream().
+                        map(VirSchema::asLinkingMappingItem));
+
+        List<Filter> filters = connObjectKeyValues.stream().
+                map(value -> AttributeBuilder.build(connObjectKeyItem.getExtAttrName(), value)).
+                map(attr -> provision.isIgnoreCaseMatch()
+                ? FilterBuilder.equalsIgnoreCase(attr)
+                : FilterBuilder.equalTo(attr)).
+                toList();
+
+        connector.search(
+                new ObjectClass(provision.getObjectClass()),
+                filters.size() == 1 ? filters.get(0) : FilterBuilder.or(filters),
+                new SearchResultsHandler() {
+
+            private int count;
+
+            @Override
+            public void handleResult(final SearchResult result) {
+                // nothing to do
+            }
+
+            @Override
+            public boolean handle(final ConnectorObject connectorObject) {
+                if (++count > connObjectKeyValues.size()) {
+                    throw new IllegalStateException("More remote objects than requested were returned from "
+                            + resource.getKey() + ": is the search filter supported?");
+                }
+
+                Attribute connObjectKey = connectorObject.getAttributeByName(connObjectKeyItem.getExtAttrName());
+                if (connObjectKey != null && connObjectKey.getValue() != null && !connObjectKey.getValue().isEmpty()) {
+                    String value = connObjectKey.getValue().get(0).toString();
+                    objs.putIfAbsent(provision.isIgnoreCaseMatch() ? value.toLowerCase() : value, connectorObject);
+                }
+                return true;
+            }
+        }, MappingUtils.buildOperationOptions(items, moreAttrsToGet.orElse(null)));
+
+        return objs;
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Progress of a pull task execution in full or filtered reconciliation mode: for each object class, the paged results
+ * cookie to resume reading remote objects from, and how many were handled so far.
+ */
+public class PullCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 5903771295214372870L;
+
+    public static class Position implements Serializable {
+
+        private static final long serialVersionUID = -3119268839145020465L;
+
+        /**
+         * Paged results cookie of the next page to read; null if not started or done.
+         */
+        private String cookie;
+
+        /**
+         * Number of remote objects handled so far.
+         */
+        private long handled;
+
+        private boolean done;
+
+        public String getCookie() {
+            return cookie;
+        }
+
+        public void setCookie(final String cookie) {
+            this.cookie = cookie;
+        }
+
+        public long getHandled() {
+            return handled;
+        }
+
+        public void setHandled(final long handled) {
+            this.handled = handled;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        public void setDone(final boolean done) {
+            this.done = done;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).
+                    append(cookie).
+                    append(handled).
+                    append(done).
+                    build();
+        }
+    }
+
+    private final Map<String, Position> positions = new ConcurrentHashMap<>();
+
+    public Map<String, Position> getPositions() {
+        return positions;
+    }
+
+    public Position getPosition(final String objectClass) {
+        return positions.computeIfAbsent(objectClass, k -> new Position());
+    }
+
+    public boolean allDone() {
+        return positions.values().stream().allMatch(Position::isDone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).
+                append(positions).
+                build();
+    }
+}
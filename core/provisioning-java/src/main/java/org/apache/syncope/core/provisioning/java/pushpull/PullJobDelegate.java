@@ -27,6 +27,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
@@ -34,7 +37,9 @@ import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.OrgUnit;
 import org.apache.syncope.common.lib.to.Provision;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
+import org.apache.syncope.common.lib.types.PullMode;
 import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
@@ -61,6 +66,8 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPullResultHandler;
 import org.apache.syncope.core.provisioning.api.rules.PullMatch;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -68,6 +75,7 @@ import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.identityconnectors.framework.common.objects.SyncToken;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
@@ -90,6 +98,9 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
     @Autowired
     protected AnyUtilsFactory anyUtilsFactory;
 
+    @Autowired
+    protected ProvisioningProperties provisioningProperties;
+
     @Autowired
     protected PlainAttrValidationManager validator;
 
@@ -103,6 +114,10 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
     protected Optional<ReconFilterBuilder> perContextReconFilterBuilder = Optional.empty();
 
+    protected PullCheckpoint checkpoint;
+
+    protected long lastCheckpoint;
+
     @Override
     public void setLatestSyncToken(final String objectClass, final SyncToken latestSyncToken) {
         latestSyncTokens.put(objectClass, latestSyncToken);
@@ -125,6 +140,13 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                         append(k).
                         append(" / latest: ").append(v.getRight()).
                         append('\n'));
+                Optional.ofNullable(checkpoint).ifPresent(c -> c.getPositions().forEach((k, v) -> {
+                    if (v.getCookie() != null) {
+                        builder.append(" checkpoint\t").append(k).
+                                append(" / after: ").append(v.getHandled()).
+                                append('\n');
+                    }
+                }));
                 setStatus(builder.toString());
             }
         }
@@ -194,6 +216,98 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                 instance -> perContextReconFilterBuilder = Optional.of(instance));
     }
 
+    /**
+     * Reads and handles the remote objects of the given object class, one page at a time; the position reached is
+     * recorded after each page, and saved at most once every {@code provisioning.pull.checkpointInterval} and
+     * whenever the object class is done or reading stops, so that a later execution can resume from there if this
+     * one does not complete.
+     *
+     * @param objectClass object class
+     * @param dispatcher dispatcher
+     * @param options operation options
+     * @throws ClassNotFoundException if the reconciliation filter builder cannot be built
+     */
+    protected void reconcile(
+            final ObjectClass objectClass,
+            final PullResultHandlerDispatcher dispatcher,
+            final OperationOptions options) throws ClassNotFoundException {
+
+        ReconFilterBuilder filterBuilder = profile.getTask().getPullMode() == PullMode.FILTERED_RECONCILIATION
+                ? getReconFilterBuilder(profile.getTask())
+                : null;
+
+        PullCheckpoint.Position position = checkpoint.getPosition(objectClass.getObjectClassValue());
+        if (position.isDone()) {
+            LOG.info("{} was already pulled by a previous execution, skipping", objectClass);
+            return;
+        }
+
+        AtomicLong pageHandled = new AtomicLong(0);
+        AtomicBoolean progress = new AtomicBoolean(false);
+        SyncResultsHandler handler = delta -> {
+            pageHandled.incrementAndGet();
+            return dispatcher.handle(delta);
+        };
+        Consumer<String> checkpointer = cookie -> {
+            // with concurrent settings, handling might still be ongoing
+            dispatcher.await();
+
+            position.setCookie(cookie);
+            position.setHandled(position.getHandled() + pageHandled.getAndSet(0));
+            position.setDone(cookie == null);
+            progress.set(true);
+            checkpoint(position.isDone());
+        };
+
+        try {
+            if (position.getCookie() != null) {
+                setStatus("Resuming " + objectClass.getObjectClassValue() + " after " + position.getHandled());
+                try {
+                    profile.getConnector().pagedReconciliation(
+                            objectClass, filterBuilder, handler, options, position.getCookie(), checkpointer);
+                    return;
+                } catch (RuntimeException e) {
+                    if (progress.get()) {
+                        throw e;
+                    }
+
+                    // paged results cookies might not survive connector or resource restarts
+                    LOG.warn("Could not resume {} from checkpoint, starting over", objectClass, e);
+                    position.setCookie(null);
+                    position.setHandled(0);
+                    pageHandled.set(0);
+                }
+            }
+
+            profile.getConnector().pagedReconciliation(
+                    objectClass, filterBuilder, handler, options, null, checkpointer);
+        } finally {
+            if (!position.isDone()) {
+                // interrupted or failed: save the latest position reached, regardless of the interval
+                checkpoint(true);
+            }
+        }
+    }
+
+    /**
+     * Stores the current checkpoint, so that a later execution can resume from there.
+     *
+     * @param force whether to store regardless of {@code provisioning.pull.checkpointInterval}
+     */
+    protected void checkpoint(final boolean force) {
+        if (profile.isDryRun()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (!force && now - lastCheckpoint < provisioningProperties.getPull().getCheckpointInterval().toMillis()) {
+            return;
+        }
+
+        taskDAO.saveCheckpoint(TaskType.PULL, profile.getTask().getKey(), POJOHelper.serialize(checkpoint));
+        lastCheckpoint = now;
+    }
+
     protected RealmPullResultHandler buildRealmHandler() {
         return ApplicationContextProvider.getBeanFactory().createBean(DefaultRealmPullResultHandler.class);
     }
@@ -233,6 +347,12 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
         latestSyncTokens.clear();
 
+        checkpoint = Optional.ofNullable(pullTask.getCheckpoint()).
+                filter(c -> !dryRun && pullTask.getPullMode() != PullMode.INCREMENTAL).
+                map(c -> POJOHelper.deserialize(c, PullCheckpoint.class)).
+                orElseGet(PullCheckpoint::new);
+        lastCheckpoint = System.currentTimeMillis();
+
         if (!profile.isDryRun()) {
             for (PullActions action : profile.getActions()) {
                 action.beforeAll(profile);
@@ -280,18 +400,9 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                         break;
 
                     case FILTERED_RECONCILIATION:
-                        connector.filteredReconciliation(new ObjectClass(orgUnit.getObjectClass()),
-                                getReconFilterBuilder(pullTask),
-                                dispatcher,
-                                options);
-                        break;
-
                     case FULL_RECONCILIATION:
                     default:
-                        connector.fullReconciliation(
-                                new ObjectClass(orgUnit.getObjectClass()),
-                                dispatcher,
-                                options);
+                        reconcile(new ObjectClass(orgUnit.getObjectClass()), dispatcher, options);
                         break;
                 }
             } catch (Throwable t) {
@@ -363,18 +474,9 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                         break;
 
                     case FILTERED_RECONCILIATION:
-                        connector.filteredReconciliation(new ObjectClass(provision.getObjectClass()),
-                                getReconFilterBuilder(pullTask),
-                                dispatcher,
-                                options);
-                        break;
-
                     case FULL_RECONCILIATION:
                     default:
-                        connector.fullReconciliation(
-                                new ObjectClass(provision.getObjectClass()),
-                                dispatcher,
-                                options);
+                        reconcile(new ObjectClass(provision.getObjectClass()), dispatcher, options);
                 }
             } catch (Throwable t) {
                 throw new JobExecutionException("While pulling from connector", t);
@@ -426,6 +528,14 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
             }
         }
 
+        if (!profile.isDryRun() && pullTask.getPullMode() != PullMode.INCREMENTAL
+                && !interrupt && checkpoint.allDone()) {
+
+            // progress was saved in separate transactions, so pullTask might not know of any checkpoint
+            pullTask.setCheckpoint(null);
+            taskDAO.saveCheckpoint(TaskType.PULL, pullTask.getKey(), null);
+        }
+
         setStatus("Pull done");
 
         String result = createReport(profile.getResults(), pullTask.getResource(), dryRun);
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Progress of a push task execution: for each any type, the key ranges which entities were split into, and how far
+ * each range was pushed.
+ */
+public class PushCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = -2946209441526337286L;
+
+    public static class Range implements Serializable {
+
+        private static final long serialVersionUID = 4216092137420315376L;
+
+        /**
+         * Lower bound, inclusive; null if unbounded.
+         */
+        private String lower;
+
+        /**
+         * Upper bound, exclusive; null if unbounded.
+         */
+        private String upper;
+
+        /**
+         * Key of the latest entity pushed.
+         */
+        private String last;
+
+        private boolean done;
+
+        public String getLower() {
+            return lower;
+        }
+
+        public void setLower(final String lower) {
+            this.lower = lower;
+        }
+
+        public String getUpper() {
+            return upper;
+        }
+
+        public void setUpper(final String upper) {
+            this.upper = upper;
+        }
+
+        public String getLast() {
+            return last;
+        }
+
+        public void setLast(final String last) {
+            this.last = last;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        public void setDone(final boolean done) {
+            this.done = done;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).
+                    append(lower).
+                    append(upper).
+                    append(last).
+                    append(done).
+                    build();
+        }
+    }
+
+    private final Map<String, List<Range>> ranges = new LinkedHashMap<>();
+
+    public Map<String, List<Range>> getRanges() {
+        return ranges;
+    }
+
+    public List<Range> getRanges(final String anyType) {
+        return ranges.computeIfAbsent(anyType, k -> new ArrayList<>());
+    }
+
+    public boolean allDone() {
+        return ranges.values().stream().flatMap(List::stream).allMatch(Range::isDone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).
+                append(ranges).
+                build();
+    }
+}
@@ -19,20 +19,28 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
+import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -54,13 +62,19 @@ import org.apache.syncope.core.provisioning.api.pushpull.RealmPushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
 
 public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> implements SyncopePushExecutor {
 
@@ -76,21 +90,44 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
     @Autowired
     protected SearchCondVisitor searchCondVisitor;
 
+    @Autowired
+    protected OutboundMatcher outboundMatcher;
+
+    @Autowired
+    protected ProvisioningProperties provisioningProperties;
+
+    @Autowired
+    protected TransactionTemplate transactionTemplate;
+
     protected ProvisioningProfile<PushTask, PushActions> profile;
 
     protected final Map<String, MutablePair<Integer, String>> handled = new ConcurrentHashMap<>();
 
     protected final Map<String, PushActions> perContextActions = new ConcurrentHashMap<>();
 
+    protected PushCheckpoint checkpoint;
+
+    /**
+     * Whether progress is to be saved with the task, for later executions to resume from there.
+     */
+    protected boolean resumable;
+
+    protected volatile long lastCheckpoint;
+
+    /**
+     * Full path of the task's source realm, resolved once before pushing: the realm entity itself is reloaded in
+     * each transaction reading entities, as those may run on different threads.
+     */
+    protected String sourceRealm;
+
     @Override
     public void reportHandled(final String anyType, final String key) {
-        MutablePair<Integer, String> pair = handled.get(anyType);
-        if (pair == null) {
-            pair = MutablePair.of(0, null);
-            handled.put(anyType, pair);
-        }
-        pair.setLeft(pair.getLeft() + 1);
-        pair.setRight(key);
+        handled.compute(anyType, (k, v) -> {
+            MutablePair<Integer, String> pair = v == null ? MutablePair.of(0, null) : v;
+            pair.setLeft(pair.getLeft() + 1);
+            pair.setRight(key);
+            return pair;
+        });
 
         if (!handled.isEmpty()) {
             StringBuilder builder = new StringBuilder("Processed:\n");
@@ -130,6 +167,265 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
         return result;
     }
 
+    /**
+     * Reads the remote objects for the given entities ahead of handling, with one connector search per chunk of
+     * {@code provisioning.propagation.prefetchChunkSize} entities.
+     *
+     * @param anys entities about to be handled
+     * @param provision provision
+     */
+    protected void prefetch(final List<? extends Any<?>> anys, final Provision provision) {
+        int chunkSize = provisioningProperties.getPropagation().getPrefetchChunkSize();
+        if (chunkSize <= 0) {
+            return;
+        }
+
+        Set<String> moreAttrsToGet = new HashSet<>();
+        anys.forEach(any -> profile.getActions().
+                forEach(action -> moreAttrsToGet.addAll(action.moreAttrsToGet(profile, any))));
+
+        for (int i = 0; i < anys.size(); i += chunkSize) {
+            profile.getPrefetched().putAll(outboundMatcher.prefetch(
+                    profile.getConnector(),
+                    anys.subList(i, Math.min(i + chunkSize, anys.size())),
+                    profile.getTask().getResource(),
+                    provision,
+                    Optional.of(moreAttrsToGet.toArray(String[]::new))));
+        }
+    }
+
+    /**
+     * Splits the entities matching the given condition into {@code provisioning.push.partitions} key ranges of
+     * about the same size.
+     *
+     * @param cond search condition
+     * @param kind any type kind
+     * @return key ranges, covering all matching entities
+     */
+    protected List<PushCheckpoint.Range> split(final SearchCond cond, final AnyTypeKind kind) {
+        int partitions = provisioningProperties.getPush().getPartitions();
+
+        List<String> bounds = new ArrayList<>();
+        if (partitions > 1) {
+            Realm base = sourceRealm();
+            int count = searchDAO.count(base, true, Set.of(sourceRealm), cond, kind);
+            for (int i = 1; i < partitions && count >= partitions; i++) {
+                searchDAO.search(
+                        base,
+                        true,
+                        Set.of(sourceRealm),
+                        cond,
+                        PageRequest.of((int) ((long) i * count / partitions), 1, Sort.by("key")),
+                        kind).stream().findFirst().
+                        filter(any -> bounds.isEmpty() || !bounds.getLast().equals(any.getKey())).
+                        ifPresent(any -> bounds.add(any.getKey()));
+            }
+        }
+
+        List<PushCheckpoint.Range> ranges = new ArrayList<>();
+        for (int i = 0; i <= bounds.size(); i++) {
+            PushCheckpoint.Range range = new PushCheckpoint.Range();
+            range.setLower(i == 0 ? null : bounds.get(i - 1));
+            range.setUpper(i == bounds.size() ? null : bounds.get(i));
+            ranges.add(range);
+        }
+        return ranges;
+    }
+
+    protected Realm sourceRealm() {
+        return realmDAO.findByFullPath(sourceRealm).
+                orElseThrow(() -> new NotFoundException("Realm " + sourceRealm));
+    }
+
+    protected static SearchCond keyCond(final AttrCond.Type type, final String key) {
+        AnyCond keyCond = new AnyCond(type);
+        keyCond.setSchema("key");
+        keyCond.setExpression(key);
+        return SearchCond.getLeaf(keyCond);
+    }
+
+    /**
+     * Pushes the entities in the given range, in key order and one page at a time, recording progress in the
+     * checkpoint after each page; the checkpoint is saved at most once every
+     * {@code provisioning.push.checkpointInterval}, and whenever the range is done or the push stops.
+     *
+     * @param range key range
+     * @param cond search condition
+     * @param kind any type kind
+     * @param provision provision
+     * @param dispatcher dispatcher
+     * @return whether the push shall continue
+     * @throws JobExecutionException if anything goes wrong
+     */
+    protected boolean push(
+            final PushCheckpoint.Range range,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final Provision provision,
+            final PushResultHandlerDispatcher dispatcher) throws JobExecutionException {
+
+        boolean result = true;
+        try {
+            while (result && !range.isDone()) {
+                List<SearchCond> conds = new ArrayList<>();
+                conds.add(cond);
+                synchronized (checkpoint) {
+                    if (range.getLast() != null) {
+                        conds.add(keyCond(AttrCond.Type.GT, range.getLast()));
+                    } else if (range.getLower() != null) {
+                        conds.add(keyCond(AttrCond.Type.GE, range.getLower()));
+                    }
+                    if (range.getUpper() != null) {
+                        conds.add(keyCond(AttrCond.Type.LT, range.getUpper()));
+                    }
+                }
+
+                List<? extends Any<?>> anys = transactionTemplate.execute(status -> {
+                    List<? extends Any<?>> page = searchDAO.search(
+                            sourceRealm(),
+                            true,
+                            Set.of(sourceRealm),
+                            SearchCond.getAnd(conds),
+                            PageRequest.of(0, AnyDAO.DEFAULT_PAGE_SIZE, Sort.by("key")),
+                            kind);
+                    prefetch(page, provision);
+                    return page;
+                });
+
+                result = doHandle(anys, dispatcher, profile.getTask().getResource());
+                if (result) {
+                    // with concurrent settings, handling might still be ongoing: the range cannot move past
+                    // entities which are not pushed yet
+                    dispatcher.await();
+
+                    synchronized (checkpoint) {
+                        if (!anys.isEmpty()) {
+                            range.setLast(anys.getLast().getKey());
+                        }
+                        range.setDone(anys.size() < AnyDAO.DEFAULT_PAGE_SIZE);
+                    }
+                    checkpoint(range.isDone());
+                }
+            }
+        } finally {
+            if (!result || !range.isDone()) {
+                checkpoint(true);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Pushes the entities in the given ranges, in parallel when more than one range is still to be done.
+     *
+     * @param ranges key ranges
+     * @param cond search condition
+     * @param kind any type kind
+     * @param provision provision
+     * @param dispatcher dispatcher
+     * @return whether the push shall continue
+     * @throws JobExecutionException if anything goes wrong
+     */
+    protected boolean push(
+            final List<PushCheckpoint.Range> ranges,
+            final SearchCond cond,
+            final AnyTypeKind kind,
+            final Provision provision,
+            final PushResultHandlerDispatcher dispatcher) throws JobExecutionException {
+
+        List<PushCheckpoint.Range> todo = ranges.stream().filter(range -> !range.isDone()).toList();
+        if (todo.size() <= 1) {
+            for (PushCheckpoint.Range range : todo) {
+                if (!push(range, cond, kind, provision, dispatcher)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        VirtualThreadPoolTaskExecutor executor = new VirtualThreadPoolTaskExecutor();
+        executor.setPoolSize(todo.size());
+        executor.setThreadNamePrefix("pushTask-" + profile.getTask().getKey() + "-");
+        executor.initialize();
+
+        String domain = AuthContextUtils.getDomain();
+        AtomicBoolean proceed = new AtomicBoolean(true);
+        try {
+            List<Future<Boolean>> futures = todo.stream().map(range -> executor.submit(
+                    () -> AuthContextUtils.callAsAdmin(domain, () -> {
+                        boolean result = proceed.get() && push(range, cond, kind, provision, dispatcher);
+                        if (!result) {
+                            proceed.set(false);
+                        }
+                        return result;
+                    }))).toList();
+
+            boolean result = true;
+            for (Future<Boolean> future : futures) {
+                try {
+                    result &= future.get();
+                } catch (ExecutionException e) {
+                    proceed.set(false);
+                    if (e.getCause() instanceof JobExecutionException jee) {
+                        throw jee;
+                    }
+                    throw new JobExecutionException("While pushing " + kind, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new JobExecutionException("While pushing " + kind, e);
+                }
+            }
+            return result;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Stores the current checkpoint, so that a later execution can resume from there; ranges are serialized while
+     * holding the checkpoint lock, which workers take when updating them.
+     *
+     * @param force whether to store regardless of {@code provisioning.push.checkpointInterval}
+     */
+    protected void checkpoint(final boolean force) {
+        if (!resumable) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (!force && now - lastCheckpoint < provisioningProperties.getPush().getCheckpointInterval().toMillis()) {
+            return;
+        }
+
+        String snapshot;
+        synchronized (checkpoint) {
+            snapshot = POJOHelper.serialize(checkpoint);
+        }
+        synchronized (this) {
+            taskDAO.saveCheckpoint(TaskType.PUSH, profile.getTask().getKey(), snapshot);
+            lastCheckpoint = now;
+        }
+    }
+
+    /**
+     * Reads the checkpoint left by a previous execution of the given task, if {@code provisioning.push.resume} is
+     * enabled.
+     *
+     * @param pushTask push task
+     * @param dryRun whether this execution is a dry run
+     * @return checkpoint to start from
+     */
+    protected PushCheckpoint loadCheckpoint(final PushTask pushTask, final boolean dryRun) {
+        resumable = provisioningProperties.getPush().isResume() && !dryRun;
+        lastCheckpoint = System.currentTimeMillis();
+
+        return Optional.ofNullable(pushTask.getCheckpoint()).
+                filter(c -> resumable).
+                map(c -> POJOHelper.deserialize(c, PushCheckpoint.class)).
+                orElseGet(PushCheckpoint::new);
+    }
+
     protected RealmPushResultHandler buildRealmHandler() {
         return ApplicationContextProvider.getBeanFactory().createBean(DefaultRealmPushResultHandler.class);
     }
@@ -190,6 +486,9 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
             }
         }
 
+        sourceRealm = pushTask.getSourceRealm().getFullPath();
+        checkpoint = loadCheckpoint(pushTask, dryRun);
+
         setStatus("Initialization completed");
 
         // First realms...
@@ -203,8 +502,7 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
             });
 
             // Never push the root realm
-            List<Realm> realms = realmDAO.findDescendants(
-                    profile.getTask().getSourceRealm().getFullPath(), null, Pageable.unpaged()).stream().
+            List<Realm> realms = realmDAO.findDescendants(sourceRealm, null, Pageable.unpaged()).stream().
                     filter(realm -> realm.getParent() != null).toList();
             boolean result = true;
             for (int i = 0; i < realms.size() && result; i++) {
@@ -255,26 +553,23 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> i
             SearchCond cond = StringUtils.isBlank(filter)
                     ? anyDAO.getAllMatchingCond()
                     : SearchCondConverter.convert(searchCondVisitor, filter);
-            int count = searchDAO.count(
-                    profile.getTask().getSourceRealm(),
-                    true,
-                    Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                    cond,
-                    anyType.getKind());
-            boolean result = true;
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE) && result; page++) {
-                List<? extends Any<?>> anys = searchDAO.search(
-                        profile.getTask().getSourceRealm(),
-                        true,
-                        Set.of(profile.getTask().getSourceRealm().getFullPath()),
-                        cond,
-                        PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE),
-                        anyType.getKind());
-                result = doHandle(anys, dispatcher, pushTask.getResource());
+
+            List<PushCheckpoint.Range> ranges = checkpoint.getRanges(anyType.getKey());
+            if (ranges.isEmpty()) {
+                ranges.addAll(split(cond, anyType.getKind()));
             }
+
+            push(ranges, cond, anyType.getKind(), provision, dispatcher);
         }
 
         dispatcher.shutdown();
+        profile.getPrefetched().clear();
+
+        if (resumable && checkpoint.allDone()) {
+            // progress was saved in separate transactions, so pushTask might not know of any checkpoint
+            pushTask.setCheckpoint(null);
+            taskDAO.saveCheckpoint(TaskType.PUSH, pushTask.getKey(), null);
+        }
 
         if (!profile.isDryRun()) {
             for (PushActions action : profile.getActions()) {
@@ -19,6 +19,8 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -55,7 +57,7 @@ public abstract class SyncopeResultHandlerDispatcher<
 
     protected final Map<String, RA> handlers = new ConcurrentHashMap<>();
 
-    protected final List<Future<?>> futures = new ArrayList<>();
+    protected final List<Future<?>> futures = Collections.synchronizedList(new ArrayList<>());
 
     protected SyncopeResultHandlerDispatcher(final ProvisioningProfile<T, A> profile) {
         if (profile.getTask().getConcurrentSettings() == null) {
@@ -102,8 +104,17 @@ public abstract class SyncopeResultHandlerDispatcher<
         tpte.ifPresent(executor -> futures.add(executor.submit(runnable)));
     }
 
-    protected void shutdown() {
-        for (Future<?> f : this.futures) {
+    /**
+     * Waits for the handling submitted so far to complete; submitted handling is forgotten only once complete, so
+     * that concurrent callers - as ranges pushed in parallel - all wait for it.
+     */
+    public void await() {
+        List<Future<?>> submitted;
+        synchronized (futures) {
+            submitted = new ArrayList<>(futures);
+        }
+
+        for (Future<?> f : submitted) {
             try {
                 f.get();
             } catch (ExecutionException | InterruptedException e) {
@@ -111,6 +122,12 @@ public abstract class SyncopeResultHandlerDispatcher<
             }
         }
 
+        futures.removeAll(new HashSet<>(submitted));
+    }
+
+    public void shutdown() {
+        await();
+
         tpte.ifPresent(VirtualThreadPoolTaskExecutor::shutdown);
     }
 }
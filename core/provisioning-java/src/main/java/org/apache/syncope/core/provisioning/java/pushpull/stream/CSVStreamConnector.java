@@ -77,6 +77,8 @@ public class CSVStreamConnector implements Connector, AutoCloseable {
 
     private SequenceWriter writer;
 
+    private int record;
+
     public CSVStreamConnector(
             final String keyColumn,
             final String arrayElementsSeparator,
@@ -114,6 +116,25 @@ public class CSVStreamConnector implements Connector, AutoCloseable {
         return reader;
     }
 
+    /**
+     * Skips the given number of rows, for resuming a previous pull which did not complete; rows read afterwards keep
+     * their position in the whole CSV stream.
+     *
+     * @param rows number of rows to skip
+     * @return number of rows actually skipped, less than requested if the stream contains less rows
+     * @throws IOException if the CSV stream cannot be read
+     */
+    public int skip(final int rows) throws IOException {
+        int skipped = 0;
+        synchronized (this) {
+            for (; skipped < rows && reader().hasNext(); skipped++) {
+                reader().next();
+                record++;
+            }
+        }
+        return skipped;
+    }
+
     public List<String> getColumns(final CSVPullSpec spec) throws IOException {
         List<String> fromSpec = new ArrayList<>();
         ((CsvSchema) reader().getParserSchema()).forEach(column -> {
@@ -185,7 +206,10 @@ public class CSVStreamConnector implements Connector, AutoCloseable {
             }
         });
         try {
-            writer().write(row);
+            SequenceWriter sw = writer();
+            synchronized (sw) {
+                sw.write(row);
+            }
         } catch (IOException e) {
             throw new ConnectorException("Could not write object " + row, e);
         }
@@ -260,8 +284,9 @@ public class CSVStreamConnector implements Connector, AutoCloseable {
         SearchResult result = new SearchResult();
 
         try {
-            for (int record = 1; reader().hasNext(); record++) {
+            while (reader().hasNext()) {
                 Map<String, String> row = reader().next();
+                record++;
 
                 String keyValue = row.get(keyColumn);
                 if (StringUtils.isBlank(keyValue)) {
@@ -51,8 +51,10 @@ import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.stream.SyncopeStreamPullExecutor;
 import org.apache.syncope.core.provisioning.java.pushpull.PullJobDelegate;
+import org.apache.syncope.core.provisioning.java.pushpull.PullResultHandlerDispatcher;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.identityconnectors.framework.common.objects.Name;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -65,6 +67,17 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
     @Autowired
     private RealmDAO realmDAO;
 
+    protected Throughput throughput;
+
+    @Override
+    public void reportHandled(final String objectClass, final Name name) {
+        super.reportHandled(objectClass, name);
+
+        if (throughput.increment() % Throughput.REPORT_INTERVAL == 0) {
+            LOG.info("Stream pull in progress: {}", throughput);
+        }
+    }
+
     private PullPolicy pullPolicy(
             final AnyType anyType,
             final ConflictResolutionAction conflictResolutionAction,
@@ -194,22 +207,28 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
                 action.beforeAll(profile);
             }
 
-            SyncopePullResultHandler handler;
+            task.setConcurrentSettings(pullTaskTO.getConcurrentSettings());
+            PullResultHandlerDispatcher dispatcher = new PullResultHandlerDispatcher(profile, this);
+
             GroupPullResultHandler ghandler = buildGroupHandler();
-            switch (anyType.getKind()) {
-                case USER:
-                    handler = buildUserHandler();
-                    break;
-
-                case GROUP:
-                    handler = ghandler;
-                    break;
-
-                case ANY_OBJECT:
-                default:
-                    handler = buildAnyObjectHandler();
-            }
-            handler.setProfile(profile);
+            dispatcher.addHandlerSupplier(provision.getObjectClass(), () -> {
+                SyncopePullResultHandler handler;
+                switch (anyType.getKind()) {
+                    case USER:
+                        handler = buildUserHandler();
+                        break;
+
+                    case GROUP:
+                        handler = ghandler;
+                        break;
+
+                    case ANY_OBJECT:
+                    default:
+                        handler = buildAnyObjectHandler();
+                }
+                handler.setProfile(profile);
+                return handler;
+            });
 
             // execute filtered pull
             Set<String> moreAttrsToGet = new HashSet<>();
@@ -220,10 +239,16 @@ public class StreamPullJobDelegate extends PullJobDelegate implements SyncopeStr
                     virSchemaDAO.findByResourceAndAnyType(resource.getKey(), anyType.getKey()).stream().
                             map(VirSchema::asLinkingMappingItem));
 
-            connector.fullReconciliation(
-                    new ObjectClass(provision.getObjectClass()),
-                    handler,
-                    MappingUtils.buildOperationOptions(mapItems, moreAttrsToGet.toArray(String[]::new)));
+            throughput = new Throughput();
+            try {
+                connector.fullReconciliation(
+                        new ObjectClass(provision.getObjectClass()),
+                        dispatcher,
+                        MappingUtils.buildOperationOptions(mapItems, moreAttrsToGet.toArray(String[]::new)));
+            } finally {
+                dispatcher.shutdown();
+            }
+            LOG.info("Stream pull completed: {}", throughput);
 
             try {
                 setGroupOwners(ghandler);
@@ -18,8 +18,10 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull.stream;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.Mapping;
 import org.apache.syncope.common.lib.to.Provision;
@@ -55,6 +57,17 @@ public class StreamPushJobDelegate extends PushJobDelegate implements SyncopeStr
     @Autowired
     private ImplementationDAO implementationDAO;
 
+    protected Throughput throughput;
+
+    @Override
+    public void reportHandled(final String anyType, final String key) {
+        super.reportHandled(anyType, key);
+
+        if (throughput.increment() % Throughput.REPORT_INTERVAL == 0) {
+            LOG.info("Stream push in progress: {}", throughput);
+        }
+    }
+
     @Override
     protected AnyObjectPushResultHandler buildAnyObjectHandler() {
         return ApplicationContextProvider.getBeanFactory().createBean(StreamAnyObjectPushResultHandler.class);
@@ -116,7 +129,7 @@ public class StreamPushJobDelegate extends PushJobDelegate implements SyncopeStr
     @Override
     public List<ProvisioningReport> push(
             final AnyType anyType,
-            final List<? extends Any<?>> anys,
+            final Stream<? extends Any<?>> anys,
             final List<String> columns,
             final Connector connector,
             final List<String> propagationActions,
@@ -145,6 +158,8 @@ public class StreamPushJobDelegate extends PushJobDelegate implements SyncopeStr
                     toList()));
             profile.setConflictResolutionAction(ConflictResolutionAction.FIRSTMATCH);
 
+            task.setConcurrentSettings(pushTaskTO.getConcurrentSettings());
+
             PushResultHandlerDispatcher dispatcher = new PushResultHandlerDispatcher(profile, this);
 
             for (PushActions action : profile.getActions()) {
@@ -170,7 +185,16 @@ public class StreamPushJobDelegate extends PushJobDelegate implements SyncopeStr
                 return handler;
             });
 
-            doHandle(anys, dispatcher, resource);
+            throughput = new Throughput();
+            try {
+                Iterator<? extends Any<?>> itor = anys.iterator();
+                for (boolean result = true; result && itor.hasNext();) {
+                    result = doHandle(List.of(itor.next()), dispatcher, resource);
+                }
+            } finally {
+                dispatcher.shutdown();
+            }
+            LOG.info("Stream push completed: {}", throughput);
 
             for (PushActions action : profile.getActions()) {
                 action.afterAll(profile);
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull.stream;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of how many CSV rows were processed, and how fast.
+ */
+public class Throughput {
+
+    /**
+     * Number of rows between progress reports.
+     */
+    public static final long REPORT_INTERVAL = 10000;
+
+    protected final long start = System.nanoTime();
+
+    protected final AtomicLong rows = new AtomicLong();
+
+    /**
+     * Records one more row processed.
+     *
+     * @return number of rows processed so far
+     */
+    public long increment() {
+        return rows.incrementAndGet();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    /**
+     * @return rows processed per second
+     */
+    public double getRate() {
+        long elapsed = System.nanoTime() - start;
+        return elapsed == 0 ? 0 : rows.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rows, %.1f rows/s", rows.get(), getRate());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter.BreakerState;
+import org.apache.syncope.core.provisioning.api.ResourceLimiterStatus;
+import org.apache.syncope.core.provisioning.api.ResourceUnavailableException;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.identityconnectors.framework.common.exceptions.AlreadyExistsException;
+import org.junit.jupiter.api.Test;
+
+public class AIMDResourceLimiterTest {
+
+    private static final String RESOURCE = "resource-test";
+
+    private static AIMDResourceLimiter limiter(final int initialLimit, final Duration openDuration) {
+        return new AIMDResourceLimiter(
+                initialLimit, 1, 100, 0.5, 2.0, Duration.ofMillis(200), 3, openDuration);
+    }
+
+    private static String fail() {
+        throw new TimeoutException("Request timeout");
+    }
+
+    @Test
+    public void breaker() throws InterruptedException {
+        AIMDResourceLimiter limiter = limiter(10, Duration.ofMillis(300));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(TimeoutException.class, () -> limiter.call(RESOURCE, AIMDResourceLimiterTest::fail));
+        }
+        assertEquals(BreakerState.OPEN, limiter.getStatus(RESOURCE).orElseThrow().getBreakerState());
+        assertFalse(limiter.isAvailable(RESOURCE));
+
+        // calls are not even attempted while open
+        AtomicInteger attempted = new AtomicInteger();
+        assertThrows(ResourceUnavailableException.class, () -> limiter.call(RESOURCE, attempted::incrementAndGet));
+        assertEquals(0, attempted.get());
+
+        // trial call after open duration, failing: open again
+        Thread.sleep(400);
+        assertTrue(limiter.isAvailable(RESOURCE));
+        assertThrows(TimeoutException.class, () -> limiter.call(RESOURCE, AIMDResourceLimiterTest::fail));
+        assertEquals(BreakerState.OPEN, limiter.getStatus(RESOURCE).orElseThrow().getBreakerState());
+
+        // trial call after open duration, successful: closed
+        Thread.sleep(400);
+        assertEquals(1, limiter.call(RESOURCE, attempted::incrementAndGet));
+
+        ResourceLimiterStatus status = limiter.getStatus(RESOURCE).orElseThrow();
+        assertEquals(BreakerState.CLOSED, status.getBreakerState());
+        assertEquals(5, status.getCalls());
+        assertEquals(4, status.getFailures());
+        assertEquals(1, status.getRejected());
+        assertEquals(0, status.getInFlight());
+    }
+
+    @Test
+    public void errorsFromResourceAreNotFailures() {
+        AIMDResourceLimiter limiter = limiter(10, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(AlreadyExistsException.class, () -> limiter.call(RESOURCE, () -> {
+                throw new AlreadyExistsException();
+            }));
+        }
+
+        ResourceLimiterStatus status = limiter.getStatus(RESOURCE).orElseThrow();
+        assertEquals(BreakerState.CLOSED, status.getBreakerState());
+        assertEquals(0, status.getFailures());
+        assertTrue(limiter.isAvailable(RESOURCE));
+    }
+
+    @Test
+    public void concurrencyLimit() throws Exception {
+        AIMDResourceLimiter limiter = limiter(2, Duration.ofMinutes(1));
+
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch proceed = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> call1 = executor.submit(() -> limiter.call(RESOURCE, () -> {
+                started.countDown();
+                try {
+                    return proceed.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            Future<?> call2 = executor.submit(() -> limiter.call(RESOURCE, () -> {
+                started.countDown();
+                try {
+                    return proceed.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(2, limiter.getStatus(RESOURCE).orElseThrow().getInFlight());
+
+            // third call waits for maxWait, then gets rejected
+            assertThrows(ResourceUnavailableException.class, () -> limiter.call(RESOURCE, () -> true));
+
+            proceed.countDown();
+            call1.get(5, TimeUnit.SECONDS);
+            call2.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ResourceLimiterStatus status = limiter.getStatus(RESOURCE).orElseThrow();
+        assertEquals(0, status.getInFlight());
+        assertEquals(1, status.getRejected());
+        assertTrue(limiter.call(RESOURCE, () -> true));
+    }
+
+    @Test
+    public void aimd() {
+        AIMDResourceLimiter limiter = limiter(4, Duration.ofMinutes(1));
+
+        // additive increase does not happen while far from the limit
+        for (int i = 0; i < 10; i++) {
+            limiter.call(RESOURCE, () -> true);
+        }
+        assertEquals(4, limiter.getStatus(RESOURCE).orElseThrow().getLimit());
+
+        // multiplicative decrease on failure
+        assertThrows(TimeoutException.class, () -> limiter.call(RESOURCE, AIMDResourceLimiterTest::fail));
+        assertEquals(2, limiter.getStatus(RESOURCE).orElseThrow().getLimit());
+
+        limiter.reset(RESOURCE);
+        assertTrue(limiter.getStatus(RESOURCE).isEmpty());
+    }
+}
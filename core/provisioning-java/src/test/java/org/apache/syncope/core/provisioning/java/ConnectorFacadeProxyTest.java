@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.syncope.common.lib.types.ConnectorCapability;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.provisioning.api.ResourceUnavailableException;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.identityconnectors.framework.api.ConnectorFacade;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class ConnectorFacadeProxyTest extends AbstractTest {
+
+    private static final String RESOURCE = "resource-test";
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Mock
+    private AsyncConnectorFacade asyncFacade;
+
+    @Mock
+    private ConnectorFacade facade;
+
+    private ExecutorService executor;
+
+    private AIMDResourceLimiter limiter;
+
+    private ConnectorFacadeProxy proxy;
+
+    @BeforeEach
+    public void before() {
+        executor = Executors.newSingleThreadExecutor();
+
+        // a single permit, not waited for
+        limiter = new AIMDResourceLimiter(1, 1, 1, 0.5, 2.0, Duration.ofMillis(100), 3, Duration.ofMinutes(1));
+
+        ConnInstance connInstance = resourceDAO.findById("resource-csv").orElseThrow().getConnector();
+        connInstance.getCapabilities().add(ConnectorCapability.CREATE);
+        connInstance.setConnRequestTimeout(1);
+
+        proxy = new ConnectorFacadeProxy(connInstance, asyncFacade, RESOURCE, limiter);
+        ReflectionTestUtils.setField(proxy, "connector", facade);
+
+        when(asyncFacade.create(any(ConnectorFacade.class), any(ObjectClass.class), any(), any())).
+                thenAnswer(ic -> executor.submit(() -> ic.<ConnectorFacade>getArgument(0).create(
+                ic.getArgument(1), ic.getArgument(2), ic.getArgument(3))));
+    }
+
+    @AfterEach
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    private void create() {
+        proxy.create(ObjectClass.ACCOUNT, Set.of(), null, new AtomicReference<>());
+    }
+
+    private int inFlight() {
+        return limiter.getStatus(RESOURCE).orElseThrow().getInFlight();
+    }
+
+    @Test
+    public void permitHeldUntilConnIdCallIsOver() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        when(facade.create(any(ObjectClass.class), any(), any())).thenAnswer(ic -> {
+            running.countDown();
+            // ignore the interruption sent on timeout, as ConnId calls can do
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (proceed.getCount() > 0 && System.currentTimeMillis() < deadline) {
+                try {
+                    proceed.await(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    // keep going
+                }
+            }
+            return new Uid("uid");
+        });
+
+        assertThrows(TimeoutException.class, this::create);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // the ConnId call is still running, thus holding the only permit
+        assertEquals(1, inFlight());
+        assertThrows(ResourceUnavailableException.class, this::create);
+
+        proceed.countDown();
+        for (int i = 0; i < 50 && inFlight() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, inFlight());
+    }
+
+    @Test
+    public void permitReleasedWhenNotStarted() throws InterruptedException {
+        // keep the only executor thread busy, so that the ConnId call cannot start before timeout
+        CountDownLatch busy = new CountDownLatch(1);
+        executor.submit(() -> {
+            busy.await();
+            return null;
+        });
+
+        assertThrows(TimeoutException.class, this::create);
+        assertEquals(0, inFlight());
+
+        busy.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        verify(facade, never()).create(any(ObjectClass.class), any(), any(OperationOptions.class));
+    }
+}
@@ -19,14 +19,24 @@
 package org.apache.syncope.core.provisioning.java;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorLoadingStatus;
+import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.spring.task.VirtualThreadPoolTaskExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
@@ -38,11 +48,33 @@ public class ConnectorManagerTest extends AbstractTest {
     @Autowired
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    private RealmDAO realmDAO;
+
+    @Autowired
+    private ConnInstanceDataBinder connInstanceDataBinder;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    @Qualifier("connectorLoaderExecutor")
+    private VirtualThreadPoolTaskExecutor connectorLoaderExecutor;
+
     private DefaultConnectorManager connManager;
 
     @BeforeEach
     public void before() {
-        connManager = new DefaultConnectorManager(connIdBundleManager, null, resourceDAO, null, null, null);
+        connManager = new DefaultConnectorManager(
+                connIdBundleManager,
+                realmDAO,
+                resourceDAO,
+                connInstanceDataBinder,
+                null,
+                null,
+                entityFactory,
+                connectorLoaderExecutor,
+                false);
 
         // Remove any other connector instance bean set up by standard ConnectorManager.load()
         connManager.unload();
@@ -59,4 +91,52 @@ public class ConnectorManagerTest extends AbstractTest {
         assertEquals(expected,
                 ApplicationContextProvider.getBeanFactory().getBeanNamesForType(Connector.class, false, true).length);
     }
+
+    @Test
+    public void loadStatus() {
+        connManager.load();
+
+        ConnectorLoadingStatus status = connManager.getLoadingStatus().get(SyncopeConstants.MASTER_DOMAIN);
+        assertNotNull(status);
+        assertTrue(status.isReady());
+        assertEquals(resourceDAO.findAll().size(), status.getTotal());
+        assertEquals(0, status.getFailed());
+        assertEquals(status.getTotal(), status.getRegistered());
+        assertEquals(0, status.getPending());
+    }
+
+    @Test
+    public void lazyLoad() {
+        DefaultConnectorManager lazyConnManager = new DefaultConnectorManager(
+                connIdBundleManager,
+                realmDAO,
+                resourceDAO,
+                connInstanceDataBinder,
+                null,
+                null,
+                entityFactory,
+                connectorLoaderExecutor,
+                true);
+        lazyConnManager.load();
+
+        ConnectorLoadingStatus status = lazyConnManager.getLoadingStatus().get(SyncopeConstants.MASTER_DOMAIN);
+        assertTrue(status.isLazy());
+        assertTrue(status.isReady());
+        assertEquals(0, status.getRegistered());
+        assertEquals(0,
+                ApplicationContextProvider.getBeanFactory().getBeanNamesForType(Connector.class, false, true).length);
+
+        ExternalResource resource = resourceDAO.findById("resource-csv").orElseThrow();
+        assertTrue(lazyConnManager.readConnector(resource).isEmpty());
+        assertNotNull(lazyConnManager.getConnector(resource));
+        assertTrue(lazyConnManager.readConnector(resource).isPresent());
+        assertEquals(1, status.getRegistered());
+
+        assertNotNull(lazyConnManager.getConnector(resource));
+        assertEquals(1, status.getRegistered());
+
+        lazyConnManager.unregisterConnector(resource);
+        assertEquals(0, status.getRegistered());
+        assertTrue(lazyConnManager.registrationLocks.isEmpty());
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.core.provisioning.api.ConnectorOperationStats;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
+import org.junit.jupiter.api.Test;
+
+public class ConnectorTelemetryTest {
+
+    private static String sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+    @Test
+    public void histogram() {
+        ConnectorTelemetry telemetry = new ConnectorTelemetry("resource-test");
+
+        assertEquals("done", telemetry.record("create", () -> "done"));
+        assertEquals("done", telemetry.record("create", () -> sleep(60)));
+        assertThrows(TimeoutException.class, () -> telemetry.record("create", () -> {
+            throw new TimeoutException("Request timeout");
+        }));
+        telemetry.record("delete", () -> "done");
+
+        List<ConnectorOperationStats> operations = telemetry.getOperations();
+        assertEquals(List.of("create", "delete"), operations.stream().map(ConnectorOperationStats::getOperation).
+                toList());
+
+        ConnectorOperationStats create = operations.get(0);
+        assertEquals(3, create.getCount());
+        assertEquals(1, create.getFailures());
+        assertEquals(ConnectorTelemetry.BUCKETS.length + 1, create.getHistogram().size());
+        assertEquals(3, create.getHistogram().values().stream().mapToLong(Long::longValue).sum());
+        // latencies depend on the load of the machine: only the 60 ms call is known to exceed the 50 ms bucket
+        assertTrue(create.getHistogram().values().stream().skip(2).mapToLong(Long::longValue).sum() >= 1);
+        assertTrue(create.getMaxLatency() >= 60);
+
+        assertEquals(0, telemetry.getInFlight());
+    }
+
+    @Test
+    public void meter() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            ConnectorTelemetry telemetry = new ConnectorTelemetry("resource-test");
+
+            telemetry.record("update", () -> "done");
+            assertThrows(TimeoutException.class, () -> telemetry.record("update", () -> {
+                throw new TimeoutException("Request timeout");
+            }));
+
+            assertEquals(1, registry.find(SyncopeMetrics.CONNECTOR).
+                    tag(SyncopeMetrics.RESOURCE, "resource-test").
+                    tag(SyncopeMetrics.OPERATION, "update").
+                    tag(SyncopeMetrics.OUTCOME, SyncopeMetrics.SUCCESS).
+                    timer().count());
+            assertEquals(1, registry.find(SyncopeMetrics.CONNECTOR).
+                    tag(SyncopeMetrics.RESOURCE, "resource-test").
+                    tag(SyncopeMetrics.OPERATION, "update").
+                    tag(SyncopeMetrics.OUTCOME, SyncopeMetrics.FAILURE).
+                    timer().count());
+            // one timer per outcome, each call recorded exactly once
+            assertEquals(2, registry.find(SyncopeMetrics.CONNECTOR).
+                    tag(SyncopeMetrics.OPERATION, "update").timers().stream().
+                    mapToLong(timer -> timer.count()).sum());
+        } finally {
+            Metrics.removeRegistry(registry);
+            Metrics.globalRegistry.clear();
+        }
+    }
+
+    @Test
+    public void inFlight() throws Exception {
+        ConnectorTelemetry telemetry = new ConnectorTelemetry("resource-test");
+
+        CountDownLatch started = new CountDownLatch(3);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> calls = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                calls.add(executor.submit(() -> telemetry.record("update", () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "done";
+                })));
+            }
+
+            started.await(5, TimeUnit.SECONDS);
+            assertEquals(3, telemetry.getInFlight());
+
+            release.countDown();
+            for (Future<String> call : calls) {
+                assertEquals("done", call.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(0, telemetry.getInFlight());
+            assertEquals(3, telemetry.getOperations().get(0).getCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void poolSize() {
+        ConnectorTelemetry telemetry = new ConnectorTelemetry("resource-test");
+
+        telemetry.observePoolSize(2);
+        telemetry.observePoolSize(5);
+        telemetry.observePoolSize(5);
+        telemetry.observePoolSize(3);
+        assertEquals(5, telemetry.getCreated());
+        assertEquals(2, telemetry.getEvicted());
+
+        telemetry.poolDisposed();
+        assertEquals(5, telemetry.getEvicted());
+
+        telemetry.observePoolSize(1);
+        assertEquals(6, telemetry.getCreated());
+    }
+}
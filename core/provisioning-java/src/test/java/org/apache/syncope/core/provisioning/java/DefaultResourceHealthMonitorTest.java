@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ResourceHealthStatus;
+import org.identityconnectors.framework.common.exceptions.ConnectionFailedException;
+import org.junit.jupiter.api.Test;
+
+public class DefaultResourceHealthMonitorTest {
+
+    private static class TestResourceHealthMonitor extends DefaultResourceHealthMonitor {
+
+        private final Map<Pair<String, String>, Optional<Connector>> connectors = new ConcurrentHashMap<>();
+
+        TestResourceHealthMonitor(final Duration timeout, final int parallelism) {
+            super(null, null, null, Duration.ofMinutes(1), timeout, parallelism);
+        }
+
+        @Override
+        protected List<Pair<String, String>> resources() {
+            return new ArrayList<>(connectors.keySet());
+        }
+
+        @Override
+        protected Optional<Connector> connector(final String domain, final String resource) {
+            return connectors.get(Pair.of(domain, resource));
+        }
+    }
+
+    private static Connector sleeping(final long millis, final AtomicInteger running, final AtomicInteger peak) {
+        Connector connector = mock(Connector.class);
+        doAnswer(ic -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(millis);
+            } finally {
+                running.decrementAndGet();
+            }
+            return null;
+        }).when(connector).test();
+        return connector;
+    }
+
+    @Test
+    public void probe() {
+        TestResourceHealthMonitor monitor = new TestResourceHealthMonitor(Duration.ofMillis(500), 2);
+
+        Connector up = mock(Connector.class);
+        monitor.connectors.put(Pair.of("Master", "up"), Optional.of(up));
+
+        Connector down = mock(Connector.class);
+        doThrow(new ConnectionFailedException("Connection refused")).when(down).test();
+        monitor.connectors.put(Pair.of("Master", "down"), Optional.of(down));
+
+        monitor.connectors.put(
+                Pair.of("Two", "hanging"), Optional.of(sleeping(5000, new AtomicInteger(), new AtomicInteger())));
+
+        monitor.connectors.put(Pair.of("Two", "lazy"), Optional.empty());
+
+        assertFalse(monitor.isReady());
+        monitor.probe();
+        assertTrue(monitor.isReady());
+
+        ResourceHealthStatus status = monitor.getStatus("Master", "up").orElseThrow();
+        assertTrue(status.isUp());
+        assertNull(status.getError());
+
+        status = monitor.getStatus("Master", "down").orElseThrow();
+        assertFalse(status.isUp());
+        assertEquals("Connection refused", status.getError());
+
+        status = monitor.getStatus("Two", "lazy").orElseThrow();
+        assertFalse(status.isLoaded());
+        assertNull(status.getError());
+
+        status = monitor.getStatus("Two", "hanging").orElseThrow();
+        assertTrue(status.isLoaded());
+        assertFalse(status.isUp());
+        assertTrue(status.getLatency() >= 500 && status.getLatency() < 5000);
+
+        assertEquals(List.of("down", "up", "hanging", "lazy"),
+                monitor.getStatuses().stream().map(ResourceHealthStatus::getResource).toList());
+
+        // removed resources are forgotten
+        monitor.connectors.remove(Pair.of("Two", "hanging"));
+        monitor.probe();
+        assertTrue(monitor.getStatus("Two", "hanging").isEmpty());
+        assertEquals(3, monitor.getStatuses().size());
+    }
+
+    @Test
+    public void parallelism() {
+        TestResourceHealthMonitor monitor = new TestResourceHealthMonitor(Duration.ofSeconds(5), 3);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        for (int i = 0; i < 12; i++) {
+            monitor.connectors.put(Pair.of("Master", "resource" + i), Optional.of(sleeping(100, running, peak)));
+        }
+
+        long start = System.nanoTime();
+        monitor.probe();
+        long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertEquals(12, monitor.getStatuses().size());
+        assertTrue(monitor.getStatuses().stream().allMatch(ResourceHealthStatus::isUp));
+        assertEquals(3, peak.get());
+        // 12 tests lasting 100 ms each, 3 at a time
+        assertTrue(elapsed >= 400 && elapsed < 1200, "Elapsed " + elapsed);
+    }
+}
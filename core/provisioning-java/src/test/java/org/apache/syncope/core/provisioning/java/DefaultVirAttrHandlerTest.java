@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.syncope.common.lib.to.Item;
+import org.apache.syncope.common.lib.to.Mapping;
+import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.VirSchema;
+import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.VirAttrHandler;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
+import org.apache.syncope.core.provisioning.java.cache.CaffeineVirAttrCache;
+import org.apache.syncope.core.provisioning.java.cache.DisabledVirAttrCache;
+import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.spi.SearchResultsHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+public class DefaultVirAttrHandlerTest extends AbstractTest {
+
+    @Mock
+    private ConnectorManager connectorManager;
+
+    @Mock
+    private MappingManager mappingManager;
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private VirSchemaDAO virSchemaDAO;
+
+    @Mock
+    private VirAttrHandler virAttrHandler;
+
+    @Mock
+    private AnyUtilsFactory anyUtilsFactory;
+
+    @Mock
+    private AnyUtils anyUtils;
+
+    @Mock
+    private AnyObjectDAO anyObjectDAO;
+
+    @Mock
+    private AnyType anyType;
+
+    @Mock
+    private AnyTypeDAO anyTypeDAO;
+
+    @Mock
+    private ExternalResource resource;
+
+    @Mock
+    private VirSchema schema;
+
+    @Mock
+    private Connector connector;
+
+    @Mock
+    private AnyObject printer1;
+
+    @Mock
+    private AnyObject printer2;
+
+    private OutboundMatcher outboundMatcher;
+
+    @BeforeEach
+    public void initTest() {
+        outboundMatcher = new OutboundMatcher(mappingManager, userDAO, anyUtilsFactory, virSchemaDAO, virAttrHandler);
+
+        Item connObjectKey = new Item();
+        connObjectKey.setConnObjectKey(true);
+        connObjectKey.setIntAttrName("name");
+        connObjectKey.setExtAttrName("cn");
+        Mapping mapping = new Mapping();
+        mapping.add(connObjectKey);
+
+        Provision provision = new Provision();
+        provision.setAnyType("PRINTER");
+        provision.setObjectClass("PRINTER");
+        provision.setMapping(mapping);
+
+        lenient().when(anyType.getKey()).thenReturn("PRINTER");
+        lenient().when(anyType.getKind()).thenReturn(AnyTypeKind.ANY_OBJECT);
+        lenient().doReturn(Optional.of(anyType)).when(anyTypeDAO).findById("PRINTER");
+        lenient().when(anyUtilsFactory.getInstance(AnyTypeKind.ANY_OBJECT)).thenReturn(anyUtils);
+        lenient().when(resource.getKey()).thenReturn("resource-printers");
+        lenient().when(resource.getProvisionByAnyType("PRINTER")).thenReturn(Optional.of(provision));
+
+        lenient().when(schema.getKey()).thenReturn("location");
+        lenient().when(schema.getExtAttrName()).thenReturn("location");
+        lenient().when(schema.getAnyType()).thenReturn(anyType);
+        lenient().when(schema.getResource()).thenReturn(resource);
+        lenient().doCallRealMethod().when(schema).asLinkingMappingItem();
+
+        AllowedSchemas<VirSchema> allowed = new AllowedSchemas<>();
+        allowed.getForSelf().add(schema);
+        List.of(printer1, printer2).forEach(printer -> {
+            String name = printer == printer1 ? "printer1" : "printer2";
+            lenient().when(printer.getKey()).thenReturn(name + "Key");
+            lenient().when(printer.getType()).thenReturn(anyType);
+            lenient().when(anyUtilsFactory.getInstance(printer)).thenReturn(anyUtils);
+            lenient().when(anyUtils.getAllResources(printer)).thenReturn(Set.of(resource));
+            lenient().doReturn(allowed).when(anyObjectDAO).findAllowedSchemas(printer, VirSchema.class);
+            lenient().when(mappingManager.getConnObjectKeyValue(eq(printer), eq(resource), any(Provision.class))).
+                    thenReturn(Optional.of(name));
+        });
+        lenient().doReturn(anyObjectDAO).when(anyUtils).dao();
+
+        lenient().when(connectorManager.getConnector(resource)).thenReturn(connector);
+    }
+
+    private DefaultVirAttrHandler handler(final boolean cached) {
+        CaffeineVirAttrCache cache = new CaffeineVirAttrCache();
+        cache.setCacheSpec("maximumSize=100,expireAfterAccess=1m");
+
+        return new DefaultVirAttrHandler(
+                connectorManager,
+                cached ? cache : new DisabledVirAttrCache(),
+                outboundMatcher,
+                mappingManager,
+                anyTypeDAO,
+                anyUtilsFactory,
+                null);
+    }
+
+    private static ConnectorObject connObj(final String cn) {
+        return new ConnectorObjectBuilder().
+                setObjectClass(new ObjectClass("PRINTER")).
+                setUid(cn + "Uid").
+                setName(cn).
+                addAttribute("cn", cn).
+                addAttribute("location", cn + "Location").
+                build();
+    }
+
+    private void returnOnSearch(final ConnectorObject... objs) {
+        doAnswer(ic -> {
+            SearchResultsHandler handler = ic.getArgument(2);
+            for (ConnectorObject obj : objs) {
+                handler.handle(obj);
+            }
+            return null;
+        }).when(connector).search(any(ObjectClass.class), any(Filter.class), any(SearchResultsHandler.class),
+                any(OperationOptions.class));
+    }
+
+    @Test
+    public void prefetch() {
+        returnOnSearch(connObj("printer1"), connObj("printer2"));
+
+        DefaultVirAttrHandler handler = handler(true);
+        handler.prefetch(List.of(printer1, printer2));
+        verify(connector, times(1)).search(any(ObjectClass.class), any(Filter.class), any(SearchResultsHandler.class),
+                any(OperationOptions.class));
+
+        // values are now served by cache
+        assertEquals(List.of("printer1Location"), handler.getValues(printer1, schema));
+        assertEquals(List.of("printer2Location"), handler.getValues(printer2, schema));
+        verify(connector, times(1)).search(any(ObjectClass.class), any(Filter.class), any(SearchResultsHandler.class),
+                any(OperationOptions.class));
+        verify(connector, never()).getObject(
+                any(ObjectClass.class), any(Attribute.class), anyBoolean(), any(OperationOptions.class));
+    }
+
+    @Test
+    public void prefetchWithDisabledCache() {
+        handler(false).prefetch(List.of(printer1, printer2));
+
+        verifyNoInteractions(connectorManager, connector, mappingManager);
+    }
+
+    @Test
+    public void prefetchWithUnsupportedFilter() {
+        // the connector does not honor the filter, returning more objects than requested
+        returnOnSearch(connObj("printer1"), connObj("printer2"), connObj("printer3"));
+        doAnswer(ic -> {
+            String cn = AttributeUtil.getAsStringValue(ic.getArgument(1));
+            return connObj(cn);
+        }).when(connector).getObject(
+                any(ObjectClass.class), any(Attribute.class), anyBoolean(), any(OperationOptions.class));
+
+        DefaultVirAttrHandler handler = handler(true);
+        handler.prefetch(List.of(printer1, printer2));
+        verify(connector, times(2)).getObject(
+                any(ObjectClass.class), any(Attribute.class), anyBoolean(), any(OperationOptions.class));
+
+        assertEquals(List.of("printer1Location"), handler.getValues(printer1, schema));
+        assertEquals(List.of("printer2Location"), handler.getValues(printer2, schema));
+        verify(connector, times(2)).getObject(
+                any(ObjectClass.class), any(Attribute.class), anyBoolean(), any(OperationOptions.class));
+    }
+
+    @Test
+    public void reload() {
+        returnOnSearch(connObj("printer1"));
+        lenient().doReturn(Optional.of(printer1)).when(anyObjectDAO).findById("printer1Key");
+
+        VirAttrCacheKey printer = new VirAttrCacheKey("PRINTER", "printer1Key", "location");
+        VirAttrCacheKey unknown = new VirAttrCacheKey("UNKNOWN", "printer1Key", "location");
+
+        Map<VirAttrCacheKey, VirAttrCacheValue> reloaded = handler(true).reload(Set.of(printer, unknown));
+        assertEquals(Set.of(printer), reloaded.keySet());
+        assertEquals(List.of("printer1Location"), reloaded.get(printer).getValues());
+
+        // any type not found: no lookup by guessing the kind
+        verify(anyObjectDAO, times(1)).findById("printer1Key");
+    }
+}
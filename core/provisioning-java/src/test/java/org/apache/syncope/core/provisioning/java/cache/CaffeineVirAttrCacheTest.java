@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
+import org.junit.jupiter.api.Test;
+
+public class CaffeineVirAttrCacheTest {
+
+    private static final VirAttrCacheKey KEY1 = new VirAttrCacheKey("USER", "key1", "virtualdata");
+
+    private static final VirAttrCacheKey KEY2 = new VirAttrCacheKey("USER", "key2", "virtualdata");
+
+    private static class FakeTicker {
+
+        private final AtomicLong nanos = new AtomicLong();
+
+        long read() {
+            return nanos.get();
+        }
+
+        void advance(final Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+    }
+
+    private static CaffeineVirAttrCache cache() {
+        CaffeineVirAttrCache cache = new CaffeineVirAttrCache();
+        cache.setCacheSpec("maximumSize=100,expireAfterAccess=1m");
+        return cache;
+    }
+
+    @Test
+    public void getAll() {
+        CaffeineVirAttrCache cache = cache();
+        cache.put(KEY1, new VirAttrCacheValue(List.of("cached")));
+
+        AtomicInteger loads = new AtomicInteger();
+        Map<VirAttrCacheKey, VirAttrCacheValue> values = cache.getAll(Set.of(KEY1, KEY2), missing -> {
+            loads.incrementAndGet();
+            assertEquals(Set.of(KEY2), missing);
+            return Map.of();
+        });
+        assertEquals(1, loads.get());
+        assertEquals(List.of("cached"), values.get(KEY1).getValues());
+        assertFalse(values.containsKey(KEY2));
+        assertNull(cache.get(KEY2));
+
+        values = cache.getAll(Set.of(KEY2), missing -> {
+            loads.incrementAndGet();
+            return Map.of(KEY2, new VirAttrCacheValue(List.of("loaded")));
+        });
+        assertEquals(2, loads.get());
+        assertEquals(List.of("loaded"), values.get(KEY2).getValues());
+        assertNotNull(cache.get(KEY2));
+    }
+
+    @Test
+    public void singleFlight() throws Exception {
+        CaffeineVirAttrCache cache = cache();
+
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> waiting = new AtomicReference<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<VirAttrCacheKey, VirAttrCacheValue>> first = executor.submit(
+                    () -> cache.getAll(Set.of(KEY1), missing -> {
+                        loads.incrementAndGet();
+                        loading.countDown();
+                        try {
+                            assertTrue(release.await(5, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return Map.of(KEY1, new VirAttrCacheValue(List.of("loaded")));
+                    }));
+
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<Map<VirAttrCacheKey, VirAttrCacheValue>> second = executor.submit(() -> {
+                waiting.set(Thread.currentThread());
+                return cache.getAll(Set.of(KEY1), missing -> {
+                    loads.incrementAndGet();
+                    return Map.of(KEY1, new VirAttrCacheValue(List.of("reloaded")));
+                });
+            });
+            // wait for the second reader to join the pending load before completing it
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (waiting.get() == null || waiting.get().getState() != Thread.State.WAITING) {
+                assertTrue(System.nanoTime() < deadline);
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals(List.of("loaded"), first.get(5, TimeUnit.SECONDS).get(KEY1).getValues());
+            assertEquals(List.of("loaded"), second.get(5, TimeUnit.SECONDS).get(KEY1).getValues());
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void absent() {
+        CaffeineVirAttrCache cache = new CaffeineVirAttrCache();
+        cache.setAbsentExpireAfterWrite(Duration.ofMinutes(1));
+        cache.setCacheSpec("maximumSize=100,expireAfterAccess=1m");
+
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(cache.getAll(Set.of(KEY1), missing -> {
+                loads.incrementAndGet();
+                return Map.of();
+            }).isEmpty());
+        }
+        assertEquals(1, loads.get());
+        assertNull(cache.get(KEY1));
+        assertEquals(2L, cache.getStatistics().get("absent_hits"));
+    }
+
+    @Test
+    public void expireAfterWriteBySchema() {
+        VirAttrCacheKey other = new VirAttrCacheKey("USER", "key1", "other");
+
+        FakeTicker ticker = new FakeTicker();
+        CaffeineVirAttrCache cache = new CaffeineVirAttrCache();
+        cache.setTicker(ticker::read);
+        cache.setExpireAfterWrite(Map.of(KEY1.getSchema(), Duration.ofMillis(200)));
+        cache.setCacheSpec("maximumSize=100,expireAfterAccess=1m");
+
+        cache.put(KEY1, new VirAttrCacheValue(List.of("value")));
+        cache.put(other, new VirAttrCacheValue(List.of("value")));
+
+        ticker.advance(Duration.ofMillis(100));
+        assertNotNull(cache.get(KEY1));
+
+        ticker.advance(Duration.ofMillis(200));
+        assertNull(cache.get(KEY1));
+        assertNotNull(cache.get(other));
+    }
+
+    @Test
+    public void refreshAfterWrite() {
+        AtomicInteger reloads = new AtomicInteger();
+
+        FakeTicker ticker = new FakeTicker();
+        // background tasks are queued, and run only when the test says so
+        Queue<Runnable> background = new ConcurrentLinkedQueue<>();
+        CaffeineVirAttrCache cache = new CaffeineVirAttrCache();
+        cache.setTicker(ticker::read);
+        cache.setExecutor(background::add);
+        cache.setRefreshAfterWrite(Duration.ofMillis(200));
+        cache.setReloader((domain, keys) -> {
+            reloads.incrementAndGet();
+            return Map.of(KEY1, new VirAttrCacheValue(List.of("refreshed")));
+        });
+        cache.setCacheSpec("maximumSize=100,expireAfterAccess=1m");
+
+        cache.put(KEY1, new VirAttrCacheValue(List.of("value")));
+
+        ticker.advance(Duration.ofMillis(100));
+        assertEquals(List.of("value"), cache.get(KEY1).getValues());
+        assertEquals(0, reloads.get());
+
+        ticker.advance(Duration.ofMillis(200));
+        // stale value is returned while refreshing in background
+        assertEquals(List.of("value"), cache.get(KEY1).getValues());
+        assertEquals(0, reloads.get());
+
+        for (Runnable task = background.poll(); task != null; task = background.poll()) {
+            task.run();
+        }
+        assertEquals(1, reloads.get());
+        assertEquals(List.of("refreshed"), cache.get(KEY1).getValues());
+        assertEquals(1, reloads.get());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
+import org.apache.syncope.core.persistence.api.entity.AccessToken;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.spring.metrics.SyncopeMetrics;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class ExpiredAccessTokenCleanupTest extends AbstractTest {
+
+    private static final String TASK_KEY = "89de5014-e3f5-4462-84d8-d97575740baf";
+
+    public static class TestExpiredAccessTokenCleanup extends ExpiredAccessTokenCleanup {
+
+        private Boolean purgedInTransaction;
+
+        @Override
+        protected void purge() {
+            purgedInTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+            super.purge();
+        }
+    }
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    private AccessTokenDAO accessTokenDAO;
+
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
+    private String create(final OffsetDateTime expirationTime) {
+        return domainTransactionTemplate.execute(status -> {
+            AccessToken accessToken = entityFactory.newEntity(AccessToken.class);
+            accessToken.setKey(SecureRandomUtils.generateRandomUUID().toString());
+            accessToken.setBody("pointless body");
+            accessToken.setExpirationTime(expirationTime);
+            accessToken.setOwner(SecureRandomUtils.generateRandomUUID().toString());
+            return accessTokenDAO.save(accessToken).getKey();
+        });
+    }
+
+    @Test
+    public void purgeOutsideJobTransaction() throws Exception {
+        List<String> expired = IntStream.range(0, 3).
+                mapToObj(i -> create(OffsetDateTime.now().minusMinutes(i + 1))).toList();
+        String valid = create(OffsetDateTime.now().plusHours(1));
+
+        TestExpiredAccessTokenCleanup delegate =
+                ApplicationContextProvider.getBeanFactory().createBean(TestExpiredAccessTokenCleanup.class);
+
+        // apply transaction annotations as in Core, where job delegates are transactional proxies
+        ProxyFactory proxyFactory = new ProxyFactory(delegate);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(
+                domainTransactionTemplate.getTransactionManager(), new AnnotationTransactionAttributeSource()));
+        ExpiredAccessTokenCleanup proxy = (ExpiredAccessTokenCleanup) proxyFactory.getProxy();
+
+        JobExecutionContext context = mock(JobExecutionContext.class);
+        when(context.getMergedJobDataMap()).thenReturn(new JobDataMap());
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            AuthContextUtils.callAsAdmin(SyncopeConstants.MASTER_DOMAIN, () -> {
+                proxy.execute(TaskType.SCHEDULED, TASK_KEY, false, context);
+                return null;
+            });
+
+            assertEquals(Boolean.FALSE, delegate.purgedInTransaction);
+            expired.forEach(key -> assertTrue(accessTokenDAO.findById(key).isEmpty()));
+            assertTrue(accessTokenDAO.findById(valid).isPresent());
+
+            String job = TestExpiredAccessTokenCleanup.class.getSimpleName();
+            assertEquals(1, registry.find(SyncopeMetrics.PURGE).
+                    tag(SyncopeMetrics.DOMAIN, SyncopeConstants.MASTER_DOMAIN).
+                    tag(SyncopeMetrics.JOB, job).timer().count());
+            assertEquals(expired.size(), registry.find(SyncopeMetrics.PURGE_DELETED).
+                    tag(SyncopeMetrics.DOMAIN, SyncopeConstants.MASTER_DOMAIN).
+                    tag(SyncopeMetrics.JOB, job).counter().count());
+            assertTrue(registry.find(SyncopeMetrics.PURGE_CHUNKS).
+                    tag(SyncopeMetrics.DOMAIN, SyncopeConstants.MASTER_DOMAIN).
+                    tag(SyncopeMetrics.JOB, job).counter().count() >= 1);
+        } finally {
+            Metrics.removeRegistry(registry);
+            Metrics.globalRegistry.clear();
+        }
+
+        domainTransactionTemplate.executeWithoutResult(status -> accessTokenDAO.deleteById(valid));
+    }
+}
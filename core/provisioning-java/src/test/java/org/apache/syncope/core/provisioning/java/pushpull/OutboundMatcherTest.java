@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.syncope.common.lib.to.Item;
+import org.apache.syncope.common.lib.to.Mapping;
+import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.VirAttrHandler;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.filter.Filter;
+import org.identityconnectors.framework.common.objects.filter.OrFilter;
+import org.identityconnectors.framework.spi.SearchResultsHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+public class OutboundMatcherTest extends AbstractTest {
+
+    @Mock
+    private MappingManager mappingManager;
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private AnyUtilsFactory anyUtilsFactory;
+
+    @Mock
+    private AnyUtils anyUtils;
+
+    @Mock
+    private AnyObjectDAO anyObjectDAO;
+
+    @Mock
+    private VirSchemaDAO virSchemaDAO;
+
+    @Mock
+    private VirAttrHandler virAttrHandler;
+
+    @Mock
+    private ExternalResource resource;
+
+    @Mock
+    private Connector connector;
+
+    private OutboundMatcher outboundMatcher;
+
+    private Provision provision;
+
+    @BeforeEach
+    public void initTest() {
+        outboundMatcher = new OutboundMatcher(mappingManager, userDAO, anyUtilsFactory, virSchemaDAO, virAttrHandler);
+
+        Item connObjectKey = new Item();
+        connObjectKey.setConnObjectKey(true);
+        connObjectKey.setIntAttrName("name");
+        connObjectKey.setExtAttrName("cn");
+        Mapping mapping = new Mapping();
+        mapping.add(connObjectKey);
+
+        provision = new Provision();
+        provision.setAnyType("PRINTER");
+        provision.setObjectClass("PRINTER");
+        provision.setMapping(mapping);
+
+        lenient().when(resource.getKey()).thenReturn("resource-printers");
+        lenient().when(anyUtilsFactory.getInstance(AnyTypeKind.ANY_OBJECT)).thenReturn(anyUtils);
+        lenient().doReturn(anyObjectDAO).when(anyUtils).dao();
+    }
+
+    private PropagationTaskInfo taskInfo(final String connObjectKey) {
+        return new PropagationTaskInfo(
+                resource,
+                ResourceOperation.UPDATE,
+                new ObjectClass("PRINTER"),
+                AnyTypeKind.ANY_OBJECT,
+                "PRINTER",
+                connObjectKey + "Key",
+                connObjectKey,
+                new PropagationData(Set.of()));
+    }
+
+    private static ConnectorObject connObj(final String cn) {
+        return new ConnectorObjectBuilder().
+                setObjectClass(new ObjectClass("PRINTER")).
+                setUid(cn + "Uid").
+                setName(cn).
+                addAttribute("cn", cn).
+                build();
+    }
+
+    private void returnOnSearch(final ConnectorObject... objs) {
+        doAnswer(ic -> {
+            SearchResultsHandler handler = ic.getArgument(2);
+            for (ConnectorObject obj : objs) {
+                handler.handle(obj);
+            }
+            return null;
+        }).when(connector).search(any(ObjectClass.class), any(Filter.class), any(SearchResultsHandler.class),
+                any(OperationOptions.class));
+    }
+
+    @Test
+    public void prefetch() {
+        returnOnSearch(connObj("printer1"), connObj("printer3"));
+
+        List<PropagationTaskInfo> taskInfos = List.of(taskInfo("printer1"), taskInfo("printer2"), taskInfo("printer3"));
+        outboundMatcher.prefetch(taskInfos, connector, provision, List.of());
+
+        ArgumentCaptor<Filter> filter = ArgumentCaptor.forClass(Filter.class);
+        verify(connector, times(1)).search(
+                any(ObjectClass.class), filter.capture(), any(SearchResultsHandler.class), any(OperationOptions.class));
+        assertTrue(filter.getValue() instanceof OrFilter);
+
+        taskInfos.forEach(taskInfo -> assertTrue(taskInfo.isBeforeObjFetched()));
+        assertEquals("printer1Uid", taskInfos.get(0).getBeforeObj().orElseThrow().getUid().getUidValue());
+        assertFalse(taskInfos.get(1).getBeforeObj().isPresent());
+        assertEquals("printer3Uid", taskInfos.get(2).getBeforeObj().orElseThrow().getUid().getUidValue());
+    }
+
+    @Test
+    public void prefetchIgnoringCase() {
+        provision.setIgnoreCaseMatch(true);
+        returnOnSearch(connObj("PRINTER1"));
+
+        Map<String, ConnectorObject> objs = outboundMatcher.matchByConnObjectKeyValues(
+                connector,
+                provision.getMapping().getConnObjectKeyItem().orElseThrow(),
+                List.of("printer1", "printer2"),
+                resource,
+                provision,
+                Optional.empty(),
+                Optional.empty());
+        assertEquals(1, objs.size());
+        assertEquals("PRINTER1Uid", objs.get("printer1").getUid().getUidValue());
+    }
+
+    @Test
+    public void prefetchWithUnsupportedFilter() {
+        // the connector does not honor the filter, returning more objects than requested
+        returnOnSearch(connObj("printer1"), connObj("printer2"), connObj("printer3"));
+
+        List<PropagationTaskInfo> taskInfos = List.of(taskInfo("printer1"), taskInfo("printer2"));
+        outboundMatcher.prefetch(taskInfos, connector, provision, List.of());
+
+        taskInfos.forEach(taskInfo -> {
+            assertFalse(taskInfo.isBeforeObjFetched());
+            assertFalse(taskInfo.getBeforeObj().isPresent());
+        });
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.apache.syncope.common.lib.to.Mapping;
+import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.PullMode;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
+import org.apache.syncope.core.provisioning.api.pushpull.GroupPullResultHandler;
+import org.apache.syncope.core.provisioning.api.pushpull.UserPullResultHandler;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.SearchResult;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.spi.SearchResultsHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class PullJobDelegateTest extends AbstractTest {
+
+    private static final int SIZE = 2 * Connector.DEFAULT_PAGE_SIZE + 50;
+
+    @Mock
+    private TaskDAO taskDAO;
+
+    @Mock
+    private AnyTypeDAO anyTypeDAO;
+
+    @Mock
+    private VirSchemaDAO virSchemaDAO;
+
+    @Mock
+    private TaskDataBinder taskDataBinder;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @Mock
+    private PullTask task;
+
+    @Mock
+    private ExternalResource resource;
+
+    @Mock
+    private AnyType anyType;
+
+    @Mock
+    private Connector connector;
+
+    @Mock
+    private UserPullResultHandler userHandler;
+
+    @Mock
+    private GroupPullResultHandler groupHandler;
+
+    private final AtomicReference<String> saved = new AtomicReference<>();
+
+    private final List<String> handled = new ArrayList<>();
+
+    private ProvisioningProperties props;
+
+    @BeforeEach
+    public void initDelegate() {
+        Provision provision = new Provision();
+        provision.setAnyType(AnyTypeKind.USER.name());
+        provision.setObjectClass(ObjectClass.ACCOUNT_NAME);
+        provision.setMapping(new Mapping());
+
+        lenient().when(anyType.getKey()).thenReturn(AnyTypeKind.USER.name());
+        lenient().when(anyType.getKind()).thenReturn(AnyTypeKind.USER);
+        lenient().doReturn(Optional.of(anyType)).when(anyTypeDAO).findById(AnyTypeKind.USER.name());
+
+        lenient().when(resource.getKey()).thenReturn("resource-test");
+        lenient().when(resource.getProvisions()).thenReturn(List.of(provision));
+        lenient().when(resource.getProvisioningTraceLevel()).thenReturn(TraceLevel.NONE);
+
+        lenient().when(task.getKey()).thenReturn("pullTask");
+        lenient().when(task.getResource()).thenReturn(resource);
+        lenient().when(task.getPullMode()).thenReturn(PullMode.FULL_RECONCILIATION);
+        lenient().when(task.getCheckpoint()).thenAnswer(ic -> saved.get());
+
+        lenient().doAnswer(ic -> {
+            saved.set(ic.getArgument(2));
+            return null;
+        }).when(taskDAO).saveCheckpoint(eq(TaskType.PULL), eq("pullTask"), any());
+
+        // remote objects, read in pages of DEFAULT_PAGE_SIZE; the cookie is the index of the next page
+        doCallRealMethod().when(connector).pagedReconciliation(any(), any(), any(), any(), any(), any());
+        lenient().when(connector.search(any(), any(), any(), any(OperationOptions.class))).thenAnswer(ic -> {
+            SearchResultsHandler searchHandler = ic.getArgument(2);
+            OperationOptions options = ic.getArgument(3);
+
+            int from = Optional.ofNullable(options.getPagedResultsCookie()).map(Integer::valueOf).orElse(0);
+            int to = Math.min(from + options.getPageSize(), SIZE);
+            for (int i = from; i < to; i++) {
+                if (!searchHandler.handle(new ConnectorObjectBuilder().
+                        setObjectClass(ObjectClass.ACCOUNT).
+                        setUid(String.valueOf(i)).
+                        setName(String.valueOf(i)).
+                        build())) {
+
+                    break;
+                }
+            }
+            return new SearchResult(to < SIZE ? String.valueOf(to) : null, -1);
+        });
+
+        lenient().when(userHandler.handle(any())).thenAnswer(ic -> {
+            handled.add(ic.<SyncDelta>getArgument(0).getUid().getUidValue());
+            return true;
+        });
+
+        props = new ProvisioningProperties();
+        props.getPull().setCheckpointInterval(Duration.ofHours(1));
+    }
+
+    private PullJobDelegate delegate() {
+        PullJobDelegate delegate = new PullJobDelegate() {
+
+            @Override
+            protected UserPullResultHandler buildUserHandler() {
+                return userHandler;
+            }
+
+            @Override
+            protected GroupPullResultHandler buildGroupHandler() {
+                return groupHandler;
+            }
+        };
+        delegate.anyTypeDAO = anyTypeDAO;
+        delegate.virSchemaDAO = virSchemaDAO;
+        delegate.provisioningProperties = props;
+        ReflectionTestUtils.setField(delegate, "taskDAO", taskDAO);
+        ReflectionTestUtils.setField(delegate, "taskDataBinder", taskDataBinder);
+        ReflectionTestUtils.setField(delegate, "publisher", publisher);
+        return delegate;
+    }
+
+    @Test
+    public void interruptAndResume() throws Exception {
+        // first execution is stopped in the middle of the second page
+        PullJobDelegate first = delegate();
+        doAnswer(ic -> {
+            handled.add(ic.<SyncDelta>getArgument(0).getUid().getUidValue());
+            if (handled.size() == Connector.DEFAULT_PAGE_SIZE + 20) {
+                first.interrupt();
+            }
+            return true;
+        }).when(userHandler).handle(any());
+
+        first.doExecuteProvisioning(task, connector, false, "admin", null);
+
+        assertEquals(Connector.DEFAULT_PAGE_SIZE + 20, handled.size());
+        // the position reached was saved once, when stopping, and never cleared
+        verify(taskDAO, times(1)).saveCheckpoint(eq(TaskType.PULL), eq("pullTask"), anyString());
+        verify(taskDAO, never()).saveCheckpoint(eq(TaskType.PULL), eq("pullTask"), isNull());
+        assertNotNull(saved.get());
+
+        PullCheckpoint.Position position = POJOHelper.deserialize(saved.get(), PullCheckpoint.class).
+                getPosition(ObjectClass.ACCOUNT_NAME);
+        assertEquals(String.valueOf(Connector.DEFAULT_PAGE_SIZE), position.getCookie());
+        assertEquals(Connector.DEFAULT_PAGE_SIZE, position.getHandled());
+        assertFalse(position.isDone());
+
+        // second execution resumes from the page which was not completed
+        handled.clear();
+        doAnswer(ic -> {
+            handled.add(ic.<SyncDelta>getArgument(0).getUid().getUidValue());
+            return true;
+        }).when(userHandler).handle(any());
+
+        delegate().doExecuteProvisioning(task, connector, false, "admin", null);
+
+        assertEquals(IntStream.range(Connector.DEFAULT_PAGE_SIZE, SIZE).mapToObj(String::valueOf).toList(), handled);
+        // done: checkpoint is cleared
+        assertNull(saved.get());
+    }
+
+    @Test
+    public void checkpointIsThrottled() throws Exception {
+        delegate().doExecuteProvisioning(task, connector, false, "admin", null);
+
+        assertEquals(SIZE, handled.size());
+        // three pages, but only the completion is saved, then cleared
+        verify(taskDAO, times(1)).saveCheckpoint(eq(TaskType.PULL), eq("pullTask"), anyString());
+        verify(taskDAO, times(1)).saveCheckpoint(eq(TaskType.PULL), eq("pullTask"), isNull());
+        assertNull(saved.get());
+    }
+
+    @Test
+    public void checkpointOnEveryPage() throws Exception {
+        props.getPull().setCheckpointInterval(Duration.ZERO);
+
+        delegate().doExecuteProvisioning(task, connector, false, "admin", null);
+
+        assertEquals(SIZE, handled.size());
+        verify(taskDAO, times(3)).saveCheckpoint(eq(TaskType.PULL), eq("pullTask"), anyString());
+        assertNull(saved.get());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.Test;
+
+public class PushCheckpointTest extends AbstractTest {
+
+    @Test
+    public void serialization() {
+        PushCheckpoint original = new PushCheckpoint();
+
+        PushCheckpoint.Range first = new PushCheckpoint.Range();
+        first.setUpper("0193a1c2-0000-7000-8000-000000000000");
+        first.setLast("0193a1c1-ffff-7000-8000-000000000000");
+        first.setDone(true);
+
+        PushCheckpoint.Range second = new PushCheckpoint.Range();
+        second.setLower(first.getUpper());
+        second.setLast("0193a1c2-0001-7000-8000-000000000000");
+
+        original.getRanges("USER").addAll(List.of(first, second));
+        assertFalse(original.allDone());
+
+        PushCheckpoint actual = POJOHelper.deserialize(POJOHelper.serialize(original), PushCheckpoint.class);
+        assertEquals(2, actual.getRanges("USER").size());
+
+        assertNull(actual.getRanges("USER").getFirst().getLower());
+        assertEquals(first.getUpper(), actual.getRanges("USER").getFirst().getUpper());
+        assertEquals(first.getLast(), actual.getRanges("USER").getFirst().getLast());
+        assertTrue(actual.getRanges("USER").getFirst().isDone());
+
+        assertEquals(second.getLower(), actual.getRanges("USER").getLast().getLower());
+        assertNull(actual.getRanges("USER").getLast().getUpper());
+        assertEquals(second.getLast(), actual.getRanges("USER").getLast().getLast());
+        assertFalse(actual.getRanges("USER").getLast().isDone());
+
+        actual.getRanges("USER").getLast().setDone(true);
+        assertTrue(actual.allDone());
+    }
+}
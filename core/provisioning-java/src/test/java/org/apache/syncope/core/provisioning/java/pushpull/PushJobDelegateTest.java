@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.apache.syncope.common.lib.to.Provision;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.common.lib.types.ThreadPoolSettings;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.task.PushTask;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class PushJobDelegateTest extends AbstractTest {
+
+    private static final int SIZE = 2 * AnyDAO.DEFAULT_PAGE_SIZE + 10;
+
+    @Mock
+    private AnySearchDAO searchDAO;
+
+    @Mock
+    private RealmDAO realmDAO;
+
+    @Mock
+    private TaskDAO taskDAO;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PushTask task;
+
+    @Mock
+    private Realm realm;
+
+    @Mock
+    private AnyType anyType;
+
+    @Mock
+    private Connector connector;
+
+    @Mock
+    private PushResultHandlerDispatcher dispatcher;
+
+    @Mock
+    private SyncopePushResultHandler handler;
+
+    @Mock
+    private TaskDataBinder taskDataBinder;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    private final SearchCond cond = SearchCond.getLeaf(new AnyTypeCond());
+
+    private final Provision provision = new Provision();
+
+    private final Set<String> handled = ConcurrentHashMap.newKeySet();
+
+    private List<User> users;
+
+    private ProvisioningProperties props;
+
+    private PushJobDelegate delegate;
+
+    private static Predicate<String> predicate(final SearchCond cond) {
+        return switch (cond.getType()) {
+            case AND ->
+                predicate(cond.getLeft()).and(predicate(cond.getRight()));
+
+            case LEAF ->
+                cond.getLeaf(AnyCond.class).map(anyCond -> (Predicate<String>) key -> switch (anyCond.getType()) {
+                    case GT ->
+                        key.compareTo(anyCond.getExpression()) > 0;
+                    case GE ->
+                        key.compareTo(anyCond.getExpression()) >= 0;
+                    case LT ->
+                        key.compareTo(anyCond.getExpression()) < 0;
+                    default ->
+                        true;
+                }).orElse(key -> true);
+
+            default ->
+                key -> true;
+        };
+    }
+
+    @BeforeEach
+    public void initDelegate() {
+        users = IntStream.range(0, SIZE).mapToObj(i -> {
+            User user = mock(User.class);
+            lenient().when(user.getKey()).thenReturn(String.format("%05d", i));
+            lenient().when(user.getType()).thenReturn(anyType);
+            return user;
+        }).toList();
+
+        lenient().when(anyType.getKey()).thenReturn(AnyTypeKind.USER.name());
+        lenient().when(task.getKey()).thenReturn("pushTask");
+        lenient().when(task.getSourceRealm()).thenReturn(realm);
+        lenient().when(realm.getFullPath()).thenReturn("/");
+        lenient().when(realmDAO.findByFullPath("/")).thenReturn(Optional.of(realm));
+
+        lenient().when(transactionTemplate.execute(any())).
+                thenAnswer(ic -> ic.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(searchDAO.count(any(), anyBoolean(), anySet(), any(), any())).thenReturn(SIZE);
+        lenient().when(searchDAO.search(any(), anyBoolean(), anySet(), any(), any(), any())).thenAnswer(ic -> {
+            Predicate<String> predicate = predicate(ic.getArgument(3));
+            Pageable pageable = ic.getArgument(4);
+            return users.stream().
+                    filter(user -> predicate.test(user.getKey())).
+                    skip(pageable.getOffset()).
+                    limit(pageable.getPageSize()).
+                    toList();
+        });
+        lenient().when(dispatcher.handle(anyString(), anyString())).thenAnswer(ic -> handled.add(ic.getArgument(1)));
+
+        props = new ProvisioningProperties();
+
+        delegate = new PushJobDelegate();
+        delegate.searchDAO = searchDAO;
+        delegate.realmDAO = realmDAO;
+        delegate.transactionTemplate = transactionTemplate;
+        delegate.provisioningProperties = props;
+        ReflectionTestUtils.setField(delegate, "taskDAO", taskDAO);
+        delegate.profile = new ProvisioningProfile<>(connector, task);
+        delegate.sourceRealm = "/";
+    }
+
+    @Test
+    public void split() {
+        props.getPush().setPartitions(4);
+        delegate.checkpoint = delegate.loadCheckpoint(task, false);
+
+        List<PushCheckpoint.Range> ranges = delegate.split(cond, AnyTypeKind.USER);
+        assertEquals(4, ranges.size());
+
+        assertNull(ranges.getFirst().getLower());
+        assertNull(ranges.getLast().getUpper());
+        for (int i = 1; i < ranges.size(); i++) {
+            assertEquals(users.get(i * SIZE / 4).getKey(), ranges.get(i).getLower());
+            assertEquals(ranges.get(i).getLower(), ranges.get(i - 1).getUpper());
+        }
+    }
+
+    @Test
+    public void pushInParallel() throws Exception {
+        props.getPush().setPartitions(4);
+        delegate.checkpoint = delegate.loadCheckpoint(task, false);
+
+        List<PushCheckpoint.Range> ranges = delegate.checkpoint.getRanges(AnyTypeKind.USER.name());
+        ranges.addAll(delegate.split(cond, AnyTypeKind.USER));
+
+        assertTrue(delegate.push(ranges, cond, AnyTypeKind.USER, provision, dispatcher));
+
+        assertEquals(SIZE, handled.size());
+        verify(dispatcher, times(SIZE)).handle(anyString(), anyString());
+        assertTrue(delegate.checkpoint.allDone());
+
+        // resume is disabled by default
+        verify(taskDAO, never()).saveCheckpoint(any(), anyString(), any());
+    }
+
+    @Test
+    public void checkpointIsThrottled() throws Exception {
+        props.getPush().setResume(true);
+        props.getPush().setCheckpointInterval(Duration.ofHours(1));
+        delegate.checkpoint = delegate.loadCheckpoint(task, false);
+
+        PushCheckpoint.Range range = new PushCheckpoint.Range();
+        delegate.checkpoint.getRanges(AnyTypeKind.USER.name()).add(range);
+
+        assertTrue(delegate.push(range, cond, AnyTypeKind.USER, provision, dispatcher));
+        assertEquals(SIZE, handled.size());
+
+        // three pages, but only the completion of the range is saved
+        verify(taskDAO, times(1)).saveCheckpoint(eq(TaskType.PUSH), eq("pushTask"), anyString());
+
+        PushCheckpoint saved = POJOHelper.deserialize(
+                POJOHelper.serialize(delegate.checkpoint), PushCheckpoint.class);
+        assertEquals(users.getLast().getKey(), saved.getRanges(AnyTypeKind.USER.name()).getFirst().getLast());
+        assertTrue(saved.allDone());
+    }
+
+    @Test
+    public void checkpointOnEveryPage() throws Exception {
+        props.getPush().setResume(true);
+        props.getPush().setCheckpointInterval(Duration.ZERO);
+        delegate.checkpoint = delegate.loadCheckpoint(task, false);
+
+        PushCheckpoint.Range range = new PushCheckpoint.Range();
+        delegate.checkpoint.getRanges(AnyTypeKind.USER.name()).add(range);
+
+        assertTrue(delegate.push(range, cond, AnyTypeKind.USER, provision, dispatcher));
+
+        verify(taskDAO, times(3)).saveCheckpoint(eq(TaskType.PUSH), eq("pushTask"), anyString());
+    }
+
+    @Test
+    public void checkpointWhenStopped() throws Exception {
+        props.getPush().setResume(true);
+        props.getPush().setCheckpointInterval(Duration.ofHours(1));
+        delegate.checkpoint = delegate.loadCheckpoint(task, false);
+
+        // stop at the first entity of the second page
+        doAnswer(ic -> handled.add(ic.getArgument(1)) && handled.size() <= AnyDAO.DEFAULT_PAGE_SIZE).
+                when(dispatcher).handle(anyString(), anyString());
+
+        PushCheckpoint.Range range = new PushCheckpoint.Range();
+        delegate.checkpoint.getRanges(AnyTypeKind.USER.name()).add(range);
+
+        assertFalse(delegate.push(range, cond, AnyTypeKind.USER, provision, dispatcher));
+
+        verify(taskDAO, times(1)).saveCheckpoint(eq(TaskType.PUSH), eq("pushTask"), anyString());
+        assertEquals(users.get(AnyDAO.DEFAULT_PAGE_SIZE - 1).getKey(), range.getLast());
+    }
+
+    @Test
+    public void resume() throws Exception {
+        PushCheckpoint previous = new PushCheckpoint();
+        PushCheckpoint.Range first = new PushCheckpoint.Range();
+        first.setUpper(users.get(SIZE / 2).getKey());
+        first.setLast(users.get(SIZE / 2 - 1).getKey());
+        first.setDone(true);
+        PushCheckpoint.Range second = new PushCheckpoint.Range();
+        second.setLower(first.getUpper());
+        second.setLast(users.get(SIZE - 11).getKey());
+        previous.getRanges(AnyTypeKind.USER.name()).addAll(List.of(first, second));
+        lenient().when(task.getCheckpoint()).thenReturn(POJOHelper.serialize(previous));
+
+        // resume is opt-in
+        delegate.checkpoint = delegate.loadCheckpoint(task, false);
+        assertTrue(delegate.checkpoint.getRanges().isEmpty());
+
+        props.getPush().setResume(true);
+
+        // not for dry runs
+        delegate.checkpoint = delegate.loadCheckpoint(task, true);
+        assertTrue(delegate.checkpoint.getRanges().isEmpty());
+
+        delegate.checkpoint = delegate.loadCheckpoint(task, false);
+        List<PushCheckpoint.Range> ranges = delegate.checkpoint.getRanges(AnyTypeKind.USER.name());
+        assertEquals(2, ranges.size());
+
+        assertTrue(delegate.push(ranges, cond, AnyTypeKind.USER, provision, dispatcher));
+
+        List<String> expected = new ArrayList<>();
+        users.subList(SIZE - 10, SIZE).forEach(user -> expected.add(user.getKey()));
+        assertEquals(Set.copyOf(expected), handled);
+        assertTrue(delegate.checkpoint.allDone());
+        verify(taskDAO, never()).saveCheckpoint(any(), anyString(), isNull());
+    }
+
+    @Test
+    public void checkpointWaitsForConcurrentHandlers() throws Exception {
+        props.getPush().setResume(true);
+        props.getPush().setCheckpointInterval(Duration.ZERO);
+        delegate.checkpoint = delegate.loadCheckpoint(task, false);
+        ReflectionTestUtils.setField(delegate, "taskDataBinder", taskDataBinder);
+        ReflectionTestUtils.setField(delegate, "publisher", publisher);
+
+        ThreadPoolSettings settings = new ThreadPoolSettings();
+        settings.setPoolSize(4);
+        when(task.getConcurrentSettings()).thenReturn(settings);
+
+        Set<String> completed = ConcurrentHashMap.newKeySet();
+        when(handler.handle(anyString())).thenAnswer(ic -> {
+            // the last entity of each page is the slowest to push
+            if (Integer.parseInt(ic.getArgument(0)) % AnyDAO.DEFAULT_PAGE_SIZE == AnyDAO.DEFAULT_PAGE_SIZE - 1) {
+                Thread.sleep(200);
+            }
+            completed.add(ic.getArgument(0));
+            return true;
+        });
+
+        // every save must only cover entities whose handling is complete
+        List<String> ahead = new CopyOnWriteArrayList<>();
+        doAnswer(ic -> {
+            String last = POJOHelper.deserialize(ic.getArgument(2), PushCheckpoint.class).
+                    getRanges(AnyTypeKind.USER.name()).getFirst().getLast();
+            users.stream().map(User::getKey).
+                    filter(key -> last != null && key.compareTo(last) <= 0 && !completed.contains(key)).
+                    forEach(ahead::add);
+            return null;
+        }).when(taskDAO).saveCheckpoint(eq(TaskType.PUSH), eq("pushTask"), anyString());
+
+        delegate.profile.setExecutor("admin");
+        PushResultHandlerDispatcher concurrent = new PushResultHandlerDispatcher(delegate.profile, delegate);
+        concurrent.addHandlerSupplier(AnyTypeKind.USER.name(), () -> handler);
+
+        PushCheckpoint.Range range = new PushCheckpoint.Range();
+        delegate.checkpoint.getRanges(AnyTypeKind.USER.name()).add(range);
+        try {
+            assertTrue(delegate.push(range, cond, AnyTypeKind.USER, provision, concurrent));
+        } finally {
+            concurrent.shutdown();
+        }
+
+        assertEquals(SIZE, completed.size());
+        verify(taskDAO, times(3)).saveCheckpoint(eq(TaskType.PUSH), eq("pushTask"), anyString());
+        assertTrue(ahead.isEmpty(), () -> "Checkpoint ahead of " + ahead.size() + " pending entities");
+    }
+}
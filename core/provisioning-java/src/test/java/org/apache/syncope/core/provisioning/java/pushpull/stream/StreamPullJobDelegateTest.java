@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.java.pushpull.stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import java.io.ByteArrayInputStream;
@@ -132,4 +133,49 @@ public class StreamPullJobDelegateTest extends AbstractTest {
         assertEquals("donizetti", donizetti.getUsername());
         assertEquals("Gaetano", donizetti.getPlainAttr("firstname").get().getValuesAsStrings().get(0));
     }
+
+    @Test
+    public void pullFromOffset() {
+        List<String> columns = List.of("username", "email", "surname", "firstname", "fullname", "userId");
+
+        StringBuilder csv = new StringBuilder();
+        csv.append(columns.stream().collect(Collectors.joining(","))).append('\n');
+        csv.append("mascagni,mascagni@apache.org,Mascagni,Pietro,Pietro Mascagni,mascagni@apache.org\n");
+        csv.append("rossini,rossini@apache.org,Rossini,Gioachino,Gioachino Rossini,rossini@apache.org\n");
+
+        PullTaskTO pullTask = new PullTaskTO();
+        pullTask.setDestinationRealm(SyncopeConstants.ROOT_REALM);
+        pullTask.setRemediation(false);
+        pullTask.setMatchingRule(MatchingRule.UPDATE);
+        pullTask.setUnmatchingRule(UnmatchingRule.PROVISION);
+
+        List<ProvisioningReport> results = AuthContextUtils.callAsAdmin(SyncopeConstants.MASTER_DOMAIN, () -> {
+            try (CSVStreamConnector connector = new CSVStreamConnector(
+                    "username",
+                    ";",
+                    new CsvSchema.Builder().setUseHeader(true),
+                    new ByteArrayInputStream(csv.toString().getBytes()),
+                    null)) {
+
+                assertEquals(columns, connector.getColumns(new CSVPullSpec()));
+                assertEquals(1, connector.skip(1));
+
+                return executor().pull(
+                        anyTypeDAO.getUser(),
+                        "username",
+                        columns,
+                        ConflictResolutionAction.IGNORE,
+                        null,
+                        connector,
+                        pullTask,
+                        "whoever");
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertEquals(1, results.size());
+        assertEquals("rossini", results.get(0).getName());
+        assertEquals(ProvisioningReport.Status.SUCCESS, results.get(0).getStatus());
+        assertTrue(userDAO.findByUsername("mascagni").isEmpty());
+    }
 }
@@ -85,7 +85,7 @@ public class StreamPushJobDelegateTest extends AbstractTest {
 
                 return executor().push(
                         anyTypeDAO.getUser(),
-                        userDAO.findAll(),
+                        userDAO.findAll().stream(),
                         List.of("username", "firstname", "surname", "email", "status", "loginDate"),
                         connector,
                         List.of(),
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+
+/**
+ * Timers and counters for core hot paths.
+ * Meters are registered with Micrometer's global registry, to which Spring Boot binds the registries it configures
+ * (see {@code management.metrics.use-global-registry}), so they are available via the {@code metrics} actuator
+ * endpoint and any configured exporter; without registries bound, as in unit tests, recording does nothing.
+ * Every meter is tagged with the current domain; further tags shall only take values from small, bounded sets.
+ */
+public final class SyncopeMetrics {
+
+    /**
+     * Logic method invocations, tagged with category (logic class), operation (method) and outcome.
+     */
+    public static final String LOGIC = "syncope.logic";
+
+    /**
+     * Audit and notification work after logic method invocations, tagged with category and operation.
+     */
+    public static final String LOGIC_AFTER = "syncope.logic.after";
+
+    /**
+     * Any searches and counts, tagged with category (any type kind) and operation.
+     */
+    public static final String SEARCH = "syncope.search";
+
+    /**
+     * Propagation task executions, tagged with resource, operation and execution status.
+     */
+    public static final String PROPAGATION = "syncope.propagation";
+
+    /**
+     * Propagation attempts to be retried, tagged with resource and operation.
+     */
+    public static final String PROPAGATION_RETRIES = "syncope.propagation.retries";
+
+    /**
+     * Pull handler phases, tagged with resource, operation and outcome.
+     */
+    public static final String PULL = "syncope.pull";
+
+    /**
+     * Push handler calls, tagged with resource, operation and outcome.
+     */
+    public static final String PUSH = "syncope.push";
+
+    /**
+     * Connector calls, tagged with resource, operation and outcome.
+     */
+    public static final String CONNECTOR = "syncope.connector";
+
+    /**
+     * Runs of the jobs purging expired data, tagged with job.
+     */
+    public static final String PURGE = "syncope.purge";
+
+    /**
+     * Rows deleted by the jobs purging expired data, tagged with job.
+     */
+    public static final String PURGE_DELETED = "syncope.purge.deleted";
+
+    /**
+     * Chunks (transactions) in which the jobs purging expired data deleted rows, tagged with job.
+     */
+    public static final String PURGE_CHUNKS = "syncope.purge.chunks";
+
+    public static final String DOMAIN = "domain";
+
+    public static final String CATEGORY = "category";
+
+    public static final String RESOURCE = "resource";
+
+    public static final String OPERATION = "operation";
+
+    public static final String JOB = "job";
+
+    public static final String OUTCOME = "outcome";
+
+    public static final String SUCCESS = "success";
+
+    public static final String FAILURE = "failure";
+
+    public static final String IGNORE = "ignore";
+
+    public static final String NONE = "none";
+
+    private static Tags tags(final String... keyValues) {
+        Tags tags = Tags.of(DOMAIN, AuthContextUtils.getDomain());
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            tags = tags.and(keyValues[i], Objects.requireNonNullElse(keyValues[i + 1], NONE));
+        }
+        return tags;
+    }
+
+    /**
+     * Starts timing; pass the returned sample to {@link #stop(Timer.Sample, String, String...)} once done.
+     *
+     * @return timing sample
+     */
+    public static Timer.Sample start() {
+        return Timer.start(Metrics.globalRegistry);
+    }
+
+    /**
+     * Records the time elapsed since the given sample was started.
+     *
+     * @param sample timing sample
+     * @param name timer name
+     * @param tags tag keys and values, alternated
+     */
+    public static void stop(final Timer.Sample sample, final String name, final String... tags) {
+        sample.stop(Metrics.globalRegistry.timer(name, tags(tags)));
+    }
+
+    /**
+     * Records the given duration, measured elsewhere.
+     *
+     * @param name timer name
+     * @param nanos duration, in nanoseconds
+     * @param tags tag keys and values, alternated
+     */
+    public static void record(final String name, final long nanos, final String... tags) {
+        Metrics.globalRegistry.timer(name, tags(tags)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Increments the given counter.
+     *
+     * @param name counter name
+     * @param tags tag keys and values, alternated
+     */
+    public static void increment(final String name, final String... tags) {
+        Metrics.globalRegistry.counter(name, tags(tags)).increment();
+    }
+
+    /**
+     * Increments the given counter by the given amount.
+     *
+     * @param name counter name
+     * @param amount amount to add
+     * @param tags tag keys and values, alternated
+     */
+    public static void increment(final String name, final double amount, final String... tags) {
+        Metrics.globalRegistry.counter(name, tags(tags)).increment(amount);
+    }
+
+    private SyncopeMetrics() {
+        // private constructor for static utility class
+    }
+}
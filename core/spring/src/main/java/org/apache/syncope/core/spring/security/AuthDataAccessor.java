@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.spring.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -43,7 +45,9 @@ import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -53,10 +57,12 @@ import org.apache.syncope.core.persistence.api.entity.Delegation;
 import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
+import org.apache.syncope.core.provisioning.api.rules.RuleEnforcer;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.slf4j.Logger;
@@ -107,14 +113,33 @@ public class AuthDataAccessor {
 
     protected final DelegationDAO delegationDAO;
 
+    protected final PolicyDAO policyDAO;
+
+    protected final ExternalResourceDAO resourceDAO;
+
     protected final ConnectorManager connectorManager;
 
     protected final AuditManager auditManager;
 
     protected final MappingManager mappingManager;
 
+    protected final RuleEnforcer ruleEnforcer;
+
+    protected final LoginMetadataWriter loginMetadataWriter;
+
     private final List<JWTSSOProvider> jwtSSOProviders;
 
+    /**
+     * Whether any account policy of a realm or its ancestors limits authentication attempts, by domain and realm
+     * full path.
+     */
+    protected final Cache<Pair<String, String>, Boolean> lockoutRealms;
+
+    /**
+     * Resources whose account policy limits authentication attempts, by domain.
+     */
+    protected final Cache<String, Set<String>> lockoutResources;
+
     public AuthDataAccessor(
             final SecurityProperties securityProperties,
             final RealmDAO realmDAO,
@@ -125,9 +150,13 @@ public class AuthDataAccessor {
             final ConfParamOps confParamOps,
             final RoleDAO roleDAO,
             final DelegationDAO delegationDAO,
+            final PolicyDAO policyDAO,
+            final ExternalResourceDAO resourceDAO,
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
+            final RuleEnforcer ruleEnforcer,
+            final LoginMetadataWriter loginMetadataWriter,
             final List<JWTSSOProvider> jwtSSOProviders) {
 
         this.securityProperties = securityProperties;
@@ -139,10 +168,21 @@ public class AuthDataAccessor {
         this.confParamOps = confParamOps;
         this.roleDAO = roleDAO;
         this.delegationDAO = delegationDAO;
+        this.policyDAO = policyDAO;
+        this.resourceDAO = resourceDAO;
         this.connectorManager = connectorManager;
         this.auditManager = auditManager;
         this.mappingManager = mappingManager;
+        this.ruleEnforcer = ruleEnforcer;
+        this.loginMetadataWriter = loginMetadataWriter;
         this.jwtSSOProviders = jwtSSOProviders;
+
+        this.lockoutRealms = Caffeine.newBuilder().
+                expireAfterWrite(securityProperties.getLoginMetadata().getLockoutCacheExpireAfterWrite()).
+                build();
+        this.lockoutResources = Caffeine.newBuilder().
+                expireAfterWrite(securityProperties.getLoginMetadata().getLockoutCacheExpireAfterWrite()).
+                build();
     }
 
     public JWTSSOProvider getJWTSSOProvider(final String issuer) {
@@ -224,34 +264,55 @@ public class AuthDataAccessor {
                 throw new DisabledException("User " + user.getUsername() + " not allowed to authenticate");
             }
 
-            boolean userModified = false;
             authenticated = authenticate(user, authentication.getCredentials().toString());
             if (authenticated) {
                 delegationKey = getDelegationKey(
                         SyncopeAuthenticationDetails.class.cast(authentication.getDetails()), user.getKey());
 
-                if (confParamOps.get(domain, "log.lastlogindate", true, Boolean.class)) {
-                    user.setLastLoginDate(OffsetDateTime.now());
-                    userModified = true;
-                }
-
-                if (user.getFailedLogins() != 0) {
-                    user.setFailedLogins(0);
-                    userModified = true;
-                }
+                OffsetDateTime lastLoginDate = confParamOps.get(domain, "log.lastlogindate", true, Boolean.class)
+                        ? OffsetDateTime.now()
+                        : null;
+                loginMetadataWriter.success(domain, user.getKey(), lastLoginDate, user.getFailedLogins() != 0);
+            } else if (isLockoutRelevant(domain, user)) {
+                loginMetadataWriter.failureNow(domain, user.getKey());
             } else {
-                user.setFailedLogins(user.getFailedLogins() + 1);
-                userModified = true;
-            }
-
-            if (userModified) {
-                userDAO.save(user);
+                loginMetadataWriter.failure(domain, user.getKey());
             }
         }
 
         return Triple.of(user, authenticated, delegationKey);
     }
 
+    /**
+     * Failed logins are relevant to lockout when any account policy applying to the given user limits the
+     * authentication attempts: in such case they need to be written before the policies are enforced.
+     * <p>
+     * Realm and resource policies are cached for
+     * {@link SecurityProperties.LoginMetadataProperties#getLockoutCacheExpireAfterWrite()}: the user's resources
+     * are only read when some resource policy limits the authentication attempts.
+     *
+     * @param domain domain
+     * @param user user
+     * @return whether failed logins of the given user are relevant to lockout
+     */
+    protected boolean isLockoutRelevant(final String domain, final User user) {
+        if (user.getRealm() != null && lockoutRealms.get(
+                Pair.of(domain, user.getRealm().getFullPath()),
+                key -> ruleEnforcer.getAccountPolicies(user.getRealm(), List.of()).stream().
+                        anyMatch(policy -> policy.getMaxAuthenticationAttempts() > 0))) {
+
+            return true;
+        }
+
+        Set<String> resources = lockoutResources.get(domain, key -> policyDAO.findAll(AccountPolicy.class).stream().
+                filter(policy -> policy.getMaxAuthenticationAttempts() > 0).
+                flatMap(policy -> resourceDAO.findByPolicy(policy).stream()).
+                map(ExternalResource::getKey).
+                collect(Collectors.toSet()));
+        return !resources.isEmpty()
+                && userDAO.findAllResources(user).stream().anyMatch(resource -> resources.contains(resource.getKey()));
+    }
+
     protected boolean authenticate(final User user, final String password) {
         boolean authenticated = ENCRYPTOR.verify(password, user.getCipherAlgorithm(), user.getPassword());
         LOG.debug("{} authenticated on internal storage: {}", user.getUsername(), authenticated);
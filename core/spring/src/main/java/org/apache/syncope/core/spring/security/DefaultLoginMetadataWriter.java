@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.syncope.core.persistence.api.SyncopeCoreLoader;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Buffers login metadata updates per domain, coalescing them per user, and writes them at fixed delay from a single
+ * scheduler thread, as narrow updates within one transaction per domain.
+ * Each flush holds the domain's write lock until committed, while synchronous failed logins hold the read lock: this
+ * way a synchronous increment never happens in between the drain and the commit of a flush, which could otherwise
+ * reset it.
+ */
+public class DefaultLoginMetadataWriter implements LoginMetadataWriter, SyncopeCoreLoader {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(LoginMetadataWriter.class);
+
+    /**
+     * Login metadata updates not yet written for a given user.
+     *
+     * @param lastLoginDate most recent login date, if any
+     * @param resetFailedLogins whether failed logins shall be reset before adding {@code failedLogins}
+     * @param failedLogins failed logins to add
+     */
+    protected record Pending(OffsetDateTime lastLoginDate, boolean resetFailedLogins, int failedLogins) {
+
+        protected static final Pending NONE = new Pending(null, false, 0);
+
+        protected static OffsetDateTime latest(final OffsetDateTime date1, final OffsetDateTime date2) {
+            return date1 == null || (date2 != null && date2.isAfter(date1)) ? date2 : date1;
+        }
+
+        protected Pending success(final OffsetDateTime date, final boolean reset) {
+            return new Pending(latest(lastLoginDate, date), resetFailedLogins || reset || failedLogins > 0, 0);
+        }
+
+        protected Pending failure() {
+            return new Pending(lastLoginDate, resetFailedLogins, failedLogins + 1);
+        }
+
+        /**
+         * @param next updates recorded after this
+         * @return updates resulting from this followed by next
+         */
+        protected Pending then(final Pending next) {
+            return next.resetFailedLogins
+                    ? new Pending(latest(lastLoginDate, next.lastLoginDate), true, next.failedLogins)
+                    : new Pending(
+                            latest(lastLoginDate, next.lastLoginDate),
+                            resetFailedLogins,
+                            failedLogins + next.failedLogins);
+        }
+    }
+
+    protected final UserDAO userDAO;
+
+    protected final TransactionOperations transactionOperations;
+
+    protected final Duration interval;
+
+    protected final Map<String, Map<String, Pending>> pending = new ConcurrentHashMap<>();
+
+    protected final Map<String, ReadWriteLock> locks = new ConcurrentHashMap<>();
+
+    protected ScheduledExecutorService scheduler;
+
+    public DefaultLoginMetadataWriter(
+            final UserDAO userDAO,
+            final TransactionOperations transactionOperations,
+            final Duration interval) {
+
+        this.userDAO = userDAO;
+        this.transactionOperations = transactionOperations;
+        this.interval = interval;
+    }
+
+    @Override
+    public int getOrder() {
+        return 1000;
+    }
+
+    @Override
+    public void load() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "LoginMetadataWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (Exception e) {
+                LOG.error("While writing login metadata", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void unload(final String domain) {
+        flush(domain);
+        pending.remove(domain);
+        locks.remove(domain);
+    }
+
+    @Override
+    public void unload() {
+        Optional.ofNullable(scheduler).ifPresent(ScheduledExecutorService::shutdown);
+        flush();
+    }
+
+    protected Map<String, Pending> buffer(final String domain) {
+        return pending.computeIfAbsent(domain, k -> new ConcurrentHashMap<>());
+    }
+
+    protected ReadWriteLock lock(final String domain) {
+        return locks.computeIfAbsent(domain, k -> new ReentrantReadWriteLock(true));
+    }
+
+    /**
+     * Runs the given action as administrator, within a new transaction on the given domain.
+     *
+     * @param domain domain
+     * @param action action to run
+     */
+    protected void inDomain(final String domain, final Runnable action) {
+        AuthContextUtils.runAsAdmin(domain, () -> transactionOperations.executeWithoutResult(status -> action.run()));
+    }
+
+    protected void write(final String userKey, final Pending update) {
+        userDAO.updateLoginMetadata(
+                userKey, update.lastLoginDate(), update.resetFailedLogins(), update.failedLogins());
+    }
+
+    @Override
+    public void success(
+            final String domain,
+            final String userKey,
+            final OffsetDateTime lastLoginDate,
+            final boolean resetFailedLogins) {
+
+        if (lastLoginDate == null && !resetFailedLogins) {
+            // nothing to write, except dropping any failed login still pending
+            buffer(domain).computeIfPresent(userKey, (key, update) -> update.success(null, false));
+        } else {
+            buffer(domain).compute(userKey, (key, update) -> Optional.ofNullable(update).orElse(Pending.NONE).
+                    success(lastLoginDate, resetFailedLogins));
+        }
+    }
+
+    @Override
+    public void failure(final String domain, final String userKey) {
+        buffer(domain).compute(userKey, (key, update) -> Optional.ofNullable(update).orElse(Pending.NONE).failure());
+    }
+
+    @Override
+    public int failureNow(final String domain, final String userKey) {
+        Lock lock = lock(domain).readLock();
+        lock.lock();
+        try {
+            Optional.ofNullable(buffer(domain).remove(userKey)).ifPresent(update -> write(userKey, update));
+            return userDAO.incrementFailedLogins(userKey);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int flush(final String domain) {
+        Map<String, Pending> buffer = pending.get(domain);
+        if (buffer == null || buffer.isEmpty()) {
+            return 0;
+        }
+
+        Lock lock = lock(domain).writeLock();
+        lock.lock();
+        try {
+            Map<String, Pending> batch = new HashMap<>();
+            buffer.keySet().forEach(userKey -> Optional.ofNullable(buffer.remove(userKey)).
+                    ifPresent(update -> batch.put(userKey, update)));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                inDomain(domain, () -> batch.forEach(this::write));
+            } catch (Exception e) {
+                LOG.error("While writing login metadata for {} users in domain {}, will retry",
+                        batch.size(), domain, e);
+
+                // put back what could not be written, ahead of anything recorded meanwhile
+                batch.forEach((userKey, update) -> buffer.merge(userKey, update, (newer, older) -> older.then(newer)));
+                return 0;
+            }
+
+            LOG.debug("Written login metadata for {} users in domain {}", batch.size(), domain);
+            return batch.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() {
+        pending.keySet().forEach(this::flush);
+    }
+}
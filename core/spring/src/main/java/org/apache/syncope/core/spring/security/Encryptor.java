@@ -19,6 +19,7 @@
 package org.apache.syncope.core.spring.security;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -29,6 +30,7 @@ import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -68,6 +70,15 @@ public final class Encryptor {
 
     private SecretKeySpec keySpec;
 
+    /**
+     * {@link Cipher} instances are not thread-safe but are reusable once initialized: keep one per thread and mode,
+     * as invoking {@link Cipher#getInstance(java.lang.String)} and {@link Cipher#init(int, java.security.Key)} on
+     * each call is expensive.
+     */
+    private final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+
+    private final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
+
     private Encryptor(final String secretKey) {
         String actualKey = secretKey;
         if (actualKey.length() < 16) {
@@ -99,10 +110,7 @@ public final class Encryptor {
 
         if (value != null) {
             if (cipherAlgorithm == null || cipherAlgorithm == CipherAlgorithm.AES) {
-                Cipher cipher = Cipher.getInstance(CipherAlgorithm.AES.getAlgorithm());
-                cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-
-                encoded = Base64.getEncoder().encodeToString(cipher.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+                encoded = new String(encode(value.getBytes(StandardCharsets.UTF_8)), StandardCharsets.US_ASCII);
             } else if (cipherAlgorithm == CipherAlgorithm.BCRYPT) {
                 encoded = BCrypt.hashpw(value, BCrypt.gensalt());
             } else {
@@ -140,15 +148,146 @@ public final class Encryptor {
         String decoded = null;
 
         if (encoded != null && cipherAlgorithm == CipherAlgorithm.AES) {
-            Cipher cipher = Cipher.getInstance(CipherAlgorithm.AES.getAlgorithm());
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-
-            decoded = new String(cipher.doFinal(Base64.getDecoder().decode(encoded)), StandardCharsets.UTF_8);
+            decoded = new String(decode(encoded.getBytes(StandardCharsets.US_ASCII)), StandardCharsets.UTF_8);
         }
 
         return decoded;
     }
 
+    /**
+     * Encrypts the given value with AES, returning the Base64 encoding of the result.
+     *
+     * @param value value to encrypt
+     * @return Base64-encoded AES encryption of the given value, or {@code null} if value was {@code null}
+     * @throws NoSuchAlgorithmException if AES is not available
+     * @throws NoSuchPaddingException if AES padding is not available
+     * @throws InvalidKeyException if the configured secret key is not valid for AES
+     * @throws IllegalBlockSizeException if encryption fails
+     * @throws BadPaddingException if encryption fails
+     */
+    public byte[] encode(final byte[] value)
+            throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException,
+            IllegalBlockSizeException, BadPaddingException {
+
+        if (value == null) {
+            return null;
+        }
+
+        return Base64.getEncoder().encode(doFinal(encryptCipher, Cipher.ENCRYPT_MODE, value));
+    }
+
+    /**
+     * Encrypts the remaining bytes of the given buffer with AES, returning a new buffer with the Base64 encoding of
+     * the result; the given buffer's position is moved to its limit.
+     *
+     * @param value value to encrypt
+     * @return Base64-encoded AES encryption of the given value, or {@code null} if value was {@code null}
+     * @throws NoSuchAlgorithmException if AES is not available
+     * @throws NoSuchPaddingException if AES padding is not available
+     * @throws InvalidKeyException if the configured secret key is not valid for AES
+     * @throws IllegalBlockSizeException if encryption fails
+     * @throws BadPaddingException if encryption fails
+     */
+    public ByteBuffer encode(final ByteBuffer value)
+            throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException,
+            IllegalBlockSizeException, BadPaddingException {
+
+        if (value == null) {
+            return null;
+        }
+
+        return Base64.getEncoder().encode(doFinal(encryptCipher, Cipher.ENCRYPT_MODE, value));
+    }
+
+    /**
+     * Decrypts the given Base64-encoded, AES-encrypted value.
+     *
+     * @param encoded Base64-encoded, AES-encrypted value
+     * @return decrypted value, or {@code null} if encoded was {@code null}
+     * @throws NoSuchAlgorithmException if AES is not available
+     * @throws NoSuchPaddingException if AES padding is not available
+     * @throws InvalidKeyException if the configured secret key is not valid for AES
+     * @throws IllegalBlockSizeException if decryption fails
+     * @throws BadPaddingException if decryption fails
+     */
+    public byte[] decode(final byte[] encoded)
+            throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException,
+            IllegalBlockSizeException, BadPaddingException {
+
+        if (encoded == null) {
+            return null;
+        }
+
+        return doFinal(decryptCipher, Cipher.DECRYPT_MODE, Base64.getDecoder().decode(encoded));
+    }
+
+    /**
+     * Decrypts the remaining bytes of the given Base64-encoded, AES-encrypted buffer, returning a new buffer; the
+     * given buffer's position is moved to its limit.
+     *
+     * @param encoded Base64-encoded, AES-encrypted value
+     * @return decrypted value, or {@code null} if encoded was {@code null}
+     * @throws NoSuchAlgorithmException if AES is not available
+     * @throws NoSuchPaddingException if AES padding is not available
+     * @throws InvalidKeyException if the configured secret key is not valid for AES
+     * @throws IllegalBlockSizeException if decryption fails
+     * @throws BadPaddingException if decryption fails
+     */
+    public ByteBuffer decode(final ByteBuffer encoded)
+            throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException,
+            IllegalBlockSizeException, BadPaddingException {
+
+        if (encoded == null) {
+            return null;
+        }
+
+        return doFinal(decryptCipher, Cipher.DECRYPT_MODE, Base64.getDecoder().decode(encoded));
+    }
+
+    private Cipher getCipher(final ThreadLocal<Cipher> ciphers, final int mode)
+            throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException {
+
+        Cipher cipher = ciphers.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(CipherAlgorithm.AES.getAlgorithm());
+            cipher.init(mode, keySpec);
+            ciphers.set(cipher);
+        }
+        return cipher;
+    }
+
+    private byte[] doFinal(final ThreadLocal<Cipher> ciphers, final int mode, final byte[] input)
+            throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException,
+            IllegalBlockSizeException, BadPaddingException {
+
+        try {
+            return getCipher(ciphers, mode).doFinal(input);
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            // cipher state is not guaranteed after failure: force re-initialization on next call
+            ciphers.remove();
+            throw e;
+        }
+    }
+
+    private ByteBuffer doFinal(final ThreadLocal<Cipher> ciphers, final int mode, final ByteBuffer input)
+            throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException,
+            IllegalBlockSizeException, BadPaddingException {
+
+        Cipher cipher = getCipher(ciphers, mode);
+        try {
+            ByteBuffer output = ByteBuffer.allocate(cipher.getOutputSize(input.remaining()));
+            cipher.doFinal(input, output);
+            return output.flip();
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            // cipher state is not guaranteed after failure: force re-initialization on next call
+            ciphers.remove();
+            throw e;
+        } catch (ShortBufferException e) {
+            ciphers.remove();
+            throw new IllegalStateException("Unexpected output buffer size", e);
+        }
+    }
+
     private StandardStringDigester getDigester(final CipherAlgorithm cipherAlgorithm) {
         StandardStringDigester digester = digesters.get(cipherAlgorithm);
         if (digester == null) {
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Records the login metadata - last login date and failed logins - resulting from authentication attempts.
+ * Updates can be buffered and written behind, coalesced per user; the synchronous path is meant for failed logins
+ * which account policies need to see right away.
+ */
+public interface LoginMetadataWriter {
+
+    /**
+     * Records a successful login, to be written behind.
+     *
+     * @param domain domain
+     * @param userKey user key
+     * @param lastLoginDate last login date, or null if not to be updated
+     * @param resetFailedLogins whether failed logins shall be reset
+     */
+    void success(String domain, String userKey, OffsetDateTime lastLoginDate, boolean resetFailedLogins);
+
+    /**
+     * Records a failed login, to be written behind.
+     *
+     * @param domain domain
+     * @param userKey user key
+     */
+    void failure(String domain, String userKey);
+
+    /**
+     * Writes a failed login right away, after any update still pending for the same user; to be invoked within a
+     * transaction on the given domain.
+     *
+     * @param domain domain
+     * @param userKey user key
+     * @return failed logins after increment
+     */
+    int failureNow(String domain, String userKey);
+
+    /**
+     * Writes all updates pending for the given domain.
+     *
+     * @param domain domain
+     * @return number of users whose login metadata was written
+     */
+    int flush(String domain);
+
+    /**
+     * Writes all updates pending for all domains.
+     */
+    void flush();
+}
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.spring.security;
 
 import com.nimbusds.jose.JWSAlgorithm;
+import java.time.Duration;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -82,6 +83,36 @@ public class SecurityProperties {
         }
     }
 
+    public static class LoginMetadataProperties {
+
+        /**
+         * Delay between two writes of the buffered login metadata updates.
+         */
+        private Duration flushInterval = Duration.ofSeconds(2);
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(final Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        /**
+         * How long the account policies limiting authentication attempts are cached, per realm and per domain,
+         * before being read again.
+         */
+        private Duration lockoutCacheExpireAfterWrite = Duration.ofMinutes(1);
+
+        public Duration getLockoutCacheExpireAfterWrite() {
+            return lockoutCacheExpireAfterWrite;
+        }
+
+        public void setLockoutCacheExpireAfterWrite(final Duration lockoutCacheExpireAfterWrite) {
+            this.lockoutCacheExpireAfterWrite = lockoutCacheExpireAfterWrite;
+        }
+    }
+
     private String adminUser;
 
     private String adminPassword;
@@ -102,6 +133,8 @@ public class SecurityProperties {
 
     private final DigesterProperties digester = new DigesterProperties();
 
+    private final LoginMetadataProperties loginMetadata = new LoginMetadataProperties();
+
     public String getAdminUser() {
         return adminUser;
     }
@@ -177,4 +210,8 @@ public class SecurityProperties {
     public DigesterProperties getDigester() {
         return digester;
     }
+
+    public LoginMetadataProperties getLoginMetadata() {
+        return loginMetadata;
+    }
 }
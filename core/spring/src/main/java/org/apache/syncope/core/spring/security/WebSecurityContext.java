@@ -25,7 +25,9 @@ import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -33,6 +35,7 @@ import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
+import org.apache.syncope.core.provisioning.api.rules.RuleEnforcer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -50,6 +53,7 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
 import org.springframework.security.web.firewall.DefaultHttpFirewall;
 import org.springframework.security.web.firewall.HttpFirewall;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
@@ -138,6 +142,19 @@ public class WebSecurityContext {
         return new SyncopeAccessDeniedHandler();
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public LoginMetadataWriter loginMetadataWriter(
+            final SecurityProperties securityProperties,
+            final UserDAO userDAO,
+            final TransactionTemplate domainTransactionTemplate) {
+
+        return new DefaultLoginMetadataWriter(
+                userDAO,
+                domainTransactionTemplate,
+                securityProperties.getLoginMetadata().getFlushInterval());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public AuthDataAccessor authDataAccessor(
@@ -150,9 +167,13 @@ public class WebSecurityContext {
             final ConfParamOps confParamOps,
             final RoleDAO roleDAO,
             final DelegationDAO delegationDAO,
+            final PolicyDAO policyDAO,
+            final ExternalResourceDAO resourceDAO,
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
+            final RuleEnforcer ruleEnforcer,
+            final LoginMetadataWriter loginMetadataWriter,
             final List<JWTSSOProvider> jwtSSOProviders) {
 
         return new AuthDataAccessor(
@@ -165,9 +186,13 @@ public class WebSecurityContext {
                 confParamOps,
                 roleDAO,
                 delegationDAO,
+                policyDAO,
+                resourceDAO,
                 connectorManager,
                 auditManager,
                 mappingManager,
+                ruleEnforcer,
+                loginMetadataWriter,
                 jwtSSOProviders);
     }
 }
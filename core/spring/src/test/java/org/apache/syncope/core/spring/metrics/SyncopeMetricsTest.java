@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SyncopeMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    public void bind() {
+        registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterEach
+    public void unbind() {
+        Metrics.removeRegistry(registry);
+        Metrics.globalRegistry.clear();
+    }
+
+    @Test
+    public void timer() {
+        for (int i = 0; i < 3; i++) {
+            Timer.Sample sample = SyncopeMetrics.start();
+            SyncopeMetrics.stop(sample, SyncopeMetrics.CONNECTOR,
+                    SyncopeMetrics.RESOURCE, "resource-test",
+                    SyncopeMetrics.OPERATION, "create",
+                    SyncopeMetrics.OUTCOME, SyncopeMetrics.SUCCESS);
+        }
+        // null tag values are replaced, not rejected
+        SyncopeMetrics.stop(SyncopeMetrics.start(), SyncopeMetrics.CONNECTOR,
+                SyncopeMetrics.RESOURCE, null,
+                SyncopeMetrics.OPERATION, "test",
+                SyncopeMetrics.OUTCOME, SyncopeMetrics.FAILURE);
+
+        Timer timer = registry.find(SyncopeMetrics.CONNECTOR).
+                tag(SyncopeMetrics.DOMAIN, SyncopeConstants.MASTER_DOMAIN).
+                tag(SyncopeMetrics.RESOURCE, "resource-test").
+                tag(SyncopeMetrics.OPERATION, "create").
+                timer();
+        assertEquals(3, timer.count());
+
+        assertEquals(1, registry.find(SyncopeMetrics.CONNECTOR).
+                tag(SyncopeMetrics.RESOURCE, SyncopeMetrics.NONE).
+                tag(SyncopeMetrics.OUTCOME, SyncopeMetrics.FAILURE).
+                timer().count());
+    }
+
+    @Test
+    public void record() {
+        SyncopeMetrics.record(SyncopeMetrics.CONNECTOR, TimeUnit.MILLISECONDS.toNanos(42),
+                SyncopeMetrics.RESOURCE, "resource-test",
+                SyncopeMetrics.OPERATION, "update",
+                SyncopeMetrics.OUTCOME, SyncopeMetrics.SUCCESS);
+
+        Timer timer = registry.find(SyncopeMetrics.CONNECTOR).tag(SyncopeMetrics.OPERATION, "update").timer();
+        assertEquals(1, timer.count());
+        assertEquals(42, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void counter() {
+        SyncopeMetrics.increment(SyncopeMetrics.PROPAGATION_RETRIES,
+                SyncopeMetrics.RESOURCE, "resource-test",
+                SyncopeMetrics.OPERATION, "UPDATE");
+        SyncopeMetrics.increment(SyncopeMetrics.PROPAGATION_RETRIES,
+                SyncopeMetrics.RESOURCE, "resource-test",
+                SyncopeMetrics.OPERATION, "UPDATE");
+
+        assertEquals(2, registry.find(SyncopeMetrics.PROPAGATION_RETRIES).
+                tag(SyncopeMetrics.OPERATION, "UPDATE").
+                counter().count());
+        assertNull(registry.find(SyncopeMetrics.PROPAGATION_RETRIES).tag(SyncopeMetrics.OPERATION, "DELETE").counter());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.rules.RuleEnforcer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthDataAccessorTest {
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private PolicyDAO policyDAO;
+
+    @Mock
+    private ExternalResourceDAO resourceDAO;
+
+    @Mock
+    private RuleEnforcer ruleEnforcer;
+
+    @Mock
+    private Realm realm;
+
+    @Mock
+    private User user;
+
+    private AuthDataAccessor authDataAccessor;
+
+    @BeforeEach
+    public void setUp() {
+        authDataAccessor = new AuthDataAccessor(
+                new SecurityProperties(),
+                null,
+                userDAO,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                policyDAO,
+                resourceDAO,
+                null,
+                null,
+                null,
+                ruleEnforcer,
+                null,
+                List.of());
+
+        when(realm.getFullPath()).thenReturn(SyncopeConstants.ROOT_REALM);
+        when(user.getRealm()).thenReturn(realm);
+    }
+
+    @Test
+    public void realmPolicyIsCached(final @Mock AccountPolicy policy) {
+        when(policy.getMaxAuthenticationAttempts()).thenReturn(3);
+        when(ruleEnforcer.getAccountPolicies(realm, List.of())).thenReturn(List.of(policy));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(authDataAccessor.isLockoutRelevant(SyncopeConstants.MASTER_DOMAIN, user));
+        }
+
+        verify(ruleEnforcer, times(1)).getAccountPolicies(realm, List.of());
+        verify(policyDAO, never()).findAll(AccountPolicy.class);
+        verify(userDAO, never()).findAllResources(any());
+    }
+
+    @Test
+    public void noLimitingPolicy(final @Mock AccountPolicy policy) {
+        when(ruleEnforcer.getAccountPolicies(realm, List.of())).thenReturn(List.of());
+        when(policy.getMaxAuthenticationAttempts()).thenReturn(0);
+        when(policyDAO.findAll(AccountPolicy.class)).thenReturn(List.of(policy));
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(authDataAccessor.isLockoutRelevant(SyncopeConstants.MASTER_DOMAIN, user));
+        }
+
+        verify(ruleEnforcer, times(1)).getAccountPolicies(realm, List.of());
+        verify(policyDAO, times(1)).findAll(AccountPolicy.class);
+        verify(resourceDAO, never()).findByPolicy(any());
+        verify(userDAO, never()).findAllResources(any());
+    }
+
+    @Test
+    public void resourcePolicy(
+            final @Mock AccountPolicy policy,
+            final @Mock ExternalResource limited,
+            final @Mock ExternalResource other) {
+
+        when(ruleEnforcer.getAccountPolicies(realm, List.of())).thenReturn(List.of());
+        when(policy.getMaxAuthenticationAttempts()).thenReturn(3);
+        when(policyDAO.findAll(AccountPolicy.class)).thenReturn(List.of(policy));
+        when(limited.getKey()).thenReturn("resource-ldap");
+        when(resourceDAO.findByPolicy(policy)).thenReturn(List.of(limited));
+        when(other.getKey()).thenReturn("resource-csv");
+        when(userDAO.findAllResources(user)).thenReturn(List.of(other)).thenReturn(List.of(other, limited));
+
+        assertFalse(authDataAccessor.isLockoutRelevant(SyncopeConstants.MASTER_DOMAIN, user));
+        assertTrue(authDataAccessor.isLockoutRelevant(SyncopeConstants.MASTER_DOMAIN, user));
+
+        verify(policyDAO, times(1)).findAll(AccountPolicy.class);
+        verify(resourceDAO, times(1)).findByPolicy(policy);
+        verify(userDAO, times(2)).findAllResources(user);
+    }
+}
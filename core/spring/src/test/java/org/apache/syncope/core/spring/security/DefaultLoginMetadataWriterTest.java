@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+public class DefaultLoginMetadataWriterTest {
+
+    private static final String DOMAIN = SyncopeConstants.MASTER_DOMAIN;
+
+    /**
+     * Runs actions without security context nor transaction; when required, fails every few flushes before
+     * writing anything, as a rolled back transaction would.
+     */
+    private static class TestLoginMetadataWriter extends DefaultLoginMetadataWriter {
+
+        private final AtomicInteger flushes = new AtomicInteger();
+
+        private volatile boolean failing;
+
+        TestLoginMetadataWriter(final UserDAO userDAO) {
+            super(userDAO, TransactionOperations.withoutTransaction(), Duration.ofSeconds(1));
+        }
+
+        @Override
+        protected void inDomain(final String domain, final Runnable action) {
+            if (failing && flushes.incrementAndGet() % 5 == 0) {
+                throw new IllegalStateException("Simulated rollback");
+            }
+            action.run();
+        }
+    }
+
+    private final Map<String, Integer> failedLogins = new ConcurrentHashMap<>();
+
+    private final Map<String, OffsetDateTime> lastLoginDates = new ConcurrentHashMap<>();
+
+    private TestLoginMetadataWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        UserDAO userDAO = mock(UserDAO.class);
+        doAnswer(ic -> {
+            String key = ic.getArgument(0);
+            OffsetDateTime lastLoginDate = ic.getArgument(1);
+            boolean reset = ic.getArgument(2);
+            int increment = ic.getArgument(3);
+
+            failedLogins.compute(key, (k, v) -> (reset || v == null ? 0 : v) + increment);
+            if (lastLoginDate != null) {
+                lastLoginDates.put(key, lastLoginDate);
+            }
+            return null;
+        }).when(userDAO).updateLoginMetadata(anyString(), any(), anyBoolean(), anyInt());
+        when(userDAO.incrementFailedLogins(anyString())).
+                thenAnswer(ic -> failedLogins.merge(ic.getArgument(0), 1, Integer::sum));
+
+        writer = new TestLoginMetadataWriter(userDAO);
+    }
+
+    @Test
+    public void noLostIncrements() throws Exception {
+        writer.failing = true;
+
+        List<String> users = List.of("user1", "user2", "user3", "user4");
+        Map<String, AtomicInteger> expected = new ConcurrentHashMap<>();
+        users.forEach(user -> expected.put(user, new AtomicInteger()));
+
+        int threads = 8;
+        int attempts = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            AtomicBoolean done = new AtomicBoolean();
+            Future<?> flusher = executor.submit(() -> {
+                while (!done.get()) {
+                    try {
+                        writer.flush(DOMAIN);
+                    } catch (Exception e) {
+                        // simulated rollback, the same updates will be written by next flush
+                    }
+                }
+            });
+
+            List<Future<?>> logins = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                logins.add(executor.submit(() -> {
+                    for (int j = 0; j < attempts; j++) {
+                        String user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+                        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+                            writer.failureNow(DOMAIN, user);
+                        } else {
+                            writer.failure(DOMAIN, user);
+                        }
+                        expected.get(user).incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> login : logins) {
+                login.get(1, TimeUnit.MINUTES);
+            }
+            done.set(true);
+            flusher.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        writer.failing = false;
+        writer.flush();
+
+        users.forEach(user -> assertEquals(expected.get(user).get(), failedLogins.get(user)));
+        assertEquals(threads * attempts, failedLogins.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void coalesce() {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        writer.failure(DOMAIN, "user1");
+        writer.failure(DOMAIN, "user1");
+        writer.success(DOMAIN, "user1", now, false);
+        writer.success(DOMAIN, "user1", now.minusMinutes(1), false);
+        writer.failure(DOMAIN, "user1");
+        writer.success(DOMAIN, "user2", null, false);
+
+        assertEquals(1, writer.flush(DOMAIN));
+        assertEquals(1, failedLogins.get("user1"));
+        assertEquals(now, lastLoginDates.get("user1"));
+        assertNull(failedLogins.get("user2"));
+    }
+
+    @Test
+    public void failureNowAfterPending() {
+        failedLogins.put("user1", 4);
+
+        writer.success(DOMAIN, "user1", OffsetDateTime.now(), true);
+        writer.failure(DOMAIN, "user1");
+        assertEquals(2, writer.failureNow(DOMAIN, "user1"));
+
+        assertEquals(0, writer.flush(DOMAIN));
+        assertEquals(2, failedLogins.get("user1"));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.syncope.common.lib.types.CipherAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Tracks AES throughput of {@link Encryptor} on the paths used for access token authorities and for password
+ * propagation; run with
+ * <pre>
+ * mvn -pl core/spring test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *   -Dexec.args="-cp %classpath org.apache.syncope.core.spring.security.EncryptorBenchmark"
+ * </pre>
+ * as the benchmark JVM is forked, it needs the test classpath on the command line rather than in a Maven class loader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class EncryptorBenchmark {
+
+    private static final String SECRET_KEY = "1abcdefghilmnopqrstuvz2!";
+
+    private Encryptor encryptor;
+
+    private SecretKeySpec keySpec;
+
+    private String password;
+
+    private String encodedPassword;
+
+    private byte[] authorities;
+
+    private byte[] encodedAuthorities;
+
+    @Setup
+    public void setup() throws Exception {
+        encryptor = Encryptor.getInstance(SECRET_KEY);
+        keySpec = new SecretKeySpec(ArrayUtils.subarray(
+                SECRET_KEY.getBytes(StandardCharsets.UTF_8), 0, 16), CipherAlgorithm.AES.getAlgorithm());
+
+        password = "Password123!";
+        encodedPassword = encryptor.encode(password, CipherAlgorithm.AES);
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"entitlement\":\"ENTITLEMENT_").append(i).append("\",\"realms\":[\"/\"]}");
+        }
+        json.append(']');
+        authorities = json.toString().getBytes(StandardCharsets.UTF_8);
+        encodedAuthorities = encryptor.encode(authorities);
+    }
+
+    @Benchmark
+    public String encodePassword() throws Exception {
+        return encryptor.encode(password, CipherAlgorithm.AES);
+    }
+
+    @Benchmark
+    public String decodePassword() throws Exception {
+        return encryptor.decode(encodedPassword, CipherAlgorithm.AES);
+    }
+
+    @Benchmark
+    public byte[] encodeAuthorities() throws Exception {
+        return encryptor.encode(authorities);
+    }
+
+    @Benchmark
+    public byte[] decodeAuthorities() throws Exception {
+        return encryptor.decode(encodedAuthorities);
+    }
+
+    /**
+     * Baseline: new {@link Cipher} instance for each invocation, String-based Base64 round trip.
+     *
+     * @return decoded authorities
+     * @throws Exception if decryption fails
+     */
+    @Benchmark
+    public String decodeAuthoritiesNewCipher() throws Exception {
+        Cipher cipher = Cipher.getInstance(CipherAlgorithm.AES.getAlgorithm());
+        cipher.init(Cipher.DECRYPT_MODE, keySpec);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(
+                new String(encodedAuthorities, StandardCharsets.US_ASCII))), StandardCharsets.UTF_8);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EncryptorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
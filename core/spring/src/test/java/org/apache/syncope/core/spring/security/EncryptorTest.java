@@ -18,11 +18,19 @@
  */
 package org.apache.syncope.core.spring.security;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.junit.jupiter.api.BeforeAll;
@@ -65,6 +73,37 @@ public class EncryptorTest {
         assertEquals(PASSWORD_VALUE, decPassword);
     }
 
+    @Test
+    public void bytes() throws Exception {
+        byte[] encoded = ENCRYPTOR.encode(PASSWORD_VALUE.getBytes(StandardCharsets.UTF_8));
+        assertEquals("9Pav+xl+UyHt02H9ZBytiA==", new String(encoded, StandardCharsets.US_ASCII));
+        assertArrayEquals(PASSWORD_VALUE.getBytes(StandardCharsets.UTF_8), ENCRYPTOR.decode(encoded));
+
+        ByteBuffer encodedBuffer = ENCRYPTOR.encode(ByteBuffer.wrap(PASSWORD_VALUE.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(
+                "9Pav+xl+UyHt02H9ZBytiA==",
+                StandardCharsets.US_ASCII.decode(encodedBuffer.duplicate()).toString());
+        assertEquals(PASSWORD_VALUE, StandardCharsets.UTF_8.decode(ENCRYPTOR.decode(encodedBuffer)).toString());
+    }
+
+    @Test
+    public void concurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String value = PASSWORD_VALUE + i;
+                results.add(executor.submit(() -> value.equals(
+                        ENCRYPTOR.decode(ENCRYPTOR.encode(value, CipherAlgorithm.AES), CipherAlgorithm.AES))));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void smallKey() throws Exception {
         Encryptor smallKeyEncryptor = Encryptor.getInstance("123");
@@ -21,7 +21,6 @@ package org.apache.syncope.core.starter;
 import java.util.Map;
 import org.apache.cxf.spring.boot.autoconfigure.openapi.OpenApiAutoConfiguration;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
-import org.apache.syncope.common.keymaster.client.api.DomainOps;
 import org.apache.syncope.common.keymaster.client.api.startstop.KeymasterStop;
 import org.apache.syncope.common.lib.info.SystemInfo;
 import org.apache.syncope.core.persistence.api.DomainHolder;
@@ -33,6 +32,7 @@ import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
 import org.apache.syncope.core.persistence.api.dao.PersistenceInfoDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaIndexDAO;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.SecurityQuestionDAO;
@@ -42,12 +42,19 @@ import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.ConnectorManager;
 import org.apache.syncope.core.provisioning.api.ImplementationLookup;
-import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
+import org.apache.syncope.core.provisioning.api.ResourceHealthMonitor;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
+import org.apache.syncope.core.starter.actuate.ConnectorPoolEndpoint;
+import org.apache.syncope.core.starter.actuate.ConnectorsHealthIndicator;
 import org.apache.syncope.core.starter.actuate.DefaultSyncopeCoreInfoContributor;
 import org.apache.syncope.core.starter.actuate.DomainsHealthIndicator;
 import org.apache.syncope.core.starter.actuate.EntityCacheEndpoint;
 import org.apache.syncope.core.starter.actuate.ExternalResourcesHealthIndicator;
+import org.apache.syncope.core.starter.actuate.PlainSchemaIndexEndpoint;
+import org.apache.syncope.core.starter.actuate.ResourceLimiterEndpoint;
 import org.apache.syncope.core.starter.actuate.SyncopeCoreInfoContributor;
+import org.apache.syncope.core.starter.actuate.VirAttrCacheEndpoint;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.mail.MailHealthIndicator;
@@ -176,12 +183,15 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
     @ConditionalOnMissingBean
     @Bean
     public ExternalResourcesHealthIndicator externalResourcesHealthIndicator(
-            final DomainOps domainOps,
-            final ExternalResourceDAO resourceDAO,
-            final ConnInstanceDataBinder connInstanceDataBinder,
-            final ConnectorManager connectorManager) {
+            final ResourceHealthMonitor resourceHealthMonitor) {
+
+        return new ExternalResourcesHealthIndicator(resourceHealthMonitor);
+    }
 
-        return new ExternalResourcesHealthIndicator(domainOps, resourceDAO, connInstanceDataBinder, connectorManager);
+    @ConditionalOnMissingBean
+    @Bean
+    public ConnectorsHealthIndicator connectorsHealthIndicator(final ConnectorManager connectorManager) {
+        return new ConnectorsHealthIndicator(connectorManager);
     }
 
     @ConditionalOnMissingBean
@@ -190,6 +200,33 @@ public class SyncopeCoreApplication extends SpringBootServletInitializer {
         return new EntityCacheEndpoint(entityCacheDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public VirAttrCacheEndpoint virAttrCacheEndpoint(final VirAttrCache virAttrCache) {
+        return new VirAttrCacheEndpoint(virAttrCache);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PlainSchemaIndexEndpoint plainSchemaIndexEndpoint(final PlainSchemaIndexDAO plainSchemaIndexDAO) {
+        return new PlainSchemaIndexEndpoint(plainSchemaIndexDAO);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public ResourceLimiterEndpoint resourceLimiterEndpoint(final ResourceLimiter resourceLimiter) {
+        return new ResourceLimiterEndpoint(resourceLimiter);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public ConnectorPoolEndpoint connectorPoolEndpoint(
+            final DomainHolder domainHolder,
+            final ConnectorManager connectorManager) {
+
+        return new ConnectorPoolEndpoint(domainHolder, connectorManager);
+    }
+
     @Bean
     public SyncopeStarterEventListener syncopeCoreEventListener(
             @Qualifier("syncopeCoreInfoContributor")
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.syncope.core.persistence.api.DomainHolder;
+import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.apache.syncope.core.provisioning.api.ConnectorPoolStatus;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Endpoint(id = "connectorPools")
+public class ConnectorPoolEndpoint {
+
+    protected final DomainHolder domainHolder;
+
+    protected final ConnectorManager connectorManager;
+
+    public ConnectorPoolEndpoint(final DomainHolder domainHolder, final ConnectorManager connectorManager) {
+        this.domainHolder = domainHolder;
+        this.connectorManager = connectorManager;
+    }
+
+    @ReadOperation
+    public Map<String, List<ConnectorPoolStatus>> statuses() {
+        Map<String, List<ConnectorPoolStatus>> statuses = new TreeMap<>();
+        domainHolder.getDomains().keySet().forEach(domain -> statuses.put(
+                domain, AuthContextUtils.callAsAdmin(domain, connectorManager::getPoolStatuses)));
+        return statuses;
+    }
+
+    @ReadOperation
+    public List<ConnectorPoolStatus> statuses(final @Selector String domain) {
+        if (!domainHolder.getDomains().containsKey(domain)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Domain " + domain);
+        }
+        return AuthContextUtils.callAsAdmin(domain, connectorManager::getPoolStatuses);
+    }
+}
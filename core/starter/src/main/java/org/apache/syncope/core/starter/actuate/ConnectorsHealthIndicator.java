@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.syncope.core.provisioning.api.ConnectorManager;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Reports whether connectors were loaded for each domain, and how long it took; can be used as readiness indicator.
+ */
+public class ConnectorsHealthIndicator implements HealthIndicator {
+
+    protected final ConnectorManager connectorManager;
+
+    public ConnectorsHealthIndicator(final ConnectorManager connectorManager) {
+        this.connectorManager = connectorManager;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = new Health.Builder();
+
+        AtomicReference<Boolean> anyLoading = new AtomicReference<>(Boolean.FALSE);
+
+        connectorManager.getLoadingStatus().forEach((domain, status) -> {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("ready", status.isReady());
+            details.put("lazy", status.isLazy());
+            details.put("total", status.getTotal());
+            details.put("registered", status.getRegistered());
+            details.put("failed", status.getFailed());
+            details.put("pending", status.getPending());
+            details.put("start", status.getStart());
+            status.getEnd().ifPresent(end -> details.put("end", end));
+            details.put("durationMillis", status.getDuration().toMillis());
+
+            builder.withDetail(domain, details);
+            if (!status.isReady()) {
+                anyLoading.set(true);
+            }
+        });
+
+        builder.status(anyLoading.get() ? Status.OUT_OF_SERVICE : Status.UP);
+
+        return builder.build();
+    }
+}
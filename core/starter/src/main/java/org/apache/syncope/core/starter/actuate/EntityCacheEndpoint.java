@@ -65,8 +65,26 @@ public class EntityCacheEndpoint {
         }
     }
 
+    @ReadOperation
+    public Object region(final @Selector String region) {
+        Object regions = entityCacheDAO.getStatistics().get("storeCache") instanceof Map<?, ?> storeCache
+                ? storeCache.get("regions")
+                : null;
+        if (regions instanceof Map<?, ?> map && map.containsKey(region)) {
+            return map.get(region);
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Region not found: " + region);
+    }
+
     @DeleteOperation
     public void clearCache() {
         entityCacheDAO.clearCache();
     }
+
+    @DeleteOperation
+    public void clearRegion(final @Selector String region) {
+        if (!entityCacheDAO.clearRegion(region)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Region not found: " + region);
+        }
+    }
 }
@@ -18,79 +18,54 @@
  */
 package org.apache.syncope.core.starter.actuate;
 
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
-import org.apache.syncope.common.keymaster.client.api.DomainOps;
-import org.apache.syncope.common.keymaster.client.api.model.Domain;
-import org.apache.syncope.common.lib.SyncopeConstants;
-import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
-import org.apache.syncope.core.provisioning.api.ConnectorManager;
-import org.apache.syncope.core.provisioning.api.data.ConnInstanceDataBinder;
-import org.apache.syncope.core.spring.security.AuthContextUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.syncope.core.provisioning.api.ResourceHealthMonitor;
+import org.apache.syncope.core.provisioning.api.ResourceHealthStatus;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.actuate.health.Status;
 
+/**
+ * Reports the outcome of the latest {@link ResourceHealthMonitor} probe for each resource, without contacting any;
+ * status is {@link Status#UNKNOWN} until the first probe round has completed, and for resources whose connector was
+ * not loaded yet.
+ */
 public class ExternalResourcesHealthIndicator implements HealthIndicator {
 
-    protected static final Logger LOG = LoggerFactory.getLogger(ExternalResourcesHealthIndicator.class);
-
-    protected final DomainOps domainOps;
-
-    protected final ExternalResourceDAO resourceDAO;
-
-    protected final ConnInstanceDataBinder connInstanceDataBinder;
-
-    protected final ConnectorManager connectorManager;
-
-    public ExternalResourcesHealthIndicator(
-            final DomainOps domainOps,
-            final ExternalResourceDAO resourceDAO,
-            final ConnInstanceDataBinder connInstanceDataBinder,
-            final ConnectorManager connectorManager) {
+    protected final ResourceHealthMonitor resourceHealthMonitor;
 
-        this.domainOps = domainOps;
-        this.resourceDAO = resourceDAO;
-        this.connInstanceDataBinder = connInstanceDataBinder;
-        this.connectorManager = connectorManager;
+    public ExternalResourcesHealthIndicator(final ResourceHealthMonitor resourceHealthMonitor) {
+        this.resourceHealthMonitor = resourceHealthMonitor;
     }
 
     @Override
     public Health health() {
-        Health.Builder builder = new Health.Builder();
-
-        AtomicReference<Boolean> anyDown = new AtomicReference<>(Boolean.FALSE);
-
-        Stream.concat(Stream.of(SyncopeConstants.MASTER_DOMAIN), domainOps.list().stream().map(Domain::getKey)).
-                forEach(domain -> AuthContextUtils.runAsAdmin(domain, () -> {
+        if (!resourceHealthMonitor.isReady()) {
+            return Health.unknown().build();
+        }
 
-            resourceDAO.findAll().forEach(resource -> {
-                Status status;
-                try {
-                    connectorManager.createConnector(
-                            connectorManager.buildConnInstanceOverride(
-                                    connInstanceDataBinder.getConnInstanceTO(resource.getConnector()),
-                                    resource.getConfOverride(),
-                                    resource.isOverrideCapabilities()
-                                    ? Optional.of(resource.getCapabilitiesOverride()) : Optional.empty())).
-                            test();
-                    status = Status.UP;
-                } catch (Exception e) {
-                    status = Status.DOWN;
-                    LOG.debug("When checking {} in Domain {}", resource.getKey(), domain, e);
-                }
-
-                builder.withDetail(domain + "#" + resource.getKey(), status);
-                if (status != Status.UP) {
-                    anyDown.set(true);
-                }
-            });
-        }));
+        Health.Builder builder = new Health.Builder();
 
-        builder.status(anyDown.get() ? Status.DOWN : Status.UP);
+        boolean anyDown = false;
+        for (ResourceHealthStatus status : resourceHealthMonitor.getStatuses()) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            Status resourceStatus = Status.UNKNOWN;
+            if (status.isLoaded()) {
+                resourceStatus = status.isUp() ? Status.UP : Status.DOWN;
+            }
+            detail.put("status", resourceStatus);
+            detail.put("age", status.getAge());
+            detail.put("latency", status.getLatency());
+            if (status.getError() != null) {
+                detail.put("error", status.getError());
+            }
+            builder.withDetail(status.getDomain() + "#" + status.getResource(), detail);
+
+            anyDown |= status.isLoaded() && !status.isUp();
+        }
+
+        builder.status(anyDown ? Status.DOWN : Status.UP);
 
         return builder.build();
     }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.starter.actuate;
+
+import java.util.List;
+import org.apache.syncope.core.provisioning.api.ResourceLimiter;
+import org.apache.syncope.core.provisioning.api.ResourceLimiterStatus;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Endpoint(id = "resourceLimiter")
+public class ResourceLimiterEndpoint {
+
+    protected final ResourceLimiter resourceLimiter;
+
+    public ResourceLimiterEndpoint(final ResourceLimiter resourceLimiter) {
+        this.resourceLimiter = resourceLimiter;
+    }
+
+    @ReadOperation
+    public List<ResourceLimiterStatus> statuses() {
+        return resourceLimiter.getStatuses();
+    }
+
+    @ReadOperation
+    public ResourceLimiterStatus status(final @Selector String resource) {
+        return resourceLimiter.getStatus(resource).
+                orElseThrow(() -> new ResponseStatusException(
+                HttpStatus.NOT_FOUND, "No connector calls performed for resource " + resource));
+    }
+
+    @DeleteOperation
+    public void reset(final @Selector String resource) {
+        resourceLimiter.reset(resource);
+    }
+}
@@ -19,8 +19,11 @@
 package org.apache.syncope.ext.elasticsearch.client;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.InlineScript;
 import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.Script;
 import co.elastic.clients.elasticsearch._types.analysis.CustomNormalizer;
 import co.elastic.clients.elasticsearch._types.analysis.Normalizer;
 import co.elastic.clients.elasticsearch._types.mapping.DynamicTemplate;
@@ -29,10 +32,14 @@ import co.elastic.clients.elasticsearch._types.mapping.ObjectProperty;
 import co.elastic.clients.elasticsearch._types.mapping.Property;
 import co.elastic.clients.elasticsearch._types.mapping.TextProperty;
 import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import co.elastic.clients.elasticsearch.core.DeleteRequest;
 import co.elastic.clients.elasticsearch.core.DeleteResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.UpdateByQueryRequest;
+import co.elastic.clients.elasticsearch.core.UpdateByQueryResponse;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.CreateIndexResponse;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
@@ -40,6 +47,7 @@ import co.elastic.clients.elasticsearch.indices.DeleteIndexResponse;
 import co.elastic.clients.elasticsearch.indices.ExistsRequest;
 import co.elastic.clients.elasticsearch.indices.IndexSettings;
 import co.elastic.clients.elasticsearch.indices.IndexSettingsAnalysis;
+import co.elastic.clients.json.JsonData;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import java.util.List;
@@ -49,6 +57,7 @@ import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.event.RealmSubtreeChangedEvent;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.slf4j.Logger;
@@ -346,6 +355,29 @@ public class ElasticsearchIndexManager {
         }
     }
 
+    @TransactionalEventListener
+    public void realmSubtree(final RealmSubtreeChangedEvent event) throws IOException {
+        LOG.debug("About to update realm index for {}", event);
+
+        UpdateByQueryRequest request = new UpdateByQueryRequest.Builder().
+                index(ElasticsearchUtils.getRealmIndex(event.getDomain())).
+                query(new Query.Builder().prefix(QueryBuilders.prefix().
+                        field("fullPath").value(event.getFullPathBefore() + "/").build()).build()).
+                script(new Script.Builder().inline(new InlineScript.Builder().
+                        lang("painless").
+                        source("ctx._source.fullPath = params.fullPath + ctx._source.fullPath.substring(params.start)").
+                        params(Map.of(
+                                "fullPath", JsonData.of(event.getFullPathAfter()),
+                                "start", JsonData.of(event.getFullPathBefore().length()))).
+                        build()).build()).
+                conflicts(Conflicts.Proceed).
+                refresh(true).
+                build();
+        UpdateByQueryResponse response = client.updateByQuery(request);
+        LOG.debug("Index successfully updated for {} realms under {}: {}",
+                response.updated(), event.getFullPathAfter(), response);
+    }
+
     public void audit(final String domain, final long instant, final JsonNode message) throws IOException {
         LOG.debug("About to audit");
 
@@ -36,7 +36,6 @@ import org.apache.syncope.common.lib.oidc.OIDCRequest;
 import org.apache.syncope.common.lib.to.EntityTO;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.UserTO;
-import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.core.logic.oidc.NoOpSessionStore;
@@ -233,9 +232,8 @@ public class OIDCC4UILogic extends AbstractTransactionalLogic<EntityTO> {
 
         byte[] authorities = null;
         try {
-            authorities = ENCRYPTOR.encode(POJOHelper.serialize(
-                    authDataAccessor.getAuthorities(loginResp.getUsername(), null)), CipherAlgorithm.AES).
-                    getBytes();
+            authorities = ENCRYPTOR.encode(POJOHelper.serializeAsBytes(
+                    authDataAccessor.getAuthorities(loginResp.getUsername(), null)));
         } catch (Exception e) {
             LOG.error("Could not fetch authorities", e);
         }
@@ -27,11 +27,16 @@ import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.event.RealmSubtreeChangedEvent;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.opensearch.client.json.JsonData;
 import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.Conflicts;
+import org.opensearch.client.opensearch._types.InlineScript;
 import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.Refresh;
+import org.opensearch.client.opensearch._types.Script;
 import org.opensearch.client.opensearch._types.analysis.CustomNormalizer;
 import org.opensearch.client.opensearch._types.analysis.Normalizer;
 import org.opensearch.client.opensearch._types.mapping.DynamicTemplate;
@@ -40,10 +45,14 @@ import org.opensearch.client.opensearch._types.mapping.ObjectProperty;
 import org.opensearch.client.opensearch._types.mapping.Property;
 import org.opensearch.client.opensearch._types.mapping.TextProperty;
 import org.opensearch.client.opensearch._types.mapping.TypeMapping;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch._types.query_dsl.QueryBuilders;
 import org.opensearch.client.opensearch.core.DeleteRequest;
 import org.opensearch.client.opensearch.core.DeleteResponse;
 import org.opensearch.client.opensearch.core.IndexRequest;
 import org.opensearch.client.opensearch.core.IndexResponse;
+import org.opensearch.client.opensearch.core.UpdateByQueryRequest;
+import org.opensearch.client.opensearch.core.UpdateByQueryResponse;
 import org.opensearch.client.opensearch.indices.CreateIndexRequest;
 import org.opensearch.client.opensearch.indices.CreateIndexResponse;
 import org.opensearch.client.opensearch.indices.DeleteIndexRequest;
@@ -346,6 +355,29 @@ public class OpenSearchIndexManager {
         }
     }
 
+    @TransactionalEventListener
+    public void realmSubtree(final RealmSubtreeChangedEvent event) throws IOException {
+        LOG.debug("About to update realm index for {}", event);
+
+        UpdateByQueryRequest request = new UpdateByQueryRequest.Builder().
+                index(OpenSearchUtils.getRealmIndex(event.getDomain())).
+                query(new Query.Builder().prefix(QueryBuilders.prefix().
+                        field("fullPath").value(event.getFullPathBefore() + "/").build()).build()).
+                script(new Script.Builder().inline(new InlineScript.Builder().
+                        lang("painless").
+                        source("ctx._source.fullPath = params.fullPath + ctx._source.fullPath.substring(params.start)").
+                        params(Map.of(
+                                "fullPath", JsonData.of(event.getFullPathAfter()),
+                                "start", JsonData.of(event.getFullPathBefore().length()))).
+                        build()).build()).
+                conflicts(Conflicts.Proceed).
+                refresh(true).
+                build();
+        UpdateByQueryResponse response = client.updateByQuery(request);
+        LOG.debug("Index successfully updated for {} realms under {}: {}",
+                response.updated(), event.getFullPathAfter(), response);
+    }
+
     public void audit(final String domain, final long instant, final JsonNode message) throws IOException {
         LOG.debug("About to audit");
 
@@ -42,7 +42,6 @@ import org.apache.syncope.common.lib.saml2.SAML2Response;
 import org.apache.syncope.common.lib.to.EntityTO;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.to.UserTO;
-import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
 import org.apache.syncope.common.lib.types.SAML2BindingType;
@@ -438,8 +437,8 @@ public class SAML2SP4UILogic extends AbstractSAML2SP4UILogic {
 
         byte[] authorities = null;
         try {
-            authorities = ENCRYPTOR.encode(POJOHelper.serialize(
-                    authDataAccessor.getAuthorities(loginResp.getUsername(), null)), CipherAlgorithm.AES).getBytes();
+            authorities = ENCRYPTOR.encode(POJOHelper.serializeAsBytes(
+                    authDataAccessor.getAuthorities(loginResp.getUsername(), null)));
         } catch (Exception e) {
             LOG.error("Could not fetch authorities", e);
         }
@@ -20,14 +20,18 @@ package org.apache.syncope.fit.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.SRARouteTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -139,4 +143,32 @@ public class SRARouteITCase extends AbstractITCase {
             assertEquals(ClientExceptionType.NotFound, e.getType());
         }
     }
+
+    @Test
+    public void sync() {
+        Response response = SRA_ROUTE_SERVICE.sync();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        EntityTag etag = response.getEntityTag();
+        assertNotNull(etag);
+        assertEquals(SRA_ROUTE_SERVICE.list().size(), response.readEntity(new GenericType<List<SRARouteTO>>() {
+        }).size());
+
+        // unchanged
+        response = SyncopeClient.ifNoneMatch(ADMIN_CLIENT.getService(SRARouteService.class), etag).sync();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+
+        // changed
+        SRARouteTO route = SRA_ROUTE_SERVICE.read("ec7bada2-3dd6-460c-8441-65521d005ffa");
+        int order = route.getOrder();
+        route.setOrder(order + 1);
+        SRA_ROUTE_SERVICE.update(route);
+        try {
+            response = SyncopeClient.ifNoneMatch(ADMIN_CLIENT.getService(SRARouteService.class), etag).sync();
+            assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+            assertNotEquals(etag, response.getEntityTag());
+        } finally {
+            route.setOrder(order);
+            SRA_ROUTE_SERVICE.update(route);
+        }
+    }
 }
@@ -20,11 +20,16 @@ package org.apache.syncope.fit.core.wa;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
 import java.util.List;
+import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.client.lib.SyncopeClientFactoryBean;
 import org.apache.syncope.common.lib.policy.AccessPolicyTO;
 import org.apache.syncope.common.lib.policy.AttrReleasePolicyTO;
@@ -63,6 +68,27 @@ public class WAClientAppITCase extends AbstractITCase {
         assertFalse(list.isEmpty());
     }
 
+    @Test
+    public void sync() {
+        Response response = WA_CLIENT_APP_SERVICE.sync();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        EntityTag etag = response.getEntityTag();
+        assertNotNull(etag);
+        assertEquals(WA_CLIENT_APP_SERVICE.list().size(), response.readEntity(new GenericType<List<WAClientApp>>() {
+        }).size());
+
+        // unchanged
+        response = SyncopeClient.ifNoneMatch(ANONYMOUS_CLIENT.getService(WAClientAppService.class), etag).sync();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+
+        // changed
+        createClientApp(ClientAppType.OIDCRP, buildOIDCRP());
+
+        response = SyncopeClient.ifNoneMatch(ANONYMOUS_CLIENT.getService(WAClientAppService.class), etag).sync();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertNotEquals(etag, response.getEntityTag());
+    }
+
     @Test
     public void read() {
         OIDCRPClientAppTO oidcrpto = createClientApp(ClientAppType.OIDCRP, buildOIDCRP());
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.core.env.Environment;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Looks up routes via {@link RouteResolver}, thus reusing the route already found by security matchers.
+ */
+public class IndexedRoutePredicateHandlerMapping extends RoutePredicateHandlerMapping {
+
+    protected final RouteResolver routeResolver;
+
+    public IndexedRoutePredicateHandlerMapping(
+            final FilteringWebHandler webHandler,
+            final RouteLocator routeLocator,
+            final GlobalCorsProperties globalCorsProperties,
+            final Environment environment,
+            final RouteResolver routeResolver) {
+
+        super(webHandler, routeLocator, globalCorsProperties, environment);
+        this.routeResolver = routeResolver;
+    }
+
+    @Override
+    protected Mono<Route> lookupRoute(final ServerWebExchange exchange) {
+        return routeResolver.resolve(exchange).doOnNext(route -> validateRoute(route, exchange));
+    }
+}
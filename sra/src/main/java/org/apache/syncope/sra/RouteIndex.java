@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.to.SRARouteTO;
+import org.apache.syncope.common.lib.types.SRARoutePredicate;
+import org.apache.syncope.common.lib.types.SRARoutePredicateCond;
+import org.apache.syncope.common.lib.types.SRARoutePredicateFactory;
+
+/**
+ * Index of routes by host and path prefix, telling which routes might match a given request; routes are not
+ * evaluated, but only the ones returned need to.
+ * Routes can be indexed only when all their predicates are in {@code AND}: those with non-negated {@code HOST}
+ * predicate made of literal hosts are indexed by host, those with non-negated {@code PATH} predicate are indexed by
+ * the literal segments at the start of each pattern; all other routes are always returned.
+ */
+public class RouteIndex {
+
+    protected static final String ANY_HOST = "";
+
+    protected static class Node {
+
+        protected final Map<String, Node> children = new HashMap<>();
+
+        protected final Set<String> routes = new HashSet<>();
+
+        protected Node child(final String segment) {
+            return children.computeIfAbsent(segment, k -> new Node());
+        }
+    }
+
+    protected static boolean isLiteral(final String pattern) {
+        return StringUtils.containsNone(pattern, '*', '?', '{', '}', '%');
+    }
+
+    /**
+     * @param pattern path pattern
+     * @return literal segments at the start of the given pattern
+     */
+    protected static List<String> prefix(final String pattern) {
+        List<String> prefix = new ArrayList<>();
+        for (String segment : StringUtils.split(pattern.trim(), '/')) {
+            if (!isLiteral(segment)) {
+                break;
+            }
+            prefix.add(segment);
+        }
+        return prefix;
+    }
+
+    protected static Optional<SRARoutePredicate> find(
+            final List<SRARoutePredicate> predicates,
+            final SRARoutePredicateFactory factory) {
+
+        return predicates.stream().filter(p -> p.getFactory() == factory && !p.isNegate()).findFirst();
+    }
+
+    protected final Map<String, Node> byHost = new HashMap<>();
+
+    protected final Set<String> unindexed = new HashSet<>();
+
+    public RouteIndex(final List<SRARouteTO> routes) {
+        routes.forEach(this::add);
+    }
+
+    protected void add(final SRARouteTO route) {
+        List<SRARoutePredicate> predicates = route.getPredicates();
+        // the condition of the first predicate is ignored
+        if (predicates.isEmpty()
+                || predicates.stream().skip(1).anyMatch(p -> p.getCond() == SRARoutePredicateCond.OR)) {
+            unindexed.add(route.getKey());
+            return;
+        }
+
+        Optional<SRARoutePredicate> host = find(predicates, SRARoutePredicateFactory.HOST);
+        Optional<SRARoutePredicate> path = find(predicates, SRARoutePredicateFactory.PATH);
+        if (host.isEmpty() && path.isEmpty()) {
+            unindexed.add(route.getKey());
+            return;
+        }
+
+        List<String> hosts = host.map(h -> Stream.of(h.getArgs().split(",")).map(String::trim).toList()).
+                filter(patterns -> patterns.stream().allMatch(RouteIndex::isLiteral)).
+                orElse(List.of(ANY_HOST));
+        List<List<String>> prefixes = path.map(p -> Stream.of(p.getArgs().split(",")).map(RouteIndex::prefix).
+                toList()).
+                orElse(List.of(List.of()));
+
+        hosts.forEach(h -> prefixes.forEach(prefix -> {
+            Node node = byHost.computeIfAbsent(h, k -> new Node());
+            for (String segment : prefix) {
+                node = node.child(segment);
+            }
+            node.routes.add(route.getKey());
+        }));
+    }
+
+    protected void collect(final String host, final List<String> segments, final Set<String> candidates) {
+        Node node = byHost.get(host);
+        candidates.addAll(Optional.ofNullable(node).map(n -> n.routes).orElse(Set.of()));
+        for (int i = 0; node != null && i < segments.size(); i++) {
+            node = node.children.get(segments.get(i));
+            Optional.ofNullable(node).ifPresent(n -> candidates.addAll(n.routes));
+        }
+    }
+
+    /**
+     * @param host value of the {@code Host} header, if any
+     * @param segments decoded path segments
+     * @return keys of the routes which might match the given request
+     */
+    public Set<String> candidates(final String host, final List<String> segments) {
+        Set<String> candidates = new HashSet<>(unindexed);
+        collect(ANY_HOST, segments, candidates);
+        if (host != null) {
+            collect(host, segments, candidates);
+        }
+        return candidates;
+    }
+}
@@ -18,12 +18,22 @@
  */
 package org.apache.syncope.sra;
 
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -98,6 +108,16 @@ public class RouteProvider {
 
     protected static final Logger LOG = LoggerFactory.getLogger(RouteProvider.class);
 
+    /**
+     * Route as fetched from Core, along with its translation: the latter is kept until the former changes.
+     *
+     * @param routeTO route as fetched from Core
+     * @param builder translated predicates and filters
+     */
+    protected record CompiledRoute(SRARouteTO routeTO, Route.AsyncBuilder builder) {
+
+    }
+
     protected final ServiceOps serviceOps;
 
     protected final ConfigurableApplicationContext ctx;
@@ -112,6 +132,14 @@ public class RouteProvider {
 
     protected final List<SRARouteTO> routeTOs = new ArrayList<>();
 
+    protected volatile Map<String, SRARouteTO> routeTOsByKey = Map.of();
+
+    protected volatile RouteIndex routeIndex = new RouteIndex(List.of());
+
+    protected Map<String, CompiledRoute> compiled = Map.of();
+
+    protected EntityTag routesETag;
+
     public RouteProvider(
             final ServiceOps serviceOps,
             final ConfigurableApplicationContext ctx,
@@ -573,14 +601,68 @@ public class RouteProvider {
         }
 
         synchronized (routeTOs) {
-            routeTOs.clear();
-            routeTOs.addAll(client.getService(SRARouteService.class).list());
+            SRARouteService service = client.getService(SRARouteService.class);
+            if (routesETag != null) {
+                SyncopeClient.ifNoneMatch(service, routesETag);
+            }
+            Response response = service.sync();
+            if (response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                LOG.debug("Routes not modified since {}", routesETag);
+            } else {
+                refresh(response.readEntity(new GenericType<List<SRARouteTO>>() {
+                }));
+                routesETag = response.getEntityTag();
+            }
+
+            return compiled.values().stream().map(CompiledRoute::builder).toList();
         }
+    }
 
-        return routeTOs.stream().map(this::toRoute).toList();
+    /**
+     * Translates only the routes which were added or changed, keeping the translation of the others, then notifies
+     * via {@link RoutesChangedEvent}.
+     *
+     * @param fetched routes as fetched from Core
+     */
+    protected void refresh(final List<SRARouteTO> fetched) {
+        Map<String, CompiledRoute> current = new LinkedHashMap<>();
+        Set<String> changed = new HashSet<>();
+        fetched.forEach(routeTO -> {
+            CompiledRoute previous = compiled.get(routeTO.getKey());
+            if (previous != null && previous.routeTO().equals(routeTO)) {
+                current.put(routeTO.getKey(), previous);
+            } else {
+                current.put(routeTO.getKey(), new CompiledRoute(routeTO, toRoute(routeTO)));
+                changed.add(routeTO.getKey());
+            }
+        });
+        compiled.keySet().stream().filter(key -> !current.containsKey(key)).forEach(changed::add);
+
+        compiled = current;
+        if (changed.isEmpty()) {
+            LOG.debug("No route added, changed or removed");
+            return;
+        }
+        LOG.info("Routes added, changed or removed: {}", changed);
+
+        routeTOs.clear();
+        routeTOs.addAll(fetched);
+
+        routeTOsByKey = routeTOs.stream().collect(Collectors.toMap(SRARouteTO::getKey, Function.identity()));
+        routeIndex = new RouteIndex(routeTOs);
+
+        ctx.publishEvent(new RoutesChangedEvent(this, changed));
     }
 
     public List<SRARouteTO> getRouteTOs() {
         return routeTOs;
     }
+
+    public Optional<SRARouteTO> getRouteTO(final String key) {
+        return Optional.ofNullable(routeTOsByKey.get(key));
+    }
+
+    public RouteIndex getRouteIndex() {
+        return routeIndex;
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Finds the route matching a given exchange, evaluating only the predicates of the routes which the
+ * {@link RouteIndex} reports as candidates, plus those of any route not fetched by {@link RouteProvider} (as defined
+ * via {@code spring.cloud.gateway.routes} or by other {@link RouteLocator} beans); the outcome is kept among exchange
+ * attributes, so that security matchers and gateway handler mapping resolve each exchange once.
+ */
+public class RouteResolver {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(RouteResolver.class);
+
+    public static final String RESOLVED_ROUTE_ATTR = RouteResolver.class.getName() + ".resolvedRoute";
+
+    protected final RouteLocator routeLocator;
+
+    protected final RouteProvider routeProvider;
+
+    public RouteResolver(final RouteLocator routeLocator, final RouteProvider routeProvider) {
+        this.routeLocator = routeLocator;
+        this.routeProvider = routeProvider;
+    }
+
+    protected static List<String> segments(final ServerWebExchange exchange) {
+        return exchange.getRequest().getPath().pathWithinApplication().elements().stream().
+                filter(PathContainer.PathSegment.class::isInstance).
+                map(element -> ((PathContainer.PathSegment) element).valueToMatch()).
+                filter(segment -> !segment.isEmpty()).
+                toList();
+    }
+
+    protected Mono<Route> lookup(final ServerWebExchange exchange) {
+        Set<String> candidates = routeProvider.getRouteIndex().candidates(
+                exchange.getRequest().getHeaders().getFirst(HttpHeaders.HOST), segments(exchange));
+        LOG.debug("Candidate routes for {}: {}", exchange.getRequest().getURI(), candidates);
+
+        // see org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping#lookupRoute
+        return routeLocator.getRoutes().
+                filter(route -> candidates.contains(route.getId())
+                || routeProvider.getRouteTO(route.getId()).isEmpty()).
+                // individually filter routes so that filterWhen error delaying is not a problem
+                concatMap(route -> Mono.just(route).filterWhen(r -> r.getPredicate().apply(exchange)).
+                // instead of immediately stopping main flux due to error, log and swallow it
+                doOnError(e -> LOG.error("Error applying predicate for route: {}", route.getId(), e)).
+                onErrorResume(e -> Mono.empty())).
+                next();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Mono<Route> resolve(final ServerWebExchange exchange) {
+        Optional<Route> resolved = (Optional<Route>) exchange.getAttributes().get(RESOLVED_ROUTE_ATTR);
+        if (resolved != null) {
+            return Mono.justOrEmpty(resolved);
+        }
+
+        return lookup(exchange).
+                map(Optional::of).
+                defaultIfEmpty(Optional.empty()).
+                doOnNext(route -> {
+                    exchange.getAttributes().put(RESOLVED_ROUTE_ATTR, route);
+                    route.ifPresent(r -> exchange.getAttributes().put(
+                            ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR, r.getId()));
+                }).
+                flatMap(Mono::justOrEmpty);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import java.util.Set;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published by {@link RouteProvider} once routes were added, changed or removed, to let any state depending on
+ * such routes be refreshed.
+ */
+public class RoutesChangedEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = -1528493315640374611L;
+
+    private final Set<String> keys;
+
+    public RoutesChangedEvent(final Object source, final Set<String> keys) {
+        super(source);
+        this.keys = keys;
+    }
+
+    /**
+     * @return keys of routes added, changed or removed
+     */
+    public Set<String> getKeys() {
+        return keys;
+    }
+}
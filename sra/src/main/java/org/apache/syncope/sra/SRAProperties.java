@@ -20,6 +20,7 @@ package org.apache.syncope.sra;
 
 import java.io.Serializable;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -28,6 +29,7 @@ import org.apache.syncope.common.lib.types.SAML2BindingType;
 import org.apereo.cas.client.Protocol;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.security.oauth2.core.oidc.OidcScopes;
+import org.springframework.util.unit.DataSize;
 
 @ConfigurationProperties(SRAProperties.PREFIX)
 public class SRAProperties extends SyncopeProperties {
@@ -46,6 +48,11 @@ public class SRAProperties extends SyncopeProperties {
 
         private URI postLogout = URI.create("/logout");
 
+        /**
+         * Responses declaring a larger body are passed through by filters modifying response body.
+         */
+        private DataSize maxRewriteSize = DataSize.ofMegabytes(10);
+
         public URI getError() {
             return error;
         }
@@ -61,6 +68,80 @@ public class SRAProperties extends SyncopeProperties {
         public void setPostLogout(final URI postLogout) {
             this.postLogout = postLogout;
         }
+
+        public DataSize getMaxRewriteSize() {
+            return maxRewriteSize;
+        }
+
+        public void setMaxRewriteSize(final DataSize maxRewriteSize) {
+            this.maxRewriteSize = maxRewriteSize;
+        }
+    }
+
+    public enum SessionStore {
+        /**
+         * Sessions are kept as Java objects.
+         */
+        HEAP,
+        /**
+         * Sessions are serialized into direct buffers, outside of the Java heap.
+         */
+        OFF_HEAP
+
+    }
+
+    public static class Session implements Serializable {
+
+        private static final long serialVersionUID = 2880226519470549741L;
+
+        /**
+         * Sessions not accessed for longer are expired.
+         */
+        private Duration maxInactiveInterval = Duration.ofMinutes(30);
+
+        /**
+         * When exceeded, the least valuable sessions are evicted.
+         */
+        private long maximumSize = 10000;
+
+        private SessionStore store = SessionStore.HEAP;
+
+        /**
+         * Number of sessions returned by the sraSessions actuator endpoint when no page size is requested.
+         */
+        private int pageSize = 50;
+
+        public Duration getMaxInactiveInterval() {
+            return maxInactiveInterval;
+        }
+
+        public void setMaxInactiveInterval(final Duration maxInactiveInterval) {
+            this.maxInactiveInterval = maxInactiveInterval;
+        }
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(final long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public SessionStore getStore() {
+            return store;
+        }
+
+        public void setStore(final SessionStore store) {
+            this.store = store;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(final int pageSize) {
+            this.pageSize = pageSize;
+        }
     }
 
     public enum AMType {
@@ -368,6 +449,8 @@ public class SRAProperties extends SyncopeProperties {
 
     private final Global global = new Global();
 
+    private final Session session = new Session();
+
     private AMType amType = AMType.OIDC;
 
     private final OIDC oidc = new OIDC();
@@ -382,6 +465,10 @@ public class SRAProperties extends SyncopeProperties {
         return global;
     }
 
+    public Session getSession() {
+        return session;
+    }
+
     public AMType getAmType() {
         return amType;
     }
@@ -18,12 +18,16 @@
  */
 package org.apache.syncope.sra;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.util.List;
 import org.apache.syncope.sra.session.CacheManagerReactiveSessionRepository;
+import org.apache.syncope.sra.session.SessionCache;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,15 +44,32 @@ public class SessionConfig {
 
     @ConditionalOnMissingBean
     @Bean
-    public ReactiveSessionRepository<MapSession> reactiveSessionRepository() {
-        return new CacheManagerReactiveSessionRepository();
+    public ReactiveSessionRepository<MapSession> reactiveSessionRepository(final SRAProperties props) {
+        return new CacheManagerReactiveSessionRepository(props.getSession().getMaxInactiveInterval());
     }
 
     @ConditionalOnMissingBean
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(final SRAProperties props) {
         SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(List.of(new ConcurrentMapCache(DEFAULT_CACHE)));
+        cacheManager.setCaches(List.of(new SessionCache(
+                DEFAULT_CACHE,
+                props.getSession().getMaximumSize(),
+                props.getSession().getStore() == SRAProperties.SessionStore.OFF_HEAP)));
         return cacheManager;
     }
+
+    @ConditionalOnMissingBean(name = "sessionCacheMetrics")
+    @Bean
+    public MeterBinder sessionCacheMetrics(final CacheManager cacheManager) {
+        return registry -> {
+            if (cacheManager.getCache(DEFAULT_CACHE) instanceof SessionCache sessionCache) {
+                CaffeineCacheMetrics.monitor(registry, sessionCache.getNativeCache(), "sraSessions");
+                Gauge.builder("sra.sessions.offheap", sessionCache, SessionCache::getOffHeapBytes).
+                        description("Direct memory used by off-heap sessions").
+                        baseUnit(BaseUnits.BYTES).
+                        register(registry);
+            }
+        };
+    }
 }
@@ -35,10 +35,14 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
 import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
 import org.springframework.web.server.WebExceptionHandler;
 import reactor.core.publisher.Flux;
 
@@ -88,8 +92,30 @@ public class SyncopeSRAApplication {
 
     @ConditionalOnMissingBean
     @Bean
-    public SRASessions sraSessionsActuatorEndpoint(final CacheManager cacheManager) {
-        return new SRASessions(cacheManager);
+    public RouteResolver routeResolver(
+            final RouteLocator routeLocator,
+            @Qualifier("routeProvider") final RouteProvider routeProvider) {
+
+        return new RouteResolver(routeLocator, routeProvider);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public RoutePredicateHandlerMapping routePredicateHandlerMapping(
+            final FilteringWebHandler webHandler,
+            final RouteLocator routeLocator,
+            final GlobalCorsProperties globalCorsProperties,
+            final Environment environment,
+            final RouteResolver routeResolver) {
+
+        return new IndexedRoutePredicateHandlerMapping(
+                webHandler, routeLocator, globalCorsProperties, environment, routeResolver);
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public SRASessions sraSessionsActuatorEndpoint(final CacheManager cacheManager, final SRAProperties props) {
+        return new SRASessions(cacheManager, props.getSession().getPageSize());
     }
 
     @ConditionalOnMissingBean
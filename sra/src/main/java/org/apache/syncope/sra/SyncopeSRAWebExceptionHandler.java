@@ -30,7 +30,6 @@ import org.apache.syncope.common.lib.to.SRARouteTO;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
 import org.springframework.cloud.gateway.support.NotFoundException;
 import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.context.ApplicationListener;
@@ -47,7 +46,7 @@ import org.springframework.web.server.WebExceptionHandler;
 import reactor.core.publisher.Mono;
 
 @Order(-2)
-public class SyncopeSRAWebExceptionHandler implements WebExceptionHandler, ApplicationListener<RefreshRoutesEvent> {
+public class SyncopeSRAWebExceptionHandler implements WebExceptionHandler, ApplicationListener<RoutesChangedEvent> {
 
     private static final Logger LOG = LoggerFactory.getLogger(SyncopeSRAWebExceptionHandler.class);
 
@@ -63,8 +62,8 @@ public class SyncopeSRAWebExceptionHandler implements WebExceptionHandler, Appli
     }
 
     @Override
-    public void onApplicationEvent(final RefreshRoutesEvent event) {
-        CACHE.clear();
+    public void onApplicationEvent(final RoutesChangedEvent event) {
+        CACHE.keySet().removeAll(event.getKeys());
     }
 
     private URI getError(final ServerWebExchange exchange) {
@@ -72,9 +71,7 @@ public class SyncopeSRAWebExceptionHandler implements WebExceptionHandler, Appli
         String routeId = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR);
         if (StringUtils.isNotBlank(routeId)) {
             Optional<URI> routeError = Optional.ofNullable(CACHE.get(routeId)).orElseGet(() -> {
-                Optional<SRARouteTO> route = routeProvider.getRouteTOs().stream().
-                        filter(r -> routeId.equals(r.getKey())).findFirst();
-                URI uri = route.map(SRARouteTO::getError).orElse(null);
+                URI uri = routeProvider.getRouteTO(routeId).map(SRARouteTO::getError).orElse(null);
 
                 CACHE.put(routeId, Optional.ofNullable(uri));
                 return CACHE.get(routeId);
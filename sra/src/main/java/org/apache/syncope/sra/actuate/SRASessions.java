@@ -24,10 +24,12 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
 import org.apache.syncope.common.lib.AMSession;
 import org.apache.syncope.sra.SessionConfig;
 import org.apache.syncope.sra.security.cas.CASAuthenticationToken;
 import org.apache.syncope.sra.security.saml2.SAML2AuthenticationToken;
+import org.apache.syncope.sra.session.SessionCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
@@ -36,6 +38,7 @@ import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
@@ -50,8 +53,11 @@ public class SRASessions {
 
     protected final CacheManager cacheManager;
 
-    public SRASessions(final CacheManager cacheManager) {
+    protected final int defaultPageSize;
+
+    public SRASessions(final CacheManager cacheManager, final int defaultPageSize) {
         this.cacheManager = cacheManager;
+        this.defaultPageSize = defaultPageSize;
     }
 
     protected static AMSession map(final MapSession mapSession) {
@@ -86,12 +92,35 @@ public class SRASessions {
         return session;
     }
 
-    @ReadOperation
     @SuppressWarnings("unchecked")
-    public List<AMSession> list() {
-        return ((ConcurrentMap<Object, Object>) cacheManager.getCache(SessionConfig.DEFAULT_CACHE).getNativeCache()).
-                values().stream().map(MapSession.class::cast).map(SRASessions::map).
-                filter(Objects::nonNull).toList();
+    protected Stream<MapSession> sessions() {
+        Cache cache = cacheManager.getCache(SessionConfig.DEFAULT_CACHE);
+        if (cache instanceof SessionCache sessionCache) {
+            return sessionCache.sessions();
+        }
+        if (cache.getNativeCache() instanceof ConcurrentMap<?, ?> map) {
+            return ((ConcurrentMap<Object, Object>) map).values().stream().map(MapSession.class::cast);
+        }
+        return Stream.empty();
+    }
+
+    /**
+     * Lists the authenticated sessions in the requested page; only such sessions are read and converted.
+     *
+     * @param page page to return, starting from 1
+     * @param size page size, the configured default if not provided
+     * @return authenticated sessions in the requested page
+     */
+    @ReadOperation
+    public List<AMSession> list(@Nullable final Integer page, @Nullable final Integer size) {
+        int pageSize = size == null || size < 1 ? defaultPageSize : size;
+        long skip = (long) (page == null || page < 1 ? 0 : page - 1) * pageSize;
+
+        return sessions().
+                filter(session -> session.getAttribute(
+                WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME) != null).
+                skip(skip).limit(pageSize).
+                map(SRASessions::map).filter(Objects::nonNull).toList();
     }
 
     @ReadOperation
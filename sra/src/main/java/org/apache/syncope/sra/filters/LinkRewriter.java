@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.filters;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites HTML links without building a document: tags are tokenized as they are received, root-relative links are
+ * prefixed with the new base and occurrences of the old base are replaced by the new one.
+ * Only an incomplete tag, or the few characters which might start an occurrence of the old base, are held back
+ * across chunks.
+ */
+public class LinkRewriter implements ResponseBodyRewriter {
+
+    /**
+     * Elements whose attribute is rewritten, when holding a root-relative link.
+     */
+    protected static final Map<String, String> LINK_ATTRS = Map.of(
+            "a", "href",
+            "link", "href",
+            "img", "src",
+            "script", "src",
+            "object", "data");
+
+    /**
+     * Above this length, text following an unterminated {@code <} is not considered a tag any more.
+     */
+    protected static final int MAX_TAG_LENGTH = 64 * 1024;
+
+    protected static final Pattern TAG_NAME = Pattern.compile("^<([a-zA-Z][a-zA-Z0-9]*)");
+
+    protected static final Map<String, Pattern> ATTR_VALUES = Map.of(
+            "href", attrValue("href"),
+            "src", attrValue("src"),
+            "data", attrValue("data"));
+
+    private static Pattern attrValue(final String attr) {
+        return Pattern.compile(
+                "(\\s" + attr + "\\s*=\\s*)(?:\"([^\"]*)\"|'([^']*)'|([^\\s\"'>]+))", Pattern.CASE_INSENSITIVE);
+    }
+
+    protected final String oldBase;
+
+    protected final String newBase;
+
+    protected final String newBaseAsPrefix;
+
+    protected final boolean rewriteRootAttrs;
+
+    /**
+     * Text not tokenized yet, starting with an incomplete tag.
+     */
+    protected final StringBuilder untokenized = new StringBuilder();
+
+    /**
+     * Tokenized text which might start an occurrence of the old base.
+     */
+    protected String unreplaced = "";
+
+    public LinkRewriter(
+            final String oldBase,
+            final String newBase,
+            final String newBaseAsPrefix,
+            final boolean rewriteRootAttrs) {
+
+        this.oldBase = oldBase;
+        this.newBase = newBase;
+        this.newBaseAsPrefix = newBaseAsPrefix;
+        this.rewriteRootAttrs = rewriteRootAttrs;
+    }
+
+    protected String rewriteTag(final String tag) {
+        Matcher name = TAG_NAME.matcher(tag);
+        if (!name.find()) {
+            return tag;
+        }
+        String attr = LINK_ATTRS.get(name.group(1).toLowerCase(Locale.ENGLISH));
+        if (attr == null) {
+            return tag;
+        }
+
+        Matcher value = ATTR_VALUES.get(attr).matcher(tag);
+        if (!value.find()) {
+            return tag;
+        }
+        int group = value.group(2) != null ? 2 : value.group(3) != null ? 3 : 4;
+        String link = value.group(group);
+        if (!link.startsWith("/") || link.startsWith("//")) {
+            return tag;
+        }
+
+        return tag.substring(0, value.start(group)) + newBaseAsPrefix + tag.substring(value.start(group));
+    }
+
+    /**
+     * Tokenizes as much text as possible, rewriting links in tags.
+     *
+     * @param last whether no more text will follow
+     * @return tokenized text
+     */
+    protected String tokenize(final boolean last) {
+        StringBuilder output = new StringBuilder(untokenized.length() + 64);
+
+        int from = 0;
+        while (from < untokenized.length()) {
+            int open = untokenized.indexOf("<", from);
+            if (open == -1) {
+                output.append(untokenized, from, untokenized.length());
+                from = untokenized.length();
+            } else {
+                output.append(untokenized, from, open);
+
+                int close = untokenized.indexOf(">", open);
+                if (close == -1) {
+                    if (!last && untokenized.length() - open < MAX_TAG_LENGTH) {
+                        // wait for the rest of the tag
+                        from = open;
+                        break;
+                    }
+                    close = untokenized.length() - 1;
+                }
+
+                output.append(rewriteTag(untokenized.substring(open, close + 1)));
+                from = close + 1;
+            }
+        }
+        untokenized.delete(0, from);
+
+        return output.toString();
+    }
+
+    /**
+     * Replaces occurrences of the old base, holding back the trailing characters which might start one.
+     *
+     * @param tokenized tokenized text
+     * @param last whether no more text will follow
+     * @return text ready to be sent
+     */
+    protected String replace(final String tokenized, final boolean last) {
+        String text = unreplaced + tokenized;
+        int limit = last ? text.length() : Math.max(0, text.length() - (oldBase.length() - 1));
+
+        StringBuilder output = new StringBuilder(text.length() + 64);
+        int from = 0;
+        for (int idx = text.indexOf(oldBase); idx != -1 && idx < limit; idx = text.indexOf(oldBase, from)) {
+            output.append(text, from, idx).append(newBase);
+            from = idx + oldBase.length();
+        }
+
+        int cut = Math.max(from, limit);
+        if (cut > from && cut < text.length() && Character.isLowSurrogate(text.charAt(cut))) {
+            cut--;
+        }
+        output.append(text, from, cut);
+        unreplaced = text.substring(cut);
+
+        return output.toString();
+    }
+
+    @Override
+    public String rewrite(final String chunk) {
+        if (!rewriteRootAttrs) {
+            return replace(chunk, false);
+        }
+
+        untokenized.append(chunk);
+        return replace(tokenize(false), false);
+    }
+
+    @Override
+    public String finish() {
+        return replace(rewriteRootAttrs ? tokenize(true) : "", true);
+    }
+}
@@ -18,52 +18,63 @@
  */
 package org.apache.syncope.sra.filters;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.apache.syncope.sra.SRAProperties;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
-import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.PooledDataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
- * Inspired by {@link org.springframework.cloud.gateway.filter.factory.rewrite.ModifyResponseBodyGatewayFilterFactory}.
+ * Inspired by {@link org.springframework.cloud.gateway.filter.factory.rewrite.ModifyResponseBodyGatewayFilterFactory},
+ * but streaming: the response body is rewritten chunk by chunk, as received, on the bounded elastic scheduler rather
+ * than on the event loop; responses declaring a length above {@code sra.global.maxRewriteSize} are not rewritten.
  */
 public abstract class ModifyResponseGatewayFilterFactory extends CustomGatewayFilterFactory {
 
     protected static final Logger LOG = LoggerFactory.getLogger(ModifyResponseGatewayFilterFactory.class);
 
+    @Autowired
+    protected SRAProperties props;
+
     @Override
     public GatewayFilter apply(final Config config) {
         return new InternalModifyResponseGatewayFilter(config);
     }
 
-    protected abstract byte[] modifyResponse(
-            InputStream responseBody,
+    protected abstract ResponseBodyRewriter rewriter(
             Config config,
             ServerHttpResponseDecorator decorator,
-            ServerWebExchange exchange)
-            throws IOException;
+            ServerWebExchange exchange);
 
     protected boolean skipCond(final ServerHttpResponseDecorator decorator) {
         LOG.debug("Decorator: {}", decorator);
         return false;
     }
 
+    protected Charset getCharset(final ServerHttpResponseDecorator decorator) {
+        return decorator.getHeaders().getContentType() != null
+                && decorator.getHeaders().getContentType().getCharset() != null
+                ? decorator.getHeaders().getContentType().getCharset()
+                : StandardCharsets.UTF_8;
+    }
+
     protected class InternalModifyResponseGatewayFilter implements GatewayFilter, Ordered {
 
         private final Config config;
@@ -82,60 +93,34 @@ public abstract class ModifyResponseGatewayFilterFactory extends CustomGatewayFi
 
                 @Override
                 public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
-                    return skipCond(this)
-                            ? super.writeWith(body)
-                            : super.writeWith(Flux.from(body).
-                                    collectList().
-                                    filter(list -> !list.isEmpty()).
-                                    map(list -> list.get(0).factory().join(list)).
-                                    doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release).
-                                    map(dataBuffer -> {
-                                        if (dataBuffer.readableByteCount() > 0) {
-                                            LOG.trace("Retaining body in exchange attribute");
-                                            exchange.getAttributes().put(
-                                                    ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR, dataBuffer);
-                                        }
-
-                                        boolean inputCompressed = false;
-                                        if (dataBuffer.readableByteCount() >= 2) {
-                                            byte[] first2 = new byte[2];
-                                            dataBuffer.read(first2, 0, 2);
-                                            dataBuffer.readPosition(0);
-
-                                            inputCompressed = ((first2[0] == (byte) (GZIPInputStream.GZIP_MAGIC))
-                                                    && (first2[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8)));
-                                        }
-
-                                        boolean outputCompressed = false;
-                                        byte[] output;
-                                        try (InputStream is = inputCompressed
-                                                ? new GZIPInputStream(dataBuffer.asInputStream())
-                                                : dataBuffer.asInputStream()) {
-
-                                            outputCompressed = is instanceof GZIPInputStream;
-
-                                            output = modifyResponse(is, config, this, exchange);
-                                        } catch (IOException e) {
-                                            LOG.error("While modifying response", e);
-
-                                            output = new byte[dataBuffer.readableByteCount()];
-                                            dataBuffer.read(output);
-                                        }
-
-                                        if (outputCompressed) {
-                                            try (ByteArrayOutputStream baos = new ByteArrayOutputStream(output.length);
-                                                    GZIPOutputStream gzipos = new GZIPOutputStream(baos)) {
-
-                                                gzipos.write(output);
-                                                gzipos.finish();
-                                                output = baos.toByteArray();
-                                            } catch (IOException e) {
-                                                LOG.error("While GZIP-encoding output", e);
-                                            }
-                                        }
-
-                                        return exchange.getResponse().bufferFactory().wrap(output);
-                                    }));
+                    if (skipCond(this)) {
+                        return super.writeWith(body);
+                    }
+
+                    long length = getHeaders().getContentLength();
+                    if (length > props.getGlobal().getMaxRewriteSize().toBytes()) {
+                        LOG.debug("Not rewriting response of {} bytes for {}", length, exchange.getRequest().getURI());
+                        return super.writeWith(body);
+                    }
+
+                    // rewriting is likely to change length: send chunked
+                    getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+
+                    ResponseBodyTransformer transformer =
+                            new ResponseBodyTransformer(rewriter(config, this, exchange), getCharset(this));
+                    DataBufferFactory bufferFactory = bufferFactory();
+                    return super.writeWith(Flux.from(body).
+                            publishOn(Schedulers.boundedElastic()).
+                            map(dataBuffer -> {
+                                byte[] input = new byte[dataBuffer.readableByteCount()];
+                                dataBuffer.read(input);
+                                DataBufferUtils.release(dataBuffer);
+
+                                return bufferFactory.wrap(transformer.transform(input));
+                            }).
+                            concatWith(Mono.fromSupplier(() -> bufferFactory.wrap(transformer.finish()))).
+                            filter(dataBuffer -> dataBuffer.readableByteCount() > 0).
+                            doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release));
                 }
 
                 @Override
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.filters;
+
+/**
+ * Rewrites a response body as it is received, one chunk at a time; text which might be affected by the next chunks
+ * can be held back until then.
+ */
+public interface ResponseBodyRewriter {
+
+    /**
+     * @param chunk next body chunk
+     * @return rewritten text ready to be sent, possibly empty
+     */
+    String rewrite(String chunk);
+
+    /**
+     * @return rewritten text held back so far
+     */
+    String finish();
+}
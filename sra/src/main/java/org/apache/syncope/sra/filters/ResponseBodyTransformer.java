@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.filters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies a {@link ResponseBodyRewriter} to a response body received as a sequence of byte chunks, keeping only what
+ * is needed to process the next chunk: GZIP-compressed bodies are inflated and deflated back incrementally, and
+ * characters split across chunks are carried over.
+ * Should anything go wrong, what was received so far is completed as if it were the whole body, text held back by the
+ * rewriter included: GZIP-compressed bodies are then closed with their trailer and the rest of the body is dropped,
+ * since it cannot be appended to the re-encoded stream, while uncompressed bodies are passed through untouched.
+ * Not thread-safe: chunks of a body are expected to be transformed one after the other.
+ */
+public class ResponseBodyTransformer {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(ResponseBodyTransformer.class);
+
+    private static final int FEXTRA = 4;
+
+    private static final int FNAME = 8;
+
+    private static final int FCOMMENT = 16;
+
+    private static final int FHCRC = 2;
+
+    protected static final int BUFFER_SIZE = 8192;
+
+    /**
+     * @param header bytes received so far
+     * @return length of the GZIP member header, or -1 if more bytes are needed to tell
+     */
+    protected static int gzipHeaderLength(final byte[] header) {
+        if (header.length < 10) {
+            return -1;
+        }
+
+        int flags = header[3] & 0xff;
+        int length = 10;
+        if ((flags & FEXTRA) == FEXTRA) {
+            if (header.length < length + 2) {
+                return -1;
+            }
+            length += 2 + ((header[length] & 0xff) | ((header[length + 1] & 0xff) << 8));
+        }
+        for (int flag : new int[] { FNAME, FCOMMENT }) {
+            if ((flags & flag) == flag) {
+                do {
+                    if (header.length <= length) {
+                        return -1;
+                    }
+                } while (header[length++] != 0);
+            }
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            length += 2;
+        }
+        return header.length < length ? -1 : length;
+    }
+
+    protected final ResponseBodyRewriter rewriter;
+
+    protected final Charset charset;
+
+    protected final CharsetDecoder decoder;
+
+    /**
+     * Bytes received but not processed yet, until compression and GZIP header can be told.
+     */
+    protected byte[] start = new byte[0];
+
+    /**
+     * Bytes of an incomplete character, to be decoded with the next chunk.
+     */
+    protected byte[] undecoded = new byte[0];
+
+    protected Boolean compressed;
+
+    protected boolean headerRead;
+
+    protected Inflater inflater;
+
+    protected ByteArrayOutputStream compressedOutput;
+
+    protected GZIPOutputStream gzip;
+
+    protected boolean failed;
+
+    public ResponseBodyTransformer(final ResponseBodyRewriter rewriter, final Charset charset) {
+        this.rewriter = rewriter;
+        this.charset = charset;
+        this.decoder = charset.newDecoder().
+                onMalformedInput(CodingErrorAction.REPLACE).
+                onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    protected static byte[] concat(final byte[] first, final byte[] second) {
+        if (first.length == 0) {
+            return second;
+        }
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    protected byte[] inflate(final byte[] input) throws DataFormatException {
+        byte[] bytes = input;
+        if (!headerRead) {
+            bytes = concat(start, input);
+            int headerLength = gzipHeaderLength(bytes);
+            if (headerLength == -1) {
+                start = bytes;
+                return new byte[0];
+            }
+
+            headerRead = true;
+            start = new byte[0];
+            bytes = Arrays.copyOfRange(bytes, headerLength, bytes.length);
+            inflater = new Inflater(true);
+        }
+        if (inflater.finished()) {
+            // GZIP trailer
+            return new byte[0];
+        }
+
+        inflater.setInput(bytes);
+        ByteArrayOutputStream inflated = new ByteArrayOutputStream(bytes.length * 4);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (!inflater.finished() && !inflater.needsInput()) {
+            int count = inflater.inflate(buffer);
+            if (count == 0 && inflater.needsDictionary()) {
+                throw new DataFormatException("Preset dictionary required");
+            }
+            inflated.write(buffer, 0, count);
+        }
+        return inflated.toByteArray();
+    }
+
+    protected String decode(final byte[] input, final boolean last) {
+        ByteBuffer bytes = ByteBuffer.wrap(concat(undecoded, input));
+        CharBuffer chars = CharBuffer.allocate((int) (bytes.remaining() * decoder.maxCharsPerByte()) + 2);
+        decoder.decode(bytes, chars, last);
+        if (last) {
+            decoder.flush(chars);
+        }
+        undecoded = Arrays.copyOfRange(bytes.array(), bytes.position(), bytes.limit());
+        return chars.flip().toString();
+    }
+
+    protected byte[] encode(final String output, final boolean last) throws IOException {
+        byte[] bytes = output.getBytes(charset);
+        if (!compressed) {
+            return bytes;
+        }
+
+        if (gzip == null) {
+            compressedOutput = new ByteArrayOutputStream(BUFFER_SIZE);
+            gzip = new GZIPOutputStream(compressedOutput, BUFFER_SIZE, true);
+        }
+        gzip.write(bytes);
+        if (last) {
+            gzip.finish();
+        } else if (bytes.length > 0) {
+            gzip.flush();
+        }
+        byte[] deflated = compressedOutput.toByteArray();
+        compressedOutput.reset();
+        return deflated;
+    }
+
+    /**
+     * Decodes and rewrites whatever is still held back, then finishes encoding.
+     *
+     * @return transformed bytes held back so far, GZIP trailer included if needed
+     * @throws IOException if encoding fails
+     */
+    protected byte[] complete() throws IOException {
+        try {
+            String last = decode(new byte[0], true);
+            return encode(rewriter.rewrite(last) + rewriter.finish(), true);
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    /**
+     * @param input next body chunk, as received
+     * @return transformed bytes ready to be sent, possibly empty
+     */
+    public byte[] transform(final byte[] input) {
+        if (failed) {
+            return compressed ? new byte[0] : input;
+        }
+
+        if (compressed == null) {
+            byte[] first = concat(start, input);
+            if (first.length < 2) {
+                start = first;
+                return new byte[0];
+            }
+            start = new byte[0];
+            compressed = first[0] == (byte) GZIPInputStream.GZIP_MAGIC
+                    && first[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+            return transform(first);
+        }
+
+        try {
+            return encode(rewriter.rewrite(decode(compressed ? inflate(input) : input, false)), false);
+        } catch (IOException | DataFormatException e) {
+            failed = true;
+
+            byte[] completed;
+            try {
+                completed = complete();
+            } catch (IOException ce) {
+                LOG.error("While completing response body", ce);
+                completed = new byte[0];
+            }
+
+            if (compressed) {
+                LOG.error("While transforming response body, dropping the rest of it", e);
+                return completed;
+            }
+            LOG.error("While transforming response body, passing through the rest of it", e);
+            return concat(completed, input);
+        }
+    }
+
+    /**
+     * @return transformed bytes held back so far, GZIP trailer included if needed
+     */
+    public byte[] finish() {
+        if (failed) {
+            return new byte[0];
+        }
+        if (compressed == null) {
+            // less than 2 bytes received
+            return start;
+        }
+
+        try {
+            return complete();
+        } catch (IOException e) {
+            LOG.error("While completing response body", e);
+            return new byte[0];
+        }
+    }
+}
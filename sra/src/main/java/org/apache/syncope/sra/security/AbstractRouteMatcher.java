@@ -22,27 +22,26 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.syncope.sra.RouteProvider;
+import org.apache.syncope.sra.RouteResolver;
+import org.apache.syncope.sra.RoutesChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cloud.gateway.event.RefreshRoutesEvent;
 import org.springframework.cloud.gateway.route.Route;
-import org.springframework.cloud.gateway.route.RouteLocator;
-import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.context.ApplicationListener;
 import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 public abstract class AbstractRouteMatcher
-        implements ServerWebExchangeMatcher, ApplicationListener<RefreshRoutesEvent> {
+        implements ServerWebExchangeMatcher, ApplicationListener<RoutesChangedEvent> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractRouteMatcher.class);
 
     protected static final Map<String, Map<String, Boolean>> CACHE = new ConcurrentHashMap<>();
 
     @Autowired
-    private RouteLocator routeLocator;
+    private RouteResolver routeResolver;
 
     @Autowired
     protected RouteProvider routeProvider;
@@ -52,22 +51,14 @@ public abstract class AbstractRouteMatcher
     protected abstract boolean routeBehavior(Route route);
 
     @Override
-    public void onApplicationEvent(final RefreshRoutesEvent event) {
-        Optional.ofNullable(CACHE.get(getCacheName())).ifPresent(Map::clear);
+    public void onApplicationEvent(final RoutesChangedEvent event) {
+        Optional.ofNullable(CACHE.get(getCacheName())).ifPresent(cache -> cache.keySet().removeAll(event.getKeys()));
     }
 
     @Override
     public Mono<MatchResult> matches(final ServerWebExchange exchange) {
-        // see org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping#lookupRoute
-        return routeLocator.getRoutes().
-                // individually filter routes so that filterWhen error delaying is not a problem
-                concatMap(route -> Mono.just(route).filterWhen(r -> r.getPredicate().apply(exchange)).
-                // instead of immediately stopping main flux due to error, log and swallow it
-                doOnError(e -> LOG.error("Error applying predicate for route: {}", route.getId(), e)).
-                onErrorResume(e -> Mono.empty())).
-                next().
+        return routeResolver.resolve(exchange).
                 flatMap(route -> {
-                    exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR, route.getId());
                     LOG.debug("[{}] Route found: {}", getClass().getName(), route);
 
                     boolean cond = Optional.ofNullable(CACHE.get(getCacheName()).get(route.getId())).orElseGet(() -> {
@@ -37,8 +37,6 @@ public class LogoutRouteMatcher extends AbstractRouteMatcher {
 
     @Override
     protected boolean routeBehavior(final Route route) {
-        return routeProvider.getRouteTOs().stream().
-                filter(r -> route.getId().equals(r.getKey())).findFirst().
-                map(SRARouteTO::isLogout).orElse(false);
+        return routeProvider.getRouteTO(route.getId()).map(SRARouteTO::isLogout).orElse(false);
     }
 }
@@ -37,8 +37,6 @@ public class PublicRouteMatcher extends AbstractRouteMatcher {
 
     @Override
     protected boolean routeBehavior(final Route route) {
-        return routeProvider.getRouteTOs().stream().
-                filter(r -> route.getId().equals(r.getKey())).findFirst().
-                map(r -> r.getType() == SRARouteType.PUBLIC).orElse(true);
+        return routeProvider.getRouteTO(route.getId()).map(r -> r.getType() == SRARouteType.PUBLIC).orElse(true);
     }
 }
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+/**
+ * Spring {@link org.springframework.cache.Cache} holding SRA sessions, based on Caffeine.
+ * <p>
+ * Each session expires once not accessed for longer than its max inactive interval; when the configured maximum size
+ * is exceeded, the least valuable sessions are evicted (Window TinyLFU).
+ * <p>
+ * When off-heap, sessions are serialized into direct buffers, so that large session populations are not traversed by
+ * the garbage collector; the buffer of a session is rewritten in place when the session is saved again, as long as it
+ * fits. Sessions which cannot be serialized, or for which no direct memory is left, are kept on heap.
+ */
+public class SessionCache extends AbstractValueAdaptingCache {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(SessionCache.class);
+
+    protected static long toNanos(final Duration duration) {
+        try {
+            return duration.isNegative() ? 0 : duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    protected abstract static class StoredSession {
+
+        protected volatile Instant lastAccessedTime;
+
+        protected volatile Duration maxInactiveInterval;
+
+        protected StoredSession(final Session session) {
+            this.lastAccessedTime = session.getLastAccessedTime();
+            this.maxInactiveInterval = session.getMaxInactiveInterval();
+        }
+
+        protected long expiresAfter() {
+            return maxInactiveInterval.isNegative()
+                    ? Long.MAX_VALUE
+                    : toNanos(Duration.between(Instant.now(), lastAccessedTime.plus(maxInactiveInterval)));
+        }
+
+        protected int size() {
+            return 0;
+        }
+
+        protected abstract MapSession session();
+    }
+
+    protected static class HeapSession extends StoredSession {
+
+        protected final MapSession session;
+
+        protected HeapSession(final MapSession session) {
+            super(session);
+            this.session = session;
+        }
+
+        @Override
+        protected MapSession session() {
+            return session;
+        }
+    }
+
+    protected static class OffHeapSession extends StoredSession {
+
+        protected final ByteBuffer buffer;
+
+        protected int length;
+
+        protected OffHeapSession(final MapSession session, final byte[] serialized) {
+            super(session);
+            // leave some room for the session to grow before a new buffer is needed
+            this.buffer = ByteBuffer.allocateDirect(serialized.length + serialized.length / 4);
+            this.buffer.put(0, serialized);
+            this.length = serialized.length;
+        }
+
+        /**
+         * Tells whether the given amount of bytes can be written into the current buffer, without wasting more than
+         * half of it.
+         *
+         * @param length amount of bytes to write
+         * @return whether the current buffer can be reused
+         */
+        protected boolean fits(final int length) {
+            return length <= buffer.capacity() && length >= buffer.capacity() / 2;
+        }
+
+        protected synchronized void write(final MapSession session, final byte[] serialized) {
+            buffer.put(0, serialized);
+            length = serialized.length;
+            lastAccessedTime = session.getLastAccessedTime();
+            maxInactiveInterval = session.getMaxInactiveInterval();
+        }
+
+        @Override
+        protected int size() {
+            return buffer.capacity();
+        }
+
+        @Override
+        protected MapSession session() {
+            byte[] serialized;
+            synchronized (this) {
+                serialized = new byte[length];
+                buffer.get(0, serialized);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+                return (MapSession) in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException("Could not read session", e);
+            }
+        }
+    }
+
+    protected static class SessionExpiry implements Expiry<String, StoredSession> {
+
+        @Override
+        public long expireAfterCreate(final String key, final StoredSession value, final long currentTime) {
+            return value.expiresAfter();
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                final String key,
+                final StoredSession value,
+                final long currentTime,
+                final long currentDuration) {
+
+            return value.expiresAfter();
+        }
+
+        @Override
+        public long expireAfterRead(
+                final String key,
+                final StoredSession value,
+                final long currentTime,
+                final long currentDuration) {
+
+            // last accessed time is updated by saving the session
+            return currentDuration;
+        }
+    }
+
+    protected final String name;
+
+    protected final boolean offHeap;
+
+    protected final AtomicLong offHeapBytes = new AtomicLong();
+
+    protected final Cache<String, StoredSession> cache;
+
+    public SessionCache(final String name, final long maximumSize, final boolean offHeap) {
+        super(false);
+        this.name = name;
+        this.offHeap = offHeap;
+        this.cache = Caffeine.newBuilder().
+                maximumSize(maximumSize).
+                expireAfter(new SessionExpiry()).
+                // keep off-heap accounting in step with removals
+                executor(Runnable::run).
+                removalListener((key, value, cause) -> {
+                    if (value != null) {
+                        offHeapBytes.addAndGet(-value.size());
+                    }
+                }).
+                recordStats().
+                build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Cache<String, StoredSession> getNativeCache() {
+        return cache;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * @return the approximate amount of direct memory used by off-heap sessions, in bytes
+     */
+    public long getOffHeapBytes() {
+        return offHeapBytes.get();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Lazily streams the current sessions; off-heap sessions are only read when consumed.
+     *
+     * @return current sessions
+     */
+    public Stream<MapSession> sessions() {
+        return cache.asMap().values().stream().map(this::read).filter(Objects::nonNull);
+    }
+
+    protected MapSession read(final StoredSession stored) {
+        try {
+            return stored.session();
+        } catch (IllegalStateException e) {
+            LOG.error("Discarding unreadable session", e);
+            cache.asMap().values().remove(stored);
+            return null;
+        }
+    }
+
+    protected OffHeapSession offHeap(final MapSession session, final byte[] serialized) {
+        return new OffHeapSession(session, serialized);
+    }
+
+    protected StoredSession store(final Object value, final StoredSession previous) {
+        if (!(value instanceof Session)) {
+            throw new IllegalArgumentException("Only sessions can be stored, found " + value);
+        }
+        MapSession session = value instanceof MapSession mapSession ? mapSession : new MapSession((Session) value);
+
+        if (offHeap) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+                out.writeObject(session);
+            } catch (IOException e) {
+                LOG.warn("Could not serialize session {}, keeping it on heap", session.getId(), e);
+                return new HeapSession(session);
+            }
+            byte[] serialized = baos.toByteArray();
+
+            if (previous instanceof OffHeapSession offHeapSession && offHeapSession.fits(serialized.length)) {
+                offHeapSession.write(session, serialized);
+                return offHeapSession;
+            }
+
+            OffHeapSession stored;
+            try {
+                stored = offHeap(session, serialized);
+            } catch (OutOfMemoryError e) {
+                if (!StringUtils.containsIgnoreCase(e.getMessage(), "direct buffer memory")) {
+                    throw e;
+                }
+                LOG.warn("No direct memory left for session {}, keeping it on heap: {}",
+                        session.getId(), e.getMessage());
+                return new HeapSession(session);
+            }
+            offHeapBytes.addAndGet(stored.size());
+            return stored;
+        }
+
+        return new HeapSession(session);
+    }
+
+    @Override
+    protected Object lookup(final Object key) {
+        StoredSession stored = cache.getIfPresent((String) key);
+        return stored == null ? null : read(stored);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        StoredSession stored = cache.get((String) key, k -> {
+            try {
+                return store(valueLoader.call(), null);
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+        return (T) read(stored);
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        if (value == null) {
+            evict(key);
+        } else {
+            cache.asMap().compute((String) key, (k, previous) -> store(value, previous));
+        }
+    }
+
+    @Override
+    public void evict(final Object key) {
+        cache.invalidate((String) key);
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        return cache.asMap().remove((String) key) != null;
+    }
+
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = !cache.asMap().isEmpty();
+        cache.invalidateAll();
+        return notEmpty;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.syncope.common.lib.to.SRARouteTO;
+import org.apache.syncope.common.lib.types.SRARoutePredicate;
+import org.apache.syncope.common.lib.types.SRARoutePredicateCond;
+import org.apache.syncope.common.lib.types.SRARoutePredicateFactory;
+import org.junit.jupiter.api.Test;
+
+public class RouteIndexTest {
+
+    private static SRARouteTO route(final String key, final SRARoutePredicate... predicates) {
+        SRARouteTO route = new SRARouteTO();
+        route.setKey(key);
+        route.getPredicates().addAll(List.of(predicates));
+        return route;
+    }
+
+    private static SRARoutePredicate predicate(
+            final SRARoutePredicateFactory factory,
+            final String args,
+            final SRARoutePredicateCond cond) {
+
+        return new SRARoutePredicate.Builder().factory(factory).args(args).cond(cond).build();
+    }
+
+    private static SRARoutePredicate path(final String args) {
+        return predicate(SRARoutePredicateFactory.PATH, args, SRARoutePredicateCond.AND);
+    }
+
+    private static SRARoutePredicate host(final String args) {
+        return predicate(SRARoutePredicateFactory.HOST, args, SRARoutePredicateCond.AND);
+    }
+
+    @Test
+    public void candidates() {
+        RouteIndex index = new RouteIndex(List.of(
+                route("all"),
+                route("app", path("/app/**")),
+                route("appUsers", path("/app/users/{id},/app/groups")),
+                route("wildcard", path("/ap*/**")),
+                route("host", host("sra.example.org"), path("/app/**")),
+                route("hostWildcard", host("**.example.org"), path("/other")),
+                route("or", path("/app/**"), predicate(SRARoutePredicateFactory.METHOD, "GET",
+                        SRARoutePredicateCond.OR)),
+                route("negated", new SRARoutePredicate.Builder().
+                        factory(SRARoutePredicateFactory.PATH).args("/app/**").negate().build()),
+                route("method", predicate(SRARoutePredicateFactory.METHOD, "GET", SRARoutePredicateCond.AND))));
+
+        Set<String> alwaysCandidates = Set.of("all", "wildcard", "or", "negated", "method");
+
+        assertEquals(alwaysCandidates, index.candidates("localhost", List.of()));
+        assertEquals(alwaysCandidates, index.candidates("localhost", List.of("unknown", "app")));
+
+        assertEquals(Set.of("all", "wildcard", "or", "negated", "method", "app"),
+                index.candidates("localhost", List.of("app", "other")));
+        assertEquals(Set.of("all", "wildcard", "or", "negated", "method", "app", "appUsers"),
+                index.candidates("localhost", List.of("app", "users", "123")));
+        assertEquals(Set.of("all", "wildcard", "or", "negated", "method", "app", "appUsers", "host"),
+                index.candidates("sra.example.org", List.of("app", "users", "123")));
+        assertEquals(Set.of("all", "wildcard", "or", "negated", "method", "app", "appUsers"),
+                index.candidates(null, List.of("app", "groups")));
+        assertEquals(Set.of("all", "wildcard", "or", "negated", "method", "hostWildcard"),
+                index.candidates("www.example.org", List.of("other")));
+    }
+}
@@ -26,6 +26,8 @@ import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -37,6 +39,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import java.net.URI;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.syncope.common.lib.to.SRARouteTO;
 import org.apache.syncope.common.lib.types.SRARouteFilter;
 import org.apache.syncope.common.lib.types.SRARouteFilterFactory;
@@ -52,6 +57,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.context.ApplicationListener;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
@@ -70,6 +77,9 @@ public class RouteProviderTest extends AbstractTest {
     @Autowired
     private WebTestClient webClient;
 
+    @Autowired
+    private RouteProvider routeProvider;
+
     @BeforeEach
     public void clearRoutes() {
         SyncopeCoreTestingServer.ROUTES.clear();
@@ -681,4 +691,73 @@ public class RouteProviderTest extends AbstractTest {
                     }
                 });
     }
+
+    @Test
+    public void sync() {
+        List<Set<String>> changes = new CopyOnWriteArrayList<>();
+        ctx.addApplicationListener(new ApplicationListener<RoutesChangedEvent>() {
+
+            @Override
+            public void onApplicationEvent(final RoutesChangedEvent event) {
+                changes.add(event.getKeys());
+            }
+        });
+        routeRefresher.refresh();
+        changes.clear();
+
+        stubFor(get(urlEqualTo("/syncFirst")).willReturn(aResponse()));
+        stubFor(get(urlEqualTo("/syncSecond")).willReturn(aResponse()));
+
+        // 1. add two routes: both are translated
+        SRARouteTO first = new SRARouteTO();
+        first.setKey("syncFirst");
+        first.setTarget(URI.create("http://localhost:" + wiremockPort));
+        first.getPredicates().add(new SRARoutePredicate.Builder().
+                factory(SRARoutePredicateFactory.PATH).args("/syncFirst").build());
+        SyncopeCoreTestingServer.ROUTES.put(first.getKey(), first);
+
+        SRARouteTO second = new SRARouteTO();
+        second.setKey("syncSecond");
+        second.setTarget(URI.create("http://localhost:" + wiremockPort));
+        second.getPredicates().add(new SRARoutePredicate.Builder().
+                factory(SRARoutePredicateFactory.PATH).args("/syncSecond").build());
+        SyncopeCoreTestingServer.ROUTES.put(second.getKey(), second);
+
+        routeRefresher.refresh();
+
+        assertEquals(List.of(Set.of("syncFirst", "syncSecond")), changes);
+        webClient.get().uri("/syncFirst").exchange().expectStatus().isOk();
+        webClient.get().uri("/syncSecond").exchange().expectStatus().isOk().expectHeader().doesNotExist("Synced");
+        Route.AsyncBuilder firstBuilder = routeProvider.compiled.get("syncFirst").builder();
+
+        // 2. nothing changed: Core answers 304 and no route is translated again
+        int notModified = SyncopeCoreTestingServer.NOT_MODIFIED.get();
+        routeRefresher.refresh();
+
+        assertTrue(SyncopeCoreTestingServer.NOT_MODIFIED.get() > notModified);
+        assertEquals(1, changes.size());
+        assertSame(firstBuilder, routeProvider.compiled.get("syncFirst").builder());
+
+        // 3. change one route: only that one is translated again
+        second.getFilters().add(new SRARouteFilter.Builder().
+                factory(SRARouteFilterFactory.ADD_RESPONSE_HEADER).args("Synced,true").build());
+        routeRefresher.refresh();
+
+        assertEquals(2, changes.size());
+        assertEquals(Set.of("syncSecond"), changes.get(1));
+        assertSame(firstBuilder, routeProvider.compiled.get("syncFirst").builder());
+        webClient.get().uri("/syncSecond").exchange().
+                expectStatus().isOk().
+                expectHeader().valueEquals("Synced", "true");
+
+        // 4. remove one route: the other one is kept
+        SyncopeCoreTestingServer.ROUTES.remove(first.getKey());
+        routeRefresher.refresh();
+
+        assertEquals(3, changes.size());
+        assertEquals(Set.of("syncFirst"), changes.get(2));
+        assertTrue(routeProvider.getRouteTO("syncFirst").isEmpty());
+        webClient.get().uri("/syncFirst").exchange().expectStatus().isNotFound();
+        webClient.get().uri("/syncSecond").exchange().expectStatus().isOk();
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.to.SRARouteTO;
+import org.apache.syncope.common.lib.types.SRARoutePredicate;
+import org.apache.syncope.common.lib.types.SRARoutePredicateFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class RouteResolverTest {
+
+    private static SRARouteTO routeTO(final String key, final String path) {
+        SRARouteTO route = new SRARouteTO();
+        route.setKey(key);
+        route.getPredicates().add(new SRARoutePredicate.Builder().
+                factory(SRARoutePredicateFactory.PATH).args(path).build());
+        return route;
+    }
+
+    private final Map<String, AtomicInteger> evaluations = new ConcurrentHashMap<>();
+
+    private RouteLocator routeLocator;
+
+    private RouteResolver resolver;
+
+    private Route route(final String id, final String pathPrefix) {
+        return Route.async().id(id).uri(URI.create("http://localhost")).
+                asyncPredicate(exchange -> {
+                    evaluations.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+                    return Mono.just(exchange.getRequest().getPath().value().startsWith(pathPrefix));
+                }).
+                build();
+    }
+
+    @BeforeEach
+    public void setup() {
+        evaluations.clear();
+
+        // "app" and "other" are fetched from Core, "properties" is defined by another RouteLocator
+        List<SRARouteTO> routeTOs = List.of(routeTO("app", "/app/**"), routeTO("other", "/other/**"));
+        RouteProvider routeProvider = mock(RouteProvider.class);
+        when(routeProvider.getRouteIndex()).thenReturn(new RouteIndex(routeTOs));
+        when(routeProvider.getRouteTO(anyString())).thenAnswer(ic -> routeTOs.stream().
+                filter(routeTO -> routeTO.getKey().equals(ic.getArgument(0))).findFirst());
+
+        routeLocator = mock(RouteLocator.class);
+        when(routeLocator.getRoutes()).thenAnswer(ic -> Flux.just(
+                route("other", "/other"), route("app", "/app"), route("properties", "/")));
+
+        resolver = new RouteResolver(routeLocator, routeProvider);
+    }
+
+    @Test
+    public void onlyCandidatesAreEvaluated() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/users"));
+
+        assertEquals("app", resolver.resolve(exchange).map(Route::getId).block());
+        assertEquals(1, evaluations.get("app").get());
+        assertNull(evaluations.get("other"));
+        assertNull(evaluations.get("properties"));
+    }
+
+    @Test
+    public void unindexedRoutesAreEvaluated() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/static/index.html"));
+
+        assertEquals("properties", resolver.resolve(exchange).map(Route::getId).block());
+        assertNull(evaluations.get("app"));
+        assertNull(evaluations.get("other"));
+        assertEquals(1, evaluations.get("properties").get());
+    }
+
+    @Test
+    public void resolvedOncePerExchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/users"));
+
+        assertEquals("app", resolver.resolve(exchange).map(Route::getId).block());
+        assertEquals("app", resolver.resolve(exchange).map(Route::getId).block());
+
+        verify(routeLocator, times(1)).getRoutes();
+        assertEquals(1, evaluations.get("app").get());
+        assertEquals("app", exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR));
+    }
+
+    @Test
+    public void noMatchResolvedOncePerExchange() {
+        routeLocator = mock(RouteLocator.class);
+        when(routeLocator.getRoutes()).thenReturn(Flux.empty());
+        RouteProvider routeProvider = mock(RouteProvider.class);
+        when(routeProvider.getRouteIndex()).thenReturn(new RouteIndex(List.of()));
+        resolver = new RouteResolver(routeLocator, routeProvider);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/users"));
+
+        assertNull(resolver.resolve(exchange).block());
+        assertNull(resolver.resolve(exchange).block());
+
+        verify(routeLocator, times(1)).getRoutes();
+        assertEquals(Optional.empty(), exchange.getAttribute(RouteResolver.RESOLVED_ROUTE_ATTR));
+    }
+}
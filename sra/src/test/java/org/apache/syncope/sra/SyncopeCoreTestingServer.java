@@ -21,15 +21,20 @@ package org.apache.syncope.sra;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.jakarta.rs.json.JacksonJsonProvider;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
-import org.apache.cxf.jaxrs.lifecycle.SingletonResourceProvider;
 import org.apache.syncope.common.keymaster.client.api.ServiceOps;
 import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
+import org.apache.syncope.common.lib.ETagUtils;
 import org.apache.syncope.common.lib.to.SRARouteTO;
 import org.apache.syncope.common.rest.api.service.SRARouteService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +51,8 @@ public class SyncopeCoreTestingServer implements ApplicationListener<ContextRefr
 
     public static final Map<String, SRARouteTO> ROUTES = new ConcurrentHashMap<>();
 
+    public static final AtomicInteger NOT_MODIFIED = new AtomicInteger();
+
     @Autowired
     private RouteRefresher routeRefresher;
 
@@ -58,9 +65,7 @@ public class SyncopeCoreTestingServer implements ApplicationListener<ContextRefr
             // 1. start (mocked) Core as embedded CXF
             JAXRSServerFactoryBean sf = new JAXRSServerFactoryBean();
             sf.setAddress(ADDRESS);
-            sf.setResourceClasses(SRARouteService.class);
-            sf.setResourceProvider(SRARouteService.class,
-                    new SingletonResourceProvider(new StubSRARouteService(), true));
+            sf.setServiceBeanObjects(new StubSRARouteService());
             sf.setProviders(List.of(new JacksonJsonProvider(JsonMapper.builder().findAndAddModules().build())));
             sf.create();
 
@@ -74,6 +79,9 @@ public class SyncopeCoreTestingServer implements ApplicationListener<ContextRefr
 
     public class StubSRARouteService implements SRARouteService {
 
+        @Context
+        private Request request;
+
         @Override
         public List<SRARouteTO> list() {
             return ROUTES.values().stream().
@@ -81,6 +89,21 @@ public class SyncopeCoreTestingServer implements ApplicationListener<ContextRefr
                     toList();
         }
 
+        @Override
+        public Response sync() {
+            List<SRARouteTO> routes = list();
+
+            EntityTag etag = new EntityTag(ETagUtils.digest(routes, Comparator.comparing(SRARouteTO::getKey)));
+            Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
+            if (builder == null) {
+                builder = Response.ok(new GenericEntity<>(routes) {
+                });
+            } else {
+                NOT_MODIFIED.incrementAndGet();
+            }
+            return builder.tag(etag).build();
+        }
+
         @Override
         public Response create(final SRARouteTO routeTO) {
             ROUTES.putIfAbsent(routeTO.getKey(), routeTO);
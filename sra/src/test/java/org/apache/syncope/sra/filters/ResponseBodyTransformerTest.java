@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+public class ResponseBodyTransformerTest {
+
+    private static final String OLD_BASE = "http://localhost:9080/";
+
+    private static final String NEW_BASE = "https://sra.example.org/app/";
+
+    private static final String HTML = "<html><head>"
+            + "<link rel=\"stylesheet\" href=\"/css/main.css\"/>"
+            + "<script src='/js/app.js'></script>"
+            + "</head><body>"
+            + "<a href=\"/absolute\">absolute</a>"
+            + "<a HREF=/unquoted>unquoted</a>"
+            + "<a href=\"//cdn.example.org/lib.js\">protocol relative</a>"
+            + "<a href=\"relative\">relative</a>"
+            + "<img alt=\"èé 😀\" src=\"/img/logo.png\">"
+            + "<p>See " + OLD_BASE + "docs and if (a < b) { }</p>"
+            + "</body></html>";
+
+    private static final String EXPECTED = "<html><head>"
+            + "<link rel=\"stylesheet\" href=\"https://sra.example.org/app/css/main.css\"/>"
+            + "<script src='https://sra.example.org/app/js/app.js'></script>"
+            + "</head><body>"
+            + "<a href=\"https://sra.example.org/app/absolute\">absolute</a>"
+            + "<a HREF=https://sra.example.org/app/unquoted>unquoted</a>"
+            + "<a href=\"//cdn.example.org/lib.js\">protocol relative</a>"
+            + "<a href=\"relative\">relative</a>"
+            + "<img alt=\"èé 😀\" src=\"https://sra.example.org/app/img/logo.png\">"
+            + "<p>See " + NEW_BASE + "docs and if (a < b) { }</p>"
+            + "</body></html>";
+
+    private static ResponseBodyTransformer transformer() {
+        return new ResponseBodyTransformer(
+                new LinkRewriter(OLD_BASE, NEW_BASE, "https://sra.example.org/app", true), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] transform(final byte[] input, final int chunkSize) throws IOException {
+        ResponseBodyTransformer transformer = transformer();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (int from = 0; from < input.length; from += chunkSize) {
+            output.write(transformer.transform(
+                    Arrays.copyOfRange(input, from, Math.min(input.length, from + chunkSize))));
+        }
+        output.write(transformer.finish());
+        return output.toByteArray();
+    }
+
+    private static byte[] gzip(final byte[] input) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipos = new GZIPOutputStream(baos)) {
+            gzipos.write(input);
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] gunzip(final byte[] input) throws IOException {
+        try (GZIPInputStream gzipis = new GZIPInputStream(new ByteArrayInputStream(input))) {
+            return gzipis.readAllBytes();
+        }
+    }
+
+    @Test
+    public void plain() throws IOException {
+        byte[] input = HTML.getBytes(StandardCharsets.UTF_8);
+        // whatever the chunk boundaries, within tags, base URLs or multi-byte characters
+        for (int chunkSize : new int[] { 1, 2, 3, 5, 7, 16, 64, input.length }) {
+            assertEquals(EXPECTED, new String(transform(input, chunkSize), StandardCharsets.UTF_8),
+                    "Chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    public void gzipped() throws IOException {
+        byte[] input = gzip(HTML.getBytes(StandardCharsets.UTF_8));
+        for (int chunkSize : new int[] { 1, 3, 11, 64, input.length }) {
+            byte[] output = transform(input, chunkSize);
+            assertEquals(GZIPInputStream.GZIP_MAGIC, (output[0] & 0xff) | ((output[1] & 0xff) << 8));
+            assertEquals(EXPECTED, new String(gunzip(output), StandardCharsets.UTF_8), "Chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    public void corruptGzipChunk() throws IOException {
+        byte[] html = HTML.getBytes(StandardCharsets.UTF_8);
+        int half = html.length / 2;
+
+        // sync flush after the first half, so that the corrupt chunk starts right at a deflate block boundary
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        GZIPOutputStream gzipos = new GZIPOutputStream(baos, true);
+        gzipos.write(html, 0, half);
+        gzipos.flush();
+        byte[] firstHalf = baos.toByteArray();
+        gzipos.write(html, half, html.length - half);
+        gzipos.close();
+        byte[] input = baos.toByteArray();
+
+        ResponseBodyTransformer transformer = transformer();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.writeBytes(transformer.transform(firstHalf));
+        // final block of invalid type
+        output.writeBytes(transformer.transform(new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff }));
+        output.writeBytes(transformer.transform(Arrays.copyOfRange(input, firstHalf.length, input.length)));
+        output.writeBytes(transformer.finish());
+
+        // a complete GZIP stream, holding what was received before the corrupt chunk, text held back included
+        byte[] expected = transform(Arrays.copyOf(html, half), half);
+        assertEquals(new String(expected, StandardCharsets.UTF_8),
+                new String(gunzip(output.toByteArray()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void rootAttrsNotRewritten() {
+        ResponseBodyTransformer transformer = new ResponseBodyTransformer(
+                new LinkRewriter(OLD_BASE, NEW_BASE, "https://sra.example.org/app", false), StandardCharsets.UTF_8);
+
+        String html = "<a href=\"/absolute\">" + OLD_BASE + "</a>";
+        byte[] input = html.getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.writeBytes(transformer.transform(Arrays.copyOfRange(input, 0, 30)));
+        output.writeBytes(transformer.transform(Arrays.copyOfRange(input, 30, input.length)));
+        output.writeBytes(transformer.finish());
+
+        assertEquals("<a href=\"/absolute\">" + NEW_BASE + "</a>", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void boundedHoldBack() {
+        ResponseBodyTransformer transformer = transformer();
+
+        // text is sent as soon as received, except for what might start the old base
+        String text = "<p>some text, long enough to be sent at once</p>";
+        byte[] sent = transformer.transform(text.getBytes(StandardCharsets.UTF_8));
+        assertEquals(text.substring(0, text.length() - (OLD_BASE.length() - 1)),
+                new String(sent, StandardCharsets.UTF_8));
+
+        // an incomplete tag is held back
+        sent = transformer.transform("<a href=\"/abs".getBytes(StandardCharsets.UTF_8));
+        assertEquals(0, sent.length);
+
+        sent = transformer.transform("olute\">link</a>".getBytes(StandardCharsets.UTF_8));
+        assertEquals(text.substring(text.length() - (OLD_BASE.length() - 1))
+                + "<a href=\"https://sra.example.org/app/absolute\">link</a>",
+                new String(sent, StandardCharsets.UTF_8) + new String(transformer.finish(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.session.MapSession;
+
+public class SessionCacheTest {
+
+    private static MapSession session(final Duration maxInactiveInterval) {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(maxInactiveInterval);
+        session.setAttribute("principal", "bellini");
+        return session;
+    }
+
+    @Test
+    public void expireAfterInactivity() {
+        SessionCache cache = new SessionCache("test", 100, false);
+
+        MapSession active = session(Duration.ofMinutes(30));
+        cache.put(active.getId(), active);
+
+        MapSession inactive = session(Duration.ofMinutes(30));
+        inactive.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+        cache.put(inactive.getId(), inactive);
+
+        MapSession eternal = session(Duration.ofSeconds(-1));
+        eternal.setLastAccessedTime(Instant.now().minus(Duration.ofDays(365)));
+        cache.put(eternal.getId(), eternal);
+
+        assertNotNull(cache.get(active.getId(), MapSession.class));
+        assertNull(cache.get(inactive.getId()));
+        assertNotNull(cache.get(eternal.getId(), MapSession.class));
+
+        // saving the session again restarts the inactivity window
+        inactive.setLastAccessedTime(Instant.now());
+        cache.put(inactive.getId(), inactive);
+        assertNotNull(cache.get(inactive.getId(), MapSession.class));
+    }
+
+    @Test
+    public void bounded() {
+        SessionCache cache = new SessionCache("test", 10, false);
+        for (int i = 0; i < 100; i++) {
+            MapSession session = session(Duration.ofMinutes(30));
+            cache.put(session.getId(), session);
+        }
+        cache.getNativeCache().cleanUp();
+
+        assertTrue(cache.size() <= 10);
+        assertTrue(cache.getNativeCache().stats().evictionCount() >= 90);
+    }
+
+    @Test
+    public void offHeap() {
+        SessionCache cache = new SessionCache("test", 100, true);
+
+        MapSession session = session(Duration.ofMinutes(30));
+        cache.put(session.getId(), session);
+        assertTrue(cache.getOffHeapBytes() > 0);
+
+        MapSession read = cache.get(session.getId(), MapSession.class);
+        assertNotSame(session, read);
+        assertEquals(session.getId(), read.getId());
+        assertEquals("bellini", read.getAttribute("principal"));
+        assertEquals(session.getMaxInactiveInterval(), read.getMaxInactiveInterval());
+
+        // sessions which cannot be serialized are kept on heap
+        MapSession unserializable = session(Duration.ofMinutes(30));
+        unserializable.setAttribute("unserializable", new Object());
+        cache.put(unserializable.getId(), unserializable);
+        assertNotNull(cache.get(unserializable.getId(), MapSession.class));
+
+        assertEquals(
+                Set.of(session.getId(), unserializable.getId()),
+                cache.sessions().map(MapSession::getId).collect(Collectors.toSet()));
+
+        cache.evict(session.getId());
+        cache.getNativeCache().cleanUp();
+        assertEquals(0, cache.getOffHeapBytes());
+    }
+
+    @Test
+    public void offHeapReuse() {
+        SessionCache cache = new SessionCache("test", 100, true);
+
+        MapSession session = session(Duration.ofMinutes(30));
+        cache.put(session.getId(), session);
+        SessionCache.StoredSession stored = cache.getNativeCache().getIfPresent(session.getId());
+        long offHeapBytes = cache.getOffHeapBytes();
+
+        // saved again, still fitting: the same buffer is rewritten
+        session.setAttribute("principal", "rossini");
+        cache.put(session.getId(), session);
+        cache.getNativeCache().cleanUp();
+        assertSame(stored, cache.getNativeCache().getIfPresent(session.getId()));
+        assertEquals(offHeapBytes, cache.getOffHeapBytes());
+        assertEquals("rossini", cache.get(session.getId(), MapSession.class).getAttribute("principal"));
+
+        // saved again, grown beyond the buffer: a new buffer replaces the previous one
+        session.setAttribute("large", "x".repeat(10 * (int) offHeapBytes));
+        cache.put(session.getId(), session);
+        cache.getNativeCache().cleanUp();
+        SessionCache.StoredSession grown = cache.getNativeCache().getIfPresent(session.getId());
+        assertNotSame(stored, grown);
+        assertEquals(grown.size(), cache.getOffHeapBytes());
+        assertEquals("rossini", cache.get(session.getId(), MapSession.class).getAttribute("principal"));
+
+        // saved again, shrunk well below the buffer: a smaller buffer replaces the previous one
+        session.removeAttribute("large");
+        cache.put(session.getId(), session);
+        cache.getNativeCache().cleanUp();
+        assertNotSame(grown, cache.getNativeCache().getIfPresent(session.getId()));
+        assertEquals(offHeapBytes, cache.getOffHeapBytes());
+    }
+
+    @Test
+    public void offHeapExhausted() {
+        SessionCache cache = new SessionCache("test", 100, true) {
+
+            @Override
+            protected OffHeapSession offHeap(final MapSession session, final byte[] serialized) {
+                throw new OutOfMemoryError("Cannot reserve " + serialized.length + " bytes of direct buffer memory");
+            }
+        };
+
+        MapSession session = session(Duration.ofMinutes(30));
+        cache.put(session.getId(), session);
+        assertInstanceOf(SessionCache.HeapSession.class, cache.getNativeCache().getIfPresent(session.getId()));
+        assertEquals(0, cache.getOffHeapBytes());
+        assertEquals("bellini", cache.get(session.getId(), MapSession.class).getAttribute("principal"));
+    }
+
+    @Test
+    public void onlySessions() {
+        SessionCache cache = new SessionCache("test", 100, false);
+        assertThrows(IllegalArgumentException.class, () -> cache.put("key", "value"));
+    }
+}
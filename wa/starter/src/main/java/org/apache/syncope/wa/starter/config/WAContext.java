@@ -20,11 +20,15 @@ package org.apache.syncope.wa.starter.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.warrenstrange.googleauth.IGoogleAuthenticator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -217,17 +221,36 @@ public class WAContext {
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean
     @Bean
-    public ServiceRegistryExecutionPlanConfigurer syncopeServiceRegistryConfigurer(
+    public WAServiceRegistry waServiceRegistry(
             final ConfigurableApplicationContext ctx,
             final WARestClient waRestClient,
             final RegisteredServiceMapper registeredServiceMapper,
             @Qualifier("serviceRegistryListeners")
             final ObjectProvider<List<ServiceRegistryListener>> serviceRegistryListeners) {
 
-        WAServiceRegistry registry = new WAServiceRegistry(
+        return new WAServiceRegistry(
                 waRestClient, registeredServiceMapper, ctx,
                 Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new));
-        return plan -> plan.registerServiceRegistry(registry);
+    }
+
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean
+    @Bean
+    public ServiceRegistryExecutionPlanConfigurer syncopeServiceRegistryConfigurer(
+            final WAServiceRegistry waServiceRegistry) {
+
+        return plan -> plan.registerServiceRegistry(waServiceRegistry);
+    }
+
+    @ConditionalOnMissingBean(name = "waServiceRegistryMetrics")
+    @Bean
+    public MeterBinder waServiceRegistryMetrics(final ObjectProvider<WAServiceRegistry> waServiceRegistry) {
+        return registry -> Gauge.builder("wa.services.snapshot.age", waServiceRegistry, provider -> provider.
+                getObject().getSnapshotAge().map(Duration::toMillis).map(Long::doubleValue).orElse(Double.NaN)).
+                description("Time since application definitions were last found up to date with Core").
+                baseUnit(BaseUnits.MILLISECONDS).
+                strongReference(true).
+                register(registry);
     }
 
     @Bean
@@ -18,10 +18,23 @@
  */
 package org.apache.syncope.wa.starter.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.types.ClientAppType;
+import org.apache.syncope.common.lib.wa.WAClientApp;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
 import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
@@ -34,14 +47,74 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 
+/**
+ * Serves registered services from a local snapshot of the client applications defined on Core, kept up to date by
+ * {@link #load()}: lookups only reach Core for services not found in the snapshot.
+ */
 public class WAServiceRegistry extends AbstractServiceRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(WAServiceRegistry.class);
 
+    protected static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    /**
+     * Client application as fetched from Core, along with its mapping: the latter is kept until the former changes.
+     *
+     * @param clientApp client application as fetched from Core, serialized
+     * @param registeredService mapped registered service
+     */
+    protected record MappedClientApp(byte[] clientApp, RegisteredService registeredService) {
+
+    }
+
+    /**
+     * Registered services mapped from the client applications fetched from Core, indexed for lookup.
+     *
+     * @param byClientApp mapped client applications, by type and clientAppId
+     * @param services registered services, in evaluation order
+     * @param byId registered services, by id
+     * @param byName registered services, by name
+     */
+    protected record Snapshot(
+            Map<String, MappedClientApp> byClientApp,
+            List<RegisteredService> services,
+            Map<Long, RegisteredService> byId,
+            Map<String, RegisteredService> byName) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), List.of(), Map.of(), Map.of());
+
+        static Snapshot of(final Map<String, MappedClientApp> byClientApp) {
+            List<RegisteredService> services = byClientApp.values().stream().
+                    map(MappedClientApp::registeredService).
+                    sorted().
+                    toList();
+
+            Map<Long, RegisteredService> byId = new HashMap<>();
+            Map<String, RegisteredService> byName = new HashMap<>();
+            services.forEach(service -> {
+                byId.putIfAbsent(service.getId(), service);
+                byName.putIfAbsent(service.getName(), service);
+            });
+
+            return new Snapshot(byClientApp, services, byId, byName);
+        }
+    }
+
+    protected static String key(final WAClientApp clientApp) {
+        return clientApp.getClientAppTO().getClass().getSimpleName() + ':'
+                + clientApp.getClientAppTO().getClientAppId();
+    }
+
     protected final WARestClient waRestClient;
 
     protected final RegisteredServiceMapper registeredServiceMapper;
 
+    protected volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    protected volatile Instant synced;
+
+    protected EntityTag clientAppsETag;
+
     public WAServiceRegistry(
             final WARestClient restClient,
             final RegisteredServiceMapper registeredServiceMapper,
@@ -53,6 +126,15 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
         this.registeredServiceMapper = registeredServiceMapper;
     }
 
+    /**
+     * Returns how long ago the local snapshot was last found up to date with Core, if ever.
+     *
+     * @return snapshot age, or empty if never synchronized
+     */
+    public Optional<Duration> getSnapshotAge() {
+        return Optional.ofNullable(synced).map(instant -> Duration.between(instant, Instant.now()));
+    }
+
     @Override
     public RegisteredService save(final RegisteredService registeredService) {
         throw new UnsupportedOperationException("Saving registered services from WA is not supported");
@@ -75,28 +157,97 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
             return List.of();
         }
 
-        LOG.info("Loading application definitions");
-        return waRestClient.getService(WAClientAppService.class).list().stream().
-                map(registeredServiceMapper::toRegisteredService).
-                filter(Objects::nonNull).
-                toList();
+        synchronized (this) {
+            // dedicated proxy instance, as If-None-Match would otherwise stick to the shared one
+            WAClientAppService service = waRestClient.getSyncopeClient().getService(WAClientAppService.class);
+            if (clientAppsETag != null) {
+                SyncopeClient.ifNoneMatch(service, clientAppsETag);
+            }
+            Response response = service.sync();
+            if (response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                LOG.debug("Application definitions not modified since {}", clientAppsETag);
+            } else {
+                LOG.info("Loading application definitions");
+                refresh(response.readEntity(new GenericType<List<WAClientApp>>() {
+                }));
+                clientAppsETag = response.getEntityTag();
+            }
+            synced = Instant.now();
+
+            return snapshot.services();
+        }
+    }
+
+    /**
+     * Maps only the client applications which were added or changed, keeping the mapping of the others, then
+     * replaces the current snapshot.
+     *
+     * @param clientApps client applications as fetched from Core
+     */
+    protected void refresh(final List<WAClientApp> clientApps) {
+        Snapshot previous = snapshot;
+        Map<String, MappedClientApp> current = new HashMap<>();
+        AtomicInteger mapped = new AtomicInteger();
+        clientApps.forEach(clientApp -> {
+            byte[] serialized;
+            try {
+                serialized = MAPPER.writeValueAsBytes(clientApp);
+            } catch (JsonProcessingException e) {
+                LOG.error("Could not serialize {}", clientApp.getClientAppTO().getName(), e);
+                serialized = new byte[0];
+            }
+
+            MappedClientApp prev = previous.byClientApp().get(key(clientApp));
+            if (prev != null && serialized.length > 0 && Arrays.equals(prev.clientApp(), serialized)) {
+                current.put(key(clientApp), prev);
+            } else {
+                Optional.ofNullable(registeredServiceMapper.toRegisteredService(clientApp)).ifPresent(service -> {
+                    mapped.incrementAndGet();
+                    current.put(key(clientApp), new MappedClientApp(serialized, service));
+                });
+            }
+        });
+
+        snapshot = Snapshot.of(current);
+        LOG.debug("{} application definitions mapped, {} kept, {} removed",
+                mapped.get(), current.size() - mapped.get(),
+                previous.byClientApp().keySet().stream().filter(key -> !current.containsKey(key)).count());
+    }
+
+    protected RegisteredService read(final long id, final ClientAppType type) {
+        return registeredServiceMapper.toRegisteredService(
+                waRestClient.getService(WAClientAppService.class).read(id, type));
+    }
+
+    protected RegisteredService read(final String name, final ClientAppType type) {
+        return registeredServiceMapper.toRegisteredService(
+                waRestClient.getService(WAClientAppService.class).read(name, type));
     }
 
     @Override
     public RegisteredService findServiceById(final long id) {
+        RegisteredService service = snapshot.byId().get(id);
+        if (service != null) {
+            return service;
+        }
+
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
         }
 
         LOG.info("Searching for application definition by id {}", id);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, null));
+        return read(id, null);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T extends RegisteredService> T findServiceById(final long id, final Class<T> clazz) {
+        RegisteredService service = snapshot.byId().get(id);
+        if (clazz.isInstance(service)) {
+            return (T) service;
+        }
+
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
@@ -104,20 +255,22 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
 
         LOG.info("Searching for application definition by id {} and type {}", id, clazz);
         if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.OIDCRP));
+            return (T) read(id, ClientAppType.OIDCRP);
         }
         if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.SAML2SP));
+            return (T) read(id, ClientAppType.SAML2SP);
         }
-        return (T) registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.CASSP));
+        return (T) read(id, ClientAppType.CASSP);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T extends RegisteredService> T findServiceByExactServiceName(final String name, final Class<T> clazz) {
+        RegisteredService service = snapshot.byName().get(name);
+        if (clazz.isInstance(service)) {
+            return (T) service;
+        }
+
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
@@ -125,26 +278,27 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
 
         LOG.info("Searching for application definition by name {} and type {}", name, clazz);
         if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.OIDCRP));
+            return (T) read(name, ClientAppType.OIDCRP);
         }
         if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.SAML2SP));
+            return (T) read(name, ClientAppType.SAML2SP);
         }
-        return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                getService(WAClientAppService.class).read(name, ClientAppType.CASSP));
+        return (T) read(name, ClientAppType.CASSP);
     }
 
     @Override
     public RegisteredService findServiceByExactServiceName(final String name) {
+        RegisteredService service = snapshot.byName().get(name);
+        if (service != null) {
+            return service;
+        }
+
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
         }
 
         LOG.info("Searching for application definition by name {}", name);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(name, null));
+        return read(name, null);
     }
 }
@@ -136,6 +136,11 @@ public class SyncopeCoreTestingServer implements ApplicationListener<ContextRefr
             return CLIENT_APPS;
         }
 
+        @Override
+        public Response sync() {
+            return Response.ok(list()).build();
+        }
+
         @Override
         public WAClientApp read(final Long clientAppId, final ClientAppType type) {
             return CLIENT_APPS.stream().
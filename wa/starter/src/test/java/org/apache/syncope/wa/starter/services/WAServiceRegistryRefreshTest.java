@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.wa.starter.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.syncope.common.lib.to.CASSPClientAppTO;
+import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.apache.syncope.wa.starter.AbstractTest;
+import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class WAServiceRegistryRefreshTest extends AbstractTest {
+
+    private static WAClientApp clientApp(final long clientAppId, final String serviceId) {
+        CASSPClientAppTO clientAppTO = new CASSPClientAppTO();
+        clientAppTO.setClientAppId(clientAppId);
+        clientAppTO.setName("CASSP_" + clientAppId);
+        clientAppTO.setServiceId(serviceId);
+
+        WAClientApp clientApp = new WAClientApp();
+        clientApp.setClientAppTO(clientAppTO);
+        return clientApp;
+    }
+
+    private RegisteredServiceMapper mapper;
+
+    private WAServiceRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        mapper = mock(RegisteredServiceMapper.class);
+        when(mapper.toRegisteredService(any(WAClientApp.class))).thenAnswer(ic -> {
+            CASSPClientAppTO clientAppTO = (CASSPClientAppTO) ic.getArgument(0, WAClientApp.class).getClientAppTO();
+
+            CasRegisteredService service = new CasRegisteredService();
+            service.setId(clientAppTO.getClientAppId());
+            service.setName(clientAppTO.getName());
+            service.setServiceId(clientAppTO.getServiceId());
+            return service;
+        });
+
+        WARestClient waRestClient = mock(WARestClient.class);
+        when(waRestClient.isReady()).thenReturn(false);
+
+        registry = new WAServiceRegistry(waRestClient, mapper, mock(ConfigurableApplicationContext.class), List.of());
+    }
+
+    @Test
+    public void mapsOnlyAddedOrChanged() {
+        WAClientApp first = clientApp(1L, "https://first.syncope.org/.*");
+        WAClientApp second = clientApp(2L, "https://second.syncope.org/.*");
+
+        // 1. both client apps are added, hence mapped
+        registry.refresh(List.of(first, second));
+        verify(mapper, times(2)).toRegisteredService(any(WAClientApp.class));
+        assertEquals(2, registry.snapshot.services().size());
+
+        RegisteredService firstService = registry.findServiceById(1L);
+        assertEquals("https://first.syncope.org/.*", firstService.getServiceId());
+        assertEquals(2L, registry.findServiceByExactServiceName("CASSP_2").getId());
+
+        // 2. nothing changed: nothing is mapped again
+        registry.refresh(List.of(clientApp(1L, "https://first.syncope.org/.*"), second));
+        verify(mapper, times(2)).toRegisteredService(any(WAClientApp.class));
+        assertSame(firstService, registry.findServiceById(1L));
+
+        // 3. only the changed client app is mapped again
+        WAClientApp changed = clientApp(2L, "https://changed.syncope.org/.*");
+        registry.refresh(List.of(first, changed));
+        verify(mapper, times(3)).toRegisteredService(any(WAClientApp.class));
+        assertSame(firstService, registry.findServiceById(1L));
+        assertEquals("https://changed.syncope.org/.*", registry.findServiceById(2L).getServiceId());
+
+        // 4. the removed client app is no longer found, Core being not available
+        registry.refresh(List.of(changed));
+        verify(mapper, times(3)).toRegisteredService(any(WAClientApp.class));
+        assertEquals(1, registry.snapshot.services().size());
+        assertNull(registry.findServiceById(1L));
+        assertNull(registry.findServiceByExactServiceName("CASSP_1"));
+    }
+}